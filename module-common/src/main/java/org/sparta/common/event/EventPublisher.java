@@ -53,6 +53,15 @@ public class EventPublisher {
      * Kafka
      */
     public void publishExternal(DomainEvent event) {
+        // Kafka Topic 이름은 이벤트 타입 기반
+        publishExternal(determineTopicName(event), event);
+    }
+
+    /**
+     * Kafka (토픽 지정)
+     * - 공통 모듈이 알 수 없는 서비스 전용 이벤트는 발행하는 서비스가 토픽을 정한다
+     */
+    public void publishExternal(String topic, DomainEvent event) {
         log.debug("외부 이벤트 발행 - Type: {}, EventId: {}",
             event.eventType(),
             event.eventId()
@@ -64,9 +73,6 @@ public class EventPublisher {
             return;
         }
 
-        // Kafka Topic 이름은 이벤트 타입 기반
-        String topic = determineTopicName(event);
-
         kafkaTemplate.send(topic, event.eventId().toString(), event)
             .whenComplete((result, ex) -> {
                 if (ex != null) {
@@ -9,11 +9,16 @@ public record HubCreatedEvent(
         Instant occurredAt,
         UUID hubId,
         String name,
-        String region
+        String region,
+        Double latitude,   // 좌표/상태: 경로 복제본(delivery) 반영용, 이전 메시지에는 없음(null)
+        Double longitude,
+        String status
 ) implements DomainEvent {
 
-    public static HubCreatedEvent of(UUID hubId, String name, String address) {
-        return new HubCreatedEvent(UUID.randomUUID(), Instant.now(), hubId, name, address);
+    public static HubCreatedEvent of(UUID hubId, String name, String address,
+            Double latitude, Double longitude, String status) {
+        return new HubCreatedEvent(UUID.randomUUID(), Instant.now(), hubId, name, address,
+                latitude, longitude, status);
     }
 }
 
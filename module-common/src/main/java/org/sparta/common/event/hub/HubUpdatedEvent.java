@@ -10,11 +10,16 @@ public record HubUpdatedEvent(
         Instant occurredAt,
         UUID hubId,
         String name,
-        String address
+        String address,
+        Double latitude,   // 좌표/상태: 경로 복제본(delivery) 반영용, 이전 메시지에는 없음(null)
+        Double longitude,
+        String status
 ) implements DomainEvent {
 
-    public static HubUpdatedEvent of(UUID hubId, String name, String address) {
-        return new HubUpdatedEvent(UUID.randomUUID(), Instant.now(), hubId, name, address);
+    public static HubUpdatedEvent of(UUID hubId, String name, String address,
+            Double latitude, Double longitude, String status) {
+        return new HubUpdatedEvent(UUID.randomUUID(), Instant.now(), hubId, name, address,
+                latitude, longitude, status);
     }
 
 }
@@ -0,0 +1,35 @@
+package org.sparta.common.event.hub;
+
+import org.sparta.common.event.DomainEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 허브 일괄 등록 이벤트 (허브마다 HubCreatedEvent 를 따로 보내지 않고 묶어서 발행)
+ *
+ * - 한 번의 일괄 등록은 importId 가 같은 chunkCount 개의 이벤트로 나뉘어 발행된다
+ *   (메시지 하나가 Kafka max.request.size 를 넘지 않도록 hub.import.event-chunk-size 단위)
+ * - 모든 청크는 등록 트랜잭션 커밋 후 발행되므로, 전체 재조회가 필요한 소비자는 마지막 청크에서 한 번만 처리하면 된다
+ */
+public record HubsImportedEvent(
+        UUID eventId,
+        Instant occurredAt,
+        UUID importId,
+        int chunkIndex,
+        int chunkCount,
+        List<HubCreatedEvent> hubs
+) implements DomainEvent {
+
+    public static HubsImportedEvent chunk(UUID importId, int chunkIndex, int chunkCount, List<HubCreatedEvent> hubs) {
+        return new HubsImportedEvent(UUID.randomUUID(), Instant.now(), importId, chunkIndex, chunkCount,
+                List.copyOf(hubs));
+    }
+
+    /**
+     * 마지막 청크 여부 (getter 형태가 아니므로 직렬화되지 않음)
+     */
+    public boolean lastChunk() {
+        return chunkIndex >= chunkCount - 1; // 청크 필드가 없는 이전 형식(0/0)도 마지막으로 취급
+    }
+}
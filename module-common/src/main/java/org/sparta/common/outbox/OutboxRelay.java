@@ -0,0 +1,341 @@
+package org.sparta.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공통 Outbox Relay (claim-and-relay worker)
+ *
+ * 1. READY 행을 FOR UPDATE SKIP LOCKED 로 선점 → 여러 인스턴스가 동시에 relay 가능
+ *    - aggregate 단위 순서 보장: 같은 aggregate 에 앞선 미발행(SENT 아님) 행이 있으면 뒤 이벤트는 선점하지 않음
+ *      (앞 행이 backoff 대기 중이든, 다른 인스턴스가 선점 중이든, FAILED 로 격리되었든 동일)
+ *    - 따라서 한 배치에는 aggregate 당 맨 앞 1건만 담기고, 앞 이벤트 결과가 확정된 뒤에 다음 이벤트가 나감
+ * 2. 저장된 JSON payload 를 byte[] 그대로 전송, key = aggregate_id (같은 aggregate 는 같은 파티션)
+ * 3. 배치 전체 producer future 완료 후 SENT / 재시도 대상을 각각 한 번의 UPDATE 로 반영
+ *    - 실패 시 retry_count + 1, next_attempt_at 에 지수 backoff, max-retry 도달 시 FAILED (parking)
+ * 4. 선점한 행이 있었으면 바로 다음 배치 (같은 aggregate 의 다음 이벤트), 없으면 idle-delay-millis 후 다시 폴링
+ *
+ * 시작 시 payload 컬럼이 예전 @Lob 매핑(oid)으로 남아 있으면 text 로 변환한다.
+ * (ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않음)
+ *
+ * 메트릭 (tag: table):
+ * - outbox.relay.sent / outbox.relay.retried / outbox.relay.parked
+ * - outbox.relay.batch : 배치 처리 시간
+ * - outbox.relay.lag   : 마지막으로 선점한 배치 중 가장 오래된 이벤트의 대기 시간(ms)
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxRelayProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final String claimSql;
+    private final String markSentSql;
+    private final String markRetriedSql;
+    private final String markFailedSql;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter parkedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile ScheduledExecutorService executor;
+
+    public OutboxRelay(
+            OutboxRelayProperties properties,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        if (properties.getTableName() == null || properties.getTableName().isBlank()) {
+            throw new IllegalStateException("outbox.relay.table-name 설정이 필요합니다.");
+        }
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+
+        String table = properties.getTableName();
+        String id = properties.getIdColumn();
+        String version = properties.getVersionColumn() != null
+                ? ", " + properties.getVersionColumn() + " = " + properties.getVersionColumn() + " + 1"
+                : "";
+
+        this.claimSql = """
+                select e.%2$s as id, e.aggregate_id, e.event_type, e.payload, e.created_at
+                  from %1$s e
+                 where e.status = 'READY'
+                   and (e.next_attempt_at is null or e.next_attempt_at <= now())
+                   and not exists (
+                        select 1 from %1$s p
+                         where p.aggregate_id = e.aggregate_id
+                           and p.status <> 'SENT'
+                           and (p.created_at, p.%2$s) < (e.created_at, e.%2$s))
+                 order by e.created_at, e.%2$s
+                 limit ?
+                 for update of e skip locked
+                """.formatted(table, id);
+        this.markSentSql = """
+                update %s
+                   set status = 'SENT', published_at = now(), updated_at = now()%s
+                 where %s = any(?)
+                """.formatted(table, version, id);
+        this.markRetriedSql = """
+                update %s
+                   set retry_count = retry_count + 1,
+                       status = case when retry_count + 1 >= ? then 'FAILED' else status end,
+                       next_attempt_at = now() + least(?, ? * power(2, retry_count)) * interval '1 millisecond',
+                       updated_at = now()%s
+                 where %s = any(?)
+                returning status
+                """.formatted(table, version, id);
+        this.markFailedSql = """
+                update %s
+                   set status = 'FAILED', updated_at = now()%s
+                 where %s = any(?)
+                """.formatted(table, version, id);
+
+        this.sentCounter = Counter.builder("outbox.relay.sent").tag("table", table).register(meterRegistry);
+        this.retriedCounter = Counter.builder("outbox.relay.retried").tag("table", table).register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.relay.parked").tag("table", table).register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch").tag("table", table).register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+                .tag("table", table)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // ===== Lifecycle =====
+
+    @Override
+    public void start() {
+        migratePayloadColumn();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-relay-" + properties.getTableName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.schedule(this::runCycle, properties.getIdleDelayMillis(), TimeUnit.MILLISECONDS);
+        log.info("[OutboxRelay] 시작 - table={}, batchSize={}", properties.getTableName(), properties.getBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = executor;
+        executor = null;
+        if (current != null) {
+            current.shutdown();
+            try {
+                current.awaitTermination(properties.getSendTimeoutMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        kafkaTemplate.getProducerFactory().reset(); // 전용 producer 종료
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * payload 컬럼이 oid(@Lob) 이면 large object 내용을 읽어 text 로 변환
+     * - 이미 text 이거나 테이블이 없으면 아무것도 하지 않음 (매 기동 시 호출해도 안전)
+     * - 변환 후 남는 large object 는 vacuumlo 로 정리
+     */
+    void migratePayloadColumn() {
+        String table = properties.getTableName();
+        List<String> types = jdbcTemplate.queryForList("""
+                select data_type from information_schema.columns
+                 where table_schema = current_schema() and table_name = ? and column_name = 'payload'
+                """, String.class, table);
+        if (types.isEmpty() || !"oid".equals(types.get(0))) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("""
+                alter table %s
+                      alter column payload type text using convert_from(lo_get(payload), 'UTF8')
+                """.formatted(table)));
+        log.warn("[OutboxRelay] payload 컬럼을 oid 에서 text 로 변환했습니다 - table={}", table);
+    }
+
+    /**
+     * 한 주기 실행 후 backlog 여부에 따라 다음 주기 예약
+     */
+    private void runCycle() {
+        long nextDelay = properties.getIdleDelayMillis();
+        try {
+            Integer relayed = transactionTemplate.execute(status -> batchTimer.record(this::relayBatch));
+            if (relayed != null && relayed > 0) {
+                nextDelay = 0; // 밀린 이벤트 또는 같은 aggregate 의 다음 이벤트 존재 가능 → 바로 다음 배치
+            }
+        } catch (Exception e) {
+            log.error("[OutboxRelay] 배치 처리 중 예외 - table={}", properties.getTableName(), e);
+        } finally {
+            ScheduledExecutorService current = executor;
+            if (current != null && !current.isShutdown()) {
+                current.schedule(this::runCycle, nextDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    // ===== Relay =====
+
+    /**
+     * 한 배치 선점 → 전송 → 일괄 상태 반영 (호출자 트랜잭션 내)
+     */
+    int relayBatch() {
+        List<OutboxRow> rows = jdbcTemplate.query(claimSql, (rs, rowNum) -> new OutboxRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("aggregate_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at")
+        ), properties.getBatchSize());
+
+        if (rows.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, Instant.now().toEpochMilli() - rows.get(0).createdAt().getTime()));
+
+        List<UUID> sendingIds = new ArrayList<>(rows.size());
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(rows.size());
+        List<UUID> unroutableIds = new ArrayList<>();
+        Set<UUID> aggregates = new HashSet<>();
+
+        for (OutboxRow row : rows) {
+            if (!aggregates.add(row.aggregateId())) {
+                // 선점 쿼리가 aggregate 당 맨 앞 1건만 고르므로 정상적으로는 발생하지 않음
+                // 앞 이벤트 결과를 모른 채 뒤 이벤트를 보내지 않도록 READY 로 남겨 다음 배치에서 처리
+                continue;
+            }
+            OutboxRelayProperties.Route route = properties.getEvents().get(row.eventType());
+            String topic = route != null ? route.getTopic() : properties.getDefaultTopic();
+            if (topic == null) {
+                log.warn("[OutboxRelay] 토픽 매핑 없음 - FAILED 처리. id={}, eventType={}", row.id(), row.eventType());
+                unroutableIds.add(row.id());
+                continue;
+            }
+
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                    topic,
+                    row.aggregateId().toString(),
+                    row.payload().getBytes(StandardCharsets.UTF_8)
+            );
+            if (route != null && route.getTypeId() != null) {
+                record.headers().add(new RecordHeader(TYPE_ID_HEADER, route.getTypeId().getBytes(StandardCharsets.UTF_8)));
+            }
+
+            sendingIds.add(row.id());
+            futures.add(kafkaTemplate.send(record));
+        }
+
+        List<UUID> sentIds = new ArrayList<>(sendingIds.size());
+        List<UUID> retryIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMillis());
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                sentIds.add(sendingIds.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retryIds.add(sendingIds.get(i));
+            } catch (Exception e) {
+                log.error("[OutboxRelay] 이벤트 발행 실패 - id={}", sendingIds.get(i), e);
+                retryIds.add(sendingIds.get(i));
+            }
+        }
+
+        markSent(sentIds);
+        int parked = markRetried(retryIds) + markFailed(unroutableIds);
+
+        sentCounter.increment(sentIds.size());
+        retriedCounter.increment(retryIds.size());
+        parkedCounter.increment(parked);
+
+        log.info("[OutboxRelay] 배치 발행 완료 - table={}, claimed={}, sent={}, retry={}, parked={}",
+                properties.getTableName(), rows.size(), sentIds.size(), retryIds.size(), parked);
+        return rows.size();
+    }
+
+    private void markSent(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(markSentSql, ps -> ps.setArray(1, uuidArray(ps.getConnection(), ids)));
+    }
+
+    /**
+     * @return 이번 UPDATE 로 FAILED 가 된 행 수
+     */
+    private int markRetried(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<String> statuses = jdbcTemplate.query(markRetriedSql, ps -> {
+            ps.setInt(1, properties.getMaxRetry());
+            ps.setLong(2, properties.getMaxBackoffMillis());
+            ps.setLong(3, properties.getInitialBackoffMillis());
+            ps.setArray(4, uuidArray(ps.getConnection(), ids));
+        }, (rs, rowNum) -> rs.getString("status"));
+        return (int) statuses.stream().filter("FAILED"::equals).count();
+    }
+
+    private int markFailed(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(markFailedSql, ps -> ps.setArray(1, uuidArray(ps.getConnection(), ids)));
+    }
+
+    private static Array uuidArray(Connection connection, Collection<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray());
+    }
+
+    private record OutboxRow(
+            UUID id,
+            UUID aggregateId,
+            String eventType,
+            String payload,
+            Timestamp createdAt
+    ) {
+    }
+}
@@ -0,0 +1,70 @@
+package org.sparta.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공통 Outbox Relay 설정
+ * - outbox.relay.enabled=true 인 서비스에서만 활성화
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelayConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxRelayProperties properties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        return new OutboxRelay(
+                properties,
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                outboxKafkaTemplate(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Outbox Relay 전용 KafkaTemplate
+     * - Value를 재직렬화하지 않고 byte[] 그대로 전송
+     * - linger/batch 설정으로 한 배치가 적은 수의 produce 요청으로 묶이도록 함
+     * - idempotence + in-flight 5 이하 → 같은 파티션(aggregate) 내 순서 유지
+     * - Bean 으로 등록하지 않음 (Spring Boot 기본 KafkaTemplate/ProducerFactory 자동설정을 가리지 않도록)
+     */
+    private KafkaTemplate<String, byte[]> outboxKafkaTemplate() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config));
+    }
+}
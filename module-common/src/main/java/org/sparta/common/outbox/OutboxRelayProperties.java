@@ -0,0 +1,101 @@
+package org.sparta.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공통 Outbox Relay 설정
+ *
+ * 각 서비스는 자신의 outbox 테이블 이름과 이벤트 → 토픽 매핑만 설정하면 된다.
+ * (테이블 스키마는 docs/OUTBOX.md 참고)
+ *
+ * 예시:
+ * outbox:
+ *   relay:
+ *     enabled: true
+ *     table-name: p_order_outbox_events
+ *     batch-size: 500
+ *     events:
+ *       OrderCreatedEvent:
+ *         topic: order.orderCreate
+ *         type-id: org.sparta.common.event.order.OrderCreatedEvent
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    /**
+     * 공통 Relay 사용 여부 (false 이면 각 서비스의 기존 Publisher 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * outbox 테이블 이름
+     */
+    private String tableName;
+
+    /**
+     * PK 컬럼 이름 (UUID)
+     */
+    private String idColumn = "id";
+
+    /**
+     * JPA @Version 컬럼이 있는 테이블이면 지정 (UPDATE 시 함께 증가)
+     */
+    private String versionColumn;
+
+    /**
+     * 한 번에 선점(SKIP LOCKED)하는 최대 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 선점할 이벤트가 없을 때 다음 폴링까지 대기 시간 (ms)
+     * 선점한 행이 있었으면 대기 없이 바로 다음 배치를 처리
+     */
+    private long idleDelayMillis = 1000;
+
+    /**
+     * 배치 전체의 Kafka 전송 완료 대기 시간 (ms)
+     */
+    private long sendTimeoutMillis = 10_000;
+
+    /**
+     * 최대 재시도 횟수, 도달 시 FAILED 로 격리(parking)
+     */
+    private int maxRetry = 5;
+
+    /**
+     * 재시도 간격 = min(maxBackoffMillis, initialBackoffMillis * 2^retryCount)
+     */
+    private long initialBackoffMillis = 1000;
+
+    private long maxBackoffMillis = 60_000;
+
+    /**
+     * events 에 매핑이 없는 이벤트를 보낼 토픽 (없으면 FAILED 처리)
+     */
+    private String defaultTopic;
+
+    /**
+     * eventType → 토픽/타입 헤더
+     */
+    private Map<String, Route> events = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String topic;
+
+        /**
+         * __TypeId__ 헤더 값 (JsonSerializer 로 발행하던 기존 컨슈머 호환용, 선택)
+         */
+        private String typeId;
+    }
+}
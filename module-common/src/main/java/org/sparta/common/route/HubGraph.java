@@ -0,0 +1,703 @@
+package org.sparta.common.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 허브 경로 탐색용 인메모리 그래프 (불변 스냅샷)
+ *
+ * - 허브는 ordinal(0..n-1)로 번호를 매기고 좌표/간선을 primitive 배열에 보관 (CSR 인접 리스트)
+ * - 간선: max-leg-km 이내 허브끼리의 좌표 기반 간선(양방향) + ACTIVE HubRoute 간선(단방향)
+ *   (이웃 허브는 HubSpatialIndex 반경 조회로 찾아 전체 쌍 비교를 피함)
+ * - 탐색: A* (휴리스틱 = 목표까지 대원 거리 × 간선 가중치/대원 거리 비율의 최솟값 → 항상 admissible)
+ *   DISTANCE(거리) / TIME(소요 시간) / HOPS(경유 수, 같으면 거리) 를 같은 그래프에서 계산
+ * - 시간대별 소요 시간 배수: 간선별(HubRoute) 24개 배수, 없으면 그래프 기본 배수 (fastestPathDeparting)
+ * - 허브 추가/수정/삭제는 바뀐 허브의 간선만 다시 계산한 새 스냅샷을 만든다 (withHub / withoutHub)
+ * - hub-service(HubRoutePlanner)와 delivery-service(로컬 경로 복제본)가 같은 결과를 내도록 공통 모듈에 둔다
+ */
+public final class HubGraph {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // HOPS 가중치 = 1 + km × 이 값 (경유 수가 같을 때만 거리로 구분되도록 충분히 작게)
+    private static final double HOP_TIEBREAK_PER_KM = 1e-7;
+
+    private final UUID[] hubIds;
+    private final Map<UUID, Integer> ordinals;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] latRadians;
+    private final double[] lonRadians;
+    private final double[] cosLatitudes;
+
+    private final int[] edgeOffsets;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final double[] edgeKm;
+    private final double[] edgeMinutes;
+    private final boolean[] edgeFromRoute;
+    private final double[] edgeHops;
+    private final double[][] edgeProfiles;
+
+    private final HubSpatialIndex spatialIndex;
+    private final List<RouteEdge> routes;
+    private final double maxLegKm;
+    private final double minutesPerKm;
+    private final double[] defaultProfile;
+    private final double minTimeMultiplier;
+    private final double kmHeuristicScale;
+    private final double minutesHeuristicScale;
+    private final long version;
+
+    private HubGraph(List<Node> nodes, HubSpatialIndex spatialIndex, EdgeBuffer edges, List<RouteEdge> routes,
+                     double maxLegKm, double minutesPerKm, double[] defaultProfile) {
+        int n = nodes.size();
+        this.hubIds = new UUID[n];
+        this.ordinals = new HashMap<>(n * 2);
+        this.latitudes = new double[n];
+        this.longitudes = new double[n];
+        this.latRadians = new double[n];
+        this.lonRadians = new double[n];
+        this.cosLatitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            Node node = nodes.get(i);
+            hubIds[i] = node.hubId();
+            ordinals.put(node.hubId(), i);
+            latitudes[i] = node.latitude();
+            longitudes[i] = node.longitude();
+            latRadians[i] = Math.toRadians(node.latitude());
+            lonRadians[i] = Math.toRadians(node.longitude());
+            cosLatitudes[i] = Math.cos(latRadians[i]);
+        }
+
+        this.spatialIndex = spatialIndex;
+        this.routes = List.copyOf(routes);
+        this.maxLegKm = maxLegKm;
+        this.minutesPerKm = minutesPerKm;
+        this.defaultProfile = checkProfile(defaultProfile);
+
+        // 출발 ordinal 기준 counting sort → CSR
+        int m = edges.size;
+        this.edgeOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            edgeOffsets[edges.sources[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            edgeOffsets[i + 1] += edgeOffsets[i];
+        }
+        this.edgeSources = new int[m];
+        this.edgeTargets = new int[m];
+        this.edgeKm = new double[m];
+        this.edgeMinutes = new double[m];
+        this.edgeFromRoute = new boolean[m];
+        this.edgeHops = new double[m];
+        this.edgeProfiles = new double[m][];
+        int[] cursor = Arrays.copyOf(edgeOffsets, n);
+        for (int e = 0; e < m; e++) {
+            int slot = cursor[edges.sources[e]]++;
+            edgeSources[slot] = edges.sources[e];
+            edgeTargets[slot] = edges.targets[e];
+            edgeKm[slot] = edges.km[e];
+            edgeMinutes[slot] = edges.minutes[e];
+            edgeFromRoute[slot] = edges.fromRoute[e];
+            edgeHops[slot] = 1.0 + edges.km[e] * HOP_TIEBREAK_PER_KM;
+            edgeProfiles[slot] = edges.profiles[e];
+        }
+
+        double minMultiplier = this.defaultProfile == null ? 1.0 : min(this.defaultProfile);
+        for (int e = 0; e < m; e++) {
+            if (edgeProfiles[e] != null) {
+                minMultiplier = Math.min(minMultiplier, min(edgeProfiles[e]));
+            }
+        }
+        this.minTimeMultiplier = minMultiplier;
+
+        // 좌표 간선은 가중치/대원 거리 비율이 정확히 1(거리), minutesPerKm(시간)
+        double kmScale = 1.0;
+        double minutesScale = minutesPerKm;
+        for (int e = 0; e < m; e++) {
+            if (!edgeFromRoute[e]) continue;
+            double straight = distanceKm(edgeSources[e], edgeTargets[e]);
+            if (straight <= 0) continue;
+            kmScale = Math.min(kmScale, edgeKm[e] / straight);
+            minutesScale = Math.min(minutesScale, edgeMinutes[e] / straight);
+        }
+        this.kmHeuristicScale = kmScale;
+        this.minutesHeuristicScale = minutesScale;
+        this.version = fingerprint();
+    }
+
+    /**
+     * 허브 좌표 + ACTIVE 경로로 그래프 전체 구성
+     */
+    public static HubGraph build(List<Node> nodes, List<RouteEdge> routes, double maxLegKm, double minutesPerKm) {
+        return build(nodes, routes, maxLegKm, minutesPerKm, null);
+    }
+
+    /**
+     * @param defaultHourlyMultipliers 시간대별 배수가 없는 간선에 적용할 0~23시 배수 (null 이면 모두 1.0)
+     */
+    public static HubGraph build(List<Node> nodes, List<RouteEdge> routes, double maxLegKm, double minutesPerKm,
+                                 double[] defaultHourlyMultipliers) {
+        Map<UUID, Integer> index = indexOf(nodes);
+        HubSpatialIndex spatialIndex = HubSpatialIndex.build(nodes);
+        EdgeBuffer edges = new EdgeBuffer(nodes.size() * 4);
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            for (HubSpatialIndex.Neighbor neighbor : spatialIndex.within(node.latitude(), node.longitude(), maxLegKm)) {
+                if (neighbor.ordinal() > i) {
+                    addGeometricEdges(edges, i, neighbor.ordinal(), neighbor.distanceKm(), minutesPerKm);
+                }
+            }
+        }
+        for (RouteEdge route : routes) {
+            addRouteEdge(edges, index, route);
+        }
+        return new HubGraph(nodes, spatialIndex, edges, routes, maxLegKm, minutesPerKm, defaultHourlyMultipliers);
+    }
+
+    public static HubGraph empty(double maxLegKm, double minutesPerKm) {
+        return build(List.of(), List.of(), maxLegKm, minutesPerKm);
+    }
+
+    /**
+     * 허브 추가/좌표 변경: 해당 허브의 간선만 다시 계산 (다른 허브 간 간선은 그대로 복사)
+     */
+    public HubGraph withHub(Node node) {
+        Integer existing = ordinals.get(node.hubId());
+        List<Node> nodes = nodes();
+        int changed;
+        if (existing == null) {
+            nodes.add(node);
+            changed = nodes.size() - 1;
+        } else {
+            nodes.set(existing, node);
+            changed = existing;
+        }
+
+        HubSpatialIndex spatialIndex = HubSpatialIndex.build(nodes);
+        EdgeBuffer edges = copyEdgesExcluding(existing == null ? -1 : existing, identityMapping());
+        for (HubSpatialIndex.Neighbor neighbor : spatialIndex.within(node.latitude(), node.longitude(), maxLegKm)) {
+            if (neighbor.ordinal() != changed) {
+                addGeometricEdges(edges, neighbor.ordinal(), changed, neighbor.distanceKm(), minutesPerKm);
+            }
+        }
+        Map<UUID, Integer> index = indexOf(nodes);
+        for (RouteEdge route : routes) {
+            if (route.sourceHubId().equals(node.hubId()) || route.targetHubId().equals(node.hubId())) {
+                addRouteEdge(edges, index, route);
+            }
+        }
+        return new HubGraph(nodes, spatialIndex, edges, routes, maxLegKm, minutesPerKm, defaultProfile);
+    }
+
+    /**
+     * 허브 삭제/비활성화: 해당 허브와 간선을 제거하고 ordinal 을 다시 매긴다
+     */
+    public HubGraph withoutHub(UUID hubId) {
+        Integer removed = ordinals.get(hubId);
+        if (removed == null) {
+            return this;
+        }
+        List<Node> nodes = nodes();
+        nodes.remove((int) removed);
+
+        int[] mapping = new int[hubIds.length];
+        for (int i = 0; i < mapping.length; i++) {
+            mapping[i] = i < removed ? i : i - 1;
+        }
+        return new HubGraph(nodes, HubSpatialIndex.build(nodes), copyEdgesExcluding(removed, mapping),
+                routes, maxLegKm, minutesPerKm, defaultProfile);
+    }
+
+    public int size() {
+        return hubIds.length;
+    }
+
+    public int edgeCount() {
+        return edgeTargets.length;
+    }
+
+    public boolean contains(UUID hubId) {
+        return ordinals.containsKey(hubId);
+    }
+
+    /**
+     * @return 허브 ordinal, 그래프에 없으면 -1
+     */
+    public int ordinalOf(UUID hubId) {
+        Integer ordinal = ordinals.get(hubId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public UUID hubIdAt(int ordinal) {
+        return hubIds[ordinal];
+    }
+
+    /**
+     * 허브 좌표 공간 인덱스 (Neighbor.ordinal 은 이 그래프의 ordinal)
+     */
+    public HubSpatialIndex spatialIndex() {
+        return spatialIndex;
+    }
+
+    public double maxLegKm() {
+        return maxLegKm;
+    }
+
+    public double minutesPerKm() {
+        return minutesPerKm;
+    }
+
+    /**
+     * 간선별 배수가 없을 때 쓰는 0~23시 소요 시간 배수 (null 이면 모두 1.0)
+     */
+    public double[] defaultHourlyMultipliers() {
+        return defaultProfile == null ? null : defaultProfile.clone();
+    }
+
+    public List<RouteEdge> routes() {
+        return routes;
+    }
+
+    /**
+     * 그래프 버전 (허브 좌표 + 간선 내용 기반 지문)
+     * - ordinal/적재 순서와 무관하므로 같은 데이터를 읽은 인스턴스끼리는 같은 버전을 갖는다
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * A* 최단 경로
+     *
+     * @return source → target 구간 목록, 도달할 수 없으면 empty
+     */
+    public Optional<List<RouteLeg>> shortestPath(int source, int target, RouteMetric metric) {
+        int n = hubIds.length;
+        double[] weights = weightsFor(metric);
+        double scale = heuristicScale(metric);
+
+        double[] best = new double[n];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        int[] viaEdge = new int[n];
+        Arrays.fill(viaEdge, -1);
+        boolean[] settled = new boolean[n];
+
+        MinHeap open = new MinHeap(Math.max(16, n));
+        best[source] = 0;
+        open.push(source, scale * distanceKm(source, target));
+
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (settled[u]) continue;
+            if (u == target) {
+                return Optional.of(toLegs(source, target, viaEdge));
+            }
+            settled[u] = true;
+
+            for (int e = edgeOffsets[u]; e < edgeOffsets[u + 1]; e++) {
+                int v = edgeTargets[e];
+                if (settled[v]) continue;
+                double g = best[u] + weights[e];
+                if (g < best[v]) {
+                    best[v] = g;
+                    viaEdge[v] = e;
+                    open.push(v, g + scale * distanceKm(v, target));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 출발 시각 기준 최단 시간 경로 (시간 의존 A*)
+     *
+     * - 간선 소요 시간 = 기본 소요 시간 × 간선에 진입하는 시각(시)의 배수
+     * - 구간 estimatedMinutes 는 배수가 반영된 도착 예정 시간 차
+     * - 배수가 시간대 경계에서 급변하면 늦게 출발해 먼저 도착하는 경우(FIFO 위반)가 생길 수 있어 근사해
+     *
+     * @param departureMinuteOfDay 출발 시각 (0 ~ 1439, 자정 기준 분)
+     */
+    public Optional<List<RouteLeg>> fastestPathDeparting(int source, int target, int departureMinuteOfDay) {
+        int n = hubIds.length;
+        double scale = minutesHeuristicScale * minTimeMultiplier;
+
+        double[] arrival = new double[n];
+        Arrays.fill(arrival, Double.POSITIVE_INFINITY);
+        int[] viaEdge = new int[n];
+        Arrays.fill(viaEdge, -1);
+        boolean[] settled = new boolean[n];
+
+        MinHeap open = new MinHeap(Math.max(16, n));
+        arrival[source] = 0;
+        open.push(source, scale * distanceKm(source, target));
+
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (settled[u]) continue;
+            if (u == target) {
+                return Optional.of(toLegs(source, target, viaEdge, arrival));
+            }
+            settled[u] = true;
+
+            int hour = Math.floorMod(departureMinuteOfDay + (int) arrival[u], MINUTES_PER_DAY) / 60;
+            for (int e = edgeOffsets[u]; e < edgeOffsets[u + 1]; e++) {
+                int v = edgeTargets[e];
+                if (settled[v]) continue;
+                double g = arrival[u] + edgeMinutes[e] * multiplier(e, hour);
+                if (g < arrival[v]) {
+                    arrival[v] = g;
+                    viaEdge[v] = e;
+                    open.push(v, g + scale * distanceKm(v, target));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 단일 출발 최단 경로 트리 (Dijkstra) - 전체 경로표 사전 계산용
+     *
+     * @return 도착 ordinal 별 마지막 간선 (도달 불가/출발지는 -1)
+     */
+    public int[] shortestPathTree(int source, RouteMetric metric) {
+        int n = hubIds.length;
+        double[] weights = weightsFor(metric);
+
+        double[] best = new double[n];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        int[] viaEdge = new int[n];
+        Arrays.fill(viaEdge, -1);
+        boolean[] settled = new boolean[n];
+
+        MinHeap open = new MinHeap(Math.max(16, n));
+        best[source] = 0;
+        open.push(source, 0);
+
+        while (!open.isEmpty()) {
+            int u = open.pop();
+            if (settled[u]) continue;
+            settled[u] = true;
+
+            for (int e = edgeOffsets[u]; e < edgeOffsets[u + 1]; e++) {
+                int v = edgeTargets[e];
+                if (settled[v]) continue;
+                double g = best[u] + weights[e];
+                if (g < best[v]) {
+                    best[v] = g;
+                    viaEdge[v] = e;
+                    open.push(v, g);
+                }
+            }
+        }
+        return viaEdge;
+    }
+
+    /**
+     * 최단 경로 트리에서 source → target 구간 목록 복원
+     *
+     * @return 도달할 수 없으면 empty
+     */
+    public Optional<List<RouteLeg>> legsFromTree(int source, int target, int[] viaEdge) {
+        if (source == target || viaEdge[target] < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(toLegs(source, target, viaEdge));
+    }
+
+    /**
+     * 두 허브 사이 대원 거리 (Haversine)
+     */
+    public double distanceKm(int a, int b) {
+        double dLat = latRadians[b] - latRadians[a];
+        double dLon = lonRadians[b] - lonRadians[a];
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double s = sinLat * sinLat + cosLatitudes[a] * cosLatitudes[b] * sinLon * sinLon;
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(s), Math.sqrt(1 - s));
+    }
+
+    private double[] weightsFor(RouteMetric metric) {
+        return switch (metric) {
+            case DISTANCE -> edgeKm;
+            case TIME -> edgeMinutes;
+            case HOPS -> edgeHops;
+        };
+    }
+
+    private double heuristicScale(RouteMetric metric) {
+        return switch (metric) {
+            case DISTANCE -> kmHeuristicScale;
+            case TIME -> minutesHeuristicScale;
+            case HOPS -> 0.0; // 경유 수는 거리로 하한을 잡을 수 없음 → Dijkstra
+        };
+    }
+
+    private double multiplier(int edge, int hour) {
+        double[] profile = edgeProfiles[edge] != null ? edgeProfiles[edge] : defaultProfile;
+        return profile == null ? 1.0 : profile[hour];
+    }
+
+    private List<RouteLeg> toLegs(int source, int target, int[] viaEdge, double[] arrival) {
+        List<RouteLeg> legs = new ArrayList<>();
+        for (int node = target; node != source; node = edgeSources[viaEdge[node]]) {
+            int e = viaEdge[node];
+            legs.add(new RouteLeg(
+                    hubIds[edgeSources[e]],
+                    hubIds[edgeTargets[e]],
+                    round2(edgeKm[e]),
+                    (int) Math.round(arrival[edgeTargets[e]] - arrival[edgeSources[e]])
+            ));
+        }
+        Collections.reverse(legs);
+        return legs;
+    }
+
+    private List<RouteLeg> toLegs(int source, int target, int[] viaEdge) {
+        List<RouteLeg> legs = new ArrayList<>();
+        for (int node = target; node != source; node = edgeSources[viaEdge[node]]) {
+            int e = viaEdge[node];
+            legs.add(new RouteLeg(
+                    hubIds[edgeSources[e]],
+                    hubIds[edgeTargets[e]],
+                    round2(edgeKm[e]),
+                    (int) Math.round(edgeMinutes[e])
+            ));
+        }
+        Collections.reverse(legs);
+        return legs;
+    }
+
+    private long fingerprint() {
+        long hash = 0;
+        for (int i = 0; i < hubIds.length; i++) {
+            hash += mix(hubIds[i].hashCode(), Double.hashCode(latitudes[i]), Double.hashCode(longitudes[i]), 0);
+        }
+        for (int e = 0; e < edgeTargets.length; e++) {
+            hash += mix(hubIds[edgeSources[e]].hashCode(), hubIds[edgeTargets[e]].hashCode(),
+                    Double.hashCode(edgeKm[e]), Double.hashCode(edgeMinutes[e]) ^ Arrays.hashCode(edgeProfiles[e]));
+        }
+        return hash ^ Arrays.hashCode(defaultProfile);
+    }
+
+    private static long mix(int a, int b, int c, int d) {
+        long h = a * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 32) ^ b) * 0xC2B2AE3D27D4EB4FL;
+        h = (h ^ (h >>> 29) ^ c) * 0x165667B19E3779F9L;
+        h = (h ^ (h >>> 32) ^ d) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * 허브 목록 복사본 (ordinal 순)
+     */
+    public List<Node> nodes() {
+        List<Node> nodes = new ArrayList<>(hubIds.length + 1);
+        for (int i = 0; i < hubIds.length; i++) {
+            nodes.add(new Node(hubIds[i], latitudes[i], longitudes[i]));
+        }
+        return nodes;
+    }
+
+    private int[] identityMapping() {
+        int[] mapping = new int[hubIds.length];
+        for (int i = 0; i < mapping.length; i++) {
+            mapping[i] = i;
+        }
+        return mapping;
+    }
+
+    private EdgeBuffer copyEdgesExcluding(int excluded, int[] mapping) {
+        EdgeBuffer edges = new EdgeBuffer(edgeTargets.length + 16);
+        for (int e = 0; e < edgeTargets.length; e++) {
+            if (edgeSources[e] == excluded || edgeTargets[e] == excluded) continue;
+            edges.add(mapping[edgeSources[e]], mapping[edgeTargets[e]], edgeKm[e], edgeMinutes[e],
+                    edgeFromRoute[e], edgeProfiles[e]);
+        }
+        return edges;
+    }
+
+    private static void addGeometricEdges(EdgeBuffer edges, int a, int b, double km, double minutesPerKm) {
+        edges.add(a, b, km, km * minutesPerKm, false, null);
+        edges.add(b, a, km, km * minutesPerKm, false, null);
+    }
+
+    private static void addRouteEdge(EdgeBuffer edges, Map<UUID, Integer> index, RouteEdge route) {
+        Integer source = index.get(route.sourceHubId());
+        Integer target = index.get(route.targetHubId());
+        if (source == null || target == null || source.equals(target)) {
+            return; // 비활성 허브에 걸린 경로는 제외
+        }
+        edges.add(source, target, route.distanceKm(), route.minutes(), true, route.hourlyMultipliers());
+    }
+
+    private static Map<UUID, Integer> indexOf(List<Node> nodes) {
+        Map<UUID, Integer> index = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            index.put(nodes.get(i).hubId(), i);
+        }
+        return index;
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double s = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(s), Math.sqrt(1 - s));
+    }
+
+    public static double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    private static double[] checkProfile(double[] profile) {
+        if (profile == null) {
+            return null;
+        }
+        if (profile.length != HOURS_PER_DAY) {
+            throw new IllegalArgumentException("시간대별 배수는 24개(0~23시)여야 합니다.");
+        }
+        for (double value : profile) {
+            if (!(value > 0)) {
+                throw new IllegalArgumentException("시간대별 배수는 0보다 커야 합니다.");
+            }
+        }
+        return profile.clone();
+    }
+
+    private static double min(double[] values) {
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    public record Node(UUID hubId, double latitude, double longitude) {
+    }
+
+    /**
+     * @param hourlyMultipliers 0~23시 소요 시간 배수 (null 이면 그래프 기본 배수)
+     */
+    public record RouteEdge(UUID sourceHubId, UUID targetHubId, double distanceKm, double minutes,
+                            double[] hourlyMultipliers) {
+
+        public RouteEdge {
+            hourlyMultipliers = checkProfile(hourlyMultipliers);
+        }
+
+        public RouteEdge(UUID sourceHubId, UUID targetHubId, double distanceKm, double minutes) {
+            this(sourceHubId, targetHubId, distanceKm, minutes, null);
+        }
+    }
+
+    /**
+     * 간선 임시 버퍼 (primitive 배열, 필요 시 2배 확장)
+     */
+    private static final class EdgeBuffer {
+        private int[] sources;
+        private int[] targets;
+        private double[] km;
+        private double[] minutes;
+        private boolean[] fromRoute;
+        private double[][] profiles;
+        private int size;
+
+        EdgeBuffer(int capacity) {
+            int initial = Math.max(capacity, 16);
+            sources = new int[initial];
+            targets = new int[initial];
+            km = new double[initial];
+            minutes = new double[initial];
+            fromRoute = new boolean[initial];
+            profiles = new double[initial][];
+        }
+
+        void add(int source, int target, double distanceKm, double durationMinutes, boolean route, double[] profile) {
+            if (size == sources.length) {
+                int grown = size * 2;
+                sources = Arrays.copyOf(sources, grown);
+                targets = Arrays.copyOf(targets, grown);
+                km = Arrays.copyOf(km, grown);
+                minutes = Arrays.copyOf(minutes, grown);
+                fromRoute = Arrays.copyOf(fromRoute, grown);
+                profiles = Arrays.copyOf(profiles, grown);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            km[size] = distanceKm;
+            minutes[size] = durationMinutes;
+            fromRoute[size] = route;
+            profiles[size] = profile;
+            size++;
+        }
+    }
+
+    /**
+     * (우선순위, ordinal) 이진 힙 - 지연 삭제 방식 (이미 확정된 노드는 pop 후 건너뜀)
+     */
+    private static final class MinHeap {
+        private double[] priorities;
+        private int[] nodes;
+        private int size;
+
+        MinHeap(int capacity) {
+            priorities = new double[capacity];
+            nodes = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int node, double priority) {
+            if (size == nodes.length) {
+                priorities = Arrays.copyOf(priorities, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (priorities[parent] <= priority) break;
+                priorities[i] = priorities[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            priorities[i] = priority;
+            nodes[i] = node;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            if (size > 0) {
+                double priority = priorities[size];
+                int node = nodes[size];
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) break;
+                    if (child + 1 < size && priorities[child + 1] < priorities[child]) child++;
+                    if (priorities[child] >= priority) break;
+                    priorities[i] = priorities[child];
+                    nodes[i] = nodes[child];
+                    i = child;
+                }
+                priorities[i] = priority;
+                nodes[i] = node;
+            }
+            return top;
+        }
+    }
+}
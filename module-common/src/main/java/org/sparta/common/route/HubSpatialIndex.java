@@ -0,0 +1,205 @@
+package org.sparta.common.route;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 허브 좌표 공간 인덱스 (위도/경도 2차원 k-d 트리, 불변)
+ *
+ * - 배열 하나에 중앙값 분할 순서로 허브 ordinal 을 배치한 암시적 k-d 트리 (짝수 깊이 = 위도, 홀수 깊이 = 경도)
+ * - 반경 조회: 반경을 감싸는 위경도 박스로 가지치기 → 등장방형(equirectangular) 근사 거리로 1차 필터 → Haversine 확정
+ * - k-최근접 조회: 분할면까지의 대원 거리 하한으로 가지치기 (위도면 = 자오선 호, 경도면 = 자오선 대원까지 거리)
+ * - 경도 ±180 경계를 넘는 조회는 고려하지 않음 (국내 허브 기준)
+ */
+public final class HubSpatialIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    // 등장방형 근사 오차 여유 (수백 km 이내 0.1% 미만)
+    private static final double PREFILTER_TOLERANCE = 1.01;
+    private static final double PREFILTER_SLACK_KM = 1.0;
+
+    private final List<HubGraph.Node> nodes;
+    private final int[] tree;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private HubSpatialIndex(List<HubGraph.Node> nodes) {
+        int n = nodes.size();
+        this.nodes = List.copyOf(nodes);
+        this.tree = new int[n];
+        this.latitudes = new double[n];
+        this.longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            tree[i] = i;
+            latitudes[i] = nodes.get(i).latitude();
+            longitudes[i] = nodes.get(i).longitude();
+        }
+        arrange(0, n, 0);
+    }
+
+    /**
+     * @param nodes 허브 목록 (조회 결과의 ordinal 은 이 목록의 인덱스)
+     */
+    public static HubSpatialIndex build(List<HubGraph.Node> nodes) {
+        return new HubSpatialIndex(nodes);
+    }
+
+    public int size() {
+        return tree.length;
+    }
+
+    /**
+     * 반경 내 허브 (가까운 순)
+     */
+    public List<Neighbor> within(double latitude, double longitude, double radiusKm) {
+        List<Neighbor> found = new ArrayList<>();
+        if (tree.length == 0 || radiusKm < 0) {
+            return found;
+        }
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double maxAbsLat = Math.abs(latitude) + dLat;
+        double dLon = maxAbsLat >= 90.0
+                ? 360.0
+                : radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat)));
+        Box box = new Box(latitude - dLat, latitude + dLat, longitude - dLon, longitude + dLon);
+
+        collectWithin(0, tree.length, 0, latitude, longitude, radiusKm, box, found);
+        found.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return found;
+    }
+
+    /**
+     * 가까운 허브 k 개 (가까운 순)
+     */
+    public List<Neighbor> nearest(double latitude, double longitude, int k) {
+        if (tree.length == 0 || k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+        collectNearest(0, tree.length, 0, latitude, longitude, k, best);
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    private void collectWithin(int lo, int hi, int depth, double lat, double lon, double radiusKm,
+                               Box box, List<Neighbor> found) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int p = tree[mid];
+        if (box.contains(latitudes[p], longitudes[p])
+                && equirectangularKm(lat, lon, latitudes[p], longitudes[p])
+                <= radiusKm * PREFILTER_TOLERANCE + PREFILTER_SLACK_KM) {
+            double km = HubGraph.haversineKm(lat, lon, latitudes[p], longitudes[p]);
+            if (km <= radiusKm) {
+                found.add(new Neighbor(p, nodes.get(p), km));
+            }
+        }
+
+        boolean latAxis = (depth & 1) == 0;
+        double split = latAxis ? latitudes[p] : longitudes[p];
+        double min = latAxis ? box.minLat() : box.minLon();
+        double max = latAxis ? box.maxLat() : box.maxLon();
+        if (min <= split) {
+            collectWithin(lo, mid, depth + 1, lat, lon, radiusKm, box, found);
+        }
+        if (max >= split) {
+            collectWithin(mid + 1, hi, depth + 1, lat, lon, radiusKm, box, found);
+        }
+    }
+
+    private void collectNearest(int lo, int hi, int depth, double lat, double lon, int k,
+                                PriorityQueue<Neighbor> best) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int p = tree[mid];
+        double km = HubGraph.haversineKm(lat, lon, latitudes[p], longitudes[p]);
+        if (best.size() < k) {
+            best.add(new Neighbor(p, nodes.get(p), km));
+        } else if (km < best.peek().distanceKm()) {
+            best.poll();
+            best.add(new Neighbor(p, nodes.get(p), km));
+        }
+
+        boolean latAxis = (depth & 1) == 0;
+        double diff = latAxis ? lat - latitudes[p] : lon - longitudes[p];
+        boolean nearIsLeft = diff < 0;
+        collectNearest(nearIsLeft ? lo : mid + 1, nearIsLeft ? mid : hi, depth + 1, lat, lon, k, best);
+
+        double bound = latAxis
+                ? Math.abs(diff) * KM_PER_DEGREE
+                : EARTH_RADIUS_KM * Math.asin(Math.min(1.0,
+                        Math.abs(Math.cos(Math.toRadians(lat)) * Math.sin(Math.toRadians(diff)))));
+        if (best.size() < k || bound < best.peek().distanceKm()) {
+            collectNearest(nearIsLeft ? mid + 1 : lo, nearIsLeft ? hi : mid, depth + 1, lat, lon, k, best);
+        }
+    }
+
+    /**
+     * [lo, hi) 구간을 깊이별 축 기준 중앙값으로 분할 (quickselect)
+     */
+    private void arrange(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double[] axis = (depth & 1) == 0 ? latitudes : longitudes;
+        select(lo, hi - 1, mid, axis);
+        arrange(lo, mid, depth + 1);
+        arrange(mid + 1, hi, depth + 1);
+    }
+
+    private void select(int left, int right, int nth, double[] axis) {
+        while (left < right) {
+            double pivot = axis[tree[(left + right) >>> 1]];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (axis[tree[i]] < pivot) i++;
+                while (axis[tree[j]] > pivot) j--;
+                if (i <= j) {
+                    int tmp = tree[i];
+                    tree[i] = tree[j];
+                    tree[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (nth <= j) {
+                right = j;
+            } else if (nth >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    static double equirectangularKm(double lat1, double lon1, double lat2, double lon2) {
+        double x = Math.toRadians(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = Math.toRadians(lat2 - lat1);
+        return EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * @param ordinal 인덱스 구성 시 전달한 허브 목록의 인덱스
+     */
+    public record Neighbor(int ordinal, HubGraph.Node node, double distanceKm) {
+    }
+
+    private record Box(double minLat, double maxLat, double minLon, double maxLon) {
+        boolean contains(double lat, double lon) {
+            return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package org.sparta.hub.application.route;
+package org.sparta.common.route;
 
 import java.util.UUID;
 
@@ -0,0 +1,13 @@
+package org.sparta.common.route;
+
+/**
+ * 경로 탐색 기준
+ * - DISTANCE : 총 거리(km) 최소
+ * - TIME     : 총 소요 시간(분) 최소
+ * - HOPS     : 경유 수 최소 (같으면 총 거리 최소)
+ */
+public enum RouteMetric {
+    DISTANCE,
+    TIME,
+    HOPS
+}
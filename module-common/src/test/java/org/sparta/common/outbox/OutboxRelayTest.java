@@ -0,0 +1,319 @@
+package org.sparta.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxRelay 선점 / 재시도 / aggregate 순서 검증
+ * - 선점 쿼리가 PostgreSQL 전용(FOR UPDATE SKIP LOCKED, any(uuid[]))이라 실제 PostgreSQL 에서 실행
+ * - Kafka 전송은 KafkaTemplate mock 으로 대체
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final String TABLE = "p_test_outbox_events";
+    private static final String EVENT_TYPE = "OrderCreatedEvent";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private OutboxRelayProperties properties;
+    private OutboxRelay relay;
+
+    private final Instant base = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("drop table if exists " + TABLE);
+        jdbcTemplate.execute("""
+                create table %s (
+                    id uuid primary key,
+                    aggregate_type varchar(50),
+                    aggregate_id uuid not null,
+                    event_type varchar(100) not null,
+                    payload text not null,
+                    status varchar(20) not null,
+                    retry_count integer not null default 0,
+                    next_attempt_at timestamp,
+                    published_at timestamp,
+                    created_at timestamp not null,
+                    updated_at timestamp
+                )
+                """.formatted(TABLE));
+
+        kafkaTemplate = mock(KafkaTemplate.class);
+        sendSucceeds();
+
+        properties = new OutboxRelayProperties();
+        properties.setTableName(TABLE);
+        properties.setBatchSize(100);
+        properties.setMaxRetry(3);
+        properties.setInitialBackoffMillis(60_000);
+        properties.setMaxBackoffMillis(60_000);
+        OutboxRelayProperties.Route route = new OutboxRelayProperties.Route();
+        route.setTopic("order.orderCreate");
+        properties.getEvents().put(EVENT_TYPE, route);
+
+        relay = new OutboxRelay(properties, jdbcTemplate, transactionTemplate, kafkaTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("한 배치에는 aggregate 당 가장 앞선 이벤트만 선점하고, 다음 배치에서 뒤 이벤트를 보낸다")
+    void claimsHeadOfEachAggregatePerBatch() {
+        // given
+        UUID aggregateA = UUID.randomUUID();
+        UUID aggregateB = UUID.randomUUID();
+        UUID a1 = insert(aggregateA, 0);
+        UUID a2 = insert(aggregateA, 1);
+        UUID b1 = insert(aggregateB, 2);
+
+        // when
+        int first = relayOnce();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(statusOf(a1)).isEqualTo("SENT");
+        assertThat(statusOf(b1)).isEqualTo("SENT");
+        assertThat(statusOf(a2)).isEqualTo("READY");
+
+        // when
+        int second = relayOnce();
+
+        // then
+        assertThat(second).isEqualTo(1);
+        assertThat(statusOf(a2)).isEqualTo("SENT");
+        assertThat(sentKeys()).containsExactly(
+                aggregateA.toString(), aggregateB.toString(), aggregateA.toString());
+    }
+
+    @Test
+    @DisplayName("created_at 이 같으면 id 순서로 한 건씩 선점한다")
+    void breaksCreatedAtTieById() {
+        // given
+        UUID aggregateId = UUID.randomUUID();
+        UUID first = insert(aggregateId, 0);
+        UUID second = insert(aggregateId, 0);
+        // PostgreSQL uuid 는 바이트(부호 없음) 순서로 비교 → 문자열 비교와 같음 (UUID.compareTo 는 부호 있는 long 비교)
+        UUID lower = first.toString().compareTo(second.toString()) < 0 ? first : second;
+        UUID higher = lower.equals(first) ? second : first;
+
+        // when
+        int claimed = relayOnce();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(statusOf(lower)).isEqualTo("SENT");
+        assertThat(statusOf(higher)).isEqualTo("READY");
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 재시도를 예약하고, backoff 동안 같은 aggregate 의 뒤 이벤트는 보내지 않는다")
+    void schedulesRetryAndHoldsLaterEvents() {
+        // given
+        UUID aggregateId = UUID.randomUUID();
+        UUID e1 = insert(aggregateId, 0);
+        UUID e2 = insert(aggregateId, 1);
+        sendFails();
+
+        // when
+        relayOnce();
+
+        // then
+        assertThat(statusOf(e1)).isEqualTo("READY");
+        assertThat(retryCountOf(e1)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select next_attempt_at > now() from " + TABLE + " where id = ?", Boolean.class, e1)).isTrue();
+        assertThat(statusOf(e2)).isEqualTo("READY");
+
+        // when - 전송이 복구되어도 e1 backoff 가 끝나기 전에는 e2 를 먼저 보내지 않음
+        sendSucceeds();
+        int claimed = relayOnce();
+
+        // then
+        assertThat(claimed).isZero();
+        assertThat(statusOf(e2)).isEqualTo("READY");
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+
+        // when - backoff 종료
+        jdbcTemplate.update("update " + TABLE + " set next_attempt_at = now() - interval '1 second' where id = ?", e1);
+        relayOnce();
+        relayOnce();
+
+        // then
+        assertThat(statusOf(e1)).isEqualTo("SENT");
+        assertThat(statusOf(e2)).isEqualTo("SENT");
+    }
+
+    @Test
+    @DisplayName("max-retry 에 도달하면 FAILED 로 격리하고, 격리된 aggregate 의 뒤 이벤트는 선점하지 않는다")
+    void parksAfterMaxRetryAndBlocksAggregate() {
+        // given
+        properties.setMaxRetry(1);
+        UUID aggregateId = UUID.randomUUID();
+        UUID e1 = insert(aggregateId, 0);
+        UUID e2 = insert(aggregateId, 1);
+        sendFails();
+
+        // when
+        relayOnce();
+        sendSucceeds();
+        int claimed = relayOnce();
+
+        // then
+        assertThat(statusOf(e1)).isEqualTo("FAILED");
+        assertThat(claimed).isZero();
+        assertThat(statusOf(e2)).isEqualTo("READY");
+    }
+
+    @Test
+    @DisplayName("앞 이벤트를 다른 relay 가 선점(잠금) 중이면 next_attempt_at 이 비어 있어도 뒤 이벤트를 선점하지 않는다")
+    void skipsAggregateWhoseHeadIsLockedElsewhere() throws Exception {
+        // given
+        UUID aggregateId = UUID.randomUUID();
+        UUID e1 = insert(aggregateId, 0);
+        UUID e2 = insert(aggregateId, 1);
+        UUID other = insert(UUID.randomUUID(), 2);
+
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement lock = connection.prepareStatement(
+                    "select id from " + TABLE + " where id = ? for update")) {
+                lock.setObject(1, e1);
+                lock.executeQuery();
+            }
+
+            // when
+            int claimed = relayOnce();
+
+            // then
+            assertThat(claimed).isEqualTo(1);
+            assertThat(statusOf(other)).isEqualTo("SENT");
+            assertThat(statusOf(e2)).isEqualTo("READY");
+
+            connection.rollback();
+        }
+    }
+
+    @Test
+    @DisplayName("토픽 매핑이 없는 이벤트는 보내지 않고 FAILED 로 격리한다")
+    void parksUnroutableEvent() {
+        // given
+        UUID aggregateId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("insert into " + TABLE
+                        + " (id, aggregate_id, event_type, payload, status, created_at) values (?, ?, 'UnknownEvent', '{}', 'READY', ?)",
+                id, aggregateId, Timestamp.from(base));
+
+        // when
+        relayOnce();
+
+        // then
+        assertThat(statusOf(id)).isEqualTo("FAILED");
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("payload 가 예전 @Lob(oid) 컬럼이면 시작 시 내용을 유지한 채 text 로 변환하고, 이미 text 면 그대로 둔다")
+    void migratesOidPayloadToText() {
+        // given - 예전 매핑: payload oid (large object)
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.execute("alter table " + TABLE + " alter column payload type oid using lo_from_bytea(0, convert_to(payload, 'UTF8'))");
+        jdbcTemplate.update("insert into " + TABLE
+                        + " (id, aggregate_id, event_type, payload, status, created_at)"
+                        + " values (?, ?, ?, lo_from_bytea(0, convert_to(?, 'UTF8')), 'READY', ?)",
+                id, UUID.randomUUID(), EVENT_TYPE, "{\"name\":\"주문\"}", Timestamp.from(base));
+
+        // when
+        relay.migratePayloadColumn();
+        relay.migratePayloadColumn();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "select data_type from information_schema.columns where table_name = ? and column_name = 'payload'",
+                String.class, TABLE)).isEqualTo("text");
+        assertThat(jdbcTemplate.queryForObject("select payload from " + TABLE + " where id = ?", String.class, id))
+                .isEqualTo("{\"name\":\"주문\"}");
+        assertThat(relayOnce()).isEqualTo(1);
+    }
+
+    // ===== helpers =====
+
+    private int relayOnce() {
+        Integer relayed = transactionTemplate.execute(status -> relay.relayBatch());
+        return relayed != null ? relayed : 0;
+    }
+
+    private UUID insert(UUID aggregateId, int secondsAfterBase) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("insert into " + TABLE
+                        + " (id, aggregate_type, aggregate_id, event_type, payload, status, created_at)"
+                        + " values (?, 'ORDER', ?, ?, ?, 'READY', ?)",
+                id, aggregateId, EVENT_TYPE, "{\"id\":\"" + id + "\"}",
+                Timestamp.from(base.plusSeconds(secondsAfterBase)));
+        return id;
+    }
+
+    private String statusOf(UUID id) {
+        return jdbcTemplate.queryForObject("select status from " + TABLE + " where id = ?", String.class, id);
+    }
+
+    private int retryCountOf(UUID id) {
+        Integer count = jdbcTemplate.queryForObject("select retry_count from " + TABLE + " where id = ?", Integer.class, id);
+        return count != null ? count : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentKeys() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, atLeastOnce()).send(captor.capture());
+        return captor.getAllValues().stream().map(ProducerRecord::key).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sendSucceeds() {
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenAnswer(inv -> CompletableFuture.completedFuture(mock(SendResult.class)));
+    }
+
+    private void sendFails() {
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenAnswer(inv -> CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+    }
+}
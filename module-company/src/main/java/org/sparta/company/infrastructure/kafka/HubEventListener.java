@@ -5,6 +5,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.sparta.common.event.hub.HubCreatedEvent;
 import org.sparta.common.event.hub.HubDeletedEvent;
 import org.sparta.common.event.hub.HubUpdatedEvent;
+import org.sparta.common.event.hub.HubsImportedEvent;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +23,9 @@ public class HubEventListener {
             log.info("허브 수정 이벤트 수신 - id:{}, name:{}", e.hubId(), e.name());
         } else if (event instanceof HubDeletedEvent e) {
             log.info("허브 삭제 이벤트 수신 - id:{}", e.hubId());
+        } else if (event instanceof HubsImportedEvent e) {
+            log.info("허브 일괄 등록 이벤트 수신 - importId:{}, chunk:{}/{}, count:{}",
+                    e.importId(), e.chunkIndex() + 1, e.chunkCount(), e.hubs().size());
         } else {
             log.warn("알 수 없는 이벤트 수신: {}", event.getClass().getSimpleName());
         }
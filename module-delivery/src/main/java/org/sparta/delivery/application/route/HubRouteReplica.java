@@ -0,0 +1,136 @@
+package org.sparta.delivery.application.route;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.RouteLeg;
+import org.sparta.common.route.RouteMetric;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient.HubGraphSnapshot;
+import org.sparta.delivery.infrastructure.config.HubRouteReplicaProperties;
+import org.sparta.delivery.presentation.dto.response.HubLegResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 허브 경로 복제본
+ *
+ * - 기동 시 허브 서비스 그래프 스냅샷(/api/hub-routes/graph)을 한 번 받아 HubGraph 구성
+ * - 이후 hub-events(생성/수정/삭제)로 허브 단위 증분 반영 (HubEventReplicaListener)
+ * - 이벤트가 없는 허브 경로(HubRoute) 변경/유실 이벤트는 resync-interval-millis 주기 전체 재동기화로 보정
+ * - 경로 계산은 허브 서비스(HubRoutePlanner)와 같은 HubGraph A* (최단 거리) 사용
+ * - 초기화 전(warming), 모르는 허브, 경로 없음/홉 수 초과면 Optional.empty() → 호출자가 허브 서비스로 조회
+ *   (복제본이 아직 반영하지 못한 허브 경로가 있을 수 있으므로 "경로 없음" 판정은 허브 서비스에 맡김)
+ */
+@Slf4j
+@Component
+public class HubRouteReplica {
+
+    private final HubRouteFeignClient hubRouteFeignClient;
+    private final HubRouteReplicaProperties properties;
+
+    private volatile HubGraph graph;
+    private volatile int maxHops;
+    private volatile long syncedAtMillis;
+
+    public HubRouteReplica(HubRouteFeignClient hubRouteFeignClient, HubRouteReplicaProperties properties) {
+        this.hubRouteFeignClient = hubRouteFeignClient;
+        this.properties = properties;
+    }
+
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    /**
+     * 허브 간 경로 구간 계산
+     *
+     * @return 복제본에서 경로를 찾지 못하면 empty (허브 서비스로 확인)
+     */
+    public Optional<List<HubLegResponse>> findLegs(UUID sourceHubId, UUID targetHubId) {
+        HubGraph current = graph;
+        if (!properties.isEnabled() || current == null || sourceHubId.equals(targetHubId)) {
+            return Optional.empty();
+        }
+        int source = current.ordinalOf(sourceHubId);
+        int target = current.ordinalOf(targetHubId);
+        if (source < 0 || target < 0) {
+            return Optional.empty(); // 아직 반영되지 않은 허브일 수 있음
+        }
+
+        Optional<List<RouteLeg>> legs = current.shortestPath(source, target, RouteMetric.DISTANCE);
+        if (legs.isEmpty() || legs.get().size() > maxHops + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(legs.get().stream()
+                .map(leg -> new HubLegResponse(
+                        leg.sourceHubId(),
+                        leg.targetHubId(),
+                        leg.distanceKm(),
+                        leg.estimatedMinutes()
+                ))
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isEnabled()) {
+            resync();
+        }
+    }
+
+    /**
+     * 초기화 실패 재시도 + 주기적 전체 재동기화
+     */
+    @Scheduled(fixedDelayString = "${delivery.hub-route.replica.sync-check-millis:5000}")
+    public void scheduledSync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (graph == null || System.currentTimeMillis() - syncedAtMillis >= properties.getResyncIntervalMillis()) {
+            resync();
+        }
+    }
+
+    /**
+     * 허브 서비스 스냅샷으로 전체 재구성 (실패하면 기존 복제본 유지)
+     */
+    public synchronized void resync() {
+        try {
+            HubGraphSnapshot snapshot = hubRouteFeignClient.getGraphSnapshot().data();
+            graph = HubGraph.build(snapshot.hubs(), snapshot.routes(), snapshot.maxLegKm(), snapshot.minutesPerKm(),
+                    snapshot.hourlyMultipliers());
+            maxHops = snapshot.maxHops();
+            syncedAtMillis = System.currentTimeMillis();
+            log.info("[HubRouteReplica] 허브 경로 복제본 동기화 - hubs={}, routes={}, version={}",
+                    snapshot.hubs().size(), snapshot.routes().size(), Long.toHexString(graph.version()));
+        } catch (Exception e) {
+            log.warn("[HubRouteReplica] 허브 그래프 스냅샷 조회 실패 - ready={}", graph != null, e);
+        }
+    }
+
+    /**
+     * 허브 생성/수정 반영 (비활성/좌표 없음이면 제거)
+     */
+    public synchronized void onHubUpserted(UUID hubId, Double latitude, Double longitude, boolean active) {
+        HubGraph current = graph;
+        if (current == null) {
+            return; // 초기화 시 최신 스냅샷으로 구성됨
+        }
+        graph = (!active || latitude == null || longitude == null)
+                ? current.withoutHub(hubId)
+                : current.withHub(new HubGraph.Node(hubId, latitude, longitude));
+    }
+
+    public synchronized void onHubRemoved(UUID hubId) {
+        HubGraph current = graph;
+        if (current != null) {
+            graph = current.withoutHub(hubId);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.sparta.delivery.application.search;
+
+import org.sparta.common.error.BusinessException;
+import org.sparta.delivery.domain.error.DeliveryErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 배송 커서 검색의 위치 (마지막으로 받은 배송의 createdAt, id)
+ * - 클라이언트에는 불투명한 문자열(Base64 URL)로 전달
+ */
+public record DeliveryCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static DeliveryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(DeliveryErrorType.INVALID_CURSOR);
+            }
+            return new DeliveryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(DeliveryErrorType.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.sparta.delivery.application.search;
+
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+import org.sparta.delivery.infrastructure.config.DeliverySearchProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 배송 커서 검색의 전체 개수 캐시
+ *
+ * - 커서 검색은 페이지마다 COUNT 하지 않고, withTotal=true 요청만 개수를 구한다
+ * - 같은 검색 조건의 개수는 count-cache-ttl-millis 동안 재사용 (스크롤 중 반복 COUNT 방지, 근사값)
+ */
+@Component
+public class DeliverySearchCountCache {
+
+    private final DeliverySearchProperties properties;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public DeliverySearchCountCache(DeliverySearchProperties properties) {
+        this.properties = properties;
+    }
+
+    public long get(DeliveryStatus status, UUID hubId, UUID companyId, LongSupplier counter) {
+        if (properties.getCountCacheTtlMillis() <= 0) {
+            return counter.getAsLong();
+        }
+
+        Key key = new Key(status, hubId, companyId);
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (entries.size() >= properties.getCountCacheMaxEntries()) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(count, now + properties.getCountCacheTtlMillis()));
+        return count;
+    }
+
+    private record Key(DeliveryStatus status, UUID hubId, UUID companyId) {
+    }
+
+    private record Entry(long count, long expiresAtMillis) {
+    }
+}
@@ -4,6 +4,7 @@ import org.sparta.delivery.infrastructure.event.OrderApprovedEvent;
 import org.sparta.delivery.presentation.dto.request.DeliveryRequest;
 import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -188,6 +189,36 @@ public interface DeliveryService {
      */
     DeliveryResponse.Detail getDetail(UUID deliveryId);
 
+    /**
+     * 배송 추적 조회 (비정규화된 조회 모델 단건 조회)
+     *
+     * @param deliveryId 배송 ID
+     * @return 배송 진행 상태, 담당자, 도착 예정 시각, 허브 구간 목록
+     * @throws org.sparta.common.error.BusinessException DELIVERY_NOT_FOUND - 배송을 찾을 수 없는 경우
+     */
+    DeliveryResponse.Tracking getTracking(UUID deliveryId);
+
+    /**
+     * 배송 1건 실시간 추적 구독 (연결 직후 현재 상태 1회 + 이후 변경마다 전송)
+     *
+     * @param deliveryId 배송 ID
+     * @return text/event-stream 연결
+     * @throws org.sparta.common.error.BusinessException DELIVERY_NOT_FOUND - 배송을 찾을 수 없는 경우
+     * @throws org.sparta.common.error.BusinessException TRACKING_STREAM_UNAVAILABLE - 구독자 수 상한 초과
+     */
+    SseEmitter subscribeTracking(UUID deliveryId);
+
+    /**
+     * 허브 또는 업체 기준 실시간 추적 구독 (이후 변경된 배송마다 전송)
+     *
+     * @param hubId 출발/도착 허브 또는 경유 구간 허브 (companyId 와 둘 중 하나만)
+     * @param companyId 공급/수령 업체 (hubId 와 둘 중 하나만)
+     * @return text/event-stream 연결
+     * @throws org.sparta.common.error.BusinessException INVALID_TRACKING_STREAM_TARGET - 대상이 없거나 둘 다 지정한 경우
+     * @throws org.sparta.common.error.BusinessException TRACKING_STREAM_UNAVAILABLE - 구독자 수 상한 초과
+     */
+    SseEmitter subscribeTrackings(UUID hubId, UUID companyId);
+
     /**
      * 배송 검색 (페이징)
      *
@@ -203,6 +234,17 @@ public interface DeliveryService {
      */
     DeliveryResponse.PageResult search(DeliveryRequest.Search request, Pageable pageable);
 
+    /**
+     * 배송 커서 검색 (깊은 페이지 스크롤용)
+     * - (createdAt, id) keyset 커서로 다음 페이지 조회, OFFSET 없음
+     * - 전체 개수는 withTotal=true 일 때만 (짧은 시간 캐시된 근사값)
+     * - 목록에 필요한 컬럼만 조회
+     *
+     * @param request 검색 조건 + 커서
+     * @return 배송 목록과 다음 페이지 커서
+     */
+    DeliveryResponse.CursorResult scroll(DeliveryRequest.Scroll request);
+
     /**
      * 배송 취소 시도 (배송 있으면 취소, 없으면 false 반환)
      * - Cancel Intent 저장 후 즉시 취소 시도용
@@ -6,20 +6,30 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.common.error.BusinessException;
 import org.sparta.common.event.EventPublisher;
+import org.sparta.delivery.application.route.HubRouteReplica;
+import org.sparta.delivery.application.search.DeliveryCursor;
+import org.sparta.delivery.application.search.DeliverySearchCountCache;
+import org.sparta.delivery.application.tracking.DeliveryTrackingProjector;
+import org.sparta.delivery.application.tracking.DeliveryTrackingStreamRegistry;
 import org.sparta.delivery.domain.entity.Delivery;
 import org.sparta.delivery.domain.entity.DeliveryCancelRequest;
 import org.sparta.delivery.domain.entity.DeliveryOutboxEvent;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
 import org.sparta.delivery.domain.enumeration.CancelRequestStatus;
 import org.sparta.delivery.domain.enumeration.DeliveryStatus;
 import org.sparta.delivery.domain.error.DeliveryCancelledException;
 import org.sparta.delivery.domain.error.DeliveryErrorType;
 import org.sparta.common.event.delivery.DeliveryCreatedEvent;
 import org.sparta.delivery.domain.event.publisher.DeliveryCreatedLocalEvent;
+import org.sparta.delivery.domain.event.publisher.DeliveryProgressedLocalEvent;
 import org.sparta.delivery.domain.repository.DeliveryCancelRequestRepository;
 import org.sparta.delivery.domain.repository.DeliveryOutBoxEventRepository;
 import org.sparta.delivery.domain.repository.DeliveryRepository;
 import org.sparta.delivery.domain.repository.DeliveryProcessedEventRepository;
-import org.sparta.delivery.infrastructure.client.HubRouteFeignClient;
+import org.sparta.delivery.domain.repository.DeliverySummaryRow;
+import org.sparta.delivery.domain.repository.DeliveryTrackingRepository;
+import org.sparta.delivery.infrastructure.client.HubRouteBatchClient;
+import org.sparta.delivery.infrastructure.config.DeliverySearchProperties;
 import org.sparta.delivery.infrastructure.event.OrderApprovedEvent;
 import org.sparta.delivery.infrastructure.event.publisher.DeliveryCompletedEvent;
 import org.sparta.delivery.infrastructure.event.publisher.DeliveryFailedEvent;
@@ -42,6 +52,7 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -58,14 +69,22 @@ public class DeliveryServiceImpl implements DeliveryService {
     private final DeliveryProcessedEventRepository deliveryProcessedEventRepository;
     private final DeliveryOutBoxEventRepository deliveryOutBoxEventRepository;
     private final DeliveryCancelRequestRepository cancelRequestRepository;  // 배송 삭제 보완을 위해 추가
+    private final DeliveryTrackingRepository trackingRepository;
     // Service
     private final DeliveryLogService deliveryLogService;
     private final DeliveryManService deliveryManService;
     // api
-    private final HubRouteFeignClient hubRouteFeignClient;
+    private final HubRouteBatchClient hubRouteBatchClient;
+    private final HubRouteReplica hubRouteReplica;
     // event
     private final EventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
+    // search
+    private final DeliverySearchCountCache searchCountCache;
+    private final DeliverySearchProperties searchProperties;
+    // tracking
+    private final DeliveryTrackingProjector trackingProjector;
+    private final DeliveryTrackingStreamRegistry trackingStreamRegistry;
 
     // ================================
     // 1. 배송 생성 - 단순(API/테스트용)
@@ -202,10 +221,13 @@ public class DeliveryServiceImpl implements DeliveryService {
             }
 
             // 1) 허브 경로 조회
-            List<HubLegResponse> legs = hubRouteFeignClient.getRouteLegs(
-                    orderEvent.supplierHubId(),
-                    orderEvent.receiveHubId()
-            );
+            //    로컬 복제본 우선, 복제본 준비 전/모르는 허브/복제본에서 경로를 못 찾으면 허브 서비스 조회
+            List<HubLegResponse> legs = hubRouteReplica
+                    .findLegs(orderEvent.supplierHubId(), orderEvent.receiveHubId())
+                    .orElseGet(() -> hubRouteBatchClient.getRouteLegs(
+                            orderEvent.supplierHubId(),
+                            orderEvent.receiveHubId()
+                    ));
 
             // 복구 불가능한 오류: 경로 없음 → 실패 이벤트 발행
             if (legs == null || legs.isEmpty()) {
@@ -242,20 +264,18 @@ public class DeliveryServiceImpl implements DeliveryService {
             log.info("Delivery created: deliveryId={}, orderId={}",
                     savedDelivery.getId(), savedDelivery.getOrderId());
 
-            // 3) DeliveryLog 생성
-            int sequence = 0;
-            for (HubLegResponse leg : legs) {
-                DeliveryLogRequest.Create logCreate = new DeliveryLogRequest.Create(
-                        savedDelivery.getId(),
-                        sequence,
-                        leg.sourceHubId(),
-                        leg.targetHubId(),
-                        leg.estimatedKm(),
-                        leg.estimatedMinutes()
-                );
-                deliveryLogService.create(logCreate);
-                sequence++;
-            }
+            // 3) DeliveryLog 일괄 생성 (JDBC batch 1회)
+            int sequence = deliveryLogService.createAll(
+                    savedDelivery.getId(),
+                    legs.stream()
+                            .map(leg -> new DeliveryLogRequest.Leg(
+                                    leg.sourceHubId(),
+                                    leg.targetHubId(),
+                                    leg.estimatedKm(),
+                                    leg.estimatedMinutes()
+                            ))
+                            .toList()
+            );
 
             // 4) totalLogSeq 업데이트
             savedDelivery.updateTotalLogSeq(sequence);
@@ -381,6 +401,7 @@ public class DeliveryServiceImpl implements DeliveryService {
                 .orElseThrow(() -> new BusinessException(DeliveryErrorType.DELIVERY_NOT_FOUND));
 
         delivery.assignHubDeliveryMan(request.hubDeliveryManId());
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         return DeliveryResponse.Detail.from(delivery);
     }
 
@@ -394,6 +415,7 @@ public class DeliveryServiceImpl implements DeliveryService {
                 .orElseThrow(() -> new BusinessException(DeliveryErrorType.DELIVERY_NOT_FOUND));
 
         delivery.assignCompanyDeliveryMan(request.companyDeliveryManId());
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         return DeliveryResponse.Detail.from(delivery);
     }
 
@@ -422,11 +444,15 @@ public class DeliveryServiceImpl implements DeliveryService {
 
         // [ 배송 시작 이벤트 ] 첫 허브 출발 시에만 발행
         if (request.sequence() == 0) {
-            eventPublisher.publishExternal(DeliveryStartedEvent.of(
+            DeliveryStartedEvent startedEvent = DeliveryStartedEvent.of(
                     delivery.getOrderId(),
                     delivery.getId(),
                     delivery.getSupplierHubId()
-            ));
+            );
+            eventPublisher.publishExternal(startedEvent);
+            eventPublisher.publishLocal(startedEvent);
+        } else {
+            eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         }
 
         return DeliveryResponse.Detail.from(delivery);
@@ -468,11 +494,15 @@ public class DeliveryServiceImpl implements DeliveryService {
 
         // [ 마지막 허브 도착 시 업체 배송 담당자 배정을 위한 이벤트 발행 ]
         if (isLastLog) {
-            eventPublisher.publishExternal(DeliveryLastHubArrivedEvent.of(
+            DeliveryLastHubArrivedEvent lastHubArrivedEvent = DeliveryLastHubArrivedEvent.of(
                     delivery.getOrderId(),
                     delivery.getId(),
                     delivery.getReceiveHubId()
-            ));
+            );
+            eventPublisher.publishExternal(lastHubArrivedEvent);
+            eventPublisher.publishLocal(lastHubArrivedEvent);
+        } else {
+            eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         }
 
         return DeliveryResponse.Detail.from(delivery);
@@ -488,6 +518,7 @@ public class DeliveryServiceImpl implements DeliveryService {
                 .orElseThrow(() -> new BusinessException(DeliveryErrorType.DELIVERY_NOT_FOUND));
 
         delivery.startCompanyMoving();
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         return DeliveryResponse.Detail.from(delivery);
     }
 
@@ -500,11 +531,13 @@ public class DeliveryServiceImpl implements DeliveryService {
         delivery.completeDelivery();
 
         // [ 배송 최종 완료 이벤트 ]
-        eventPublisher.publishExternal(DeliveryCompletedEvent.of(
+        DeliveryCompletedEvent completedEvent = DeliveryCompletedEvent.of(
                 delivery.getOrderId(),
                 delivery.getId(),
                 delivery.getReceiveCompanyId()
-        ));
+        );
+        eventPublisher.publishExternal(completedEvent);
+        eventPublisher.publishLocal(completedEvent);
 
         return DeliveryResponse.Detail.from(delivery);
     }
@@ -524,6 +557,7 @@ public class DeliveryServiceImpl implements DeliveryService {
         }
 
         delivery.cancel();
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
         return DeliveryResponse.Detail.from(delivery);
     }
 
@@ -564,6 +598,7 @@ public class DeliveryServiceImpl implements DeliveryService {
         delivery.cancel();
         cancelDeliveryLogs(delivery.getId());
         unassignDeliveryMan(delivery);
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
 
         log.info("Delivery cancelled successfully: deliveryId={}", delivery.getId());
         return true;
@@ -580,6 +615,7 @@ public class DeliveryServiceImpl implements DeliveryService {
         }
 
         delivery.delete();
+        eventPublisher.publishLocal(DeliveryProgressedLocalEvent.of(delivery.getId()));
     }
 
     // ================================
@@ -593,6 +629,33 @@ public class DeliveryServiceImpl implements DeliveryService {
         return DeliveryResponse.Detail.from(delivery);
     }
 
+    @Override
+    public DeliveryResponse.Tracking getTracking(UUID deliveryId) {
+        // 조회 모델 단건 조회, 아직 만들어지지 않았으면 (생성 직후/갱신 실패) 한 번 만들어서 반환
+        DeliveryTracking tracking = trackingRepository.findById(deliveryId)
+                .or(() -> trackingProjector.project(deliveryId))
+                .orElseThrow(() -> new BusinessException(DeliveryErrorType.DELIVERY_NOT_FOUND));
+
+        return DeliveryResponse.Tracking.from(tracking, trackingProjector.legsOf(tracking));
+    }
+
+    @Override
+    public SseEmitter subscribeTracking(UUID deliveryId) {
+        DeliveryResponse.Tracking current = getTracking(deliveryId);
+        return trackingStreamRegistry.subscribe(DeliveryTrackingStreamRegistry.Scope.DELIVERY, deliveryId, current);
+    }
+
+    @Override
+    public SseEmitter subscribeTrackings(UUID hubId, UUID companyId) {
+        if ((hubId == null) == (companyId == null)) {
+            throw new BusinessException(DeliveryErrorType.INVALID_TRACKING_STREAM_TARGET);
+        }
+        // 허브/업체 단위는 현재 목록을 보내지 않음 (목록은 커서 검색으로 조회 후 변경분만 수신)
+        return hubId != null
+                ? trackingStreamRegistry.subscribe(DeliveryTrackingStreamRegistry.Scope.HUB, hubId, null)
+                : trackingStreamRegistry.subscribe(DeliveryTrackingStreamRegistry.Scope.COMPANY, companyId, null);
+    }
+
     @Override
     public DeliveryResponse.PageResult search(DeliveryRequest.Search request, Pageable pageable) {
         Sort.Direction direction = parseDirection(request.sortDirection());
@@ -616,6 +679,47 @@ public class DeliveryServiceImpl implements DeliveryService {
         );
     }
 
+    @Override
+    public DeliveryResponse.CursorResult scroll(DeliveryRequest.Scroll request) {
+        Sort.Direction direction = parseDirection(request.sortDirection());
+        DeliveryCursor cursor = DeliveryCursor.decode(request.cursor());
+        int size = request.size() == null || request.size() < 1
+                ? searchProperties.getDefaultSize()
+                : Math.min(request.size(), searchProperties.getMaxSize());
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<DeliverySummaryRow> rows = deliveryRepository.scroll(
+                request.status(),
+                request.hubId(),
+                request.companyId(),
+                direction,
+                cursor == null ? null : cursor.createdAt(),
+                cursor == null ? null : cursor.id(),
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<DeliverySummaryRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            DeliverySummaryRow last = page.get(page.size() - 1);
+            nextCursor = new DeliveryCursor(last.createdAt(), last.id()).encode();
+        }
+
+        Long total = null;
+        if (request.withTotal()) {
+            total = searchCountCache.get(request.status(), request.hubId(), request.companyId(),
+                    () -> deliveryRepository.count(request.status(), request.hubId(), request.companyId()));
+        }
+
+        return new DeliveryResponse.CursorResult(
+                page.stream().map(DeliveryResponse.Summary::from).toList(),
+                nextCursor,
+                hasNext,
+                total
+        );
+    }
+
     // =======================
     // # 헬퍼 메서드
     // ==========================
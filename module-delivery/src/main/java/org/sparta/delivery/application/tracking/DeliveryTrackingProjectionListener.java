@@ -0,0 +1,90 @@
+package org.sparta.delivery.application.tracking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.sparta.delivery.domain.event.publisher.DeliveryCreatedLocalEvent;
+import org.sparta.delivery.domain.event.publisher.DeliveryProgressedLocalEvent;
+import org.sparta.delivery.infrastructure.config.DeliveryTrackingStreamProperties;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryCompletedEvent;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryLastHubArrivedEvent;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryStartedEvent;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryTrackingChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 배송 상태 변경 커밋 후 배송 추적 조회 모델 갱신
+ *
+ * - 배송 생성 / 출발 / 마지막 허브 도착 / 완료 이벤트 + 그 외 진행 상태 변경(DeliveryProgressedLocalEvent)
+ * - 실패해도 원본 처리에는 영향을 주지 않고, 조회 모델을 제거해 다음 조회 시 다시 만든다
+ * - 갱신된 조회 모델은 delivery.tracking 으로 발행 → 각 인스턴스의 실시간 추적 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingProjectionListener {
+
+    private final DeliveryTrackingProjector projector;
+    private final EventPublisher eventPublisher;
+    private final DeliveryTrackingStreamProperties streamProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCreated(DeliveryCreatedLocalEvent event) {
+        project(event.deliveryId(), "DeliveryCreatedLocalEvent");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStarted(DeliveryStartedEvent event) {
+        project(event.deliveryId(), "DeliveryStartedEvent");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLastHubArrived(DeliveryLastHubArrivedEvent event) {
+        project(event.deliveryId(), "DeliveryLastHubArrivedEvent");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCompleted(DeliveryCompletedEvent event) {
+        project(event.deliveryId(), "DeliveryCompletedEvent");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProgressed(DeliveryProgressedLocalEvent event) {
+        project(event.deliveryId(), "DeliveryProgressedLocalEvent");
+    }
+
+    private void project(UUID deliveryId, String eventType) {
+        Optional<DeliveryTracking> tracking;
+        try {
+            tracking = projector.project(deliveryId);
+        } catch (Exception e) {
+            log.warn("[DeliveryTracking] 조회 모델 갱신 실패 - 제거 후 다음 조회 시 재생성. deliveryId={}, event={}",
+                    deliveryId, eventType, e);
+            try {
+                projector.evict(deliveryId);
+            } catch (Exception evictError) {
+                log.error("[DeliveryTracking] 조회 모델 제거 실패. deliveryId={}", deliveryId, evictError);
+            }
+            return;
+        }
+
+        if (streamProperties.isEnabled()) {
+            tracking.ifPresent(this::broadcast);
+        }
+    }
+
+    private void broadcast(DeliveryTracking tracking) {
+        try {
+            eventPublisher.publishExternal(DeliveryTrackingChangedEvent.TOPIC,
+                    DeliveryTrackingChangedEvent.of(tracking, projector.legsOf(tracking)));
+        } catch (Exception e) {
+            log.warn("[DeliveryTracking] 추적 갱신 이벤트 발행 실패. deliveryId={}", tracking.getDeliveryId(), e);
+        }
+    }
+}
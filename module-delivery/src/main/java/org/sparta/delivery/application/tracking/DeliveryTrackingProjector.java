@@ -0,0 +1,130 @@
+package org.sparta.delivery.application.tracking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.domain.entity.Delivery;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+import org.sparta.delivery.domain.repository.DeliveryRepository;
+import org.sparta.delivery.domain.repository.DeliveryTrackingRepository;
+import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
+import org.sparta.deliverylog.domain.repository.DeliveryLogRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 배송 추적 조회 모델(DeliveryTracking) 생성기
+ *
+ * - 배송 1건의 현재 상태 + 허브 구간 목록을 다시 읽어 조회 모델 1행을 덮어쓴다 (같은 배송은 몇 번 호출해도 결과 동일)
+ * - 커밋된 상태 변경 이벤트(DeliveryTrackingProjectionListener) 또는 조회 모델이 없을 때 조회 측에서 호출
+ * - 원본 트랜잭션과 분리된 새 트랜잭션에서 실행 (실패해도 배송 처리에는 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingProjector {
+
+    private static final TypeReference<List<DeliveryResponse.TrackingLeg>> LEGS_TYPE = new TypeReference<>() { };
+
+    // 도착 예정 시각 계산에 포함하는 (아직 도착하지 않은) 구간 상태
+    private static final Set<DeliveryLogStatus> REMAINING_LEG_STATUSES =
+            EnumSet.of(DeliveryLogStatus.CREATED, DeliveryLogStatus.HUB_WAITING, DeliveryLogStatus.HUB_MOVING);
+
+    // 허브 구간이 남아 있는 배송 상태
+    private static final Set<DeliveryStatus> HUB_LEG_STATUSES =
+            EnumSet.of(DeliveryStatus.CREATED, DeliveryStatus.HUB_WAITING, DeliveryStatus.HUB_MOVING);
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryLogRepository deliveryLogRepository;
+    private final DeliveryTrackingRepository trackingRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배송 1건의 조회 모델 갱신
+     *
+     * @return 배송이 없거나 삭제되었으면 empty (조회 모델도 제거)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<DeliveryTracking> project(UUID deliveryId) {
+        Optional<Delivery> found = deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId);
+        if (found.isEmpty()) {
+            trackingRepository.deleteById(deliveryId);
+            return Optional.empty();
+        }
+        Delivery delivery = found.get();
+
+        Optional<DeliveryTracking> existing = trackingRepository.findById(deliveryId);
+        if (existing.isPresent() && existing.get().isNewerThan(delivery)) {
+            log.debug("[DeliveryTracking] 이전 스냅샷 반영 생략. deliveryId={}", deliveryId);
+            return existing;
+        }
+
+        List<DeliveryResponse.TrackingLeg> legs = deliveryLogRepository.findAllByDeliveryIdOrderBySequenceAsc(deliveryId)
+                .stream()
+                .map(DeliveryResponse.TrackingLeg::from)
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        String legsJson = writeLegs(legs);
+        LocalDateTime estimatedHubArrivalAt = estimateHubArrival(delivery, legs, now);
+
+        DeliveryTracking tracking = existing
+                .map(t -> {
+                    t.refresh(delivery, legsJson, estimatedHubArrivalAt, now);
+                    return t;
+                })
+                .orElseGet(() -> DeliveryTracking.of(delivery, legsJson, estimatedHubArrivalAt, now));
+        return Optional.of(trackingRepository.save(tracking));
+    }
+
+    /**
+     * 조회 모델 제거 (갱신 실패 시 다음 조회에서 다시 만들도록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void evict(UUID deliveryId) {
+        trackingRepository.deleteById(deliveryId);
+    }
+
+    public List<DeliveryResponse.TrackingLeg> legsOf(DeliveryTracking tracking) {
+        try {
+            return objectMapper.readValue(tracking.getLegs(), LEGS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("[DeliveryTracking] 구간 목록 역직렬화 실패. deliveryId={}", tracking.getDeliveryId(), e);
+            throw new RuntimeException("DeliveryTracking 구간 목록 역직렬화 실패", e);
+        }
+    }
+
+    private String writeLegs(List<DeliveryResponse.TrackingLeg> legs) {
+        try {
+            return objectMapper.writeValueAsString(legs);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("DeliveryTracking 구간 목록 직렬화 실패", e);
+        }
+    }
+
+    // 남은 허브 구간의 예상 소요 시간 합 (이동 중인 구간은 전체 예상 시간으로 계산)
+    private static LocalDateTime estimateHubArrival(Delivery delivery,
+                                                    List<DeliveryResponse.TrackingLeg> legs,
+                                                    LocalDateTime now) {
+        if (!HUB_LEG_STATUSES.contains(delivery.getStatus()) || legs.isEmpty()) {
+            return null;
+        }
+        long remainingMinutes = legs.stream()
+                .filter(leg -> REMAINING_LEG_STATUSES.contains(leg.status()))
+                .mapToLong(DeliveryResponse.TrackingLeg::estimatedMinutes)
+                .sum();
+        return now.plusMinutes(remainingMinutes);
+    }
+}
@@ -0,0 +1,293 @@
+package org.sparta.delivery.application.tracking;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.error.BusinessException;
+import org.sparta.delivery.domain.error.DeliveryErrorType;
+import org.sparta.delivery.infrastructure.config.DeliveryTrackingStreamConfig;
+import org.sparta.delivery.infrastructure.config.DeliveryTrackingStreamProperties;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryTrackingChangedEvent;
+import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 배송 추적 구독 레지스트리 (인스턴스 로컬)
+ *
+ * - 구독 대상: 배송 1건 / 허브(출발·도착 허브 또는 경유 구간) / 업체(공급·수령 업체)
+ * - delivery.tracking 이벤트 1건을 해당 대상의 구독자들에게 나눠 전달 (Kafka consumer 는 인스턴스당 1개)
+ * - 구독자마다 미전송 버퍼를 두고, 같은 배송은 최신 스냅샷만 유지한다
+ *   버퍼가 buffer-size 를 넘으면 느린 구독자로 보고 연결을 닫는다 (클라이언트 재연결 시 최신 상태부터 다시 받음)
+ * - 전송은 보낼 내용이 생긴 구독자만 전송 스레드 풀에서 처리 (연결마다 스레드를 점유하지 않음)
+ */
+@Slf4j
+@Component
+public class DeliveryTrackingStreamRegistry {
+
+    private static final String TRACKING_EVENT_NAME = "tracking";
+
+    public enum Scope {
+        DELIVERY, HUB, COMPANY
+    }
+
+    private final DeliveryTrackingStreamProperties properties;
+    private final Executor sendExecutor;
+
+    private final Map<Key, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public DeliveryTrackingStreamRegistry(DeliveryTrackingStreamProperties properties,
+                                          @Qualifier(DeliveryTrackingStreamConfig.TRACKING_STREAM_EXECUTOR) Executor sendExecutor,
+                                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sendExecutor = sendExecutor;
+        Gauge.builder("delivery.tracking.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 배송 추적 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록
+     *
+     * @param initial 연결 직후 보낼 현재 상태 (없으면 null)
+     * @throws BusinessException TRACKING_STREAM_UNAVAILABLE - 비활성화 또는 구독자 수 상한 초과
+     */
+    public SseEmitter subscribe(Scope scope, UUID targetId, DeliveryResponse.Tracking initial) {
+        if (!properties.isEnabled()) {
+            throw new BusinessException(DeliveryErrorType.TRACKING_STREAM_UNAVAILABLE);
+        }
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(DeliveryErrorType.TRACKING_STREAM_UNAVAILABLE);
+        }
+
+        Subscriber subscriber = new Subscriber(new Key(scope, targetId), createEmitter(properties.getTimeoutMillis()));
+        subscribers.compute(subscriber.key, (key, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        if (initial != null) {
+            offer(subscriber, initial);
+        }
+        return subscriber.emitter;
+    }
+
+    // 테스트에서 전송 내용을 확인할 수 있도록 분리
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 추적 갱신 이벤트를 대상 구독자에게 전달
+     */
+    public void publish(DeliveryTrackingChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Key key : targetsOf(event)) {
+            Set<Subscriber> targets = subscribers.get(key);
+            if (targets == null) {
+                continue;
+            }
+            for (Subscriber subscriber : targets) {
+                offer(subscriber, event.tracking());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.tracking.stream.heartbeat-millis:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.requestHeartbeat();
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, DeliveryResponse.Tracking tracking) {
+        if (!subscriber.offer(tracking, properties.getBufferSize())) {
+            log.warn("[TrackingStream] 구독자 버퍼 초과 - 연결 종료. scope={}, targetId={}",
+                    subscriber.key.scope(), subscriber.key.targetId());
+            close(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return; // 이미 전송 중인 스레드가 이어서 보냄
+        }
+        try {
+            sendExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+            log.warn("[TrackingStream] 전송 대기열 초과 - 연결 종료. scope={}, targetId={}",
+                    subscriber.key.scope(), subscriber.key.targetId());
+            close(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder next;
+            while ((next = subscriber.poll()) != null) {
+                subscriber.emitter.send(next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            log.debug("[TrackingStream] 전송 실패 - 구독 해제. scope={}, targetId={}",
+                    subscriber.key.scope(), subscriber.key.targetId());
+            subscriber.sending.set(false);
+            close(subscriber);
+            return;
+        }
+        subscriber.sending.set(false);
+
+        // poll 이 비었다고 본 뒤 들어온 항목은 여기서 이어서 전송
+        if (subscriber.hasPending()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 닫힌 연결
+            }
+        }
+    }
+
+    /**
+     * @return 이번 호출로 해제되었으면 true
+     */
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.markClosed()) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.key, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    private static Set<Key> targetsOf(DeliveryTrackingChangedEvent event) {
+        Set<Key> keys = new HashSet<>();
+        keys.add(new Key(Scope.DELIVERY, event.deliveryId()));
+        addIfPresent(keys, Scope.HUB, event.supplierHubId());
+        addIfPresent(keys, Scope.HUB, event.receiveHubId());
+        addIfPresent(keys, Scope.COMPANY, event.supplierCompanyId());
+        addIfPresent(keys, Scope.COMPANY, event.receiveCompanyId());
+        if (event.tracking().legs() != null) {
+            for (DeliveryResponse.TrackingLeg leg : event.tracking().legs()) {
+                addIfPresent(keys, Scope.HUB, leg.sourceHubId());
+                addIfPresent(keys, Scope.HUB, leg.targetHubId());
+            }
+        }
+        return keys;
+    }
+
+    private static void addIfPresent(Set<Key> keys, Scope scope, UUID targetId) {
+        if (targetId != null) {
+            keys.add(new Key(scope, targetId));
+        }
+    }
+
+    private record Key(Scope scope, UUID targetId) {
+    }
+
+    private static final class Subscriber {
+
+        private final Key key;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // 배송별 최신 스냅샷 (guarded by this)
+        private final LinkedHashMap<UUID, DeliveryResponse.Tracking> pending = new LinkedHashMap<>();
+        private boolean heartbeatPending;
+        private boolean closed;
+
+        Subscriber(Key key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return 버퍼 상한을 넘으면 false
+         */
+        synchronized boolean offer(DeliveryResponse.Tracking tracking, int capacity) {
+            if (closed) {
+                return true;
+            }
+            if (pending.remove(tracking.deliveryId()) == null && pending.size() >= capacity) {
+                return false;
+            }
+            pending.put(tracking.deliveryId(), tracking);
+            return true;
+        }
+
+        synchronized void requestHeartbeat() {
+            heartbeatPending = true;
+        }
+
+        synchronized SseEmitter.SseEventBuilder poll() {
+            if (closed) {
+                return null;
+            }
+            Iterator<DeliveryResponse.Tracking> iterator = pending.values().iterator();
+            if (iterator.hasNext()) {
+                DeliveryResponse.Tracking tracking = iterator.next();
+                iterator.remove();
+                heartbeatPending = false; // 데이터 전송이 heartbeat 역할을 대신함
+                return SseEmitter.event()
+                        .name(TRACKING_EVENT_NAME)
+                        .data(tracking, MediaType.APPLICATION_JSON);
+            }
+            if (heartbeatPending) {
+                heartbeatPending = false;
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return null;
+        }
+
+        synchronized boolean hasPending() {
+            return !closed && (!pending.isEmpty() || heartbeatPending);
+        }
+
+        synchronized boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            pending.clear();
+            return true;
+        }
+    }
+}
@@ -14,7 +14,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_deliveries")
+@Table(
+        name = "p_deliveries",
+        indexes = {
+                // 커서 검색(createdAt, id) - 필터 없음 / 상태+허브 / 업체 조건별 정렬 순서 그대로 읽도록 구성
+                @Index(name = "idx_deliveries_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_deliveries_status_supplier_hub_created_at", columnList = "status, supplier_hub_id, created_at"),
+                @Index(name = "idx_deliveries_status_receive_hub_created_at", columnList = "status, receive_hub_id, created_at"),
+                @Index(name = "idx_deliveries_receive_company_created_at", columnList = "receive_company_id, created_at"),
+                @Index(name = "idx_deliveries_supplier_company_created_at", columnList = "supplier_company_id, created_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Delivery extends BaseEntity {
@@ -0,0 +1,108 @@
+package org.sparta.delivery.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배송 추적 조회 모델 (읽기 전용 프로젝션)
+ *
+ * - 배송 + 허브 구간(leg) 목록을 배송 1건당 1행으로 비정규화 (배송 ID 단건 조회)
+ * - p_deliveries / p_delivery_logs 커밋 이후 DeliveryTrackingProjector 가 다시 만든다
+ * - 원본이 아니므로 직접 수정하지 않는다
+ */
+@Entity
+@Getter
+@Table(name = "p_delivery_trackings")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryTracking {
+
+    @Id
+    @Column(name = "delivery_id", columnDefinition = "UUID")
+    private UUID deliveryId;
+
+    @Column(name = "order_id", nullable = false, columnDefinition = "UUID")
+    private UUID orderId;
+
+    // 허브/업체별 실시간 추적 구독 대상 판별용
+    @Column(name = "supplier_hub_id", columnDefinition = "UUID")
+    private UUID supplierHubId;
+
+    @Column(name = "receive_hub_id", columnDefinition = "UUID")
+    private UUID receiveHubId;
+
+    @Column(name = "supplier_company_id", columnDefinition = "UUID")
+    private UUID supplierCompanyId;
+
+    @Column(name = "receive_company_id", columnDefinition = "UUID")
+    private UUID receiveCompanyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30, nullable = false)
+    private DeliveryStatus status;
+
+    @Column(name = "current_log_seq")
+    private Integer currentLogSeq;
+
+    @Column(name = "total_log_seq")
+    private Integer totalLogSeq;
+
+    @Column(name = "hub_delivery_man_id", columnDefinition = "UUID")
+    private UUID hubDeliveryManId;
+
+    @Column(name = "company_delivery_man_id", columnDefinition = "UUID")
+    private UUID companyDeliveryManId;
+
+    // 남은 허브 구간 예상 시간 기준 도착 허브 도착 예정 시각 (도착 허브 도착 이후/종료 상태면 null)
+    @Column(name = "estimated_hub_arrival_at")
+    private LocalDateTime estimatedHubArrivalAt;
+
+    // 허브 구간 목록 (sequence 순 JSON 배열)
+    @Column(name = "legs", columnDefinition = "TEXT", nullable = false)
+    private String legs;
+
+    // 프로젝션에 반영된 배송의 updatedAt (늦게 도착한 이전 스냅샷으로 덮어쓰지 않기 위함)
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "projected_at", nullable = false)
+    private LocalDateTime projectedAt;
+
+    public static DeliveryTracking of(Delivery delivery, String legs, LocalDateTime estimatedHubArrivalAt, LocalDateTime projectedAt) {
+        DeliveryTracking tracking = new DeliveryTracking();
+        tracking.deliveryId = delivery.getId();
+        tracking.refresh(delivery, legs, estimatedHubArrivalAt, projectedAt);
+        return tracking;
+    }
+
+    public void refresh(Delivery delivery, String legs, LocalDateTime estimatedHubArrivalAt, LocalDateTime projectedAt) {
+        this.orderId = delivery.getOrderId();
+        this.supplierHubId = delivery.getSupplierHubId();
+        this.receiveHubId = delivery.getReceiveHubId();
+        this.supplierCompanyId = delivery.getSupplierCompanyId();
+        this.receiveCompanyId = delivery.getReceiveCompanyId();
+        this.status = delivery.getStatus();
+        this.currentLogSeq = delivery.getCurrentLogSeq();
+        this.totalLogSeq = delivery.getTotalLogSeq();
+        this.hubDeliveryManId = delivery.getHubDeliveryManId();
+        this.companyDeliveryManId = delivery.getCompanyDeliveryManId();
+        this.estimatedHubArrivalAt = estimatedHubArrivalAt;
+        this.legs = legs;
+        this.sourceUpdatedAt = delivery.getUpdatedAt();
+        this.projectedAt = projectedAt;
+    }
+
+    /**
+     * 이미 더 최신 배송 상태가 반영되어 있는지
+     */
+    public boolean isNewerThan(Delivery delivery) {
+        return sourceUpdatedAt != null
+                && delivery.getUpdatedAt() != null
+                && delivery.getUpdatedAt().isBefore(sourceUpdatedAt);
+    }
+}
@@ -28,6 +28,11 @@ public enum DeliveryErrorType implements ErrorType {
     CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "배송 생성을 실패했습니다."),
     DELIVERY_ALREADY_EXISTS(HttpStatus.CONFLICT, "배송이 이미 존재합니다."), 
     NO_ROUTE_AVAILABLE(HttpStatus.BAD_REQUEST, "가능한 허브 경로가 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 검색 커서입니다."),
+
+    // ===== 실시간 추적 =====
+    INVALID_TRACKING_STREAM_TARGET(HttpStatus.BAD_REQUEST, "허브 ID 또는 업체 ID 중 하나만 지정해야 합니다."),
+    TRACKING_STREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "실시간 배송 추적 연결을 더 받을 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // ===== 담당자 배정 =====
     DELIVERY_MAN_ID_REQUIRED(HttpStatus.BAD_REQUEST, "배송 담당자 ID는 필수입니다."),
@@ -0,0 +1,23 @@
+package org.sparta.delivery.domain.event.publisher;
+
+import org.sparta.common.event.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 배송 진행 상태 변경 이벤트 _ 별도 도메인 이벤트가 없는 전이(담당자 배정, 허브 leg 출발/도착, 업체 이동, 취소, 삭제)에서 발행
+// 배송 추적 조회 모델(DeliveryTracking) 갱신에 사용 됨
+
+public record DeliveryProgressedLocalEvent(
+        UUID deliveryId,
+        UUID eventId,
+        Instant occurredAt
+) implements DomainEvent {
+    public static DeliveryProgressedLocalEvent of(UUID deliveryId) {
+        return new DeliveryProgressedLocalEvent(
+                deliveryId,
+                UUID.randomUUID(),
+                Instant.now()
+        );
+    }
+}
@@ -27,6 +27,23 @@ public interface DeliveryRepository {
             Sort.Direction direction
     );
 
+    /**
+     * 커서(keyset) 검색: (createdAt, id) 정렬 기준으로 커서 다음 행부터 limit 건 (OFFSET/COUNT 없음)
+     * @param afterCreatedAt 커서 createdAt (첫 페이지면 null)
+     * @param afterId 커서 id (첫 페이지면 null)
+     */
+    List<DeliverySummaryRow> scroll(
+            DeliveryStatus status,
+            UUID hubId,
+            UUID companyId,
+            Sort.Direction direction,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            int limit
+    );
+
+    long count(DeliveryStatus status, UUID hubId, UUID companyId);
+
     Optional<Delivery> findByOrderIdAndDeletedAtIsNull(UUID orderId);
 
     /**
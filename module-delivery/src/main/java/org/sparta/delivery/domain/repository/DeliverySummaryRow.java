@@ -0,0 +1,22 @@
+package org.sparta.delivery.domain.repository;
+
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배송 목록 조회용 프로젝션 (엔티티를 읽지 않고 목록에 필요한 컬럼만 조회)
+ * - createdAt 은 커서(createdAt, id) 생성용
+ */
+public record DeliverySummaryRow(
+        UUID id,
+        UUID orderId,
+        UUID supplierHubId,
+        UUID receiveHubId,
+        DeliveryStatus status,
+        Integer currentLogSeq,
+        Integer totalLogSeq,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,18 @@
+package org.sparta.delivery.domain.repository;
+
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 배송 추적 조회 모델 Repository
+ */
+public interface DeliveryTrackingRepository {
+
+    Optional<DeliveryTracking> findById(UUID deliveryId);
+
+    DeliveryTracking save(DeliveryTracking tracking);
+
+    void deleteById(UUID deliveryId);
+}
@@ -0,0 +1,176 @@
+package org.sparta.delivery.infrastructure.client;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient.RoutePlanBatchRequest;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient.RoutePlanBatchResponse;
+import org.sparta.delivery.infrastructure.config.HubRouteBatchProperties;
+import org.sparta.delivery.presentation.dto.response.HubLegResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 허브 경로 조회 일괄 처리 클라이언트
+ *
+ * - 동시에 들어온 경로 조회를 window-millis 동안 모아 /api/hub-routes/plan:batch 한 번으로 조회
+ * - 같은 (출발, 도착) 쌍은 하나의 결과를 공유 (요청 단위 coalescing)
+ * - max-batch-size 에 도달하면 window 를 기다리지 않고 바로 전송
+ * - 허브 서비스가 NO_ROUTE 로 답한 쌍만 빈 구간 목록 반환 (호출자의 NO_ROUTE_AVAILABLE 처리)
+ * - 그 외 항목 오류(없는 허브, 계산 실패)와 일괄 호출 실패는 해당 호출자에게 예외 전달
+ * - 모으기/분할은 단일 flusher 스레드, Feign 호출은 sender 풀에서 비동기로 실행
+ *   → 느린 일괄 호출이 다음 window 의 전송을 막지 않음
+ */
+@Slf4j
+@Component
+public class HubRouteBatchClient {
+
+    private final HubRouteFeignClient hubRouteFeignClient;
+    private final HubRouteBatchProperties properties;
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hub-route-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService sender;
+
+    private final Object lock = new Object();
+    private Map<RouteKey, CompletableFuture<List<HubLegResponse>>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    public HubRouteBatchClient(HubRouteFeignClient hubRouteFeignClient, HubRouteBatchProperties properties) {
+        this.hubRouteFeignClient = hubRouteFeignClient;
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "hub-route-batch-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 허브 경로 구간 조회 (일괄 처리 결과를 기다림)
+     */
+    public List<HubLegResponse> getRouteLegs(UUID sourceHubId, UUID targetHubId) {
+        if (!properties.isEnabled()) {
+            return hubRouteFeignClient.getRouteLegs(sourceHubId, targetHubId);
+        }
+
+        CompletableFuture<List<HubLegResponse>> future;
+        boolean flushNow = false;
+        synchronized (lock) {
+            future = pending.computeIfAbsent(new RouteKey(sourceHubId, targetHubId), key -> new CompletableFuture<>());
+            if (pending.size() >= properties.getMaxBatchSize()) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flusher.schedule(this::flush, properties.getWindowMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (flushNow) {
+            flusher.execute(this::flush);
+        }
+        return await(future, sourceHubId, targetHubId);
+    }
+
+    void flush() {
+        Map<RouteKey, CompletableFuture<List<HubLegResponse>>> batch;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        List<RouteKey> keys = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < keys.size(); from += properties.getMaxBatchSize()) {
+            List<RouteKey> chunk = keys.subList(from, Math.min(keys.size(), from + properties.getMaxBatchSize()));
+            try {
+                sender.execute(() -> send(chunk, batch));
+            } catch (RejectedExecutionException e) {
+                chunk.forEach(key -> batch.get(key).completeExceptionally(e));
+            }
+        }
+    }
+
+    private void send(List<RouteKey> chunk, Map<RouteKey, CompletableFuture<List<HubLegResponse>>> batch) {
+        try {
+            RoutePlanBatchResponse response = hubRouteFeignClient.planRoutes(new RoutePlanBatchRequest(
+                    chunk.stream()
+                            .map(key -> new RoutePlanBatchRequest.Pair(key.sourceHubId(), key.targetHubId()))
+                            .toList()
+            )).data();
+
+            Map<RouteKey, RoutePlanBatchResponse.Item> items = new HashMap<>();
+            for (RoutePlanBatchResponse.Item item : response.results()) {
+                items.put(new RouteKey(item.sourceHubId(), item.targetHubId()), item);
+            }
+
+            for (RouteKey key : chunk) {
+                RoutePlanBatchResponse.Item item = items.get(key);
+                CompletableFuture<List<HubLegResponse>> future = batch.get(key);
+                if (item == null) {
+                    future.completeExceptionally(new IllegalStateException("허브 경로 일괄 조회 응답에 누락된 쌍: " + key));
+                } else if (item.plan() != null) {
+                    future.complete(HubRouteFeignClient.toLegs(item.plan()));
+                } else if (RoutePlanBatchResponse.Item.NO_ROUTE.equals(item.code())) {
+                    log.warn("[HubRouteBatch] 경로 없음 - sourceHubId={}, targetHubId={}, error={}",
+                            key.sourceHubId(), key.targetHubId(), item.error());
+                    future.complete(List.of());
+                } else {
+                    future.completeExceptionally(new IllegalStateException(
+                            "허브 경로 조회 실패(" + item.code() + "): " + item.error()));
+                }
+            }
+            log.debug("[HubRouteBatch] 일괄 경로 조회 - pairs={}", chunk.size());
+        } catch (Exception e) {
+            log.error("[HubRouteBatch] 일괄 경로 조회 실패 - pairs={}", chunk.size(), e);
+            chunk.forEach(key -> batch.get(key).completeExceptionally(e));
+        }
+    }
+
+    private List<HubLegResponse> await(CompletableFuture<List<HubLegResponse>> future,
+                                       UUID sourceHubId, UUID targetHubId) {
+        try {
+            return future.get(properties.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("허브 경로 조회 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("허브 경로 조회 시간 초과: " + sourceHubId + " -> " + targetHubId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("허브 경로 조회 중 인터럽트", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        sender.shutdown();
+    }
+
+    private record RouteKey(UUID sourceHubId, UUID targetHubId) {
+    }
+}
@@ -1,12 +1,15 @@
 package org.sparta.delivery.infrastructure.client;
 
 import org.sparta.common.api.ApiResponse;
+import org.sparta.common.route.HubGraph;
 import org.sparta.delivery.presentation.dto.response.HubLegResponse;
 
 //import org.sparta.delivery.application.service.DeliveryServiceImpl.HubLegResponse;
 import org.sparta.delivery.presentation.dto.response.RoutePlanResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
@@ -21,11 +24,25 @@ public interface HubRouteFeignClient {
             @RequestParam("targetHubId") UUID targetHubId
     );
 
+    /**
+     * 경로 계획 일괄 조회 (중복 쌍은 허브 서비스에서 한 번만 계산)
+     */
+    @PostMapping("/api/hub-routes/plan:batch")
+    ApiResponse<RoutePlanBatchResponse> planRoutes(@RequestBody RoutePlanBatchRequest request);
+
+    /**
+     * 허브 그래프 스냅샷 (로컬 경로 복제본 초기화/재동기화용)
+     */
+    @GetMapping("/api/hub-routes/graph")
+    ApiResponse<HubGraphSnapshot> getGraphSnapshot();
+
     default List<HubLegResponse> getRouteLegs(UUID sourceHubId, UUID targetHubId) {
         ApiResponse<RoutePlanResponse> response = planRoute(sourceHubId, targetHubId);
 
-        RoutePlanResponse plan = response.data();
+        return toLegs(response.data());
+    }
 
+    static List<HubLegResponse> toLegs(RoutePlanResponse plan) {
         return plan.legs().stream()
                 .map(leg -> new HubLegResponse(
                         leg.sourceHubId(),
@@ -35,6 +52,35 @@ public interface HubRouteFeignClient {
                 ))
                 .toList();
     }
-}
 
+    // ===== 일괄 조회 DTO =====
+    record RoutePlanBatchRequest(List<Pair> pairs) {
+        public record Pair(UUID sourceHubId, UUID targetHubId) {}
+    }
+
+    /**
+     * 항목마다 plan 또는 code/error 중 하나가 채워진다
+     * - code: NO_ROUTE(경로 없음) / INVALID_PAIR(같은 허브, 없는 허브) / ERROR(그 외 계산 실패)
+     */
+    record RoutePlanBatchResponse(List<Item> results) {
+        public record Item(
+                UUID sourceHubId,
+                UUID targetHubId,
+                RoutePlanResponse plan,
+                String code,
+                String error
+        ) {
+            public static final String NO_ROUTE = "NO_ROUTE";
+        }
+    }
 
+    record HubGraphSnapshot(
+            long version,
+            double maxLegKm,
+            double minutesPerKm,
+            int maxHops,
+            List<HubGraph.Node> hubs,
+            List<HubGraph.RouteEdge> routes,
+            double[] hourlyMultipliers
+    ) {}
+}
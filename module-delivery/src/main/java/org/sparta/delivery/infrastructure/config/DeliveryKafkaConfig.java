@@ -94,6 +94,14 @@ public class DeliveryKafkaConfig {
         return factory;
     }
 
+    /**
+     * 인스턴스별 전체 파티션 할당 리스너용 파티션 조회 (HubEventReplicaListener 등)
+     */
+    @Bean
+    public KafkaPartitionFinder kafkaPartitionFinder() {
+        return new KafkaPartitionFinder(deliveryConsumerFactory());
+    }
+
     // ===========================
     // Payment 이벤트 처리용 (신규)
     // ===========================
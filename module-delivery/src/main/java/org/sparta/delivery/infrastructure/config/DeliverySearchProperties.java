@@ -0,0 +1,37 @@
+package org.sparta.delivery.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배송 커서 검색 설정 (GET /api/deliveries/scroll)
+ *
+ * 예시:
+ * delivery:
+ *   search:
+ *     default-size: 20
+ *     max-size: 100
+ *     count-cache-ttl-millis: 30000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.search")
+public class DeliverySearchProperties {
+
+    private int defaultSize = 20;
+
+    private int maxSize = 100;
+
+    /**
+     * withTotal=true 일 때 같은 검색 조건의 전체 개수를 재사용하는 시간 (0 이면 매번 COUNT)
+     */
+    private long countCacheTtlMillis = 30_000;
+
+    /**
+     * 전체 개수 캐시에 보관할 검색 조건 수 (넘으면 비움)
+     */
+    private int countCacheMaxEntries = 1_000;
+}
@@ -0,0 +1,31 @@
+package org.sparta.delivery.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 실시간 배송 추적 전송 스레드 풀
+ *
+ * Java 17 환경이라 가상 스레드 대신 고정 크기 풀을 쓴다.
+ * SSE 연결은 서블릿 비동기로 유지되어 요청 스레드를 점유하지 않고, 보낼 내용이 생긴 구독자만 이 풀에서 전송한다.
+ * 구독자당 전송 작업은 최대 1개만 대기하므로 대기열 크기를 구독자 수 상한과 같게 둔다.
+ */
+@Configuration
+public class DeliveryTrackingStreamConfig {
+
+    public static final String TRACKING_STREAM_EXECUTOR = "trackingStreamExecutor";
+
+    @Bean(name = TRACKING_STREAM_EXECUTOR)
+    public Executor trackingStreamExecutor(DeliveryTrackingStreamProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getSenderThreads());
+        executor.setMaxPoolSize(properties.getSenderThreads());
+        executor.setQueueCapacity(properties.getMaxSubscribers());
+        executor.setThreadNamePrefix("tracking-stream-");
+        executor.initialize();
+        return executor;
+    }
+}
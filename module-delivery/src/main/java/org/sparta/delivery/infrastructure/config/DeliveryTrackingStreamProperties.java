@@ -0,0 +1,57 @@
+package org.sparta.delivery.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실시간 배송 추적 스트림 설정 (DeliveryTrackingStreamRegistry)
+ *
+ * 예시:
+ * delivery:
+ *   tracking:
+ *     stream:
+ *       enabled: true
+ *       timeout-millis: 1800000
+ *       heartbeat-millis: 15000
+ *       buffer-size: 64
+ *       max-subscribers: 10000
+ *       sender-threads: 4
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.tracking.stream")
+public class DeliveryTrackingStreamProperties {
+
+    /**
+     * false 면 추적 갱신 이벤트를 발행하지 않고 스트림 구독도 받지 않음 (조회 API 폴링만 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 연결 유지 시간, 지나면 서버가 연결을 닫고 클라이언트(EventSource)가 다시 연결
+     */
+    private long timeoutMillis = 1_800_000;
+
+    /**
+     * 빈 주석 전송 주기 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+     */
+    private long heartbeatMillis = 15_000;
+
+    /**
+     * 구독자별 미전송 배송 수 상한 (같은 배송은 최신 상태만 유지), 넘으면 느린 구독자로 보고 연결 종료
+     */
+    private int bufferSize = 64;
+
+    /**
+     * 인스턴스당 동시 구독자 수 상한
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * 전송 스레드 수 (연결마다 스레드를 점유하지 않고, 보낼 내용이 있는 구독자만 전송)
+     */
+    private int senderThreads = 4;
+}
@@ -0,0 +1,51 @@
+package org.sparta.delivery.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 허브 경로 일괄 조회 클라이언트 설정 (HubRouteBatchClient)
+ *
+ * 예시:
+ * delivery:
+ *   hub-route:
+ *     batch:
+ *       enabled: true
+ *       window-millis: 10
+ *       max-batch-size: 200
+ *       timeout-millis: 10000
+ *       sender-threads: 4
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.hub-route.batch")
+public class HubRouteBatchProperties {
+
+    /**
+     * false 면 요청마다 단건 API(/api/hub-routes/plan) 호출
+     */
+    private boolean enabled = true;
+
+    /**
+     * 첫 요청 이후 다른 요청을 모으는 시간
+     */
+    private long windowMillis = 10;
+
+    /**
+     * 한 번의 일괄 호출에 담는 최대 허브 쌍 수 (도달하면 즉시 전송)
+     */
+    private int maxBatchSize = 200;
+
+    /**
+     * 호출자가 결과를 기다리는 최대 시간
+     */
+    private long timeoutMillis = 10_000;
+
+    /**
+     * 일괄 호출 전송 스레드 수 (동시에 진행할 수 있는 일괄 호출 수)
+     */
+    private int senderThreads = 4;
+}
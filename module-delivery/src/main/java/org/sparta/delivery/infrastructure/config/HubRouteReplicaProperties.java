@@ -0,0 +1,39 @@
+package org.sparta.delivery.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 허브 경로 복제본 설정 (HubRouteReplica)
+ *
+ * 예시:
+ * delivery:
+ *   hub-route:
+ *     replica:
+ *       enabled: true
+ *       sync-check-millis: 5000
+ *       resync-interval-millis: 300000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.hub-route.replica")
+public class HubRouteReplicaProperties {
+
+    /**
+     * false 면 항상 허브 서비스(Feign)로 경로 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * 초기화/재동기화 필요 여부 확인 주기 (초기화 실패 시 재시도 간격)
+     */
+    private long syncCheckMillis = 5_000;
+
+    /**
+     * 전체 스냅샷 재동기화 주기 (이벤트가 없는 허브 경로 변경, 유실 이벤트 보정)
+     */
+    private long resyncIntervalMillis = 300_000;
+}
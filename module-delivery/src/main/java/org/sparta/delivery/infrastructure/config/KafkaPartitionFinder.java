@@ -0,0 +1,32 @@
+package org.sparta.delivery.infrastructure.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * 토픽 파티션 목록 조회 (@KafkaListener 수동 파티션 할당용)
+ *
+ * 인스턴스마다 모든 파티션을 읽어야 하는 리스너(로컬 복제본, 로컬 구독자 전달)는
+ * consumer group 리밸런싱 대신 전체 파티션을 직접 할당받는다.
+ * → 재기동마다 새 consumer group 이 생기지 않음
+ *
+ * 사용 예: partitions = "#{@kafkaPartitionFinder.partitions('hub-events')}"
+ */
+public class KafkaPartitionFinder {
+
+    private final ConsumerFactory<String, String> consumerFactory;
+
+    public KafkaPartitionFinder(ConsumerFactory<String, String> consumerFactory) {
+        this.consumerFactory = consumerFactory;
+    }
+
+    public String[] partitions(String topic) {
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer()) {
+            return consumer.partitionsFor(topic).stream()
+                    .map(PartitionInfo::partition)
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+        }
+    }
+}
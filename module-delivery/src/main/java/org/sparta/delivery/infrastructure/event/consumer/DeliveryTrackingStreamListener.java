@@ -0,0 +1,53 @@
+package org.sparta.delivery.infrastructure.event.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.sparta.delivery.application.tracking.DeliveryTrackingStreamRegistry;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryTrackingChangedEvent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * delivery.tracking 수신 → 이 인스턴스의 실시간 추적 구독자에게 전달
+ *
+ * - 구독자는 인스턴스마다 따로 연결되어 있으므로 consumer group 리밸런싱 없이 전체 파티션을 직접 할당
+ *   (고정 groupId 는 오프셋 커밋용, 재기동해도 새 group 이 생기지 않음)
+ * - 지난 변경은 전달할 구독자가 없으므로 할당 직후 최신 오프셋부터 읽음
+ * - 전달 실패는 재시도/DLT 없이 로그만 남김 (클라이언트 재연결 시 현재 상태부터 다시 받음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingStreamListener implements ConsumerSeekAware {
+
+    private final DeliveryTrackingStreamRegistry streamRegistry;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = DeliveryTrackingChangedEvent.TOPIC,
+                    partitions = "#{@kafkaPartitionFinder.partitions('" + DeliveryTrackingChangedEvent.TOPIC + "')}"
+            ),
+            groupId = "delivery-tracking-stream",
+            containerFactory = "deliveryKafkaListenerContainerFactory"
+    )
+    public void handleTrackingChanged(ConsumerRecord<String, String> record) {
+        try {
+            DeliveryTrackingChangedEvent event = objectMapper.readValue(record.value(), DeliveryTrackingChangedEvent.class);
+            streamRegistry.publish(event);
+        } catch (Exception e) {
+            log.warn("[TrackingStream] 추적 갱신 이벤트 전달 실패 - offset={}", record.offset(), e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+}
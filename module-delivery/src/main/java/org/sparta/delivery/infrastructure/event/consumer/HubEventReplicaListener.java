@@ -0,0 +1,91 @@
+package org.sparta.delivery.infrastructure.event.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.sparta.common.event.hub.HubCreatedEvent;
+import org.sparta.common.event.hub.HubDeletedEvent;
+import org.sparta.common.event.hub.HubUpdatedEvent;
+import org.sparta.common.event.hub.HubsImportedEvent;
+import org.sparta.delivery.application.route.HubRouteReplica;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * hub-events 수신 → 로컬 허브 경로 복제본 반영
+ *
+ * - 모든 인스턴스가 각자 복제본을 가지므로 consumer group 리밸런싱 없이 전체 파티션을 직접 할당
+ *   (고정 groupId 는 오프셋 커밋용, 재기동해도 새 group 이 생기지 않음)
+ * - 기동 시 스냅샷으로 초기화하므로 할당 직후 최신 오프셋부터 읽음
+ * - 반영 실패는 재시도/DLT 없이 로그만 남김 (주기적 전체 재동기화로 보정)
+ * - 좌표가 없는 이전 형식 이벤트는 다음 재동기화 때 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubEventReplicaListener implements ConsumerSeekAware {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final HubRouteReplica hubRouteReplica;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = "hub-events",
+                    partitions = "#{@kafkaPartitionFinder.partitions('hub-events')}"
+            ),
+            groupId = "delivery-hub-replica",
+            containerFactory = "deliveryKafkaListenerContainerFactory"
+    )
+    public void handleHubEvent(ConsumerRecord<String, String> record) {
+        try {
+            String type = typeOf(record);
+            if (type.endsWith("HubCreatedEvent")) {
+                HubCreatedEvent event = objectMapper.readValue(record.value(), HubCreatedEvent.class);
+                upsert(event.hubId(), event.latitude(), event.longitude(), event.status());
+            } else if (type.endsWith("HubUpdatedEvent")) {
+                HubUpdatedEvent event = objectMapper.readValue(record.value(), HubUpdatedEvent.class);
+                upsert(event.hubId(), event.latitude(), event.longitude(), event.status());
+            } else if (type.endsWith("HubDeletedEvent")) {
+                HubDeletedEvent event = objectMapper.readValue(record.value(), HubDeletedEvent.class);
+                hubRouteReplica.onHubRemoved(event.hubId());
+            } else if (type.endsWith("HubsImportedEvent")) {
+                // 허브 수천 개를 하나씩 반영하는 대신 스냅샷 한 번으로 교체 (청크는 모두 커밋 후 발행되므로 마지막 청크에서만)
+                HubsImportedEvent event = objectMapper.readValue(record.value(), HubsImportedEvent.class);
+                if (event.lastChunk()) {
+                    hubRouteReplica.resync();
+                }
+            } else {
+                log.debug("[HubEventReplica] 처리 대상이 아닌 이벤트 - type={}", type);
+            }
+        } catch (Exception e) {
+            log.warn("[HubEventReplica] 허브 이벤트 반영 실패 - offset={}", record.offset(), e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    private void upsert(UUID hubId, Double latitude, Double longitude, String status) {
+        if (latitude == null || longitude == null) {
+            return; // 이전 형식 이벤트 (좌표 없음)
+        }
+        hubRouteReplica.onHubUpserted(hubId, latitude, longitude, !"INACTIVE".equals(status));
+    }
+
+    private static String typeOf(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(TYPE_ID_HEADER);
+        return header == null ? "" : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package org.sparta.delivery.infrastructure.event.publisher;
+
+import org.sparta.common.event.DomainEvent;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// 배송 추적 조회 모델 갱신 이벤트 (delivery.tracking) / 모든 배송 인스턴스가 받아 실시간 추적 구독자에게 전달
+
+public record DeliveryTrackingChangedEvent(
+        UUID deliveryId,
+        UUID supplierHubId,
+        UUID receiveHubId,
+        UUID supplierCompanyId,
+        UUID receiveCompanyId,
+        DeliveryResponse.Tracking tracking,
+        UUID eventId,
+        Instant occurredAt
+) implements DomainEvent {
+
+    // 배송 서비스 전용 토픽 (공통 EventPublisher 의 타입별 토픽 매핑에 두지 않고 발행 측에서 지정)
+    public static final String TOPIC = "delivery.tracking";
+
+    public static DeliveryTrackingChangedEvent of(DeliveryTracking tracking, List<DeliveryResponse.TrackingLeg> legs) {
+        return new DeliveryTrackingChangedEvent(
+                tracking.getDeliveryId(),
+                tracking.getSupplierHubId(),
+                tracking.getReceiveHubId(),
+                tracking.getSupplierCompanyId(),
+                tracking.getReceiveCompanyId(),
+                DeliveryResponse.Tracking.from(tracking, legs),
+                UUID.randomUUID(),
+                Instant.now()
+        );
+    }
+}
+
+/**
+ * DeliveryTrackingChangedEvent / 배송 추적 갱신 이벤트
+ * 배송 상태/허브 구간 변경이 커밋되고 조회 모델(DeliveryTracking)이 다시 만들어진 뒤 발행
+ * 배송 서비스 인스턴스마다 별도 consumer group 으로 받아 SSE 구독자에게 전달 (다른 서비스는 구독하지 않음)
+ * */
@@ -7,6 +7,7 @@ import org.sparta.common.event.EventPublisher;
 import org.sparta.common.event.delivery.DeliveryCreatedEvent;
 import org.sparta.delivery.domain.entity.DeliveryOutboxEvent;
 import org.sparta.delivery.domain.repository.DeliveryOutBoxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import java.util.List;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DeliveryOutboxPublisher {
 
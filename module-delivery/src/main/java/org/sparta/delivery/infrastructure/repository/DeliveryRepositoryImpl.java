@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.sparta.delivery.domain.entity.Delivery;
 import org.sparta.delivery.domain.enumeration.DeliveryStatus;
 import org.sparta.delivery.domain.repository.DeliveryRepository;
+import org.sparta.delivery.domain.repository.DeliverySummaryRow;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
@@ -56,26 +57,8 @@ public class DeliveryRepositoryImpl implements DeliveryRepository {
         );
 
         Map<String, Object> params = new HashMap<>();
-
-        if (status != null) {
-            jpql.append(" AND d.status = :status");
-            countJpql.append(" AND d.status = :status");
-            params.put("status", status);
-        }
-
-        // hubId: 공급 허브 또는 수령 허브 중 하나라도 해당되면 포함
-        if (hubId != null) {
-            jpql.append(" AND (d.supplierHubId = :hubId OR d.receiveHubId = :hubId)");
-            countJpql.append(" AND (d.supplierHubId = :hubId OR d.receiveHubId = :hubId)");
-            params.put("hubId", hubId);
-        }
-
-        // companyId: 공급 업체 또는 수령 업체 중 하나라도 해당되면 포함
-        if (companyId != null) {
-            jpql.append(" AND (d.supplierCompanyId = :companyId OR d.receiveCompanyId = :companyId)");
-            countJpql.append(" AND (d.supplierCompanyId = :companyId OR d.receiveCompanyId = :companyId)");
-            params.put("companyId", companyId);
-        }
+        appendFilters(jpql, params, status, hubId, companyId);
+        appendFilters(countJpql, new HashMap<>(), status, hubId, companyId);
 
         // 정렬: createdAt 기준 asc/desc
         jpql.append(" ORDER BY d.createdAt ")
@@ -98,6 +81,83 @@ public class DeliveryRepositoryImpl implements DeliveryRepository {
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public List<DeliverySummaryRow> scroll(
+            DeliveryStatus status,
+            UUID hubId,
+            UUID companyId,
+            Sort.Direction direction,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            int limit
+    ) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new org.sparta.delivery.domain.repository.DeliverySummaryRow(" +
+                        "d.id, d.orderId, d.supplierHubId, d.receiveHubId, d.status, " +
+                        "d.currentLogSeq, d.totalLogSeq, d.createdAt) " +
+                        "FROM Delivery d " +
+                        "WHERE d.deletedAt IS NULL"
+        );
+        Map<String, Object> params = new HashMap<>();
+        appendFilters(jpql, params, status, hubId, companyId);
+
+        String order = direction == Sort.Direction.DESC ? "DESC" : "ASC";
+        if (afterCreatedAt != null && afterId != null) {
+            // (createdAt, id) 가 커서보다 뒤인 행: 인덱스 탐색으로 바로 시작 위치를 찾는다
+            // - OR 조건만으로는 플래너가 인덱스 범위 조건으로 쓰지 못하므로 createdAt 범위를 중복으로 한 번 더 건다
+            String cmp = direction == Sort.Direction.DESC ? "<" : ">";
+            jpql.append(" AND d.createdAt ").append(cmp).append("= :afterCreatedAt")
+                    .append(" AND (d.createdAt ").append(cmp).append(" :afterCreatedAt")
+                    .append(" OR (d.createdAt = :afterCreatedAt AND d.id ").append(cmp).append(" :afterId))");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+
+        jpql.append(" ORDER BY d.createdAt ").append(order).append(", d.id ").append(order);
+
+        TypedQuery<DeliverySummaryRow> query = em.createQuery(jpql.toString(), DeliverySummaryRow.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public long count(DeliveryStatus status, UUID hubId, UUID companyId) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT COUNT(d) FROM Delivery d " +
+                        "WHERE d.deletedAt IS NULL"
+        );
+        Map<String, Object> params = new HashMap<>();
+        appendFilters(jpql, params, status, hubId, companyId);
+
+        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private void appendFilters(
+            StringBuilder jpql,
+            Map<String, Object> params,
+            DeliveryStatus status,
+            UUID hubId,
+            UUID companyId
+    ) {
+        if (status != null) {
+            jpql.append(" AND d.status = :status");
+            params.put("status", status);
+        }
+        // hubId: 공급 허브 또는 수령 허브 중 하나라도 해당되면 포함
+        if (hubId != null) {
+            jpql.append(" AND (d.supplierHubId = :hubId OR d.receiveHubId = :hubId)");
+            params.put("hubId", hubId);
+        }
+        // companyId: 공급 업체 또는 수령 업체 중 하나라도 해당되면 포함
+        if (companyId != null) {
+            jpql.append(" AND (d.supplierCompanyId = :companyId OR d.receiveCompanyId = :companyId)");
+            params.put("companyId", companyId);
+        }
+    }
+
     @Override
     public Optional<Delivery> findByOrderIdAndDeletedAtIsNull(UUID orderId) {
         return deliveryJpaRepository.findByOrderIdAndDeletedAtIsNull(orderId);
@@ -0,0 +1,12 @@
+package org.sparta.delivery.infrastructure.repository;
+
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * DeliveryTracking JPA Repository
+ */
+public interface DeliveryTrackingJpaRepository extends JpaRepository<DeliveryTracking, UUID> {
+}
@@ -0,0 +1,31 @@
+package org.sparta.delivery.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.sparta.delivery.domain.repository.DeliveryTrackingRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class DeliveryTrackingRepositoryImpl implements DeliveryTrackingRepository {
+
+    private final DeliveryTrackingJpaRepository jpaRepository;
+
+    @Override
+    public Optional<DeliveryTracking> findById(UUID deliveryId) {
+        return jpaRepository.findById(deliveryId);
+    }
+
+    @Override
+    public DeliveryTracking save(DeliveryTracking tracking) {
+        return jpaRepository.save(tracking);
+    }
+
+    @Override
+    public void deleteById(UUID deliveryId) {
+        jpaRepository.deleteById(deliveryId);
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.sparta.common.api.ApiResponse;
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
 import org.sparta.delivery.infrastructure.event.OrderApprovedEvent;
 import org.sparta.delivery.presentation.dto.request.DeliveryRequest;
 import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
@@ -12,6 +13,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -42,6 +44,34 @@ public interface DeliveryApiSpec {
             @PathVariable UUID deliveryId
     );
 
+    @Operation(
+            summary = "배송 추적 조회",
+            description = "배송 진행 상태, 배송 담당자, 도착 허브 도착 예정 시각과 허브 구간 목록을 조회합니다. " +
+                    "배송 상태 변경 커밋 후 갱신되는 조회 모델을 읽습니다."
+    )
+    ApiResponse<DeliveryResponse.Tracking> getTracking(
+            @PathVariable UUID deliveryId
+    );
+
+    @Operation(
+            summary = "배송 실시간 추적 (SSE)",
+            description = "text/event-stream 으로 연결 직후 현재 추적 정보를 보내고, 이후 배송 상태/허브 구간이 바뀔 때마다 " +
+                    "'tracking' 이벤트로 최신 추적 정보를 보냅니다. 연결이 끊기면 다시 연결하면 현재 상태부터 받습니다."
+    )
+    SseEmitter streamTracking(
+            @PathVariable UUID deliveryId
+    );
+
+    @Operation(
+            summary = "허브/업체 실시간 추적 (SSE)",
+            description = "hubId 또는 companyId 중 하나를 지정합니다. 해당 허브(출발·도착·경유) 또는 업체(공급·수령)의 배송이 " +
+                    "바뀔 때마다 'tracking' 이벤트로 그 배송의 최신 추적 정보를 보냅니다. 현재 목록은 배송 커서 검색으로 조회합니다."
+    )
+    SseEmitter streamTrackings(
+            @RequestParam(required = false) UUID hubId,
+            @RequestParam(required = false) UUID companyId
+    );
+
     @Operation(
             summary = "배송 검색",
             description = "상태, 허브 ID, 업체 ID 기준으로 배송을 검색합니다. createdAt 기준 정렬/페이징을 지원합니다."
@@ -54,6 +84,21 @@ public interface DeliveryApiSpec {
             @PageableDefault(size = 10) Pageable pageable
     );
 
+    @Operation(
+            summary = "배송 커서 검색",
+            description = "검색 조건은 배송 검색과 같고, 응답의 nextCursor 로 다음 페이지를 조회합니다. " +
+                    "깊은 페이지에서도 조회 비용이 일정하며, 전체 개수는 withTotal=true 일 때만 (캐시된 근사값) 포함합니다."
+    )
+    ApiResponse<DeliveryResponse.CursorResult> scroll(
+            @RequestParam(required = false) DeliveryStatus status,
+            @RequestParam(required = false) UUID hubId,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    );
+
     @Operation(
             summary = "허브 배송 담당자 배정",
             description = "배송에 허브 배송 담당자를 배정합니다. (CREATED/HUB_WAITING 상태에서만 가능)"
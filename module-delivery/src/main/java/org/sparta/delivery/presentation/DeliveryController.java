@@ -11,6 +11,7 @@ import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -48,6 +49,32 @@ public class DeliveryController implements DeliveryApiSpec {
         return ApiResponse.success(response);
     }
 
+    @Override
+    @GetMapping("/{deliveryId}/tracking")
+    public ApiResponse<DeliveryResponse.Tracking> getTracking(
+            @PathVariable UUID deliveryId
+    ) {
+        DeliveryResponse.Tracking response = deliveryService.getTracking(deliveryId);
+        return ApiResponse.success(response);
+    }
+
+    @Override
+    @GetMapping("/{deliveryId}/tracking/stream")
+    public SseEmitter streamTracking(
+            @PathVariable UUID deliveryId
+    ) {
+        return deliveryService.subscribeTracking(deliveryId);
+    }
+
+    @Override
+    @GetMapping("/tracking/stream")
+    public SseEmitter streamTrackings(
+            @RequestParam(required = false) UUID hubId,
+            @RequestParam(required = false) UUID companyId
+    ) {
+        return deliveryService.subscribeTrackings(hubId, companyId);
+    }
+
     @Override
     @GetMapping
     public ApiResponse<DeliveryResponse.PageResult> search(
@@ -73,6 +100,31 @@ public class DeliveryController implements DeliveryApiSpec {
         return ApiResponse.success(response);
     }
 
+    @Override
+    @GetMapping("/scroll")
+    public ApiResponse<DeliveryResponse.CursorResult> scroll(
+            @RequestParam(required = false) DeliveryStatus status,
+            @RequestParam(required = false) UUID hubId,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean withTotal
+    ) {
+        DeliveryRequest.Scroll request = new DeliveryRequest.Scroll(
+                status,
+                hubId,
+                companyId,
+                sortDirection,
+                cursor,
+                size,
+                withTotal
+        );
+
+        DeliveryResponse.CursorResult response = deliveryService.scroll(request);
+        return ApiResponse.success(response);
+    }
+
     @Override
     @PostMapping("/{deliveryId}/assign/hub-delivery-man")
     public ApiResponse<DeliveryResponse.Detail> assignHubDeliveryMan(
@@ -80,6 +80,31 @@ public class DeliveryRequest {
             String sortDirection
     ) { }
 
+    @Schema(description = "배송 커서 검색 요청")
+    public record Scroll(
+
+            @Schema(description = "배송 상태")
+            DeliveryStatus status,
+
+            @Schema(description = "허브 ID (공급/수령 허브 모두 대상)")
+            UUID hubId,
+
+            @Schema(description = "업체 ID (공급/수령 업체 모두 대상)")
+            UUID companyId,
+
+            @Schema(description = "정렬 방향 (ASC/DESC)")
+            String sortDirection,
+
+            @Schema(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+            String cursor,
+
+            @Schema(description = "페이지 크기 (생략 시 기본값, 최대값 초과 시 최대값)")
+            Integer size,
+
+            @Schema(description = "전체 개수 포함 여부 (짧은 시간 캐시된 근사값)")
+            boolean withTotal
+    ) { }
+
     @Schema(description = "허브 배송 담당자 배정 요청")
     public record AssignHubDeliveryMan(
 
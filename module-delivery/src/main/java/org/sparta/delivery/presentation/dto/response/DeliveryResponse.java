@@ -2,7 +2,11 @@ package org.sparta.delivery.presentation.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.sparta.delivery.domain.entity.Delivery;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
 import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+import org.sparta.delivery.domain.repository.DeliverySummaryRow;
+import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -213,6 +217,18 @@ public class DeliveryResponse {
                     d.getTotalLogSeq()
             );
         }
+
+        public static Summary from(DeliverySummaryRow row) {
+            return new Summary(
+                    row.id(),
+                    row.orderId(),
+                    row.supplierHubId(),
+                    row.receiveHubId(),
+                    row.status(),
+                    row.currentLogSeq(),
+                    row.totalLogSeq()
+            );
+        }
     }
 
     @Schema(description = "배송 페이징 결과")
@@ -227,4 +243,114 @@ public class DeliveryResponse {
             @Schema(description = "전체 페이지 수")
             int totalPages
     ) { }
+
+    @Schema(description = "배송 커서 검색 결과")
+    public record CursorResult(
+
+            @Schema(description = "내용 목록")
+            List<Summary> content,
+
+            @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+            String nextCursor,
+
+            @Schema(description = "다음 페이지 존재 여부")
+            boolean hasNext,
+
+            @Schema(description = "전체 개수 (withTotal=true 일 때만, 캐시된 근사값)")
+            Long totalElements
+    ) { }
+
+    @Schema(description = "배송 추적 응답")
+    public record Tracking(
+
+            @Schema(description = "배송 ID")
+            UUID deliveryId,
+
+            @Schema(description = "주문 ID")
+            UUID orderId,
+
+            @Schema(description = "배송 상태")
+            DeliveryStatus status,
+
+            @Schema(description = "현재 허브 로그 시퀀스")
+            Integer currentLogSeq,
+
+            @Schema(description = "전체 허브 로그 시퀀스 개수")
+            Integer totalLogSeq,
+
+            @Schema(description = "허브 배송 담당자 ID")
+            UUID hubDeliveryManId,
+
+            @Schema(description = "업체 배송 담당자 ID")
+            UUID companyDeliveryManId,
+
+            @Schema(description = "도착 허브 도착 예정 시각 (남은 허브 구간 예상 시간 기준, 도착 허브 도착 이후 null)")
+            LocalDateTime estimatedHubArrivalAt,
+
+            @Schema(description = "허브 구간 목록 (sequence 순)")
+            List<TrackingLeg> legs,
+
+            @Schema(description = "조회 모델 반영 시각")
+            LocalDateTime projectedAt
+    ) {
+        public static Tracking from(DeliveryTracking t, List<TrackingLeg> legs) {
+            return new Tracking(
+                    t.getDeliveryId(),
+                    t.getOrderId(),
+                    t.getStatus(),
+                    t.getCurrentLogSeq(),
+                    t.getTotalLogSeq(),
+                    t.getHubDeliveryManId(),
+                    t.getCompanyDeliveryManId(),
+                    t.getEstimatedHubArrivalAt(),
+                    legs,
+                    t.getProjectedAt()
+            );
+        }
+    }
+
+    @Schema(description = "배송 추적 허브 구간")
+    public record TrackingLeg(
+
+            @Schema(description = "구간 시퀀스")
+            int sequence,
+
+            @Schema(description = "출발 허브 ID")
+            UUID sourceHubId,
+
+            @Schema(description = "도착 허브 ID")
+            UUID targetHubId,
+
+            @Schema(description = "구간 상태")
+            DeliveryLogStatus status,
+
+            @Schema(description = "배송 담당자 ID")
+            UUID deliveryManId,
+
+            @Schema(description = "예상 거리(km)")
+            double estimatedKm,
+
+            @Schema(description = "예상 소요 시간(분)")
+            int estimatedMinutes,
+
+            @Schema(description = "실제 거리(km)")
+            Double actualKm,
+
+            @Schema(description = "실제 소요 시간(분)")
+            Integer actualMinutes
+    ) {
+        public static TrackingLeg from(DeliveryLog log) {
+            return new TrackingLeg(
+                    log.getSequence(),
+                    log.getSourceHubId(),
+                    log.getTargetHubId(),
+                    log.getStatus(),
+                    log.getDeliveryManId(),
+                    log.getEstimatedKm(),
+                    log.getEstimatedMinutes(),
+                    log.getActualKm(),
+                    log.getActualMinutes()
+            );
+        }
+    }
 }
@@ -12,9 +12,15 @@ public interface DeliveryLogService {
     // 관리자/테스트용 직접 생성
     DeliveryLogResponse.Detail create(DeliveryLogRequest.Create request);
 
+    // 배송 생성 시 허브 구간 로그 일괄 생성 (sequence 0부터, JDBC batch), 생성된 로그 수 반환
+    int createAll(UUID deliveryId, List<DeliveryLogRequest.Leg> legs);
+
     // 허브 담당자 배정 (CREATED -> HUB_WAITING)
     DeliveryLogResponse.Detail assignDeliveryMan(UUID logId, DeliveryLogRequest.AssignDeliveryMan request);
 
+    // 배송의 CREATED 로그 전체에 허브 담당자 배정 (UPDATE 1회), 배정된 로그 수 반환
+    int assignDeliveryManToAll(UUID deliveryId, UUID deliveryManId);
+
     // 허브 leg 출발 (HUB_WAITING -> HUB_MOVING)
     DeliveryLogResponse.Detail startLog(UUID logId);
 
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -52,6 +53,31 @@ public class DeliveryLogServiceImpl implements DeliveryLogService {
         return DeliveryLogResponse.Detail.from(saved);
     }
 
+    /**
+     * 배송 생성 시 허브 구간 로그 일괄 생성
+     * - 새 배송의 로그이므로 sequence 중복 확인 없이 목록 순서대로 0부터 부여
+     * - 검증은 DeliveryLog.create 와 같고, 저장은 JDBC batch 1회
+     */
+    @Override
+    @Transactional
+    public int createAll(UUID deliveryId, List<DeliveryLogRequest.Leg> legs) {
+        List<DeliveryLog> logs = new ArrayList<>(legs.size());
+        int sequence = 0;
+        for (DeliveryLogRequest.Leg leg : legs) {
+            logs.add(DeliveryLog.create(
+                    deliveryId,
+                    sequence++,
+                    leg.sourceHubId(),
+                    leg.targetHubId(),
+                    leg.estimatedKm(),
+                    leg.estimatedMinutes()
+            ));
+        }
+
+        deliveryLogRepository.insertAll(logs);
+        return logs.size();
+    }
+
     // ================================
     // 2. 허브 담당자 배정 (CREATED -> HUB_WAITING)
     // ================================
@@ -73,6 +99,19 @@ public class DeliveryLogServiceImpl implements DeliveryLogService {
         return DeliveryLogResponse.Detail.from(log);
     }
 
+    /**
+     * 배송의 CREATED 로그 전체에 허브 담당자 배정
+     * - 로그별 조회 없이 UPDATE 1회 (CREATED 가 아닌 로그는 그대로 둠)
+     */
+    @Override
+    @Transactional
+    public int assignDeliveryManToAll(UUID deliveryId, UUID deliveryManId) {
+        if (deliveryManId == null) {
+            throw new BusinessException(DeliveryLogErrorType.DELIVERY_MAN_ID_REQUIRED);
+        }
+        return deliveryLogRepository.assignDeliveryManToAll(deliveryId, deliveryManId);
+    }
+
     // ================================
     // 3. 허브 leg 출발 (HUB_WAITING -> HUB_MOVING)
     // ================================
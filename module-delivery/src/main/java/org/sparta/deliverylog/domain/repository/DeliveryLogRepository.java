@@ -13,6 +13,12 @@ public interface DeliveryLogRepository {
 
     DeliveryLog save(DeliveryLog deliveryLog);
 
+    // JDBC batch insert (영속성 컨텍스트에 올리지 않음)
+    void insertAll(List<DeliveryLog> deliveryLogs);
+
+    // CREATED 로그 전체 담당자 배정 (UPDATE 1회), 반영된 로그 수 반환
+    int assignDeliveryManToAll(UUID deliveryId, UUID deliveryManId);
+
     Optional<DeliveryLog> findByIdAndDeletedAtIsNull(UUID id);
 
     List<DeliveryLog> findAllByDeliveryIdOrderBySequenceAsc(UUID deliveryId);
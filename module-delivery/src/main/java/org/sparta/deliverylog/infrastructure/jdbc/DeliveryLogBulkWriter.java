@@ -0,0 +1,54 @@
+package org.sparta.deliverylog.infrastructure.jdbc;
+
+import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 배송 로그 일괄 생성용 JDBC batch insert
+ *
+ * - 배송 1건의 허브 구간 로그를 한 번의 batch 로 INSERT (구간마다 save 하지 않음)
+ * - 호출 측 트랜잭션에 참여하므로 실패하면 배송 생성 전체 롤백
+ * - 컬럼은 엔티티(DeliveryLog) 매핑과 같게 유지해야 한다
+ */
+@Component
+public class DeliveryLogBulkWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_LOG_SQL = """
+            insert into p_delivery_logs (id, delivery_id, sequence, source_hub_id, target_hub_id,
+                                         estimated_km, estimated_minutes, status, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeliveryLogBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param logs DeliveryLog.create(...) 로 만든 (아직 저장되지 않은) 로그
+     */
+    public void insertAll(List<DeliveryLog> logs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, logs, BATCH_SIZE, (ps, log) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, log.getDeliveryId());
+            ps.setInt(3, log.getSequence());
+            ps.setObject(4, log.getSourceHubId());
+            ps.setObject(5, log.getTargetHubId());
+            ps.setDouble(6, log.getEstimatedKm());
+            ps.setInt(7, log.getEstimatedMinutes());
+            ps.setString(8, log.getStatus().name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+}
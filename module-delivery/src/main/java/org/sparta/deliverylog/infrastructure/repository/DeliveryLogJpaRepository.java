@@ -1,8 +1,13 @@
 package org.sparta.deliverylog.infrastructure.repository;
 
 import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +21,17 @@ public interface DeliveryLogJpaRepository extends JpaRepository<DeliveryLog, UUI
     boolean existsByDeliveryIdAndSequenceAndDeletedAtIsNull(UUID deliveryId, int sequence);
 
     List<DeliveryLog> findByDeliveryIdAndDeletedAtIsNull(UUID deliveryId);
+
+    /**
+     * 배송의 CREATED 로그 전체에 담당자 배정 (UPDATE 1회, CREATED -> HUB_WAITING)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DeliveryLog l " +
+            "SET l.deliveryManId = :deliveryManId, l.status = :assigned, l.updatedAt = :now " +
+            "WHERE l.deliveryId = :deliveryId AND l.status = :created AND l.deletedAt IS NULL")
+    int assignDeliveryManToAll(@Param("deliveryId") UUID deliveryId,
+                               @Param("deliveryManId") UUID deliveryManId,
+                               @Param("created") DeliveryLogStatus created,
+                               @Param("assigned") DeliveryLogStatus assigned,
+                               @Param("now") LocalDateTime now);
 }
@@ -2,12 +2,15 @@ package org.sparta.deliverylog.infrastructure.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
 import org.sparta.deliverylog.domain.repository.DeliveryLogRepository;
+import org.sparta.deliverylog.infrastructure.jdbc.DeliveryLogBulkWriter;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,12 +23,29 @@ public class DeliveryLogRepositoryImpl implements DeliveryLogRepository {
 
     private final DeliveryLogJpaRepository deliveryLogJpaRepository;
     private final EntityManager em;
+    private final DeliveryLogBulkWriter bulkWriter;
 
     @Override
     public DeliveryLog save(DeliveryLog deliveryLog) {
         return deliveryLogJpaRepository.save(deliveryLog);
     }
 
+    @Override
+    public void insertAll(List<DeliveryLog> deliveryLogs) {
+        bulkWriter.insertAll(deliveryLogs);
+    }
+
+    @Override
+    public int assignDeliveryManToAll(UUID deliveryId, UUID deliveryManId) {
+        return deliveryLogJpaRepository.assignDeliveryManToAll(
+                deliveryId,
+                deliveryManId,
+                DeliveryLogStatus.CREATED,
+                DeliveryLogStatus.HUB_WAITING,
+                LocalDateTime.now()
+        );
+    }
+
     @Override
     public Optional<DeliveryLog> findByIdAndDeletedAtIsNull(UUID id) {
         return deliveryLogJpaRepository.findByIdAndDeletedAtIsNull(id);
@@ -43,6 +43,14 @@ public class DeliveryLogRequest {
 //            Integer actualMinutes
     ) { }
 
+    @Schema(description = "배송 로그 일괄 생성용 허브 구간 (sequence 는 목록 순서)")
+    public record Leg(
+            UUID sourceHubId,
+            UUID targetHubId,
+            double estimatedKm,
+            int estimatedMinutes
+    ) { }
+
     @Schema(description = "배송 로그 상태 변경 요청")
     public record UpdateStatus(
 
@@ -0,0 +1,199 @@
+package org.sparta.deliveryman.application.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.deliveryman.domain.entity.DeliveryMan;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
+import org.sparta.deliveryman.domain.event.DeliveryManChangedLocalEvent;
+import org.sparta.deliveryman.domain.repository.DeliveryManRepository;
+import org.sparta.deliveryman.infrastructure.config.DeliveryManDispatchProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 배송 담당자 배정 큐
+ *
+ * 배정 풀(HUB 공용 / 허브별 COMPANY)마다 배정 우선순위 순으로 정렬된 큐를 메모리에 유지한다.
+ * - 우선순위: WAITING(sequence ASC) → DELIVERING(deliveryCount ASC, sequence ASC)
+ * - 풀 최초 사용 시 / max-staleness-millis 경과 시 DB 후보 목록으로 적재
+ * - 배정(reserve)은 풀 단위 락 안에서 맨 앞 담당자를 꺼내고, 배정 후 예상 상태로 다시 넣는다 → O(log n)
+ * - 커밋된 변경은 DeliveryManChangedLocalEvent 로 반영, 롤백되면 해당 풀을 다시 적재하도록 표시
+ *
+ * 큐는 후보 선택에만 쓰고, 실제 배정은 호출자가 DB 행(락)으로 다시 확인한다.
+ * (큐에 있던 status / deliveryCount 가 DB 와 다르면 우선순위도 어긋났으므로 후보를 버리고 재적재)
+ */
+@Slf4j
+@Component
+public class DeliveryManDispatcher {
+
+    private static final Comparator<Candidate> PRIORITY = Comparator
+            .comparingInt(Candidate::rank)
+            .thenComparingInt(Candidate::load)
+            .thenComparingInt(Candidate::sequence)
+            .thenComparing(Candidate::id);
+
+    private final DeliveryManRepository deliveryManRepository;
+    private final DeliveryManDispatchProperties properties;
+
+    private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+
+    public DeliveryManDispatcher(DeliveryManRepository deliveryManRepository,
+                                 DeliveryManDispatchProperties properties) {
+        this.deliveryManRepository = deliveryManRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 우선순위가 가장 높은 배송 담당자 선택
+     *
+     * @param hubId COMPANY 타입일 때만 사용 (HUB 타입은 null)
+     * @return 선택 시점에 큐가 알고 있던 상태, 배정 가능한 담당자가 없으면 empty
+     */
+    public Optional<Reservation> reserve(DeliveryManType type, UUID hubId) {
+        Pool pool = pools.computeIfAbsent(PoolKey.of(type, hubId), key -> new Pool());
+        pool.lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (pool.loadedAtMillis < 0 || now - pool.loadedAtMillis > properties.getMaxStalenessMillis()) {
+                pool.reload(loadCandidates(type, hubId), now);
+            }
+            Candidate best = pool.queue.pollFirst();
+            if (best == null) {
+                return Optional.empty();
+            }
+            pool.put(best.afterAssignment());
+            return Optional.of(new Reservation(best.id(), best.status(), best.deliveryCount()));
+        } finally {
+            pool.lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 배정 때 풀을 DB 기준으로 다시 적재
+     */
+    public void invalidate(DeliveryManType type, UUID hubId) {
+        Pool pool = pools.get(PoolKey.of(type, hubId));
+        if (pool == null) {
+            return;
+        }
+        pool.lock.lock();
+        try {
+            pool.loadedAtMillis = -1;
+        } finally {
+            pool.lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(DeliveryManChangedLocalEvent event) {
+        PoolKey target = PoolKey.of(event.type(), event.hubId());
+        for (Map.Entry<PoolKey, Pool> entry : pools.entrySet()) {
+            if (entry.getKey().type() != event.type()) {
+                continue;
+            }
+            Pool pool = entry.getValue();
+            pool.lock.lock();
+            try {
+                // COMPANY 담당자는 허브가 바뀔 수 있으므로 같은 타입의 다른 풀에서도 제거
+                pool.remove(event.deliveryManId());
+                if (entry.getKey().equals(target) && pool.loadedAtMillis >= 0 && isAssignable(event)) {
+                    pool.put(new Candidate(event.deliveryManId(), event.status(), event.deliveryCount(), event.sequence()));
+                }
+            } finally {
+                pool.lock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRolledBack(DeliveryManChangedLocalEvent event) {
+        // reserve 에서 미리 반영한 예상 상태를 되돌릴 수 없으므로 풀을 다시 적재
+        invalidate(event.type(), event.hubId());
+        log.info("[DeliveryManDispatcher] 배정 롤백 - 풀 재적재 예정. deliveryManId={}, type={}, hubId={}",
+                event.deliveryManId(), event.type(), event.hubId());
+    }
+
+    private List<Candidate> loadCandidates(DeliveryManType type, UUID hubId) {
+        List<DeliveryMan> deliveryMen = type == DeliveryManType.HUB
+                ? deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(type)
+                : deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(hubId, type);
+        return deliveryMen.stream()
+                .filter(dm -> dm.getStatus() == DeliveryManStatus.WAITING
+                        || dm.getStatus() == DeliveryManStatus.DELIVERING)
+                .map(dm -> new Candidate(dm.getId(), dm.getStatus(), dm.getDeliveryCount(), dm.getSequence()))
+                .toList();
+    }
+
+    private static boolean isAssignable(DeliveryManChangedLocalEvent event) {
+        return !event.deleted()
+                && (event.status() == DeliveryManStatus.WAITING || event.status() == DeliveryManStatus.DELIVERING);
+    }
+
+    /**
+     * 배정 큐에서 꺼낸 후보와 그 시점에 큐가 알고 있던 상태 (호출자가 DB 행과 비교)
+     */
+    public record Reservation(UUID deliveryManId, DeliveryManStatus status, int deliveryCount) {
+    }
+
+    private record PoolKey(DeliveryManType type, UUID hubId) {
+        static PoolKey of(DeliveryManType type, UUID hubId) {
+            return new PoolKey(type, type == DeliveryManType.HUB ? null : Objects.requireNonNull(hubId));
+        }
+    }
+
+    private record Candidate(UUID id, DeliveryManStatus status, int deliveryCount, int sequence) {
+
+        int rank() {
+            return status == DeliveryManStatus.WAITING ? 0 : 1;
+        }
+
+        // WAITING 끼리는 sequence 순, DELIVERING 끼리는 deliveryCount 가 적은 순
+        int load() {
+            return status == DeliveryManStatus.WAITING ? 0 : deliveryCount;
+        }
+
+        Candidate afterAssignment() {
+            return new Candidate(id, DeliveryManStatus.DELIVERING, deliveryCount + 1, sequence);
+        }
+    }
+
+    private static final class Pool {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TreeSet<Candidate> queue = new TreeSet<>(PRIORITY);
+        private final Map<UUID, Candidate> byId = new HashMap<>();
+        private long loadedAtMillis = -1;
+
+        void reload(List<Candidate> candidates, long now) {
+            queue.clear();
+            byId.clear();
+            candidates.forEach(this::put);
+            loadedAtMillis = now;
+        }
+
+        void put(Candidate candidate) {
+            remove(candidate.id());
+            queue.add(candidate);
+            byId.put(candidate.id(), candidate);
+        }
+
+        void remove(UUID id) {
+            Candidate previous = byId.remove(id);
+            if (previous != null) {
+                queue.remove(previous);
+            }
+        }
+    }
+}
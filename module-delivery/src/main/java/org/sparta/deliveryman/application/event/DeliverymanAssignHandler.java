@@ -8,8 +8,6 @@ import org.sparta.delivery.domain.entity.Delivery;
 import org.sparta.delivery.domain.repository.DeliveryRepository;
 import org.sparta.delivery.presentation.dto.request.DeliveryRequest;
 import org.sparta.deliverylog.application.service.DeliveryLogService;
-import org.sparta.deliverylog.presentation.dto.request.DeliveryLogRequest;
-import org.sparta.deliverylog.presentation.dto.response.DeliveryLogResponse;
 import org.sparta.deliveryman.application.service.DeliveryManService;
 import org.sparta.deliveryman.domain.entity.DeliveryMan;
 import org.sparta.deliveryman.domain.entity.ProcessedEvent;
@@ -21,7 +19,6 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -93,10 +90,9 @@ public class DeliverymanAssignHandler {
      * //
      */
     private void assignHubDeliveryManToLogs(UUID deliveryId, UUID hubDeliveryManId) {
-        List<DeliveryLogResponse.Summary> timeline =
-                deliveryLogService.getTimelineByDeliveryId(deliveryId);
+        int assignedCount = deliveryLogService.assignDeliveryManToAll(deliveryId, hubDeliveryManId);
 
-        if (timeline == null || timeline.isEmpty()) {
+        if (assignedCount == 0) {
             log.error("No DeliveryLogs found for deliveryId={} when assigning hub deliveryMan. " +
                             "This indicates data inconsistency - 배송은 존재하지만 배송 로그가 존재하지 않습니다.",
                     deliveryId);
@@ -106,17 +102,7 @@ public class DeliverymanAssignHandler {
             );
         }
 
-        for (DeliveryLogResponse.Summary logSummary : timeline) {
-            DeliveryLogRequest.AssignDeliveryMan assignRequest =
-                    new DeliveryLogRequest.AssignDeliveryMan(hubDeliveryManId);
-
-            deliveryLogService.assignDeliveryMan(logSummary.id(), assignRequest);
-
-            log.debug("DeliveryLog assigned: logId={}, sequence={}, deliveryManId={}, status=HUB_WAITING",
-                    logSummary.id(), logSummary.sequence(), hubDeliveryManId);
-        }
-
         log.info("All DeliveryLogs assigned to hub deliveryMan: deliveryId={}, logCount={}, deliveryManId={}",
-                deliveryId, timeline.size(), hubDeliveryManId);
+                deliveryId, assignedCount, hubDeliveryManId);
     }
 }
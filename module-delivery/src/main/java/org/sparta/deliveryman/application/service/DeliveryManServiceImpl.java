@@ -3,11 +3,15 @@ package org.sparta.deliveryman.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.common.error.BusinessException;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.deliveryman.application.dispatch.DeliveryManDispatcher;
 import org.sparta.deliveryman.domain.entity.DeliveryMan;
 import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
 import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
 import org.sparta.deliveryman.domain.error.DeliveryManErrorType;
+import org.sparta.deliveryman.domain.event.DeliveryManChangedLocalEvent;
 import org.sparta.deliveryman.domain.repository.DeliveryManRepository;
+import org.sparta.deliveryman.infrastructure.config.DeliveryManDispatchProperties;
 import org.sparta.deliveryman.presentation.dto.request.DeliveryManRequest;
 import org.sparta.deliveryman.presentation.dto.response.DeliveryManResponse;
 import org.springframework.stereotype.Service;
@@ -16,6 +20,7 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
@@ -24,7 +29,13 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class DeliveryManServiceImpl implements DeliveryManService {
 
+    // 배정 큐에서 꺼낸 후보가 DB 와 다를 때(다른 인스턴스 배정 등) 풀 재적재 후 다시 시도하는 횟수
+    private static final int MAX_DISPATCH_ATTEMPTS = 2;
+
     private final DeliveryManRepository deliveryManRepository;
+    private final DeliveryManDispatcher dispatcher;
+    private final DeliveryManDispatchProperties dispatchProperties;
+    private final EventPublisher eventPublisher;
 
     // =========================================
     // 1. User 이벤트 기반 생성/수정/삭제
@@ -96,6 +107,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
         }
 
         DeliveryMan saved = deliveryManRepository.save(deliveryMan);
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(saved));
         return DeliveryManResponse.Detail.from(saved);
     }
 
@@ -123,6 +135,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
                 userStatus,
                 hubId
         );
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
         // JPA dirty checking으로 반영
     }
 
@@ -142,6 +155,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
         }
 
         deliveryMan.markDeletedFromUserDeletedEvent();
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
     }
 
     // =========================================
@@ -205,6 +219,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
         }
 
         DeliveryMan saved = deliveryManRepository.save(deliveryMan);
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(saved));
         return DeliveryManResponse.Detail.from(saved);
     }
 
@@ -223,6 +238,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
                 .orElseThrow(() -> new BusinessException(DeliveryManErrorType.ALREADY_SOFT_DELETED));
 
         deliveryMan.changeDeliveryManStatus(newStatus.status());
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
         return DeliveryManResponse.Detail.from(deliveryMan);
     }
 
@@ -241,16 +257,10 @@ public class DeliveryManServiceImpl implements DeliveryManService {
                 TransactionSynchronizationManager.isCurrentTransactionReadOnly()
         );
 
-        // type=HUB, deletedAt IS NULL, sequence ASC 전체 후보
-        List<DeliveryMan> candidates =
-                deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB);
-
-        DeliveryMan selected = selectBestCandidate(candidates); // 담당자 Id 채택
+        DeliveryMan selected = dispatch(DeliveryManType.HUB, null); // 담당자 Id 채택
         if (selected == null) {
             throw new BusinessException(DeliveryManErrorType.NO_HUB_DELIVERY_MAN_AVAILABLE);
         }
-
-        selected.assignForNewDelivery();    // 여기서 DeliveryManStatus 변경 / 배송 건수 증가
         return selected;
     }
 
@@ -261,17 +271,10 @@ public class DeliveryManServiceImpl implements DeliveryManService {
             throw new BusinessException(DeliveryManErrorType.HUB_ID_REQUIRED_FOR_COMPANY);
         }
 
-        List<DeliveryMan> candidates =
-                deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(
-                        hubId, DeliveryManType.COMPANY
-                );
-
-        DeliveryMan selected = selectBestCandidate(candidates);
+        DeliveryMan selected = dispatch(DeliveryManType.COMPANY, hubId);
         if (selected == null) {
             throw new BusinessException(DeliveryManErrorType.NO_COMPANY_DELIVERY_MAN_AVAILABLE);
         }
-
-        selected.assignForNewDelivery();
         return selected;
     }
 
@@ -286,6 +289,7 @@ public class DeliveryManServiceImpl implements DeliveryManService {
                 .orElseThrow(() -> new BusinessException(DeliveryManErrorType.ALREADY_SOFT_DELETED));
 
         deliveryMan.rollbackAssignedDelivery();
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
     }
 
     /**
@@ -303,12 +307,64 @@ public class DeliveryManServiceImpl implements DeliveryManService {
                 .orElseThrow(() -> new BusinessException(DeliveryManErrorType.DELIVERY_MAN_NOT_FOUND));
 
         deliveryMan.rollbackAssignedDelivery(); // 도메인 메서드 호출
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
 
         log.info("DeliveryMan unassigned: deliveryManId={}, newDeliveryCount={}, status={}",
                 deliveryManId, deliveryMan.getDeliveryCount(), deliveryMan.getStatus());
     }
 
 
+    /**
+     * 배송 담당자 선택 + 배정
+     * - 배정 큐(DeliveryManDispatcher)에서 후보를 꺼내고, DB 행을 락으로 다시 읽어 배정 가능 여부 확인
+     * - 락으로 읽은 (status, deliveryCount) 가 큐의 값과 다르면(다른 인스턴스 배정 등) 우선순위가 어긋난 후보이므로 버림
+     * - 큐가 DB 와 어긋났으면 풀을 재적재해 다시 시도, 그래도 안 되면 전체 후보 조회로 선택
+     *
+     * @return 배정 가능한 담당자가 없으면 null
+     */
+    private DeliveryMan dispatch(DeliveryManType type, UUID hubId) {
+        if (dispatchProperties.isEnabled()) {
+            for (int attempt = 0; attempt < MAX_DISPATCH_ATTEMPTS; attempt++) {
+                DeliveryManDispatcher.Reservation reservation = dispatcher.reserve(type, hubId).orElse(null);
+                if (reservation == null) {
+                    break;
+                }
+                DeliveryMan candidate = deliveryManRepository.findWithLockById(reservation.deliveryManId()).orElse(null);
+                if (candidate != null && isAssignable(candidate, type, hubId) && matches(candidate, reservation)) {
+                    return assign(candidate);
+                }
+                log.info("[Dispatch] 배정 큐 후보가 DB 와 다름 - 풀 재적재. deliveryManId={}, type={}, hubId={}",
+                        reservation.deliveryManId(), type, hubId);
+                dispatcher.invalidate(type, hubId);
+            }
+        }
+
+        // type=HUB: deletedAt IS NULL, sequence ASC 전체 후보 / type=COMPANY: 허브별 전체 후보
+        List<DeliveryMan> candidates = type == DeliveryManType.HUB
+                ? deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(type)
+                : deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(hubId, type);
+        DeliveryMan selected = selectBestCandidate(candidates);
+        return selected == null ? null : assign(selected);
+    }
+
+    private DeliveryMan assign(DeliveryMan deliveryMan) {
+        deliveryMan.assignForNewDelivery();    // 여기서 DeliveryManStatus 변경 / 배송 건수 증가
+        eventPublisher.publishLocal(DeliveryManChangedLocalEvent.of(deliveryMan));
+        return deliveryMan;
+    }
+
+    private boolean isAssignable(DeliveryMan deliveryMan, DeliveryManType type, UUID hubId) {
+        return deliveryMan.getType() == type
+                && (type == DeliveryManType.HUB || Objects.equals(deliveryMan.getHubId(), hubId))
+                && (deliveryMan.getStatus() == DeliveryManStatus.WAITING
+                || deliveryMan.getStatus() == DeliveryManStatus.DELIVERING);
+    }
+
+    private boolean matches(DeliveryMan deliveryMan, DeliveryManDispatcher.Reservation reservation) {
+        return deliveryMan.getStatus() == reservation.status()
+                && deliveryMan.getDeliveryCount() == reservation.deliveryCount();
+    }
+
     /**
      * 후보 리스트에서 배정 규칙에 맞게 최적의 배송 담당자 선택
      * - 1순위: status == WAITING 인 사람들 중 sequence ASC (이미 정렬되어 있음)
@@ -0,0 +1,37 @@
+package org.sparta.deliveryman.domain.event;
+
+import org.sparta.common.event.DomainEvent;
+import org.sparta.deliveryman.domain.entity.DeliveryMan;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 배송 담당자 배정 관련 상태 변경 이벤트 _ 배정 큐(DeliveryManDispatcher) 갱신에 사용 됨
+
+public record DeliveryManChangedLocalEvent(
+        UUID deliveryManId,
+        DeliveryManType type,
+        UUID hubId,
+        DeliveryManStatus status,
+        int deliveryCount,
+        int sequence,
+        boolean deleted,
+        UUID eventId,
+        Instant occurredAt
+) implements DomainEvent {
+    public static DeliveryManChangedLocalEvent of(DeliveryMan deliveryMan) {
+        return new DeliveryManChangedLocalEvent(
+                deliveryMan.getId(),
+                deliveryMan.getType(),
+                deliveryMan.getHubId(),
+                deliveryMan.getStatus(),
+                deliveryMan.getDeliveryCount(),
+                deliveryMan.getSequence(),
+                deliveryMan.getDeletedAt() != null,
+                UUID.randomUUID(),
+                Instant.now()
+        );
+    }
+}
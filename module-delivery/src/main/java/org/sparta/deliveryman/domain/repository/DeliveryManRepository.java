@@ -14,6 +14,8 @@ public interface DeliveryManRepository {
 
     Optional<DeliveryMan> findByUserIdAndDeletedAtIsNull(UUID userId);
 
+    Optional<DeliveryMan> findWithLockById(UUID id);
+
     Integer findMaxSequenceByTypeAndDeletedAtIsNull(DeliveryManType type);
 
     Integer findMaxSequenceByHubIdAndTypeAndDeletedAtIsNull(UUID hubId, DeliveryManType type);
@@ -0,0 +1,32 @@
+package org.sparta.deliveryman.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배송 담당자 배정 큐 설정 (DeliveryManDispatcher)
+ *
+ * 예시:
+ * delivery:
+ *   dispatch:
+ *     enabled: true
+ *     max-staleness-millis: 60000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "delivery.dispatch")
+public class DeliveryManDispatchProperties {
+
+    /**
+     * false 면 배정마다 후보 전체를 조회해 선택 (기존 방식)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 큐를 DB 기준으로 다시 적재하는 주기 (다른 인스턴스의 배정/상태 변경 보정)
+     */
+    private long maxStalenessMillis = 60_000;
+}
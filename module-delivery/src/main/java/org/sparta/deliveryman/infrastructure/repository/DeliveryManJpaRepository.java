@@ -1,9 +1,11 @@
 package org.sparta.deliveryman.infrastructure.repository;
 
+import jakarta.persistence.LockModeType;
 import org.sparta.deliveryman.domain.entity.DeliveryMan;
 import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
 import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +19,14 @@ public interface DeliveryManJpaRepository extends JpaRepository<DeliveryMan, UUI
 
     Optional<DeliveryMan> findByUserIdAndDeletedAtIsNull(UUID userId);
 
+    /**
+     * 배정 대상 담당자 조회 (PESSIMISTIC_WRITE 락)
+     * - 같은 담당자를 동시에 배정할 때 deliveryCount 갱신 유실 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DeliveryMan d WHERE d.id = :id AND d.deletedAt IS NULL")
+    Optional<DeliveryMan> findWithLockById(@Param("id") UUID id);
+
     boolean existsByUserIdAndDeletedAtIsNull(UUID userId);
 
     // 타입 기준 max(sequence)
@@ -27,6 +27,11 @@ public class DeliveryManRepositoryImpl implements DeliveryManRepository {
         return jpaRepository.findByUserIdAndDeletedAtIsNull(userId);
     }
 
+    @Override
+    public Optional<DeliveryMan> findWithLockById(UUID id) {
+        return jpaRepository.findWithLockById(id);
+    }
+
     @Override
     public Integer findMaxSequenceByTypeAndDeletedAtIsNull(DeliveryManType type) {
         return jpaRepository.findMaxSequenceByTypeAndDeletedAtIsNull(type);
@@ -0,0 +1,80 @@
+package org.sparta.delivery.application.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.sparta.common.error.BusinessException;
+import org.sparta.delivery.domain.error.DeliveryErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DeliveryCursor 테스트")
+class DeliveryCursorTest {
+
+    @Test
+    @DisplayName("encode 한 커서를 decode 하면 같은 (createdAt, id) 로 돌아온다 (나노초 포함)")
+    void roundTrip() {
+        // given
+        DeliveryCursor cursor = new DeliveryCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_789), UUID.randomUUID());
+
+        // when
+        String encoded = cursor.encode();
+
+        // then
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(DeliveryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0 이라 문자열에서 생략되어도 그대로 복원한다")
+    void roundTripWholeMinute() {
+        // given
+        DeliveryCursor cursor = new DeliveryCursor(LocalDateTime.of(2026, 3, 1, 9, 30), UUID.randomUUID());
+
+        // when & then
+        assertThat(DeliveryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    @DisplayName("비어 있는 커서는 첫 페이지(null)")
+    void blankIsFirstPage(String cursor) {
+        assertThat(DeliveryCursor.decode(cursor)).isNull();
+        assertThat(DeliveryCursor.decode(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-03-01T09:30",                               // 구분자 없음
+            "2026-03-01T09:30|not-a-uuid",                    // id 형식 오류
+            "yesterday|00000000-0000-0000-0000-000000000001", // createdAt 형식 오류
+            "|"
+    })
+    @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR")
+    void malformedPayload(String raw) {
+        // given
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertInvalid(cursor);
+    }
+
+    @Test
+    @DisplayName("Base64 URL 이 아닌 커서는 INVALID_CURSOR")
+    void notBase64() {
+        assertInvalid("%%%not*base64%%%");
+    }
+
+    private void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> DeliveryCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorType())
+                .isEqualTo(DeliveryErrorType.INVALID_CURSOR);
+    }
+}
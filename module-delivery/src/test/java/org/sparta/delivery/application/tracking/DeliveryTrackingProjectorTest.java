@@ -0,0 +1,191 @@
+package org.sparta.delivery.application.tracking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.delivery.domain.entity.Delivery;
+import org.sparta.delivery.domain.entity.DeliveryTracking;
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+import org.sparta.delivery.domain.repository.DeliveryRepository;
+import org.sparta.delivery.domain.repository.DeliveryTrackingRepository;
+import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
+import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
+import org.sparta.deliverylog.domain.repository.DeliveryLogRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeliveryTrackingProjector 테스트")
+class DeliveryTrackingProjectorTest {
+
+    private DeliveryRepository deliveryRepository;
+    private DeliveryLogRepository deliveryLogRepository;
+    private DeliveryTrackingRepository trackingRepository;
+    private DeliveryTrackingProjector projector;
+
+    private final UUID deliveryId = UUID.randomUUID();
+    private final UUID hubA = UUID.randomUUID();
+    private final UUID hubB = UUID.randomUUID();
+    private final UUID hubC = UUID.randomUUID();
+    private final UUID hubD = UUID.randomUUID();
+    private final UUID deliveryManId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        deliveryRepository = mock(DeliveryRepository.class);
+        deliveryLogRepository = mock(DeliveryLogRepository.class);
+        trackingRepository = mock(DeliveryTrackingRepository.class);
+        projector = new DeliveryTrackingProjector(
+                deliveryRepository, deliveryLogRepository, trackingRepository, new ObjectMapper());
+        given(trackingRepository.save(any())).willAnswer(returnsFirstArg());
+    }
+
+    @Test
+    @DisplayName("남은 구간(CREATED/HUB_WAITING/HUB_MOVING)의 예상 시간 합으로 도착 허브 도착 예정 시각을 계산한다")
+    void projectSumsRemainingLegMinutes() {
+        // given - 도착 60분(제외) + 이동 중 90분 + 대기 30분 → 120분
+        Delivery delivery = delivery(DeliveryStatus.HUB_MOVING, LocalDateTime.now());
+        given(deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId)).willReturn(Optional.of(delivery));
+        given(trackingRepository.findById(deliveryId)).willReturn(Optional.empty());
+        given(deliveryLogRepository.findAllByDeliveryIdOrderBySequenceAsc(deliveryId)).willReturn(List.of(
+                arrivedLog(0, hubA, hubB, 60),
+                movingLog(1, hubB, hubC, 90),
+                waitingLog(2, hubC, hubD, 30)
+        ));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        DeliveryTracking tracking = projector.project(deliveryId).orElseThrow();
+        LocalDateTime after = LocalDateTime.now();
+
+        // then
+        assertThat(tracking.getDeliveryId()).isEqualTo(deliveryId);
+        assertThat(tracking.getStatus()).isEqualTo(DeliveryStatus.HUB_MOVING);
+        assertThat(tracking.getSourceUpdatedAt()).isEqualTo(delivery.getUpdatedAt());
+        assertThat(tracking.getEstimatedHubArrivalAt())
+                .isBetween(before.plusMinutes(120), after.plusMinutes(120));
+
+        List<DeliveryResponse.TrackingLeg> legs = projector.legsOf(tracking);
+        assertThat(legs).extracting(DeliveryResponse.TrackingLeg::sequence).containsExactly(0, 1, 2);
+        assertThat(legs).extracting(DeliveryResponse.TrackingLeg::status).containsExactly(
+                DeliveryLogStatus.HUB_ARRIVED, DeliveryLogStatus.HUB_MOVING, DeliveryLogStatus.HUB_WAITING);
+        verify(trackingRepository).save(tracking);
+    }
+
+    @Test
+    @DisplayName("허브 구간이 끝난 배송 상태면 도착 예정 시각은 null")
+    void projectWithoutHubEtaAfterHubLegs() {
+        // given
+        given(deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId))
+                .willReturn(Optional.of(delivery(DeliveryStatus.COMPANY_MOVING, LocalDateTime.now())));
+        given(trackingRepository.findById(deliveryId)).willReturn(Optional.empty());
+        given(deliveryLogRepository.findAllByDeliveryIdOrderBySequenceAsc(deliveryId))
+                .willReturn(List.of(arrivedLog(0, hubA, hubB, 60)));
+
+        // when
+        DeliveryTracking tracking = projector.project(deliveryId).orElseThrow();
+
+        // then
+        assertThat(tracking.getEstimatedHubArrivalAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 더 최신 배송 상태가 반영되어 있으면 이전 스냅샷으로 덮어쓰지 않는다")
+    void projectSkipsOlderSnapshot() {
+        // given
+        LocalDateTime newer = LocalDateTime.of(2026, 3, 1, 10, 0);
+        DeliveryTracking existing = DeliveryTracking.of(
+                delivery(DeliveryStatus.HUB_MOVING, newer), "[]", null, newer);
+        given(trackingRepository.findById(deliveryId)).willReturn(Optional.of(existing));
+        given(deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId))
+                .willReturn(Optional.of(delivery(DeliveryStatus.HUB_WAITING, newer.minusSeconds(1))));
+
+        // when
+        Optional<DeliveryTracking> result = projector.project(deliveryId);
+
+        // then
+        assertThat(result).containsSame(existing);
+        assertThat(existing.getStatus()).isEqualTo(DeliveryStatus.HUB_MOVING);
+        verify(trackingRepository, never()).save(any());
+        verifyNoInteractions(deliveryLogRepository);
+    }
+
+    @Test
+    @DisplayName("기존 조회 모델보다 새 배송 상태면 같은 행을 갱신한다")
+    void projectRefreshesExistingRow() {
+        // given
+        LocalDateTime older = LocalDateTime.of(2026, 3, 1, 10, 0);
+        DeliveryTracking existing = DeliveryTracking.of(
+                delivery(DeliveryStatus.HUB_WAITING, older), "[]", null, older);
+        given(trackingRepository.findById(deliveryId)).willReturn(Optional.of(existing));
+        given(deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId))
+                .willReturn(Optional.of(delivery(DeliveryStatus.HUB_MOVING, older.plusSeconds(1))));
+        given(deliveryLogRepository.findAllByDeliveryIdOrderBySequenceAsc(deliveryId))
+                .willReturn(List.of(movingLog(0, hubA, hubB, 45)));
+
+        // when
+        DeliveryTracking tracking = projector.project(deliveryId).orElseThrow();
+
+        // then
+        assertThat(tracking).isSameAs(existing);
+        assertThat(tracking.getStatus()).isEqualTo(DeliveryStatus.HUB_MOVING);
+        assertThat(tracking.getSourceUpdatedAt()).isEqualTo(older.plusSeconds(1));
+        assertThat(projector.legsOf(tracking)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("배송이 없거나 삭제되었으면 조회 모델을 제거하고 empty")
+    void projectRemovesMissingDelivery() {
+        // given
+        given(deliveryRepository.findByIdAndDeletedAtIsNull(deliveryId)).willReturn(Optional.empty());
+
+        // when
+        Optional<DeliveryTracking> result = projector.project(deliveryId);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(trackingRepository).deleteById(deliveryId);
+        verify(trackingRepository, never()).save(any());
+    }
+
+    // ===== helpers =====
+
+    private Delivery delivery(DeliveryStatus status, LocalDateTime updatedAt) {
+        Delivery delivery = mock(Delivery.class);
+        given(delivery.getId()).willReturn(deliveryId);
+        given(delivery.getOrderId()).willReturn(UUID.randomUUID());
+        given(delivery.getSupplierHubId()).willReturn(hubA);
+        given(delivery.getReceiveHubId()).willReturn(hubD);
+        given(delivery.getStatus()).willReturn(status);
+        given(delivery.getUpdatedAt()).willReturn(updatedAt);
+        return delivery;
+    }
+
+    private DeliveryLog waitingLog(int sequence, UUID source, UUID target, int minutes) {
+        DeliveryLog log = DeliveryLog.create(deliveryId, sequence, source, target, minutes * 1.5, minutes);
+        log.assignDeliveryMan(deliveryManId);
+        return log;
+    }
+
+    private DeliveryLog movingLog(int sequence, UUID source, UUID target, int minutes) {
+        DeliveryLog log = waitingLog(sequence, source, target, minutes);
+        log.markMoving();
+        return log;
+    }
+
+    private DeliveryLog arrivedLog(int sequence, UUID source, UUID target, int minutes) {
+        DeliveryLog log = movingLog(sequence, source, target, minutes);
+        log.markArrived(minutes * 1.5, minutes);
+        return log;
+    }
+}
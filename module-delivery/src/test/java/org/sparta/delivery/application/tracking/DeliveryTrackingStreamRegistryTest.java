@@ -0,0 +1,229 @@
+package org.sparta.delivery.application.tracking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.error.BusinessException;
+import org.sparta.delivery.application.tracking.DeliveryTrackingStreamRegistry.Scope;
+import org.sparta.delivery.domain.enumeration.DeliveryStatus;
+import org.sparta.delivery.domain.error.DeliveryErrorType;
+import org.sparta.delivery.infrastructure.config.DeliveryTrackingStreamProperties;
+import org.sparta.delivery.infrastructure.event.publisher.DeliveryTrackingChangedEvent;
+import org.sparta.delivery.presentation.dto.response.DeliveryResponse;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실시간 배송 추적 구독 레지스트리 검증
+ * - 전송 스레드 풀 대신 작업을 모아 두는 Executor 로 전송 시점을 직접 제어한다
+ * - SseEmitter 는 보낸 이벤트를 기록하는 emitter 로 대체
+ */
+@DisplayName("DeliveryTrackingStreamRegistry 테스트")
+class DeliveryTrackingStreamRegistryTest {
+
+    private DeliveryTrackingStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private final Deque<Runnable> sendTasks = new ArrayDeque<>();
+    private DeliveryTrackingStreamRegistry registry;
+
+    private final UUID supplierHubId = UUID.randomUUID();
+    private final UUID receiveHubId = UUID.randomUUID();
+    private final UUID viaHubId = UUID.randomUUID();
+    private final UUID receiveCompanyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeliveryTrackingStreamProperties();
+        properties.setBufferSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new DeliveryTrackingStreamRegistry(properties, sendTasks::add, meterRegistry) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(timeoutMillis);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("전송 전 같은 배송 갱신이 여러 번 오면 최신 스냅샷 1건만 보낸다")
+    void bufferKeepsLatestSnapshotPerDelivery() {
+        // given
+        UUID deliveryId = UUID.randomUUID();
+        RecordingEmitter emitter = subscribe(Scope.DELIVERY, deliveryId);
+
+        // when
+        registry.publish(event(deliveryId, DeliveryStatus.HUB_WAITING));
+        registry.publish(event(deliveryId, DeliveryStatus.HUB_MOVING));
+        int scheduled = sendTasks.size();
+        runSendTasks();
+
+        // then
+        assertThat(scheduled).isEqualTo(1);
+        assertThat(emitter.trackings()).extracting(DeliveryResponse.Tracking::status)
+                .containsExactly(DeliveryStatus.HUB_MOVING);
+    }
+
+    @Test
+    @DisplayName("경유 허브 / 수령 업체 구독자에게 전달하고 관계없는 허브 구독자에게는 보내지 않는다")
+    void publishRoutesToMatchingSubscribers() {
+        // given
+        RecordingEmitter viaHub = subscribe(Scope.HUB, viaHubId);
+        RecordingEmitter company = subscribe(Scope.COMPANY, receiveCompanyId);
+        RecordingEmitter unrelated = subscribe(Scope.HUB, UUID.randomUUID());
+
+        // when
+        registry.publish(event(UUID.randomUUID(), DeliveryStatus.HUB_MOVING));
+        runSendTasks();
+
+        // then
+        assertThat(viaHub.trackings()).hasSize(1);
+        assertThat(company.trackings()).hasSize(1);
+        assertThat(unrelated.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미전송 배송 수가 buffer-size 를 넘는 느린 구독자는 연결을 닫고 구독 해제한다")
+    void slowSubscriberIsClosed() {
+        // given - buffer-size 2, 전송 작업을 실행하지 않아 버퍼가 쌓임
+        RecordingEmitter slow = subscribe(Scope.HUB, supplierHubId);
+        assertThat(subscriberGauge()).isEqualTo(1.0);
+
+        // when
+        registry.publish(event(UUID.randomUUID(), DeliveryStatus.HUB_MOVING));
+        registry.publish(event(UUID.randomUUID(), DeliveryStatus.HUB_MOVING));
+        registry.publish(event(UUID.randomUUID(), DeliveryStatus.HUB_MOVING));
+        runSendTasks();
+
+        // then
+        assertThat(slow.completed).isTrue();
+        assertThat(slow.sent).isEmpty();
+        assertThat(subscriberGauge()).isZero();
+
+        // when - 해제된 뒤 들어온 갱신은 전송 작업도 만들지 않음
+        registry.publish(event(UUID.randomUUID(), DeliveryStatus.HUB_MOVING));
+
+        // then
+        assertThat(sendTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 보낼 데이터가 없을 때만 주석 1건으로 전송된다")
+    void heartbeatDrains() {
+        // given
+        UUID deliveryId = UUID.randomUUID();
+        RecordingEmitter emitter = subscribe(Scope.DELIVERY, deliveryId);
+
+        // when - 데이터 없음
+        registry.heartbeat();
+        registry.heartbeat();
+        runSendTasks();
+
+        // then
+        assertThat(emitter.sent).hasSize(1);
+        assertThat(emitter.trackings()).isEmpty();
+
+        // when - 전송 전에 데이터가 들어오면 데이터가 heartbeat 를 대신함
+        registry.heartbeat();
+        registry.publish(event(deliveryId, DeliveryStatus.HUB_MOVING));
+        runSendTasks();
+
+        // then
+        assertThat(emitter.sent).hasSize(2);
+        assertThat(emitter.trackings()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 상태를 보내고, 구독자 수 상한을 넘으면 TRACKING_STREAM_UNAVAILABLE")
+    void subscribeSendsInitialAndEnforcesLimit() {
+        // given
+        properties.setMaxSubscribers(1);
+        UUID deliveryId = UUID.randomUUID();
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) registry.subscribe(
+                Scope.DELIVERY, deliveryId, tracking(deliveryId, DeliveryStatus.HUB_WAITING));
+        runSendTasks();
+
+        // then
+        assertThat(emitter.trackings()).extracting(DeliveryResponse.Tracking::deliveryId).containsExactly(deliveryId);
+        assertThatThrownBy(() -> registry.subscribe(Scope.DELIVERY, deliveryId, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorType())
+                .isEqualTo(DeliveryErrorType.TRACKING_STREAM_UNAVAILABLE);
+        assertThat(subscriberGauge()).isEqualTo(1.0);
+    }
+
+    // ===== helpers =====
+
+    private RecordingEmitter subscribe(Scope scope, UUID targetId) {
+        return (RecordingEmitter) registry.subscribe(scope, targetId, null);
+    }
+
+    private void runSendTasks() {
+        Runnable task;
+        while ((task = sendTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private double subscriberGauge() {
+        return meterRegistry.get("delivery.tracking.stream.subscribers").gauge().value();
+    }
+
+    private DeliveryTrackingChangedEvent event(UUID deliveryId, DeliveryStatus status) {
+        return new DeliveryTrackingChangedEvent(deliveryId, supplierHubId, receiveHubId,
+                UUID.randomUUID(), receiveCompanyId, tracking(deliveryId, status), UUID.randomUUID(), Instant.now());
+    }
+
+    private DeliveryResponse.Tracking tracking(UUID deliveryId, DeliveryStatus status) {
+        List<DeliveryResponse.TrackingLeg> legs = List.of(
+                new DeliveryResponse.TrackingLeg(0, supplierHubId, viaHubId, DeliveryLogStatus.HUB_MOVING,
+                        null, 100.0, 60, null, null),
+                new DeliveryResponse.TrackingLeg(1, viaHubId, receiveHubId, DeliveryLogStatus.HUB_WAITING,
+                        null, 80.0, 50, null, null));
+        return new DeliveryResponse.Tracking(deliveryId, UUID.randomUUID(), status, 0, 2,
+                null, null, null, legs, LocalDateTime.now());
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> sent = new ArrayList<>();
+        private boolean completed;
+
+        RecordingEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<DeliveryResponse.Tracking> trackings() {
+            return sent.stream()
+                    .flatMap(Set::stream)
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(DeliveryResponse.Tracking.class::isInstance)
+                    .map(DeliveryResponse.Tracking.class::cast)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.sparta.delivery.infrastructure.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.api.ApiResponse;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient.RoutePlanBatchRequest;
+import org.sparta.delivery.infrastructure.client.HubRouteFeignClient.RoutePlanBatchResponse;
+import org.sparta.delivery.infrastructure.config.HubRouteBatchProperties;
+import org.sparta.delivery.presentation.dto.response.HubLegResponse;
+import org.sparta.delivery.presentation.dto.response.RoutePlanResponse;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HubRouteBatchClient 테스트")
+class HubRouteBatchClientTest {
+
+    private HubRouteFeignClient feignClient;
+    private HubRouteBatchProperties properties;
+    private HubRouteBatchClient client;
+
+    private final UUID seoul = UUID.randomUUID();
+    private final UUID daejeon = UUID.randomUUID();
+    private final UUID busan = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        feignClient = mock(HubRouteFeignClient.class);
+        properties = new HubRouteBatchProperties();
+        properties.setWindowMillis(200);
+        properties.setTimeoutMillis(5_000);
+        properties.setSenderThreads(2);
+        client = new HubRouteBatchClient(feignClient, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 window 안의 같은 허브 쌍 요청은 일괄 호출 1회로 합쳐 결과를 공유한다")
+    void coalescesSamePairIntoOneCall() throws Exception {
+        // given
+        respondWith(pair -> planned(pair.sourceHubId(), pair.targetHubId()));
+
+        // when
+        CompletableFuture<List<HubLegResponse>> first = async(seoul, busan);
+        CompletableFuture<List<HubLegResponse>> second = async(seoul, busan);
+
+        // then
+        assertThat(first.get(3, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(second.get(3, TimeUnit.SECONDS)).isEqualTo(first.get());
+        verify(feignClient, times(1)).planRoutes(argThat(request -> request.pairs().size() == 1));
+        verifyNoMoreInteractions(feignClient);
+    }
+
+    @Test
+    @DisplayName("NO_ROUTE 항목만 빈 구간 목록으로 반환한다")
+    void noRouteReturnsEmptyLegs() {
+        // given
+        respondWith(pair -> failed(pair, RoutePlanBatchResponse.Item.NO_ROUTE, "200km 내 경유 후보 허브가 없습니다."));
+
+        // when
+        List<HubLegResponse> legs = client.getRouteLegs(seoul, busan);
+
+        // then
+        assertThat(legs).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NO_ROUTE 가 아닌 항목 오류는 빈 구간 대신 예외로 전달한다")
+    void otherItemErrorThrows() {
+        // given
+        respondWith(pair -> failed(pair, "INVALID_PAIR", "도착 허브를 찾을 수 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> client.getRouteLegs(seoul, busan))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("INVALID_PAIR")
+                .hasMessageContaining("도착 허브를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("일괄 호출 자체가 실패하면 배치의 모든 호출자에게 같은 예외를 전달한다")
+    void batchFailurePropagatesToAllCallers() {
+        // given
+        RuntimeException failure = new RuntimeException("hub-service unavailable");
+        given(feignClient.planRoutes(any())).willThrow(failure);
+
+        // when
+        CompletableFuture<List<HubLegResponse>> first = async(seoul, busan);
+        CompletableFuture<List<HubLegResponse>> second = async(daejeon, busan);
+
+        // then
+        assertThatThrownBy(() -> first.get(3, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> second.get(3, TimeUnit.SECONDS)).hasCause(failure);
+        verify(feignClient, times(1)).planRoutes(argThat(request -> request.pairs().size() == 2));
+        verifyNoMoreInteractions(feignClient);
+    }
+
+    @Test
+    @DisplayName("느린 일괄 호출이 진행 중이어도 다음 배치는 기다리지 않고 전송한다")
+    void slowBatchDoesNotBlockNextBatch() throws Exception {
+        // given - 배치당 1쌍, 서울→부산 호출은 release 전까지 응답하지 않음
+        properties.setMaxBatchSize(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(feignClient.planRoutes(any())).willAnswer(invocation -> {
+            RoutePlanBatchRequest request = invocation.getArgument(0);
+            RoutePlanBatchRequest.Pair pair = request.pairs().get(0);
+            if (pair.sourceHubId().equals(seoul)) {
+                release.await(3, TimeUnit.SECONDS);
+            }
+            return ApiResponse.success(new RoutePlanBatchResponse(
+                    List.of(planned(pair.sourceHubId(), pair.targetHubId()))));
+        });
+
+        // when
+        CompletableFuture<List<HubLegResponse>> slow = async(seoul, busan);
+        verify(feignClient, timeout(1_000)).planRoutes(any());
+        CompletableFuture<List<HubLegResponse>> fast = async(daejeon, busan);
+
+        // then
+        assertThat(fast.get(1, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(slow).isNotDone();
+
+        release.countDown();
+        assertThat(slow.get(3, TimeUnit.SECONDS)).hasSize(1);
+    }
+
+    // ===== helpers =====
+
+    private CompletableFuture<List<HubLegResponse>> async(UUID sourceHubId, UUID targetHubId) {
+        return CompletableFuture.supplyAsync(() -> client.getRouteLegs(sourceHubId, targetHubId));
+    }
+
+    private void respondWith(Function<RoutePlanBatchRequest.Pair, RoutePlanBatchResponse.Item> itemOf) {
+        given(feignClient.planRoutes(any())).willAnswer(invocation -> {
+            RoutePlanBatchRequest request = invocation.getArgument(0);
+            return ApiResponse.success(new RoutePlanBatchResponse(
+                    request.pairs().stream().map(itemOf).toList()));
+        });
+    }
+
+    private RoutePlanBatchResponse.Item planned(UUID sourceHubId, UUID targetHubId) {
+        RoutePlanResponse plan = new RoutePlanResponse(sourceHubId, targetHubId, 120, 90,
+                List.of(new RoutePlanResponse.RouteLeg(sourceHubId, targetHubId, 120.0, 90)));
+        return new RoutePlanBatchResponse.Item(sourceHubId, targetHubId, plan, null, null);
+    }
+
+    private RoutePlanBatchResponse.Item failed(RoutePlanBatchRequest.Pair pair, String code, String error) {
+        return new RoutePlanBatchResponse.Item(pair.sourceHubId(), pair.targetHubId(), null, code, error);
+    }
+}
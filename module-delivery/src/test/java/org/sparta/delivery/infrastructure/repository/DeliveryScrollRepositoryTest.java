@@ -0,0 +1,148 @@
+package org.sparta.delivery.infrastructure.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.delivery.domain.entity.Delivery;
+import org.sparta.delivery.domain.repository.DeliveryRepository;
+import org.sparta.delivery.domain.repository.DeliverySummaryRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 배송 커서(keyset) 검색 검증
+ * - createdAt 이 같은 행은 id 로 순서를 정해 페이지 경계에서 빠지거나 중복되지 않아야 한다
+ * - DeliveryApplication 의 Feign/스케줄러 설정 없이 배송 JPA 구성만 올린다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Delivery 커서 검색 Repository 테스트")
+class DeliveryScrollRepositoryTest {
+
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = Delivery.class)
+    @EnableJpaRepositories(basePackageClasses = DeliveryJpaRepository.class)
+    @Import(DeliveryRepositoryImpl.class)
+    static class Config {
+    }
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // createdAt 이 같은 배송 3건 + 앞뒤 시각 배송 1건씩
+        saveAt(SAME_TIME.minusMinutes(1));
+        saveAt(SAME_TIME);
+        saveAt(SAME_TIME);
+        saveAt(SAME_TIME);
+        saveAt(SAME_TIME.plusMinutes(1));
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("ASC: createdAt 이 같은 행이 페이지 경계에 걸려도 id 순으로 빠짐/중복 없이 이어진다")
+    void scrollAscendingBreaksTiesById() {
+        // when
+        List<UUID> scrolled = scrollAll(Sort.Direction.ASC, 2);
+
+        // then
+        assertThat(scrolled).containsExactlyElementsOf(expectedOrder(Sort.Direction.ASC));
+    }
+
+    @Test
+    @DisplayName("DESC: createdAt 이 같은 행은 id 역순으로 이어진다")
+    void scrollDescendingBreaksTiesById() {
+        // when
+        List<UUID> scrolled = scrollAll(Sort.Direction.DESC, 2);
+
+        // then
+        assertThat(scrolled).containsExactlyElementsOf(expectedOrder(Sort.Direction.DESC));
+    }
+
+    @Test
+    @DisplayName("커서가 같은 시각 행 중간을 가리키면 그 id 다음 행부터 읽는다")
+    void scrollStartsAfterCursorWithinSameCreatedAt() {
+        // given
+        List<UUID> expected = expectedOrder(Sort.Direction.ASC);
+        UUID cursorId = expected.get(2); // 같은 시각 3건 중 두 번째
+
+        // when
+        List<DeliverySummaryRow> page = deliveryRepository.scroll(
+                null, null, null, Sort.Direction.ASC, SAME_TIME, cursorId, 10);
+
+        // then
+        assertThat(page).extracting(DeliverySummaryRow::id).containsExactlyElementsOf(expected.subList(3, 5));
+    }
+
+    // ===== helpers =====
+
+    private List<UUID> scrollAll(Sort.Direction direction, int size) {
+        List<UUID> ids = new ArrayList<>();
+        LocalDateTime afterCreatedAt = null;
+        UUID afterId = null;
+        while (true) {
+            List<DeliverySummaryRow> page = deliveryRepository.scroll(
+                    null, null, null, direction, afterCreatedAt, afterId, size);
+            page.forEach(row -> ids.add(row.id()));
+            if (page.size() < size) {
+                return ids;
+            }
+            DeliverySummaryRow last = page.get(page.size() - 1);
+            afterCreatedAt = last.createdAt();
+            afterId = last.id();
+        }
+    }
+
+    // DB 의 uuid 비교는 부호 없는 바이트 순서 → 문자열 비교와 같음 (UUID.compareTo 는 부호 있는 long 비교)
+    private List<UUID> expectedOrder(Sort.Direction direction) {
+        Comparator<Row> order = Comparator.comparing(Row::createdAt)
+                .thenComparing(row -> row.id().toString());
+        return rows.stream()
+                .sorted(direction == Sort.Direction.DESC ? order.reversed() : order)
+                .map(Row::id)
+                .toList();
+    }
+
+    private void saveAt(LocalDateTime createdAt) {
+        Delivery delivery = entityManager.persistAndFlush(Delivery.createFromOrderApproved(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), "서울특별시 강남구 테헤란로 123", "홍길동",
+                "@홍길동", "010-1234-5678", SAME_TIME.plusDays(1), null, 2));
+        jdbcTemplate.update("update p_deliveries set created_at = ? where id = ?",
+                Timestamp.valueOf(createdAt), delivery.getId());
+        rows.add(new Row(delivery.getId(), createdAt));
+    }
+
+    private record Row(UUID id, LocalDateTime createdAt) {
+    }
+}
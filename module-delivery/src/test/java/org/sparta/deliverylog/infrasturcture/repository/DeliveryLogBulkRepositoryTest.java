@@ -0,0 +1,147 @@
+package org.sparta.deliverylog.infrasturcture.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.deliverylog.domain.entity.DeliveryLog;
+import org.sparta.deliverylog.domain.enumeration.DeliveryLogStatus;
+import org.sparta.deliverylog.domain.repository.DeliveryLogRepository;
+import org.sparta.deliverylog.infrastructure.jdbc.DeliveryLogBulkWriter;
+import org.sparta.deliverylog.infrastructure.repository.DeliveryLogJpaRepository;
+import org.sparta.deliverylog.infrastructure.repository.DeliveryLogRepositoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 배송 로그 일괄 생성(DeliveryLogBulkWriter) / 담당자 일괄 배정(assignDeliveryManToAll) 검증
+ * - DeliveryApplication 의 Feign/스케줄러 설정 없이 배송 로그 JPA 구성만 올린다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("DeliveryLog 일괄 처리 Repository 테스트")
+class DeliveryLogBulkRepositoryTest {
+
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = DeliveryLog.class)
+    @EnableJpaRepositories(basePackageClasses = DeliveryLogJpaRepository.class)
+    @Import({DeliveryLogRepositoryImpl.class, DeliveryLogBulkWriter.class})
+    static class Config {
+    }
+
+    @Autowired
+    private DeliveryLogRepository deliveryLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID hubA = UUID.randomUUID();
+    private final UUID hubB = UUID.randomUUID();
+    private final UUID hubC = UUID.randomUUID();
+
+    @Test
+    @DisplayName("insertAll: 엔티티 매핑과 같은 컬럼으로 INSERT 되어 JPA 조회로 그대로 읽힌다")
+    void insertAll_matchesEntityMapping() {
+        // given
+        UUID deliveryId = UUID.randomUUID();
+        List<DeliveryLog> logs = List.of(
+                DeliveryLog.create(deliveryId, 0, hubA, hubB, 120.5, 90),
+                DeliveryLog.create(deliveryId, 1, hubB, hubC, 80.0, 60)
+        );
+
+        // when
+        deliveryLogRepository.insertAll(logs);
+        entityManager.clear();
+
+        // then
+        List<DeliveryLog> saved = deliveryLogRepository.findAllByDeliveryIdOrderBySequenceAsc(deliveryId);
+        assertThat(saved).hasSize(2);
+        assertThat(saved).extracting(DeliveryLog::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(saved).extracting(DeliveryLog::getSequence).containsExactly(0, 1);
+        assertThat(saved).extracting(DeliveryLog::getSourceHubId).containsExactly(hubA, hubB);
+        assertThat(saved).extracting(DeliveryLog::getTargetHubId).containsExactly(hubB, hubC);
+        assertThat(saved).extracting(DeliveryLog::getEstimatedKm).containsExactly(120.5, 80.0);
+        assertThat(saved).extracting(DeliveryLog::getEstimatedMinutes).containsExactly(90, 60);
+        assertThat(saved).extracting(DeliveryLog::getStatus)
+                .containsOnly(DeliveryLogStatus.CREATED);
+        assertThat(saved).allSatisfy(log -> {
+            assertThat(log.getCreatedAt()).isNotNull();
+            assertThat(log.getUpdatedAt()).isNotNull();
+            assertThat(log.getDeletedAt()).isNull();
+            assertThat(log.getDeliveryManId()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("insertAll: 빈 목록이면 아무것도 저장하지 않는다")
+    void insertAll_empty() {
+        // when
+        deliveryLogRepository.insertAll(List.of());
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from p_delivery_logs", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("assignDeliveryManToAll: 해당 배송의 삭제되지 않은 CREATED 로그만 HUB_WAITING 으로 바꾸고 건수를 반환한다")
+    void assignDeliveryManToAll_onlyCreated() {
+        // given
+        UUID deliveryId = UUID.randomUUID();
+        UUID otherDeliveryId = UUID.randomUUID();
+        UUID previousManId = UUID.randomUUID();
+        UUID deliveryManId = UUID.randomUUID();
+
+        deliveryLogRepository.insertAll(List.of(
+                DeliveryLog.create(deliveryId, 0, hubA, hubB, 100.0, 60),
+                DeliveryLog.create(deliveryId, 1, hubB, hubC, 100.0, 60),
+                DeliveryLog.create(otherDeliveryId, 0, hubA, hubC, 100.0, 60)
+        ));
+
+        DeliveryLog alreadyAssigned = DeliveryLog.create(deliveryId, 2, hubC, hubA, 100.0, 60);
+        alreadyAssigned.assignDeliveryMan(previousManId);
+        entityManager.persist(alreadyAssigned);
+
+        DeliveryLog deleted = DeliveryLog.create(deliveryId, 3, hubA, hubC, 100.0, 60);
+        deleted.markAsDeleted();
+        entityManager.persist(deleted);
+
+        // when
+        int assigned = deliveryLogRepository.assignDeliveryManToAll(deliveryId, deliveryManId);
+
+        // then
+        assertThat(assigned).isEqualTo(2);
+        assertThat(rowsOf(deliveryId))
+                .extracting(row -> row.get("SEQUENCE"), row -> row.get("STATUS"), row -> row.get("DELIVERY_MAN_ID"))
+                .containsExactly(
+                        tuple(0, "HUB_WAITING", deliveryManId),
+                        tuple(1, "HUB_WAITING", deliveryManId),
+                        tuple(2, "HUB_WAITING", previousManId),
+                        tuple(3, "CREATED", null)
+                );
+        assertThat(rowsOf(otherDeliveryId))
+                .extracting(row -> row.get("STATUS"), row -> row.get("DELIVERY_MAN_ID"))
+                .containsExactly(tuple("CREATED", null));
+    }
+
+    private List<Map<String, Object>> rowsOf(UUID deliveryId) {
+        return jdbcTemplate.queryForList(
+                "select sequence, status, delivery_man_id from p_delivery_logs where delivery_id = ? order by sequence",
+                deliveryId);
+    }
+}
@@ -0,0 +1,160 @@
+package org.sparta.deliveryman.application.dispatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.deliveryman.application.dispatch.DeliveryManDispatcher.Reservation;
+import org.sparta.deliveryman.domain.entity.DeliveryMan;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
+import org.sparta.deliveryman.domain.event.DeliveryManChangedLocalEvent;
+import org.sparta.deliveryman.domain.repository.DeliveryManRepository;
+import org.sparta.deliveryman.infrastructure.config.DeliveryManDispatchProperties;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeliveryManDispatcher 테스트")
+class DeliveryManDispatcherTest {
+
+    private DeliveryManRepository deliveryManRepository;
+    private DeliveryManDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        deliveryManRepository = mock(DeliveryManRepository.class);
+        DeliveryManDispatchProperties properties = new DeliveryManDispatchProperties();
+        properties.setMaxStalenessMillis(60_000);
+        dispatcher = new DeliveryManDispatcher(deliveryManRepository, properties);
+    }
+
+    @Test
+    @DisplayName("WAITING(sequence 순) → DELIVERING(deliveryCount, sequence 순)으로 꺼내고, 꺼낸 담당자는 배정 후 상태로 다시 넣는다")
+    void reservesInPriorityOrderAndPutsBack() {
+        // given
+        DeliveryMan waitingSeq2 = deliveryMan(DeliveryManStatus.WAITING, 0, 2);
+        DeliveryMan waitingSeq1 = deliveryMan(DeliveryManStatus.WAITING, 0, 1);
+        DeliveryMan deliveringCount2 = deliveryMan(DeliveryManStatus.DELIVERING, 2, 0);
+        DeliveryMan deliveringCount1 = deliveryMan(DeliveryManStatus.DELIVERING, 1, 5);
+        DeliveryMan offline = deliveryMan(DeliveryManStatus.OFFLINE, 0, 0);
+        given(deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB))
+                .willReturn(List.of(offline, deliveringCount2, waitingSeq1, waitingSeq2, deliveringCount1));
+
+        // when
+        Reservation first = reserveHub();
+        Reservation second = reserveHub();
+        Reservation third = reserveHub();
+        Reservation fourth = reserveHub();
+
+        // then - 배정된 WAITING 담당자는 DELIVERING(count 1) 으로 돌아가 sequence 가 작은 순으로 다시 선택됨
+        assertThat(first).isEqualTo(new Reservation(waitingSeq1.getId(), DeliveryManStatus.WAITING, 0));
+        assertThat(second).isEqualTo(new Reservation(waitingSeq2.getId(), DeliveryManStatus.WAITING, 0));
+        assertThat(third).isEqualTo(new Reservation(waitingSeq1.getId(), DeliveryManStatus.DELIVERING, 1));
+        assertThat(fourth).isEqualTo(new Reservation(waitingSeq2.getId(), DeliveryManStatus.DELIVERING, 1));
+        verify(deliveryManRepository, times(1)).findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB);
+    }
+
+    @Test
+    @DisplayName("배정 가능한 담당자가 없으면 empty")
+    void reserveReturnsEmptyWithoutCandidates() {
+        // given
+        UUID hubId = UUID.randomUUID();
+        given(deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(hubId, DeliveryManType.COMPANY))
+                .willReturn(List.of(deliveryMan(DeliveryManStatus.OFFLINE, 0, 1)));
+
+        // when
+        Optional<Reservation> reservation = dispatcher.reserve(DeliveryManType.COMPANY, hubId);
+
+        // then
+        assertThat(reservation).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배정 트랜잭션이 롤백되면 풀을 DB 기준으로 다시 적재한다")
+    void rollbackInvalidatesPool() {
+        // given
+        DeliveryMan waiting = deliveryMan(DeliveryManStatus.WAITING, 0, 1);
+        DeliveryMan delivering = deliveryMan(DeliveryManStatus.DELIVERING, 3, 2);
+        given(deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB))
+                .willReturn(List.of(waiting, delivering));
+        Reservation reserved = reserveHub();
+
+        // when - 배정 후 상태(DELIVERING, 1)가 커밋되지 않음
+        dispatcher.onRolledBack(event(waiting.getId(), DeliveryManType.HUB, null, DeliveryManStatus.DELIVERING, 1, 1));
+        Reservation afterRollback = reserveHub();
+
+        // then
+        assertThat(reserved).isEqualTo(new Reservation(waiting.getId(), DeliveryManStatus.WAITING, 0));
+        assertThat(afterRollback).isEqualTo(reserved);
+        verify(deliveryManRepository, times(2)).findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB);
+    }
+
+    @Test
+    @DisplayName("COMPANY 담당자의 허브가 바뀌면 이전 허브 풀에서 빠지고 새 허브 풀에 들어간다")
+    void movesAcrossPoolsOnHubChange() {
+        // given
+        UUID hubA = UUID.randomUUID();
+        UUID hubB = UUID.randomUUID();
+        DeliveryMan moving = deliveryMan(DeliveryManStatus.WAITING, 0, 1);
+        DeliveryMan stayingInB = deliveryMan(DeliveryManStatus.DELIVERING, 4, 1);
+        given(deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(hubA, DeliveryManType.COMPANY))
+                .willReturn(List.of(moving));
+        given(deliveryManRepository.findAllByHubIdAndTypeAndDeletedAtIsNullOrderBySequenceAsc(hubB, DeliveryManType.COMPANY))
+                .willReturn(List.of(stayingInB));
+        dispatcher.reserve(DeliveryManType.COMPANY, hubA);
+        dispatcher.reserve(DeliveryManType.COMPANY, hubB);
+
+        // when
+        dispatcher.onChanged(event(moving.getId(), DeliveryManType.COMPANY, hubB, DeliveryManStatus.WAITING, 0, 1));
+
+        // then
+        assertThat(dispatcher.reserve(DeliveryManType.COMPANY, hubA)).isEmpty();
+        assertThat(dispatcher.reserve(DeliveryManType.COMPANY, hubB))
+                .contains(new Reservation(moving.getId(), DeliveryManStatus.WAITING, 0));
+    }
+
+    @Test
+    @DisplayName("배정할 수 없는 상태로 바뀐 담당자는 풀에서 제거한다")
+    void removesUnassignableOnChange() {
+        // given
+        DeliveryMan goingOffline = deliveryMan(DeliveryManStatus.WAITING, 0, 1);
+        DeliveryMan other = deliveryMan(DeliveryManStatus.DELIVERING, 2, 2);
+        given(deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB))
+                .willReturn(List.of(goingOffline, other));
+        reserveHub();
+
+        // when
+        dispatcher.onChanged(event(goingOffline.getId(), DeliveryManType.HUB, null, DeliveryManStatus.OFFLINE, 1, 1));
+
+        // then
+        assertThat(reserveHub()).isEqualTo(new Reservation(other.getId(), DeliveryManStatus.DELIVERING, 2));
+        assertThat(reserveHub()).isEqualTo(new Reservation(other.getId(), DeliveryManStatus.DELIVERING, 3));
+    }
+
+    // ===== helpers =====
+
+    private Reservation reserveHub() {
+        return dispatcher.reserve(DeliveryManType.HUB, null).orElseThrow();
+    }
+
+    private DeliveryMan deliveryMan(DeliveryManStatus status, int deliveryCount, int sequence) {
+        DeliveryMan deliveryMan = mock(DeliveryMan.class);
+        given(deliveryMan.getId()).willReturn(UUID.randomUUID());
+        given(deliveryMan.getStatus()).willReturn(status);
+        given(deliveryMan.getDeliveryCount()).willReturn(deliveryCount);
+        given(deliveryMan.getSequence()).willReturn(sequence);
+        return deliveryMan;
+    }
+
+    private DeliveryManChangedLocalEvent event(UUID deliveryManId, DeliveryManType type, UUID hubId,
+                                               DeliveryManStatus status, int deliveryCount, int sequence) {
+        return new DeliveryManChangedLocalEvent(deliveryManId, type, hubId, status, deliveryCount, sequence,
+                false, UUID.randomUUID(), Instant.now());
+    }
+}
@@ -0,0 +1,111 @@
+package org.sparta.deliveryman.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.deliveryman.application.dispatch.DeliveryManDispatcher;
+import org.sparta.deliveryman.application.dispatch.DeliveryManDispatcher.Reservation;
+import org.sparta.deliveryman.domain.entity.DeliveryMan;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManStatus;
+import org.sparta.deliveryman.domain.enumeration.DeliveryManType;
+import org.sparta.deliveryman.domain.repository.DeliveryManRepository;
+import org.sparta.deliveryman.infrastructure.config.DeliveryManDispatchProperties;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeliveryManServiceImpl 배정 큐 경로 (큐 후보를 DB 행으로 다시 확인)
+ */
+@DisplayName("DeliveryManServiceImpl 배정 테스트")
+class DeliveryManDispatchServiceTest {
+
+    private DeliveryManRepository deliveryManRepository;
+    private DeliveryManDispatcher dispatcher;
+    private EventPublisher eventPublisher;
+    private DeliveryManServiceImpl deliveryManService;
+
+    @BeforeEach
+    void setUp() {
+        deliveryManRepository = mock(DeliveryManRepository.class);
+        dispatcher = mock(DeliveryManDispatcher.class);
+        eventPublisher = mock(EventPublisher.class);
+        deliveryManService = new DeliveryManServiceImpl(
+                deliveryManRepository, dispatcher, new DeliveryManDispatchProperties(), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("락으로 읽은 상태가 큐와 같으면 그 후보를 배정한다")
+    void assignsMatchingCandidate() {
+        // given
+        DeliveryMan candidate = hubDeliveryMan(DeliveryManStatus.DELIVERING, 2);
+        given(dispatcher.reserve(DeliveryManType.HUB, null))
+                .willReturn(Optional.of(new Reservation(candidate.getId(), DeliveryManStatus.DELIVERING, 2)));
+        given(deliveryManRepository.findWithLockById(candidate.getId())).willReturn(Optional.of(candidate));
+
+        // when
+        DeliveryMan assigned = deliveryManService.assignHubDeliveryMan();
+
+        // then
+        assertThat(assigned).isSameAs(candidate);
+        verify(candidate).assignForNewDelivery();
+        verify(dispatcher, never()).invalidate(any(), any());
+    }
+
+    @Test
+    @DisplayName("락으로 읽은 (status, deliveryCount) 가 큐와 다르면 후보를 버리고 풀 재적재 후 다시 시도한다")
+    void rejectsStaleCandidateAndRetries() {
+        // given - 큐는 WAITING/0 으로 알고 있지만 다른 인스턴스가 이미 배정해 DB 는 DELIVERING/1
+        DeliveryMan stale = hubDeliveryMan(DeliveryManStatus.DELIVERING, 1);
+        DeliveryMan fresh = hubDeliveryMan(DeliveryManStatus.WAITING, 0);
+        given(dispatcher.reserve(DeliveryManType.HUB, null)).willReturn(
+                Optional.of(new Reservation(stale.getId(), DeliveryManStatus.WAITING, 0)),
+                Optional.of(new Reservation(fresh.getId(), DeliveryManStatus.WAITING, 0)));
+        given(deliveryManRepository.findWithLockById(stale.getId())).willReturn(Optional.of(stale));
+        given(deliveryManRepository.findWithLockById(fresh.getId())).willReturn(Optional.of(fresh));
+
+        // when
+        DeliveryMan assigned = deliveryManService.assignHubDeliveryMan();
+
+        // then
+        assertThat(assigned).isSameAs(fresh);
+        verify(stale, never()).assignForNewDelivery();
+        verify(dispatcher, times(1)).invalidate(DeliveryManType.HUB, null);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 큐가 DB 와 어긋나면 전체 후보 조회로 선택한다")
+    void fallsBackToFullScanAfterRetries() {
+        // given
+        DeliveryMan stale = hubDeliveryMan(DeliveryManStatus.DELIVERING, 1);
+        DeliveryMan waiting = hubDeliveryMan(DeliveryManStatus.WAITING, 0);
+        given(dispatcher.reserve(DeliveryManType.HUB, null))
+                .willReturn(Optional.of(new Reservation(stale.getId(), DeliveryManStatus.WAITING, 0)));
+        given(deliveryManRepository.findWithLockById(stale.getId())).willReturn(Optional.of(stale));
+        given(deliveryManRepository.findAllByTypeAndDeletedAtIsNullOrderBySequenceAsc(DeliveryManType.HUB))
+                .willReturn(List.of(stale, waiting));
+
+        // when
+        DeliveryMan assigned = deliveryManService.assignHubDeliveryMan();
+
+        // then
+        assertThat(assigned).isSameAs(waiting);
+        verify(dispatcher, times(2)).invalidate(DeliveryManType.HUB, null);
+    }
+
+    private DeliveryMan hubDeliveryMan(DeliveryManStatus status, int deliveryCount) {
+        DeliveryMan deliveryMan = mock(DeliveryMan.class);
+        given(deliveryMan.getId()).willReturn(UUID.randomUUID());
+        given(deliveryMan.getType()).willReturn(DeliveryManType.HUB);
+        given(deliveryMan.getStatus()).willReturn(status);
+        given(deliveryMan.getDeliveryCount()).willReturn(deliveryCount);
+        return deliveryMan;
+    }
+}
@@ -0,0 +1,89 @@
+package org.sparta.hub.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.sparta.hub.application.HubRoutePlanner;
+import org.sparta.hub.application.route.HubRouteTablePrecomputer;
+import org.sparta.hub.application.route.HubRoutingEngine;
+import org.sparta.hub.config.HubRouteTableProperties;
+import org.sparta.hub.config.HubRoutingProperties;
+import org.sparta.hub.domain.repository.HubRepository;
+import org.sparta.hub.domain.repository.HubRouteRepository;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * 스프링 컨텍스트 없이 HubRoutePlanner 구성 (DB/Redis 없이 합성 네트워크를 메모리에서 제공)
+ *
+ * - 저장소는 그래프 구성에 쓰이는 조회 메서드만 응답하는 프록시
+ * - Redis/CacheManager 는 빈이 없는 것으로 처리 (경로표는 로컬에만 게시)
+ */
+final class BenchmarkPlanners {
+
+    private BenchmarkPlanners() {
+    }
+
+    static Fixture create(SyntheticHubNetwork network, boolean routeTableEnabled) {
+        HubRoutingProperties routingProperties = new HubRoutingProperties();
+        routingProperties.setMaxStalenessMillis(Long.MAX_VALUE);
+
+        HubRouteTableProperties tableProperties = new HubRouteTableProperties();
+        tableProperties.setEnabled(routeTableEnabled);
+
+        HubRoutingEngine engine = new HubRoutingEngine(
+                hubRepository(network), hubRouteRepository(network), routingProperties);
+
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        HubRouteTablePrecomputer precomputer = new HubRouteTablePrecomputer(
+                engine,
+                routingProperties,
+                tableProperties,
+                noBeans.getBeanProvider(CacheManager.class));
+
+        HubRoutePlanner planner = new HubRoutePlanner(
+                engine,
+                routingProperties,
+                precomputer,
+                noBeans.getBeanProvider(CacheManager.class),
+                Runnable::run,
+                new SimpleMeterRegistry());
+        return new Fixture(planner, engine, precomputer);
+    }
+
+    private static HubRepository hubRepository(SyntheticHubNetwork network) {
+        return repository(HubRepository.class, (name, args) -> switch (name) {
+            case "findAllActive", "findAllByStatus", "findAll" -> network.hubs();
+            case "findById" -> network.hubs().stream().filter(hub -> hub.getHubId().equals(args[0])).findFirst();
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private static HubRouteRepository hubRouteRepository(SyntheticHubNetwork network) {
+        return repository(HubRouteRepository.class, (name, args) -> switch (name) {
+            case "findAllActive", "findAll" -> network.routes();
+            case "findById" -> Optional.empty();
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private static <T> T repository(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) ->
+                switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + "(synthetic)";
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> handler.handle(method.getName(), args);
+                });
+        return type.cast(proxy);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    record Fixture(HubRoutePlanner planner, HubRoutingEngine engine, HubRouteTablePrecomputer precomputer) {
+    }
+}
@@ -0,0 +1,89 @@
+package org.sparta.hub.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.HubSpatialIndex;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 계획 하위 연산 비용 (Haversine, 그래프 구성, 반경 조회)
+ *
+ * 실행: ./gradlew :module-hub:jmh
+ * 결과: module-hub/build/results/jmh/results.json
+ *
+ * - haversine  : 대원 거리 1회 (허브 좌표 쌍 순회, ns/op)
+ * - graph_build: 허브 좌표 + 경로로 HubGraph 전체 구성 (HubRoutingEngine.rebuild 의 계산 부분)
+ * - within     : max-leg-km 반경 허브 조회 (그래프 간선 생성 시 허브마다 1회)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class HubGeometryBenchmark {
+
+    private static final long NETWORK_SEED = 20_251_017L;
+    private static final int COORDINATE_PAIRS = 1024;
+    private static final double MAX_LEG_KM = 200.0;
+    private static final double MINUTES_PER_KM = 1.0;
+
+    @Param({"50", "500", "5000"})
+    public int hubs;
+
+    private List<HubGraph.Node> nodes;
+    private List<HubGraph.RouteEdge> routes;
+    private HubSpatialIndex spatialIndex;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticHubNetwork network = SyntheticHubNetwork.generate(hubs, NETWORK_SEED);
+        nodes = network.nodes();
+        routes = network.routes().stream()
+                .map(route -> new HubGraph.RouteEdge(route.getSourceHubId(), route.getTargetHubId(),
+                        route.getDistance(), route.getDuration(), route.hourlyMultiplierValues()))
+                .toList();
+        spatialIndex = HubSpatialIndex.build(nodes);
+
+        latitudes = new double[COORDINATE_PAIRS * 2];
+        longitudes = new double[COORDINATE_PAIRS * 2];
+        for (int i = 0; i < latitudes.length; i++) {
+            HubGraph.Node node = nodes.get((i * 31) % nodes.size());
+            latitudes[i] = node.latitude();
+            longitudes[i] = node.longitude();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(COORDINATE_PAIRS)
+    public void haversine(Blackhole blackhole) {
+        for (int i = 0; i < latitudes.length; i += 2) {
+            blackhole.consume(HubGraph.haversineKm(latitudes[i], longitudes[i], latitudes[i + 1], longitudes[i + 1]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HubGraph graph_build() {
+        return HubGraph.build(nodes, routes, MAX_LEG_KM, MINUTES_PER_KM);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<HubSpatialIndex.Neighbor> within() {
+        HubGraph.Node node = nodes.get(cursor);
+        cursor = (cursor + 1) % nodes.size();
+        return spatialIndex.within(node.latitude(), node.longitude(), MAX_LEG_KM);
+    }
+}
@@ -0,0 +1,154 @@
+package org.sparta.hub.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.sparta.common.route.RouteMetric;
+import org.sparta.hub.application.HubRoutePlanner;
+import org.sparta.hub.application.route.HubRoutingEngine;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HubRoutePlanner.plan 지연시간 (합성 허브 네트워크 50 / 500 / 5000개)
+ *
+ * 실행: ./gradlew :module-hub:jmh
+ * 결과: module-hub/build/results/jmh/results.json (gc 프로파일러 → 할당률 gc.alloc.rate.norm 포함)
+ *
+ * - plan_cold       : 그래프 무효화 직후 첫 조회 (그래프 재구성 + A*)
+ * - plan_warm       : 상주 그래프에서 A* (경로표 비활성)
+ * - plan_time / plan_hops / plan_departing : 같은 상주 그래프에서 다른 기준으로 탐색
+ * - plan_precomputed: 사전 계산 경로표 조회 (max-hubs 1000 이하만 → 50 / 500)
+ *
+ * 스프링 캐시 프록시(@Cacheable) 없이 측정하므로 캐시 적중 비용은 포함하지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HubRoutePlannerBenchmark {
+
+    private static final long NETWORK_SEED = 20_251_017L;
+    private static final long QUERY_SEED = 7L;
+    private static final int QUERIES = 1024;
+    private static final LocalTime RUSH_HOUR = LocalTime.of(8, 0);
+
+    @State(Scope.Thread)
+    public static class ResidentGraph {
+
+        @Param({"50", "500", "5000"})
+        public int hubs;
+
+        HubRoutePlanner planner;
+        HubRoutingEngine engine;
+        Queries queries;
+
+        @Setup
+        public void setUp() {
+            SyntheticHubNetwork network = SyntheticHubNetwork.generate(hubs, NETWORK_SEED);
+            BenchmarkPlanners.Fixture fixture = BenchmarkPlanners.create(network, false);
+            planner = fixture.planner();
+            engine = fixture.engine();
+            queries = Queries.reachable(planner, network);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PrecomputedTable {
+
+        @Param({"50", "500"})
+        public int hubs;
+
+        HubRoutePlanner planner;
+        Queries queries;
+
+        @Setup
+        public void setUp() {
+            SyntheticHubNetwork network = SyntheticHubNetwork.generate(hubs, NETWORK_SEED);
+            BenchmarkPlanners.Fixture fixture = BenchmarkPlanners.create(network, true);
+            fixture.precomputer().refresh();
+            planner = fixture.planner();
+            queries = Queries.reachable(planner, network);
+        }
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_cold(ResidentGraph state) {
+        state.engine.invalidate();
+        UUID[] pair = state.queries.next();
+        return state.planner.plan(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_warm(ResidentGraph state) {
+        UUID[] pair = state.queries.next();
+        return state.planner.plan(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_time(ResidentGraph state) {
+        UUID[] pair = state.queries.next();
+        return state.planner.plan(pair[0], pair[1], RouteMetric.TIME);
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_hops(ResidentGraph state) {
+        UUID[] pair = state.queries.next();
+        return state.planner.plan(pair[0], pair[1], RouteMetric.HOPS);
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_departing(ResidentGraph state) {
+        UUID[] pair = state.queries.next();
+        return state.planner.planDeparting(pair[0], pair[1], RUSH_HOUR);
+    }
+
+    @Benchmark
+    public RoutePlanResponse plan_precomputed(PrecomputedTable state) {
+        UUID[] pair = state.queries.next();
+        return state.planner.plan(pair[0], pair[1]);
+    }
+
+    /**
+     * 고정된 허브 쌍을 순환 (경로가 없는 쌍은 미리 제외해 예외 비용이 섞이지 않도록)
+     */
+    static final class Queries {
+        private final UUID[][] pairs;
+        private int cursor;
+
+        private Queries(UUID[][] pairs) {
+            this.pairs = pairs;
+        }
+
+        static Queries reachable(HubRoutePlanner planner, SyntheticHubNetwork network) {
+            List<UUID[]> reachable = new ArrayList<>(QUERIES);
+            for (UUID[] pair : network.randomPairs(QUERIES, QUERY_SEED)) {
+                try {
+                    planner.plan(pair[0], pair[1]);
+                    planner.plan(pair[0], pair[1], RouteMetric.HOPS);
+                    reachable.add(pair);
+                } catch (IllegalStateException unreachable) {
+                    // 고립 허브 / 홉 제한 초과
+                }
+            }
+            if (reachable.isEmpty()) {
+                throw new IllegalStateException("도달 가능한 허브 쌍이 없습니다.");
+            }
+            return new Queries(reachable.toArray(UUID[][]::new));
+        }
+
+        UUID[] next() {
+            UUID[] pair = pairs[cursor];
+            cursor = (cursor + 1) % pairs.length;
+            return pair;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.sparta.hub.benchmark;
+
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.HubSpatialIndex;
+import org.sparta.hub.domain.entity.Hub;
+import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.domain.model.HubRouteStatus;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 합성 허브 네트워크
+ *
+ * - 국내 주요 도시 중심 좌표에 인구 비례 가중치로 허브를 배치하고, 도시 규모에 맞춰 가우시안 분산
+ * - 허브마다 일정 확률로 가까운 허브(최근접 6개 중 하나)와 실제 도로 경로(HubRoute)를 생성
+ *   (거리 = 대원 거리 × 도로 계수, 일부 경로는 출퇴근 시간대 배수 포함)
+ * - 같은 seed 면 항상 같은 네트워크 (허브 ID 포함) → 실행 간 결과 비교 가능
+ */
+public final class SyntheticHubNetwork {
+
+    private static final double ROAD_FACTOR = 1.25;
+    private static final double ROUTE_PROBABILITY = 0.15;
+    private static final double RUSH_HOUR_PROBABILITY = 0.2;
+
+    // 도시, 위도, 경도, 가중치, 분산(도)
+    private static final City[] CITIES = {
+            new City("서울", 37.5665, 126.9780, 20, 0.12),
+            new City("부산", 35.1796, 129.0756, 7, 0.10),
+            new City("인천", 37.4563, 126.7052, 6, 0.08),
+            new City("대구", 35.8714, 128.6014, 5, 0.08),
+            new City("대전", 36.3504, 127.3845, 3, 0.07),
+            new City("광주", 35.1595, 126.8526, 3, 0.07),
+            new City("수원", 37.2636, 127.0286, 3, 0.06),
+            new City("울산", 35.5384, 129.3114, 2, 0.06),
+            new City("청주", 36.6424, 127.4890, 2, 0.06),
+            new City("전주", 35.8242, 127.1480, 2, 0.06),
+            new City("창원", 35.2280, 128.6811, 2, 0.06),
+            new City("천안", 36.8151, 127.1139, 2, 0.05),
+            new City("포항", 36.0190, 129.3435, 1, 0.05),
+            new City("원주", 37.3422, 127.9202, 1, 0.05),
+            new City("강릉", 37.7519, 128.8761, 1, 0.05),
+            new City("목포", 34.8118, 126.3922, 1, 0.05),
+            new City("여수", 34.7604, 127.6622, 1, 0.05),
+            new City("안동", 36.5684, 128.7294, 1, 0.05),
+            new City("제주", 33.4996, 126.5312, 1, 0.06)
+    };
+
+    private final List<Hub> hubs;
+    private final List<HubRoute> routes;
+    private final List<HubGraph.Node> nodes;
+
+    private SyntheticHubNetwork(List<Hub> hubs, List<HubRoute> routes, List<HubGraph.Node> nodes) {
+        this.hubs = hubs;
+        this.routes = routes;
+        this.nodes = nodes;
+    }
+
+    public static SyntheticHubNetwork generate(int hubCount, long seed) {
+        Random random = new Random(seed);
+        double totalWeight = Arrays.stream(CITIES).mapToDouble(City::weight).sum();
+
+        List<Hub> hubs = new ArrayList<>(hubCount);
+        List<HubGraph.Node> nodes = new ArrayList<>(hubCount);
+        for (int i = 0; i < hubCount; i++) {
+            // 도시마다 최소 1개는 두어 소규모 네트워크도 전국이 이어지도록
+            City city = i < CITIES.length ? CITIES[i] : pick(random, totalWeight);
+            double latitude = city.latitude() + random.nextGaussian() * city.spreadDegrees();
+            double longitude = city.longitude() + random.nextGaussian() * city.spreadDegrees();
+
+            UUID hubId = new UUID(seed, i);
+            Hub hub = Hub.create(city.name() + "-허브-" + i, city.name() + " 물류단지 " + i, latitude, longitude);
+            assignId(hub, hubId);
+            hubs.add(hub);
+            nodes.add(new HubGraph.Node(hubId, latitude, longitude));
+        }
+
+        HubSpatialIndex index = HubSpatialIndex.build(nodes);
+        List<HubRoute> routes = new ArrayList<>();
+        for (int i = 0; i < hubCount; i++) {
+            if (random.nextDouble() >= ROUTE_PROBABILITY) continue;
+            HubGraph.Node source = nodes.get(i);
+            List<HubSpatialIndex.Neighbor> neighbors = index.nearest(source.latitude(), source.longitude(), 7);
+            HubSpatialIndex.Neighbor neighbor = neighbors.get(1 + random.nextInt(neighbors.size() - 1));
+            routes.add(route(random, seed, routes.size(), source.hubId(), neighbor.node().hubId(), neighbor.distanceKm()));
+        }
+        return new SyntheticHubNetwork(List.copyOf(hubs), List.copyOf(routes), List.copyOf(nodes));
+    }
+
+    public List<Hub> hubs() {
+        return hubs;
+    }
+
+    public List<HubRoute> routes() {
+        return routes;
+    }
+
+    public List<HubGraph.Node> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 출발 ≠ 도착인 허브 쌍 (같은 seed 면 같은 순서)
+     */
+    public UUID[][] randomPairs(int count, long seed) {
+        Random random = new Random(seed);
+        UUID[][] pairs = new UUID[count][];
+        for (int i = 0; i < count; i++) {
+            int source = random.nextInt(nodes.size());
+            int target = random.nextInt(nodes.size() - 1);
+            if (target >= source) target++;
+            pairs[i] = new UUID[]{nodes.get(source).hubId(), nodes.get(target).hubId()};
+        }
+        return pairs;
+    }
+
+    private static HubRoute route(Random random, long seed, int ordinal, UUID source, UUID target, double straightKm) {
+        int distance = Math.max(1, (int) Math.round(straightKm * ROAD_FACTOR));
+        double kmPerHour = 60 + random.nextInt(30);
+        HubRoute route = HubRoute.builder()
+                .routeId(new UUID(~seed, ordinal))
+                .sourceHubId(source)
+                .targetHubId(target)
+                .distance(distance)
+                .duration(Math.max(1, (int) Math.round(distance / kmPerHour * 60)))
+                .status(HubRouteStatus.ACTIVE)
+                .build();
+        if (random.nextDouble() < RUSH_HOUR_PROBABILITY) {
+            route.changeHourlyMultipliers(rushHourProfile());
+        }
+        return route;
+    }
+
+    private static List<Double> rushHourProfile() {
+        Double[] profile = new Double[24];
+        Arrays.fill(profile, 1.0);
+        profile[7] = 1.4;
+        profile[8] = 1.6;
+        profile[9] = 1.2;
+        profile[17] = 1.3;
+        profile[18] = 1.6;
+        profile[19] = 1.3;
+        return Arrays.asList(profile);
+    }
+
+    private static City pick(Random random, double totalWeight) {
+        double r = random.nextDouble() * totalWeight;
+        for (City city : CITIES) {
+            r -= city.weight();
+            if (r < 0) return city;
+        }
+        return CITIES[CITIES.length - 1];
+    }
+
+    private static void assignId(Hub hub, UUID hubId) {
+        try {
+            Field field = Hub.class.getDeclaredField("hubId");
+            field.setAccessible(true);
+            field.set(hub, hubId);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("허브 ID 설정 실패", e);
+        }
+    }
+
+    private record City(String name, double latitude, double longitude, double weight, double spreadDegrees) {
+    }
+}
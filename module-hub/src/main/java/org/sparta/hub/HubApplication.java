@@ -3,9 +3,11 @@ package org.sparta.hub;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "org.sparta")
 @EnableFeignClients
+@EnableScheduling
 public class HubApplication {
     public static void main(String[] args) {
         SpringApplication.run(HubApplication.class, args);
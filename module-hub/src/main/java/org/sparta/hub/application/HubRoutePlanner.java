@@ -1,126 +1,234 @@
 package org.sparta.hub.application;
 
-import lombok.RequiredArgsConstructor;
-import org.sparta.hub.application.route.RouteLeg;
-import org.sparta.hub.domain.entity.Hub;
-import org.sparta.hub.domain.model.HubStatus;
-import org.sparta.hub.domain.repository.HubRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.RouteLeg;
+import org.sparta.common.route.RouteMetric;
+import org.sparta.hub.application.route.HubRouteTablePrecomputer;
+import org.sparta.hub.application.route.HubRoutingEngine;
+import org.sparta.hub.application.route.SingleFlight;
+import org.sparta.hub.config.HubRoutingProperties;
+import org.sparta.hub.config.RoutePlanExecutorConfig;
+import org.sparta.hub.exception.NoRouteAvailableException;
+import org.sparta.hub.presentation.dto.response.HubGraphSnapshotResponse;
 import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 허브 간 경로 계획
+ *
+ * 상주 그래프(HubRoutingEngine)에서 A* 로 최단 거리/최단 시간/최소 경유 경로를 찾는다.
+ * - max-leg-km 이내 허브는 직접 연결, 그보다 먼 허브는 경유 허브를 거쳐 연결
+ * - ACTIVE HubRoute 가 있으면 해당 구간의 실제 거리/소요 시간을 간선으로 사용
+ * - 최단 거리 경로는 현재 그래프 버전의 사전 계산 경로표(HubRouteTablePrecomputer)를 먼저 조회
+ * - 출발 시각이 주어지면 구간별 시간대 배수를 반영한 최단 시간 경로 (15분 단위로 캐시)
+ *
+ * routePlan 캐시 → 없으면 single-flight 로 계산 (같은 키의 동시 요청은 진행 중인 계산 하나를 공유)
+ * 메트릭: hub.route.plan (result = hit | miss | coalesced), hub.route.plan.inflight
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class HubRoutePlanner {
 
-    private static final double MAX_LEG_KM = 200.0;
-    private static final int MAX_HOPS = 20;
-    private static final double KM_TO_MIN = 1.0; // 1km = 1분으로 단순화
-
-    private final HubRepository hubRepository;
+    private static final String ROUTE_PLAN_CACHE = "routePlan";
+    private static final int DEPARTURE_BUCKET_MINUTES = 15;
+    private static final Executor CALLER_THREAD = Runnable::run;
+
+    private final HubRoutingEngine routingEngine;
+    private final HubRoutingProperties properties;
+    private final HubRouteTablePrecomputer routeTable;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final Executor planExecutor;
+    private final SingleFlight<String, RoutePlanResponse> inFlight = new SingleFlight<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public HubRoutePlanner(HubRoutingEngine routingEngine,
+                           HubRoutingProperties properties,
+                           HubRouteTablePrecomputer routeTable,
+                           ObjectProvider<CacheManager> cacheManagerProvider,
+                           @Qualifier(RoutePlanExecutorConfig.ROUTE_PLAN_EXECUTOR) Executor planExecutor,
+                           MeterRegistry meterRegistry) {
+        this.routingEngine = routingEngine;
+        this.properties = properties;
+        this.routeTable = routeTable;
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.planExecutor = planExecutor;
+
+        this.hitCounter = Counter.builder("hub.route.plan").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("hub.route.plan").tag("result", "miss").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("hub.route.plan").tag("result", "coalesced").register(meterRegistry);
+        meterRegistry.gauge("hub.route.plan.inflight", inFlight, SingleFlight::inFlightCount);
+    }
 
-    @Cacheable(cacheNames = "routePlan", key = "'routePlan::' + #sourceId + '::' + #targetId")
     public RoutePlanResponse plan(UUID sourceId, UUID targetId) {
-        if (sourceId.equals(targetId)) {
-            throw new IllegalArgumentException("출발 허브와 도착 허브가 같습니다.");
-        }
+        return await(plan(sourceId, targetId, RouteMetric.DISTANCE, null, CALLER_THREAD));
+    }
+
+    public RoutePlanResponse plan(UUID sourceId, UUID targetId, RouteMetric metric) {
+        return await(plan(sourceId, targetId, metric, null, CALLER_THREAD));
+    }
 
-        Map<UUID, Hub> activeMap = hubRepository.findAllByStatus(HubStatus.ACTIVE)
-                .stream().collect(Collectors.toMap(Hub::getHubId, h -> h));
+    /**
+     * 출발 시각 기준 최단 시간 경로 (출발 시각은 15분 단위 구간 시작으로 내림)
+     */
+    public RoutePlanResponse planDeparting(UUID sourceId, UUID targetId, LocalTime departAt) {
+        return await(plan(sourceId, targetId, RouteMetric.TIME, departAt, CALLER_THREAD));
+    }
 
-        Hub source = optionalOrThrow(activeMap.get(sourceId), "출발 허브를 찾을 수 없습니다.");
-        Hub target = optionalOrThrow(activeMap.get(targetId), "도착 허브를 찾을 수 없습니다.");
+    /**
+     * 비동기 경로 계획 (캐시 적중/진행 중 계산 합류는 스레드를 쓰지 않고, 새 계산만 경로 계획 풀에서 실행)
+     *
+     * @param departAt TIME 기준일 때만 사용 (null 이면 시간대 무관)
+     */
+    public CompletableFuture<RoutePlanResponse> planAsync(UUID sourceId, UUID targetId, RouteMetric metric,
+                                                          LocalTime departAt) {
+        return plan(sourceId, targetId, metric, departAt, planExecutor);
+    }
 
-        double directKm = distanceKm(source, target);
-        if (directKm <= MAX_LEG_KM) {
-            RouteLeg leg = new RouteLeg(source.getHubId(), target.getHubId(), round2(directKm), (int)Math.round(directKm * KM_TO_MIN));
-            return new RoutePlanResponse(sourceId, targetId, round2(directKm), leg.estimatedMinutes(), List.of(leg));
+    private CompletableFuture<RoutePlanResponse> plan(UUID sourceId, UUID targetId, RouteMetric metric,
+                                                      LocalTime departAt, Executor executor) {
+        if (metric == RouteMetric.TIME && departAt != null) {
+            int minuteOfDay = departAt.toSecondOfDay() / 60;
+            int bucketStart = minuteOfDay - minuteOfDay % DEPARTURE_BUCKET_MINUTES;
+            String key = "TIME@" + (bucketStart / DEPARTURE_BUCKET_MINUTES) + ":" + sourceId + ":" + targetId;
+            return cachedOrCompute(key, () -> findDeparting(sourceId, targetId, bucketStart), executor);
         }
+        // 캐시 이름(routePlan::)은 RedisCacheManager 가 붙이므로 키에는 넣지 않음
+        String key = metric == RouteMetric.DISTANCE
+                ? sourceId + ":" + targetId
+                : metric + ":" + sourceId + ":" + targetId;
+        return cachedOrCompute(key, () -> findRoute(sourceId, targetId, metric), executor);
+    }
 
-        // Relay: 그리디 릴레이
-        Set<UUID> visited = new HashSet<>();
-        visited.add(source.getHubId());
-        List<RouteLeg> legs = new ArrayList<>();
+    private CompletableFuture<RoutePlanResponse> cachedOrCompute(String key, Supplier<RoutePlanResponse> loader,
+                                                                 Executor executor) {
+        Cache cache = routePlanCache();
+        RoutePlanResponse cached = cache == null ? null : cache.get(key, RoutePlanResponse.class);
+        if (cached != null) {
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
 
-        Hub current = source;
-        int hops = 0;
-        while (distanceKm(current, target) > MAX_LEG_KM) {
-            if (hops++ > MAX_HOPS) {
-                throw new IllegalStateException("경유 허브 탐색 중 홉 제한을 초과했습니다.");
+        SingleFlight.Flight<RoutePlanResponse> flight = inFlight.execute(key, () -> {
+            // 캐시 조회와 계산 시작 사이에 다른 계산이 끝났을 수 있음
+            RoutePlanResponse latest = cache == null ? null : cache.get(key, RoutePlanResponse.class);
+            if (latest != null) {
+                return latest;
             }
+            RoutePlanResponse computed = loader.get();
+            if (cache != null) {
+                cache.put(key, computed);
+            }
+            return computed;
+        }, executor);
+        (flight.leader() ? missCounter : coalescedCounter).increment();
+        return flight.future();
+    }
 
-            // 후보: 200km 이내, 아직 방문 X, 자신/목적지 제외
-            final Hub currentHub = current;  // ← while 내부에서 매번 새 final 변수로 복사
-
-            List<Hub> candidates = activeMap.values().stream()
-                    .filter(h -> !visited.contains(h.getHubId()))
-                    .filter(h -> !h.getHubId().equals(currentHub.getHubId()))
-                    .filter(h -> !h.getHubId().equals(target.getHubId()))
-                    .filter(h -> distanceKm(currentHub, h) <= MAX_LEG_KM)
-                    .toList();
+    private Cache routePlanCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager == null ? null : cacheManager.getCache(ROUTE_PLAN_CACHE);
+    }
 
-            if (candidates.isEmpty()) {
-                throw new IllegalStateException("200km 내 경유 후보 허브가 없습니다.");
+    private static RoutePlanResponse await(CompletableFuture<RoutePlanResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 그래프 스냅샷 (다른 서비스가 같은 알고리즘으로 경로를 계산할 수 있도록 원본 입력을 그대로 제공)
+     */
+    public HubGraphSnapshotResponse snapshot() {
+        HubGraph graph = routingEngine.graph();
+        return new HubGraphSnapshotResponse(
+                graph.version(),
+                graph.maxLegKm(),
+                graph.minutesPerKm(),
+                properties.getMaxHops(),
+                graph.nodes(),
+                graph.routes(),
+                graph.defaultHourlyMultipliers()
+        );
+    }
+
+    private RoutePlanResponse findDeparting(UUID sourceId, UUID targetId, int departureMinuteOfDay) {
+        requireDistinct(sourceId, targetId);
+        HubGraph graph = resolveGraph(sourceId, targetId);
+        int source = ordinalOrThrow(graph, sourceId, "출발 허브를 찾을 수 없습니다.");
+        int target = ordinalOrThrow(graph, targetId, "도착 허브를 찾을 수 없습니다.");
+        return toPlan(sourceId, targetId, graph.fastestPathDeparting(source, target, departureMinuteOfDay));
+    }
 
-            // 1순위: 목적지까지 더 가까워지는 후보
-            double currentToTarget = distanceKm(current, target);
-            List<Hub> forward = candidates.stream()
-                    .filter(h -> distanceKm(h, target) < currentToTarget)
-                    .toList();
-
-            Hub next;
-            if (!forward.isEmpty()) {
-                // 목적지와의 남은 거리 최소
-                next = forward.stream()
-                        .min(Comparator.comparingDouble(h -> distanceKm(h, target)))
-                        .orElseThrow();
-            } else {
-                // fail-safe: 200km 내에서 목적지까지 거리가 가장 가까운 후보
-                next = candidates.stream()
-                        .min(Comparator.comparingDouble(h -> distanceKm(h, target)))
-                        .orElseThrow();
+    private RoutePlanResponse findRoute(UUID sourceId, UUID targetId, RouteMetric metric) {
+        requireDistinct(sourceId, targetId);
+        if (metric == RouteMetric.DISTANCE) {
+            Optional<RoutePlanResponse> precomputed = routeTable.find(sourceId, targetId, routingEngine.graph().version());
+            if (precomputed.isPresent()) {
+                return precomputed.get();
             }
+        }
+        HubGraph graph = resolveGraph(sourceId, targetId);
+        int source = ordinalOrThrow(graph, sourceId, "출발 허브를 찾을 수 없습니다.");
+        int target = ordinalOrThrow(graph, targetId, "도착 허브를 찾을 수 없습니다.");
+        return toPlan(sourceId, targetId, graph.shortestPath(source, target, metric));
+    }
+
+    private void requireDistinct(UUID sourceId, UUID targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발 허브와 도착 허브가 같습니다.");
+        }
+    }
 
-            double segKm = distanceKm(current, next);
-            legs.add(new RouteLeg(current.getHubId(), next.getHubId(), round2(segKm), (int)Math.round(segKm * KM_TO_MIN)));
-            visited.add(next.getHubId());
-            current = next;
+    private HubGraph resolveGraph(UUID sourceId, UUID targetId) {
+        HubGraph graph = routingEngine.graph();
+        if (!graph.contains(sourceId) || !graph.contains(targetId)) {
+            // 이벤트 없이 반영된 허브(시드 데이터, 다른 인스턴스 등)일 수 있으므로 한 번 재구성 후 판단
+            graph = routingEngine.rebuild();
         }
+        return graph;
+    }
 
-        // 마지막 구간(current -> target) 연결
-        double lastKm = distanceKm(current, target);
-        legs.add(new RouteLeg(current.getHubId(), target.getHubId(), round2(lastKm), (int)Math.round(lastKm * KM_TO_MIN)));
+    private RoutePlanResponse toPlan(UUID sourceId, UUID targetId, Optional<List<RouteLeg>> path) {
+        List<RouteLeg> legs = path
+                .orElseThrow(() -> new NoRouteAvailableException(
+                        (int) properties.getMaxLegKm() + "km 내 경유 후보 허브가 없습니다."));
+        if (legs.size() > properties.getMaxHops() + 1) {
+            throw new NoRouteAvailableException("경유 허브 탐색 중 홉 제한을 초과했습니다.");
+        }
 
         double totalKm = legs.stream().mapToDouble(RouteLeg::distanceKm).sum();
         int totalMin = legs.stream().mapToInt(RouteLeg::estimatedMinutes).sum();
         return new RoutePlanResponse(sourceId, targetId, round2(totalKm), totalMin, legs);
     }
 
-    private <T> T optionalOrThrow(T v, String msg) {
-        if (v == null) throw new IllegalArgumentException(msg);
-        return v;
-    }
-
-    // Haversine
-    private double distanceKm(Hub a, Hub b) {
-        return distanceKm(a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
-    }
-
-    private double distanceKm(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double s = Math.sin(dLat/2) * Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(s), Math.sqrt(1-s));
-        return R * c;
+    private int ordinalOrThrow(HubGraph graph, UUID hubId, String msg) {
+        int ordinal = graph.ordinalOf(hubId);
+        if (ordinal < 0) throw new IllegalArgumentException(msg);
+        return ordinal;
     }
 
     private double round2(double v) {
@@ -1,6 +1,7 @@
 package org.sparta.hub.application;
 
 import lombok.RequiredArgsConstructor;
+import org.sparta.hub.application.route.HubRoutingEngine;
 import org.sparta.hub.domain.entity.HubRoute;
 import org.sparta.hub.domain.repository.HubRouteRepository;
 import org.sparta.hub.exception.HubRouteNotFoundException;
@@ -18,6 +19,7 @@ import java.util.stream.IntStream;
 public class HubRouteService {
 
     private final HubRouteRepository hubRouteRepository;
+    private final HubRoutingEngine routingEngine;
 
     @Transactional
     public HubRoute createRoute(UUID sourceHubId, UUID targetHubId, int duration, int distance) {
@@ -29,7 +31,9 @@ public class HubRouteService {
                 .build();
 
         route.validateRoute();
-        return hubRouteRepository.save(route);
+        HubRoute saved = hubRouteRepository.save(route);
+        routingEngine.invalidateAfterCommit();
+        return saved;
     }
 
     public HubRoute getRoute(UUID routeId) {
@@ -42,14 +46,31 @@ public class HubRouteService {
     public HubRoute updateRoute(UUID routeId, int duration, int distance) {
         HubRoute route = getRoute(routeId);
         route.update(duration, distance);
-        return hubRouteRepository.save(route);
+        HubRoute saved = hubRouteRepository.save(route);
+        routingEngine.invalidateAfterCommit();
+        return saved;
+    }
+
+    /**
+     * 구간 시간대별 소요 시간 배수 변경 (0~23시 24개, 빈 목록이면 해제)
+     */
+    @CacheEvict(cacheNames = "routePlan", allEntries = true)
+    @Transactional
+    public HubRoute updateHourlyMultipliers(UUID routeId, List<Double> hourlyMultipliers) {
+        HubRoute route = getRoute(routeId);
+        route.changeHourlyMultipliers(hourlyMultipliers);
+        HubRoute saved = hubRouteRepository.save(route);
+        routingEngine.invalidateAfterCommit();
+        return saved;
     }
 
     @Transactional
     public HubRoute deleteRoute(UUID routeId) {
         HubRoute route = getRoute(routeId);
         route.markAsDeleted();
-        return hubRouteRepository.save(route);
+        HubRoute saved = hubRouteRepository.save(route);
+        routingEngine.invalidateAfterCommit();
+        return saved;
     }
 
     public List<HubRoute> getAllActiveRoutes() {
@@ -15,6 +15,9 @@ import org.sparta.hub.presentation.dto.request.HubCreateRequest;
 import org.sparta.hub.presentation.dto.request.HubUpdateRequest;
 import org.sparta.hub.presentation.dto.response.HubCreateResponse;
 import org.sparta.hub.presentation.dto.response.HubResponse;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +42,7 @@ public class HubService {
     /**
      *  허브 생성 기능 - creatHub
      */
+    @CacheEvict(cacheNames = "activeHubs", key = "'all'")
     @Transactional
     public HubCreateResponse createHub(HubCreateRequest request) {
 
@@ -54,12 +58,15 @@ public class HubService {
         );
         Hub saved = hubRepository.save(hub);
 
-        eventPublisher.publishExternal(
-            HubCreatedEvent.of(
-                    saved.getHubId(),
-                    saved.getName(),
-                    saved.getAddress())
-        );
+        HubCreatedEvent createdEvent = HubCreatedEvent.of(
+                saved.getHubId(),
+                saved.getName(),
+                saved.getAddress(),
+                saved.getLatitude(),
+                saved.getLongitude(),
+                saved.getStatus().name());
+        eventPublisher.publishExternal(createdEvent);
+        eventPublisher.publishLocal(createdEvent); // 인메모리 허브 그래프 반영
 
         return HubCreateResponse.from(saved);
     }
@@ -68,6 +75,7 @@ public class HubService {
      * 허브 전체 조회 - 사용자용
      *  ACTIVE 상태 허브만 조회되게 허용
      */
+    @Cacheable(cacheNames = "activeHubs", key = "'all'")
     public List<HubResponse> getActiveHubsForUser() {
         return hubRepository.findAllByStatus(HubStatus.ACTIVE).stream()
                 .map(HubResponse::from)
@@ -78,6 +86,7 @@ public class HubService {
      * 허브 단건 조회 - 사용자용
      *  ACTIVE 상태 허브만 조회되게 허용
      */
+    @Cacheable(cacheNames = "hub", key = "#hubId")
     public HubResponse getActiveHubByIdForUser(UUID hubId) {
         Hub hub = hubRepository.findById(hubId)
                 .orElseThrow(() -> new HubNotFoundException(hubId));
@@ -115,6 +124,10 @@ public class HubService {
      * 허브 수정 - updateHub
      */
     //@CacheEvict(cacheNames = "routePlan", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "activeHubs", key = "'all'"),
+            @CacheEvict(cacheNames = "hub", key = "#hubId")
+    })
     @Transactional
     public HubResponse updateHub(UUID hubId, HubUpdateRequest request) {
         Hub hub = hubRepository.findById(hubId)
@@ -123,9 +136,12 @@ public class HubService {
         hub.update(request.address(), request.latitude(), request.longitude(), request.status());
         hubRepository.flush();
 
-        eventPublisher.publishExternal(HubUpdatedEvent.of(
-                hub.getHubId(), hub.getName(), hub.getAddress()
-        ));
+        HubUpdatedEvent updatedEvent = HubUpdatedEvent.of(
+                hub.getHubId(), hub.getName(), hub.getAddress(),
+                hub.getLatitude(), hub.getLongitude(), hub.getStatus().name()
+        );
+        eventPublisher.publishExternal(updatedEvent);
+        eventPublisher.publishLocal(updatedEvent);
 
         return HubResponse.from(hub);
     }
@@ -134,6 +150,10 @@ public class HubService {
      * 허브 삭제(비활성화) - deleteHub
      */
     //@CacheEvict(cacheNames = "routePlan", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "activeHubs", key = "'all'"),
+            @CacheEvict(cacheNames = "hub", key = "#hubId")
+    })
     @Transactional
     public HubResponse deleteHub(UUID hubId) {
         Hub hub = hubRepository.findById(hubId)
@@ -144,7 +164,9 @@ public class HubService {
         hub.markDeleted(DEFAULT_DELETER);
         hubRepository.flush();
 
-        eventPublisher.publishExternal(HubDeletedEvent.of(hub.getHubId()));
+        HubDeletedEvent deletedEvent = HubDeletedEvent.of(hub.getHubId());
+        eventPublisher.publishExternal(deletedEvent);
+        eventPublisher.publishLocal(deletedEvent);
 
         return HubResponse.from(hub);
     }
@@ -0,0 +1,60 @@
+package org.sparta.hub.application;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.common.error.BusinessException;
+import org.sparta.common.error.CommonErrorType;
+import org.sparta.common.route.HubSpatialIndex;
+import org.sparta.hub.application.route.HubRoutingEngine;
+import org.sparta.hub.presentation.dto.response.NearbyHubResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 좌표 기준 허브 조회 (최근접 k 개 / 반경 내)
+ *
+ * 상주 허브 그래프의 공간 인덱스를 사용하므로 ACTIVE + 좌표가 있는 허브만 대상
+ * (허브 생성/수정/삭제 이벤트 시 그래프와 함께 인덱스도 교체됨)
+ */
+@Service
+@RequiredArgsConstructor
+public class HubSpatialService {
+
+    static final int MAX_NEAREST = 50;
+    static final double MAX_RADIUS_KM = 1000.0;
+
+    private final HubRoutingEngine routingEngine;
+
+    public List<NearbyHubResponse> nearest(double latitude, double longitude, int k) {
+        validateCoordinate(latitude, longitude);
+        if (k < 1 || k > MAX_NEAREST) {
+            throw new BusinessException(CommonErrorType.INVALID, "k 는 1 ~ " + MAX_NEAREST + " 사이여야 합니다.");
+        }
+        return toResponses(routingEngine.graph().spatialIndex().nearest(latitude, longitude, k));
+    }
+
+    public List<NearbyHubResponse> within(double latitude, double longitude, double radiusKm) {
+        validateCoordinate(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "반경은 0 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        return toResponses(routingEngine.graph().spatialIndex().within(latitude, longitude, radiusKm));
+    }
+
+    private static void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessException(CommonErrorType.INVALID, "위도/경도 범위가 올바르지 않습니다.");
+        }
+    }
+
+    private static List<NearbyHubResponse> toResponses(List<HubSpatialIndex.Neighbor> neighbors) {
+        return neighbors.stream()
+                .map(n -> new NearbyHubResponse(
+                        n.node().hubId(),
+                        n.node().latitude(),
+                        n.node().longitude(),
+                        Math.round(n.distanceKm() * 100.0) / 100.0))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package org.sparta.hub.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.hub.exception.NoRouteAvailableException;
+import org.sparta.hub.presentation.dto.request.RoutePlanBatchRequest;
+import org.sparta.hub.presentation.dto.response.RoutePlanBatchResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 경로 계획 일괄 조회
+ *
+ * - 요청 쌍을 순서를 유지한 채 중복 제거 후 HubRoutePlanner(routePlan 캐시 포함)로 계산
+ * - 쌍 단위 실패는 전체 실패 대신 해당 항목의 code/error 로 응답
+ *   NO_ROUTE(경로 없음) / INVALID_PAIR(같은 허브, 없는 허브) / ERROR(그 외 모든 실패: 허브 조회 실패, DB 오류 등 - 로그를 남김)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutePlanBatchService {
+
+    private final HubRoutePlanner planner;
+
+    public RoutePlanBatchResponse planAll(List<RoutePlanBatchRequest.Pair> pairs) {
+        Set<RoutePlanBatchRequest.Pair> distinct = new LinkedHashSet<>(pairs);
+
+        List<RoutePlanBatchResponse.Item> results = distinct.stream()
+                .map(this::planOne)
+                .toList();
+        log.debug("[RoutePlanBatch] 일괄 경로 계획 - requested={}, distinct={}", pairs.size(), distinct.size());
+        return new RoutePlanBatchResponse(results);
+    }
+
+    private RoutePlanBatchResponse.Item planOne(RoutePlanBatchRequest.Pair pair) {
+        try {
+            return RoutePlanBatchResponse.Item.success(planner.plan(pair.sourceHubId(), pair.targetHubId()));
+        } catch (NoRouteAvailableException e) {
+            return RoutePlanBatchResponse.Item.failure(
+                    pair.sourceHubId(), pair.targetHubId(), RoutePlanBatchResponse.Item.NO_ROUTE, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return RoutePlanBatchResponse.Item.failure(
+                    pair.sourceHubId(), pair.targetHubId(), RoutePlanBatchResponse.Item.INVALID_PAIR, e.getMessage());
+        } catch (RuntimeException e) {
+            // 허브 조회 실패, DB 오류 등 쌍 단위 실패가 배치 전체를 실패시키지 않도록 ERROR 항목으로 응답
+            log.warn("[RoutePlanBatch] 경로 계획 실패 - sourceHubId={}, targetHubId={}",
+                    pair.sourceHubId(), pair.targetHubId(), e);
+            return RoutePlanBatchResponse.Item.failure(
+                    pair.sourceHubId(), pair.targetHubId(), RoutePlanBatchResponse.Item.ERROR, e.getMessage());
+        }
+    }
+}
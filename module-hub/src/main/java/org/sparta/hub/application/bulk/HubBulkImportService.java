@@ -0,0 +1,305 @@
+package org.sparta.hub.application.bulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.error.BusinessException;
+import org.sparta.common.error.CommonErrorType;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.common.event.hub.HubCreatedEvent;
+import org.sparta.common.event.hub.HubsImportedEvent;
+import org.sparta.hub.application.route.HubRoutingEngine;
+import org.sparta.hub.config.HubImportProperties;
+import org.sparta.hub.domain.entity.Hub;
+import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.domain.model.HubRouteStatus;
+import org.sparta.hub.domain.model.HubStatus;
+import org.sparta.hub.domain.repository.HubRepository;
+import org.sparta.hub.domain.repository.HubRouteRepository;
+import org.sparta.hub.infrastructure.jdbc.HubBulkWriter;
+import org.sparta.hub.infrastructure.jdbc.HubBulkWriter.NewHub;
+import org.sparta.hub.presentation.dto.response.BulkImportResponse;
+import org.sparta.hub.presentation.dto.response.BulkImportResponse.RowError;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 허브/경로 일괄 등록
+ *
+ * 1. 본문을 한 줄씩 읽으며 검증 + 중복 제거 (기존 데이터는 요청마다 한 번만 조회, 트랜잭션 밖)
+ * 2. 통과한 행만 JDBC batch insert (짧은 트랜잭션 하나, 업로드 스트림을 읽는 동안 커넥션을 잡지 않음)
+ * 3. 커밋 후 그래프 1회 재구성
+ *    허브: 커밋 후 HubsImportedEvent 를 event-chunk-size 단위로 나눠 발행 (Kafka max.request.size 초과 방지)
+ *
+ * 읽는 동안 다른 요청이 같은 이름/구간을 등록했다면 insert 가 유니크 제약으로 실패해 전체 롤백된다.
+ *
+ * 검증에 실패한 행은 건너뛰고 응답에 줄 번호와 사유를 담는다 (나머지 행은 등록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubBulkImportService {
+
+    private static final String IMPORTER = "bulk-import";
+
+    private final HubRepository hubRepository;
+    private final HubRouteRepository hubRouteRepository;
+    private final HubBulkWriter bulkWriter;
+    private final ImportRowReader rowReader;
+    private final HubRoutingEngine routingEngine;
+    private final EventPublisher eventPublisher;
+    private final HubImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 허브 일괄 등록 (열: name, address, latitude, longitude)
+     */
+    @CacheEvict(cacheNames = "activeHubs", key = "'all'")
+    public BulkImportResponse importHubs(InputStream body, ImportFormat format) {
+        long started = System.currentTimeMillis();
+        Set<String> existingNames = hubRepository.findAll().stream()
+                .map(Hub::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Map<String, NewHub> accepted = new LinkedHashMap<>();
+        Tally tally = new Tally(properties);
+        rowReader.read(body, format, row -> {
+            tally.received();
+            if (!row.isValid()) {
+                tally.reject(row.line(), row.error());
+                return;
+            }
+            try {
+                NewHub hub = toHub(row);
+                if (existingNames.contains(hub.name()) || accepted.containsKey(hub.name())) {
+                    tally.duplicate();
+                    return;
+                }
+                accepted.put(hub.name(), hub);
+            } catch (IllegalArgumentException e) {
+                tally.reject(row.line(), e.getMessage());
+            }
+        });
+
+        List<NewHub> hubs = new ArrayList<>(accepted.values());
+        if (!hubs.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                bulkWriter.insertHubs(hubs, IMPORTER);
+                routingEngine.rebuildAfterCommit();
+            });
+            publishImported(hubs);
+        }
+
+        BulkImportResponse response = tally.toResponse(hubs.size(), started);
+        log.info("[HubBulkImport] 허브 일괄 등록 - received={}, created={}, duplicates={}, rejected={}, elapsedMs={}",
+                response.received(), response.created(), response.duplicates(), response.rejected(),
+                response.elapsedMillis());
+        return response;
+    }
+
+    /**
+     * 경로 일괄 등록 (열: source, target, distance, duration[, hourlyMultipliers])
+     * - source/target: 허브 ID 또는 허브 이름
+     * - hourlyMultipliers: 0~23시 배수 24개 (';' 구분, 선택)
+     */
+    @CacheEvict(cacheNames = "routePlan", allEntries = true)
+    public BulkImportResponse importRoutes(InputStream body, ImportFormat format) {
+        long started = System.currentTimeMillis();
+        Map<String, UUID> hubIdsByName = new HashMap<>();
+        Set<UUID> activeHubIds = new HashSet<>();
+        for (Hub hub : hubRepository.findAllByStatus(HubStatus.ACTIVE)) {
+            hubIdsByName.put(hub.getName(), hub.getHubId());
+            activeHubIds.add(hub.getHubId());
+        }
+        Set<String> existingPairs = hubRouteRepository.findAllActive().stream()
+                .map(route -> pairKey(route.getSourceHubId(), route.getTargetHubId()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Map<String, HubRoute> accepted = new LinkedHashMap<>();
+        Tally tally = new Tally(properties);
+        rowReader.read(body, format, row -> {
+            tally.received();
+            if (!row.isValid()) {
+                tally.reject(row.line(), row.error());
+                return;
+            }
+            try {
+                UUID source = resolveHub(row.get("source"), hubIdsByName, activeHubIds, "출발");
+                UUID target = resolveHub(row.get("target"), hubIdsByName, activeHubIds, "도착");
+                String key = pairKey(source, target);
+                if (existingPairs.contains(key) || accepted.containsKey(key)) {
+                    tally.duplicate();
+                    return;
+                }
+                accepted.put(key, toRoute(row, source, target));
+            } catch (IllegalArgumentException e) {
+                tally.reject(row.line(), e.getMessage());
+            }
+        });
+
+        List<HubRoute> routes = new ArrayList<>(accepted.values());
+        if (!routes.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                bulkWriter.insertRoutes(routes, IMPORTER);
+                routingEngine.rebuildAfterCommit();
+            });
+        }
+
+        BulkImportResponse response = tally.toResponse(routes.size(), started);
+        log.info("[HubBulkImport] 경로 일괄 등록 - received={}, created={}, duplicates={}, rejected={}, elapsedMs={}",
+                response.received(), response.created(), response.duplicates(), response.rejected(),
+                response.elapsedMillis());
+        return response;
+    }
+
+    /**
+     * 등록된 허브를 event-chunk-size 단위 HubsImportedEvent 로 발행 (같은 importId)
+     */
+    private void publishImported(List<NewHub> hubs) {
+        UUID importId = UUID.randomUUID();
+        int chunkSize = Math.max(1, properties.getEventChunkSize());
+        int chunkCount = (hubs.size() + chunkSize - 1) / chunkSize;
+        for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+            List<HubCreatedEvent> chunk = hubs
+                    .subList(chunkIndex * chunkSize, Math.min(hubs.size(), (chunkIndex + 1) * chunkSize))
+                    .stream()
+                    .map(hub -> HubCreatedEvent.of(hub.hubId(), hub.name(), hub.address(),
+                            hub.latitude(), hub.longitude(), HubStatus.ACTIVE.name()))
+                    .toList();
+            eventPublisher.publishExternal(HubsImportedEvent.chunk(importId, chunkIndex, chunkCount, chunk));
+        }
+    }
+
+    private static NewHub toHub(ImportRowReader.Row row) {
+        String name = required(row, "name", "허브 이름");
+        String address = required(row, "address", "주소");
+        double latitude = number(required(row, "latitude", "위도"), "위도");
+        double longitude = number(required(row, "longitude", "경도"), "경도");
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다.");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다.");
+        }
+        return new NewHub(UUID.randomUUID(), name, address, latitude, longitude);
+    }
+
+    private static HubRoute toRoute(ImportRowReader.Row row, UUID source, UUID target) {
+        HubRoute route = HubRoute.builder()
+                .routeId(UUID.randomUUID())
+                .sourceHubId(source)
+                .targetHubId(target)
+                .distance(integer(required(row, "distance", "거리"), "거리"))
+                .duration(integer(required(row, "duration", "소요 시간"), "소요 시간"))
+                .status(HubRouteStatus.ACTIVE)
+                .build();
+        route.validateRoute();
+
+        String multipliers = row.get("hourlymultipliers");
+        if (multipliers != null) {
+            route.changeHourlyMultipliers(Arrays.stream(multipliers.split(";"))
+                    .map(value -> number(value.trim(), "시간대별 배수"))
+                    .toList());
+        }
+        return route;
+    }
+
+    private static UUID resolveHub(String value, Map<String, UUID> hubIdsByName, Set<UUID> activeHubIds,
+                                   String label) {
+        if (value == null) {
+            throw new IllegalArgumentException(label + " 허브는 필수입니다.");
+        }
+        UUID byName = hubIdsByName.get(value);
+        if (byName != null) {
+            return byName;
+        }
+        try {
+            UUID hubId = UUID.fromString(value);
+            if (activeHubIds.contains(hubId)) {
+                return hubId;
+            }
+        } catch (IllegalArgumentException notUuid) {
+            // 이름으로도 ID 로도 찾지 못함
+        }
+        throw new IllegalArgumentException(label + " 허브를 찾을 수 없습니다: " + value);
+    }
+
+    private static String required(ImportRowReader.Row row, String column, String label) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(label + "은(는) 필수입니다.");
+        }
+        return value;
+    }
+
+    private static double number(String value, String label) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static int integer(String value, String label) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 값이 정수가 아닙니다: " + value);
+        }
+    }
+
+    private static String pairKey(UUID source, UUID target) {
+        return source + ":" + target;
+    }
+
+    /**
+     * 행 집계 + 최대 행 수 제한
+     */
+    private static final class Tally {
+        private final HubImportProperties properties;
+        private final List<RowError> errors = new ArrayList<>();
+        private int received;
+        private int duplicates;
+        private int rejected;
+
+        Tally(HubImportProperties properties) {
+            this.properties = properties;
+        }
+
+        void received() {
+            if (++received > properties.getMaxRows()) {
+                throw new BusinessException(CommonErrorType.INVALID,
+                        "한 번에 등록할 수 있는 행은 최대 " + properties.getMaxRows() + "개입니다.");
+            }
+        }
+
+        void duplicate() {
+            duplicates++;
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < properties.getMaxReportedErrors()) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        BulkImportResponse toResponse(int created, long startedMillis) {
+            return new BulkImportResponse(received, created, duplicates, rejected,
+                    System.currentTimeMillis() - startedMillis, List.copyOf(errors));
+        }
+    }
+}
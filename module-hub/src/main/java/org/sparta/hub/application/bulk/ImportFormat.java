@@ -0,0 +1,32 @@
+package org.sparta.hub.application.bulk;
+
+import org.sparta.common.error.BusinessException;
+import org.sparta.common.error.CommonErrorType;
+import org.springframework.http.MediaType;
+
+/**
+ * 일괄 등록 본문 형식
+ * - CSV    : text/csv, 첫 행은 헤더
+ * - NDJSON : application/x-ndjson, 한 줄에 JSON 객체 하나
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON))) {
+                return NDJSON;
+            }
+        }
+        throw new BusinessException(CommonErrorType.BAD_REQUEST,
+                "지원하지 않는 형식입니다. (" + TEXT_CSV + " 또는 " + APPLICATION_NDJSON + ")");
+    }
+}
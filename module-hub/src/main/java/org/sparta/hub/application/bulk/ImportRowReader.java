@@ -0,0 +1,166 @@
+package org.sparta.hub.application.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 등록 본문을 한 줄씩 읽어 행 단위로 넘긴다 (본문 전체를 메모리에 올리지 않음)
+ *
+ * - CSV: 첫 행 헤더(열 이름은 대소문자 무시), 큰따옴표 필드 지원 (필드 안 줄바꿈은 미지원)
+ * - NDJSON: 한 줄에 JSON 객체 하나, 배열 값은 ';' 로 이어 붙인 문자열로 변환
+ * - 빈 줄은 건너뛰고, 형식이 깨진 줄은 values 없이 error 만 채워 넘긴다
+ */
+@Component
+public class ImportRowReader {
+
+    private final ObjectMapper objectMapper;
+
+    public ImportRowReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void read(InputStream body, ImportFormat format, Consumer<Row> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (format == ImportFormat.CSV) {
+                readCsv(reader, consumer);
+            } else {
+                readNdjson(reader, consumer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("일괄 등록 본문을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        List<String> header = null;
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            if (header == null) {
+                header = splitCsv(stripBom(line)).stream().map(h -> h.trim().toLowerCase()).toList();
+                continue;
+            }
+            List<String> fields = splitCsv(line);
+            if (fields.size() != header.size()) {
+                consumer.accept(Row.invalid(lineNumber,
+                        "열 개수가 헤더와 다릅니다. (헤더 " + header.size() + "개, 행 " + fields.size() + "개)"));
+                continue;
+            }
+            Map<String, String> values = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i), fields.get(i).trim());
+            }
+            consumer.accept(Row.of(lineNumber, values));
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(lineNumber == 1 ? stripBom(line) : line);
+            } catch (IOException e) {
+                consumer.accept(Row.invalid(lineNumber, "JSON 형식이 올바르지 않습니다."));
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                consumer.accept(Row.invalid(lineNumber, "JSON 객체가 아닙니다."));
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                values.put(field.getKey().toLowerCase(), text(field.getValue()));
+            }
+            consumer.accept(Row.of(lineNumber, values));
+        }
+    }
+
+    private static String text(JsonNode value) {
+        if (value.isNull()) {
+            return "";
+        }
+        if (value.isArray()) {
+            List<String> items = new ArrayList<>(value.size());
+            value.forEach(item -> items.add(item.asText()));
+            return String.join(";", items);
+        }
+        return value.asText().trim();
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * 읽은 행 (열 이름은 소문자)
+     */
+    public record Row(long line, Map<String, String> values, String error) {
+
+        static Row of(long line, Map<String, String> values) {
+            return new Row(line, values, null);
+        }
+
+        static Row invalid(long line, String error) {
+            return new Row(line, Map.of(), error);
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+
+        public String get(String column) {
+            String value = values.get(column);
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+}
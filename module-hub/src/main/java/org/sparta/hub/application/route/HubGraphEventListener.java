@@ -0,0 +1,33 @@
+package org.sparta.hub.application.route;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.common.event.hub.HubCreatedEvent;
+import org.sparta.common.event.hub.HubDeletedEvent;
+import org.sparta.common.event.hub.HubUpdatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 허브 도메인 이벤트 → 인메모리 허브 그래프 반영 (커밋 후)
+ */
+@Component
+@RequiredArgsConstructor
+public class HubGraphEventListener {
+
+    private final HubRoutingEngine routingEngine;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHubCreated(HubCreatedEvent event) {
+        routingEngine.onHubChanged(event.hubId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHubUpdated(HubUpdatedEvent event) {
+        routingEngine.onHubChanged(event.hubId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHubDeleted(HubDeletedEvent event) {
+        routingEngine.onHubRemoved(event.hubId());
+    }
+}
@@ -0,0 +1,94 @@
+package org.sparta.hub.application.route;
+
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.RouteLeg;
+import org.sparta.common.route.RouteMetric;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 전체 허브 쌍(N×N) 최단 거리 경로표 (읽기 전용 스냅샷)
+ *
+ * - 그래프 버전 하나에 대응하며, 버전이 바뀌면 새 경로표로 통째로 교체된다
+ * - 출발 허브별로 최단 경로 트리(도착 허브 → 들어온 간선, int[N])를 한 번 구해 보관한다 (출발 허브 단위 fork-join 병렬)
+ *   경로(RoutePlanResponse)는 조회 시 트리를 따라 구성 → 메모리는 int N² (허브 1,000개 ≈ 4MB), 조회 비용은 홉 수만큼
+ * - 도달 불가 / 홉 제한 초과 쌍은 비워 두고, 조회 측이 기존 탐색 경로(예외 포함)로 처리한다
+ */
+public final class HubRouteTable {
+
+    private static final int SOURCES_PER_TASK = 8;
+
+    private final HubGraph graph;
+    private final int[][] trees;
+    private final int maxHops;
+
+    private HubRouteTable(HubGraph graph, int[][] trees, int maxHops) {
+        this.graph = graph;
+        this.trees = trees;
+        this.maxHops = maxHops;
+    }
+
+    public static HubRouteTable compute(HubGraph graph, int maxHops, ForkJoinPool pool) {
+        int n = graph.size();
+        int[][] trees = new int[n][];
+        pool.invoke(new SourceRangeTask(graph, trees, 0, n));
+        return new HubRouteTable(graph, trees, maxHops);
+    }
+
+    public long version() {
+        return graph.version();
+    }
+
+    public int size() {
+        return graph.size();
+    }
+
+    public Optional<RoutePlanResponse> find(UUID sourceId, UUID targetId) {
+        int source = graph.ordinalOf(sourceId);
+        int target = graph.ordinalOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+        List<RouteLeg> legs = graph.legsFromTree(source, target, trees[source]).orElse(null);
+        if (legs == null || legs.size() > maxHops + 1) {
+            return Optional.empty();
+        }
+        double totalKm = legs.stream().mapToDouble(RouteLeg::distanceKm).sum();
+        int totalMin = legs.stream().mapToInt(RouteLeg::estimatedMinutes).sum();
+        return Optional.of(new RoutePlanResponse(sourceId, targetId, HubGraph.round2(totalKm), totalMin, legs));
+    }
+
+    private static final class SourceRangeTask extends RecursiveAction {
+        private final HubGraph graph;
+        private final int[][] trees;
+        private final int from;
+        private final int to;
+
+        SourceRangeTask(HubGraph graph, int[][] trees, int from, int to) {
+            this.graph = graph;
+            this.trees = trees;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SOURCES_PER_TASK) {
+                for (int source = from; source < to; source++) {
+                    trees[source] = graph.shortestPathTree(source, RouteMetric.DISTANCE);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new SourceRangeTask(graph, trees, from, mid),
+                    new SourceRangeTask(graph, trees, mid, to)
+            );
+        }
+    }
+}
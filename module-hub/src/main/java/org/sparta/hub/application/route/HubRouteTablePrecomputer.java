@@ -0,0 +1,113 @@
+package org.sparta.hub.application.route;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.route.HubGraph;
+import org.sparta.hub.config.HubRouteTableProperties;
+import org.sparta.hub.config.HubRoutingProperties;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 허브 경로표 사전 계산기
+ *
+ * - 기동 직후 + refresh-interval-millis 마다 그래프 버전을 확인해 바뀌었으면 N×N 경로표를 다시 계산
+ * - 계산이 끝난 경로표는 volatile 교체로 게시 (조회는 락 없이 로컬 스냅샷에서)
+ * - 교체 시 버전 없이 저장된 routePlan 캐시를 비움
+ * → 배송 생성 시 경로 조회는 사전 계산된 결과만 읽는다
+ */
+@Slf4j
+@Component
+public class HubRouteTablePrecomputer {
+
+    private static final String ROUTE_PLAN_CACHE = "routePlan";
+
+    private final HubRoutingEngine routingEngine;
+    private final HubRoutingProperties routingProperties;
+    private final HubRouteTableProperties properties;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ForkJoinPool pool;
+
+    private volatile HubRouteTable table;
+
+    public HubRouteTablePrecomputer(HubRoutingEngine routingEngine,
+                                    HubRoutingProperties routingProperties,
+                                    HubRouteTableProperties properties,
+                                    ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.routingEngine = routingEngine;
+        this.routingProperties = routingProperties;
+        this.properties = properties;
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.pool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+    }
+
+    /**
+     * 현재 그래프 버전의 경로표에서 조회 (경로표가 없거나 이전 버전이면 empty)
+     */
+    public Optional<RoutePlanResponse> find(UUID sourceId, UUID targetId, long graphVersion) {
+        HubRouteTable current = table;
+        if (current == null || current.version() != graphVersion) {
+            return Optional.empty();
+        }
+        return current.find(sourceId, targetId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${hub.route-table.refresh-interval-millis:2000}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            HubGraph graph = routingEngine.graph();
+            HubRouteTable current = table;
+            if (current != null && current.version() == graph.version()) {
+                return;
+            }
+            if (graph.size() > properties.getMaxHubs()) {
+                log.warn("[HubRouteTable] 허브 수({})가 max-hubs({})를 넘어 경로표를 만들지 않음",
+                        graph.size(), properties.getMaxHubs());
+                return;
+            }
+
+            long started = System.nanoTime();
+            HubRouteTable computed = HubRouteTable.compute(graph, routingProperties.getMaxHops(), pool);
+            table = computed;
+            evictUnversionedCache();
+            log.info("[HubRouteTable] 경로표 계산 - version={}, hubs={}, elapsedMs={}",
+                    Long.toHexString(computed.version()), computed.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("[HubRouteTable] 경로표 갱신 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    private void evictUnversionedCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(ROUTE_PLAN_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,164 @@
+package org.sparta.hub.application.route;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.route.HubGraph;
+import org.sparta.hub.config.HubRoutingProperties;
+import org.sparta.hub.domain.entity.Hub;
+import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.domain.repository.HubRepository;
+import org.sparta.hub.domain.repository.HubRouteRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 상주 허브 경로 탐색 엔진
+ *
+ * - 첫 조회 시 ACTIVE 허브 + ACTIVE 경로로 HubGraph 를 한 번 구성하고 이후 조회는 메모리에서만 처리
+ * - 허브 생성/수정/삭제 이벤트는 해당 허브만 반영한 새 스냅샷으로 교체 (volatile 교체, 조회는 락 없음)
+ * - 경로(HubRoute) 변경은 드물어 커밋 후 그래프를 비우고 다음 조회에서 재구성
+ * - 다른 인스턴스의 변경을 놓치지 않도록 max-staleness-millis 가 지나면 다음 조회에서 재구성
+ */
+@Slf4j
+@Component
+public class HubRoutingEngine {
+
+    private final HubRepository hubRepository;
+    private final HubRouteRepository hubRouteRepository;
+    private final HubRoutingProperties properties;
+
+    private volatile HubGraph graph;
+    private volatile long builtAtMillis;
+
+    public HubRoutingEngine(HubRepository hubRepository,
+                            HubRouteRepository hubRouteRepository,
+                            HubRoutingProperties properties) {
+        this.hubRepository = hubRepository;
+        this.hubRouteRepository = hubRouteRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 현재 그래프 스냅샷 (없거나 오래되었으면 재구성)
+     */
+    public HubGraph graph() {
+        HubGraph current = graph;
+        if (current != null && !isStale()) {
+            return current;
+        }
+        synchronized (this) {
+            current = graph;
+            if (current != null && !isStale()) {
+                return current; // 다른 스레드가 먼저 재구성
+            }
+            return rebuild();
+        }
+    }
+
+    /**
+     * DB 기준으로 그래프 전체 재구성
+     */
+    public synchronized HubGraph rebuild() {
+        List<HubGraph.Node> nodes = hubRepository.findAllActive().stream()
+                .map(HubRoutingEngine::toNode)
+                .filter(Objects::nonNull)
+                .toList();
+        List<HubGraph.RouteEdge> routes = hubRouteRepository.findAllActive().stream()
+                .map(HubRoutingEngine::toRouteEdge)
+                .toList();
+
+        HubGraph rebuilt = HubGraph.build(nodes, routes, properties.getMaxLegKm(), properties.getMinutesPerKm(),
+                properties.defaultHourlyMultipliers());
+        publish(rebuilt);
+        log.info("[HubRoutingEngine] 허브 그래프 구성 - hubs={}, edges={}, routes={}",
+                rebuilt.size(), rebuilt.edgeCount(), routes.size());
+        return rebuilt;
+    }
+
+    /**
+     * 허브 생성/수정 반영 (비활성/좌표 없음이면 제거)
+     */
+    public synchronized void onHubChanged(UUID hubId) {
+        HubGraph current = graph;
+        if (current == null) {
+            return; // 아직 구성 전이면 첫 조회에서 최신 상태로 구성됨
+        }
+        HubGraph.Node node = hubRepository.findById(hubId)
+                .filter(hub -> !hub.isDeleted())
+                .map(HubRoutingEngine::toNode)
+                .orElse(null);
+        graph = node == null ? current.withoutHub(hubId) : current.withHub(node);
+        log.debug("[HubRoutingEngine] 허브 변경 반영 - hubId={}, active={}", hubId, node != null);
+    }
+
+    /**
+     * 허브 삭제 반영
+     */
+    public synchronized void onHubRemoved(UUID hubId) {
+        HubGraph current = graph;
+        if (current != null) {
+            graph = current.withoutHub(hubId);
+        }
+    }
+
+    /**
+     * 경로 변경 후 그래프 무효화 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * 경로 일괄 변경 후 그래프 재구성 (트랜잭션 안이면 커밋 후)
+     */
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    public synchronized void invalidate() {
+        graph = null;
+    }
+
+    private boolean isStale() {
+        return System.currentTimeMillis() - builtAtMillis > properties.getMaxStalenessMillis();
+    }
+
+    private void publish(HubGraph rebuilt) {
+        graph = rebuilt;
+        builtAtMillis = System.currentTimeMillis();
+    }
+
+    private static HubGraph.Node toNode(Hub hub) {
+        if (hub.getLatitude() == null || hub.getLongitude() == null) {
+            return null;
+        }
+        return new HubGraph.Node(hub.getHubId(), hub.getLatitude(), hub.getLongitude());
+    }
+
+    private static HubGraph.RouteEdge toRouteEdge(HubRoute route) {
+        return new HubGraph.RouteEdge(route.getSourceHubId(), route.getTargetHubId(),
+                route.getDistance(), route.getDuration(), route.hourlyMultiplierValues());
+    }
+}
@@ -0,0 +1,57 @@
+package org.sparta.hub.application.route;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 계산을 하나로 합치는 single-flight
+ *
+ * - 키별로 진행 중인 계산(CompletableFuture)을 하나만 두고, 늦게 온 호출은 같은 future 를 받는다
+ * - 계산이 끝나면(성공/실패 모두) 키를 지워 다음 호출은 새로 계산한다 (결과 보관은 캐시의 몫)
+ * - executor 가 Runnable::run 이면 첫 호출자 스레드에서 바로 계산
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Flight<V> execute(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return new Flight<>(existing, false);
+        }
+        try {
+            executor.execute(() -> {
+                // 키를 먼저 지운 뒤 완료해야 결과를 받은 호출자가 곧바로 다시 호출해도 끝난 계산에 합류하지 않는다
+                V value;
+                try {
+                    value = loader.get();
+                } catch (Throwable t) {
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(t);
+                    return;
+                }
+                inFlight.remove(key, created);
+                created.complete(value);
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return new Flight<>(created, true);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @param leader true 면 이 호출이 계산을 시작했고, false 면 진행 중인 계산에 합류
+     */
+    public record Flight<V>(CompletableFuture<V> future, boolean leader) {
+    }
+}
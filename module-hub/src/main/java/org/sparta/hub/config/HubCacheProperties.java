@@ -0,0 +1,69 @@
+package org.sparta.hub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 허브 2단계 캐시(Caffeine L1 + Redis L2) 설정
+ *
+ * 예시:
+ * hub:
+ *   cache:
+ *     invalidation-channel: hub:cache:invalidate
+ *     caches:
+ *       routePlan:
+ *         ttl: 10m
+ *         local-ttl: 1m
+ *         maximum-size: 10000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "hub.cache")
+public class HubCacheProperties {
+
+    /**
+     * L1 무효화 메시지 Redis pub/sub 채널
+     */
+    private String invalidationChannel = "hub:cache:invalidate";
+
+    /**
+     * caches 에 없는 캐시의 기본 설정
+     */
+    private CacheSpec defaults = new CacheSpec();
+
+    /**
+     * 캐시 이름별 설정
+     */
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    public CacheSpec spec(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        /**
+         * Redis(L2) TTL
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Caffeine(L1) TTL - 다른 인스턴스 무효화 메시지 유실 시 최대 stale 시간
+         */
+        private Duration localTtl = Duration.ofMinutes(1);
+
+        /**
+         * Caffeine(L1) 최대 항목 수
+         */
+        private long maximumSize = 1_000;
+    }
+}
@@ -0,0 +1,44 @@
+package org.sparta.hub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 허브/경로 일괄 등록 설정
+ *
+ * 예시:
+ * hub:
+ *   import:
+ *     jdbc-batch-size: 1000
+ *     max-rows: 100000
+ *     max-reported-errors: 100
+ *     event-chunk-size: 1000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "hub.import")
+public class HubImportProperties {
+
+    /**
+     * JDBC batch insert 1회당 행 수
+     */
+    private int jdbcBatchSize = 1_000;
+
+    /**
+     * 요청 1건에서 받을 수 있는 최대 데이터 행 수 (초과 시 요청 전체 거절)
+     */
+    private int maxRows = 100_000;
+
+    /**
+     * 응답에 담을 최대 행 오류 수 (나머지는 개수만 집계)
+     */
+    private int maxReportedErrors = 100;
+
+    /**
+     * HubsImportedEvent 1건에 담을 최대 허브 수 (메시지가 Kafka max.request.size(기본 1MB)를 넘지 않도록)
+     */
+    private int eventChunkSize = 1_000;
+}
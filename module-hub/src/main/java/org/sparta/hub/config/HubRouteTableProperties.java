@@ -0,0 +1,44 @@
+package org.sparta.hub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 전체 허브 쌍 경로표 사전 계산 설정
+ *
+ * 예시:
+ * hub:
+ *   route-table:
+ *     enabled: true
+ *     refresh-interval-millis: 2000
+ *     parallelism: 4
+ *     max-hubs: 1000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "hub.route-table")
+public class HubRouteTableProperties {
+
+    /**
+     * true 이면 허브 그래프 버전이 바뀔 때마다 N×N 경로표를 백그라운드에서 다시 계산
+     */
+    private boolean enabled = false;
+
+    /**
+     * 그래프 버전 변경 확인 주기 (ms)
+     */
+    private long refreshIntervalMillis = 2_000;
+
+    /**
+     * 경로표 계산 fork-join 병렬도
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 허브 수가 이보다 많으면 경로표를 만들지 않고 조회 시 계산 (출발 허브별 트리 int[N] × N, 1,000개 ≈ 4MB)
+     */
+    private int maxHubs = 1_000;
+}
@@ -0,0 +1,72 @@
+package org.sparta.hub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 허브 경로 탐색(인메모리 그래프) 설정
+ *
+ * 예시:
+ * hub:
+ *   routing:
+ *     max-leg-km: 200
+ *     max-hops: 20
+ *     minutes-per-km: 1.0
+ *     max-staleness-millis: 300000
+ *     plan-executor-threads: 8
+ *     plan-executor-queue-capacity: 1000
+ *     hourly-multipliers: [1.0, 1.0, ..., 1.0]  # 0~23시 24개
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "hub.routing")
+public class HubRoutingProperties {
+
+    /**
+     * 허브 간 직접 이동 가능한 최대 거리 (이 거리 이내 허브끼리는 좌표 기반 간선으로 연결)
+     */
+    private double maxLegKm = 200.0;
+
+    /**
+     * 경로 최대 경유 수
+     */
+    private int maxHops = 20;
+
+    /**
+     * 좌표 기반 간선 소요 시간 환산 (1km = 1분으로 단순화)
+     */
+    private double minutesPerKm = 1.0;
+
+    /**
+     * 그래프 최대 유지 시간 (ms). 다른 인스턴스에서 변경된 허브/경로를 놓치지 않도록 지나면 다음 조회 시 재구성
+     */
+    private long maxStalenessMillis = 300_000;
+
+    /**
+     * 경로 계획 비동기 실행 스레드 수 (GET /api/hub-routes/plan 계산 전용, 캐시 적중/합류 호출은 스레드를 쓰지 않음)
+     */
+    private int planExecutorThreads = 8;
+
+    /**
+     * 경로 계획 실행 대기 큐 크기 (가득 차면 요청 스레드에서 직접 계산)
+     */
+    private int planExecutorQueueCapacity = 1_000;
+
+    /**
+     * 시간대별 배수가 없는 간선에 적용할 0~23시 소요 시간 배수 (비어 있으면 시간대 무관)
+     */
+    private List<Double> hourlyMultipliers = new ArrayList<>();
+
+    public double[] defaultHourlyMultipliers() {
+        if (hourlyMultipliers == null || hourlyMultipliers.isEmpty()) {
+            return null;
+        }
+        return hourlyMultipliers.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
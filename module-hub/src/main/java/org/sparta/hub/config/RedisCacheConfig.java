@@ -1,20 +1,36 @@
 package org.sparta.hub.config;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.sparta.hub.infrastructure.cache.TwoLevelCacheManager;
+import org.sparta.hub.presentation.dto.response.HubResponse;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * 허브 전용 Redis 캐시 설정
+ * 허브 전용 캐시 설정 (Caffeine L1 + Redis L2)
+ *
+ * - Redis 연결은 spring.data.redis.* 자동 설정을 사용
+ * - L2 값은 캐시별 타입을 고정한 Smile(바이너리 JSON) 직렬화 → 타입 메타데이터(@class) 없이 작게 저장
+ *   타입이 등록되지 않은 캐시는 기존처럼 GenericJackson2JsonRedisSerializer 사용
  */
 @Configuration
 @EnableCaching
@@ -26,14 +42,24 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 )
 public class RedisCacheConfig {
 
-    @Bean(name = "hubRedisConnectionFactory")
-    public RedisConnectionFactory hubRedisConnectionFactory() {
-        return new LettuceConnectionFactory("localhost", 6378);
-    }
+    public static final String ROUTE_PLAN_CACHE = "routePlan";
+    public static final String HUB_CACHE = "hub";
+    public static final String ACTIVE_HUBS_CACHE = "activeHubs";
 
     @Bean(name = "hubCacheManager")
-    public CacheManager hubCacheManager(RedisConnectionFactory hubRedisConnectionFactory) {
-        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+    public TwoLevelCacheManager hubCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                StringRedisTemplate redisTemplate,
+                                                HubCacheProperties properties) {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+        Map<String, JavaType> valueTypes = Map.of(
+                ROUTE_PLAN_CACHE, smileMapper.constructType(RoutePlanResponse.class),
+                HUB_CACHE, smileMapper.constructType(HubResponse.class),
+                ACTIVE_HUBS_CACHE, smileMapper.getTypeFactory().constructCollectionType(List.class, HubResponse.class)
+        );
+
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .disableCachingNullValues()
+                .entryTtl(properties.getDefaults().getTtl())
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
@@ -41,8 +67,32 @@ public class RedisCacheConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
 
-        return RedisCacheManager.builder(hubRedisConnectionFactory)
-                .cacheDefaults(cacheConfig)
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        valueTypes.forEach((name, type) -> perCache.put(name, defaults
+                .entryTtl(properties.spec(name).getTtl())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(smileMapper, type)))));
+        properties.getCaches().forEach((name, spec) ->
+                perCache.putIfAbsent(name, defaults.entryTtl(spec.getTtl())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(perCache)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, properties);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer hubCacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager hubCacheManager,
+            HubCacheProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(hubCacheManager, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
     }
 }
@@ -0,0 +1,34 @@
+package org.sparta.hub.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 경로 계획 비동기 실행 스레드 풀
+ *
+ * Java 17 환경이라 가상 스레드 대신 고정 크기 풀을 쓴다.
+ * 요청 스레드는 계산을 맡기고 바로 반환되며(서블릿 비동기), 같은 허브 쌍을 기다리는 요청은 스레드를 점유하지 않는다.
+ */
+@Configuration
+public class RoutePlanExecutorConfig {
+
+    public static final String ROUTE_PLAN_EXECUTOR = "routePlanExecutor";
+
+    @Bean(name = ROUTE_PLAN_EXECUTOR)
+    public Executor routePlanExecutor(HubRoutingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPlanExecutorThreads());
+        executor.setMaxPoolSize(properties.getPlanExecutorThreads());
+        executor.setQueueCapacity(properties.getPlanExecutorQueueCapacity());
+        executor.setThreadNamePrefix("route-plan-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -5,7 +5,10 @@ import lombok.*;
 import org.sparta.hub.domain.model.HubRouteStatus;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "hub_route")
@@ -15,6 +18,8 @@ import java.util.UUID;
 @Builder
 public class HubRoute {
 
+    private static final int HOURS_PER_DAY = 24;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID routeId;
@@ -31,6 +36,10 @@ public class HubRoute {
     @Column(nullable = false)
     private int duration; // 분 단위
 
+    // 0~23시 소요 시간 배수 24개 (쉼표 구분), null 이면 전역 기본 배수 적용
+    @Column(length = 512)
+    private String hourlyMultipliers;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private HubRouteStatus status;
@@ -81,6 +90,42 @@ public class HubRoute {
 
 
 
+    /**
+     * 시간대별 소요 시간 배수 변경 (null/빈 목록이면 해제)
+     */
+    public void changeHourlyMultipliers(List<Double> multipliers, String updatedBy) {
+        if (multipliers == null || multipliers.isEmpty()) {
+            this.hourlyMultipliers = null;
+        } else {
+            if (multipliers.size() != HOURS_PER_DAY) {
+                throw new IllegalArgumentException("시간대별 배수는 24개(0~23시)여야 합니다.");
+            }
+            if (multipliers.stream().anyMatch(m -> m == null || !(m > 0))) {
+                throw new IllegalArgumentException("시간대별 배수는 0보다 커야 합니다.");
+            }
+            this.hourlyMultipliers = multipliers.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+        this.updatedAt = LocalDateTime.now();
+        this.updatedBy = updatedBy;
+    }
+    public void changeHourlyMultipliers(List<Double> multipliers) {
+        changeHourlyMultipliers(multipliers, null);
+    }
+
+    /**
+     * 시간대별 소요 시간 배수 (설정되지 않았으면 null)
+     */
+    public double[] hourlyMultiplierValues() {
+        if (hourlyMultipliers == null || hourlyMultipliers.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(hourlyMultipliers.split(","))
+                .mapToDouble(v -> Double.parseDouble(v.trim()))
+                .toArray();
+    }
+
+
+
     public void markAsDeleted(String deletedBy) {
         this.status = HubRouteStatus.INACTIVE;
         this.deletedAt = LocalDateTime.now();
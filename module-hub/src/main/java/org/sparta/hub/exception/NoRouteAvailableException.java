@@ -0,0 +1,12 @@
+package org.sparta.hub.exception;
+
+/**
+ * 허브 간 경로 없음 (경유 후보 허브 없음 / 홉 제한 초과)
+ * - 일괄 경로 조회에서 NO_ROUTE 항목으로 구분하기 위한 예외
+ * - 기존 단건 조회 처리와 같도록 IllegalStateException 을 상속
+ */
+public class NoRouteAvailableException extends IllegalStateException {
+    public NoRouteAvailableException(String message) {
+        super(message);
+    }
+}
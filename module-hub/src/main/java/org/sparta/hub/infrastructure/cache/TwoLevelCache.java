@@ -0,0 +1,136 @@
+package org.sparta.hub.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ *
+ * - 조회: L1 → L2 → (없으면) 로더, L2 에서 찾은 값은 L1 에 채움
+ * - 저장: L2 → L1 (즉시)
+ * - 삭제/비우기: 트랜잭션 안이면 커밋 후 L2/L1 에서 제거하고 다른 인스턴스에 L1 무효화 메시지 발행
+ *   (커밋 전 제거 → 다른 요청이 이전 값을 다시 채우는 경합 방지)
+ * - L1 키는 Redis 키와 같은 문자열 표현을 사용 (무효화 메시지로 바로 찾을 수 있도록)
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> local,
+                         org.springframework.cache.Cache remote,
+                         BiConsumer<String, String> invalidationPublisher) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 키 동시 miss 는 L1 에서 한 번만 L2/로더로 내려감
+        return (T) local.get(localKey(key), k -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        local.put(localKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = existing == null ? value : existing.get();
+        if (current != null) {
+            local.put(localKey(key), current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        afterCommit(() -> {
+            remote.evict(key);
+            local.invalidate(localKey);
+            invalidationPublisher.accept(name, localKey);
+        });
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> {
+            remote.clear();
+            local.invalidateAll();
+            invalidationPublisher.accept(name, null);
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 반영 (L1 만)
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
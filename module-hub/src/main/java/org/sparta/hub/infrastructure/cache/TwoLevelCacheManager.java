@@ -0,0 +1,91 @@
+package org.sparta.hub.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.hub.config.HubCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 CacheManager
+ *
+ * - 캐시별 TTL/L1 크기는 hub.cache.caches.{name} 설정
+ * - L1 무효화는 Redis pub/sub(hub.cache.invalidation-channel)으로 전파
+ *   메시지: {instanceId}|{cacheName}|{key} (key 가 비어 있으면 전체 비우기), 자기 인스턴스 메시지는 무시
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final HubCacheProperties properties;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                HubCacheProperties properties) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getCaches().keySet().stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        HubCacheProperties.CacheSpec spec = properties.spec(name);
+        TwoLevelCache cache = new TwoLevelCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getLocalTtl())
+                        .build(),
+                redisCacheManager.getCache(name),
+                this::publishInvalidation
+        );
+        caches.put(name, cache);
+        return cache;
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key);
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            // 유실되면 다른 인스턴스 L1 은 local-ttl 이후 만료
+            log.warn("[TwoLevelCache] 무효화 메시지 발행 실패 - cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
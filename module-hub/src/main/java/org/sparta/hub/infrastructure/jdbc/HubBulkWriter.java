@@ -0,0 +1,82 @@
+package org.sparta.hub.infrastructure.jdbc;
+
+import org.sparta.hub.config.HubImportProperties;
+import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.domain.model.HubRouteStatus;
+import org.sparta.hub.domain.model.HubStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 허브/경로 일괄 등록용 JDBC batch insert
+ *
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 jdbc-batch-size 단위로 묶어 INSERT
+ *   (PostgreSQL 은 reWriteBatchedInserts=true 이면 multi-row INSERT 로 재작성)
+ * - 호출 측 트랜잭션에 참여하므로 실패하면 전체 롤백
+ * - 컬럼은 엔티티(Hub, HubRoute) 매핑과 같게 유지해야 한다
+ */
+@Component
+public class HubBulkWriter {
+
+    private static final String INSERT_HUB_SQL = """
+            insert into hub (hub_id, name, address, latitude, longitude, status, version, created_by, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ROUTE_SQL = """
+            insert into hub_route (route_id, source_hub_id, target_hub_id, distance, duration, hourly_multipliers,
+                                   status, created_by, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HubImportProperties properties;
+
+    public HubBulkWriter(JdbcTemplate jdbcTemplate, HubImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    public void insertHubs(List<NewHub> hubs, String createdBy) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_HUB_SQL, hubs, properties.getJdbcBatchSize(), (ps, hub) -> {
+            ps.setObject(1, hub.hubId());
+            ps.setString(2, hub.name());
+            ps.setString(3, hub.address());
+            ps.setDouble(4, hub.latitude());
+            ps.setDouble(5, hub.longitude());
+            ps.setString(6, HubStatus.ACTIVE.name());
+            ps.setString(7, createdBy);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public void insertRoutes(List<HubRoute> routes, String createdBy) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ROUTE_SQL, routes, properties.getJdbcBatchSize(), (ps, route) -> {
+            ps.setObject(1, route.getRouteId());
+            ps.setObject(2, route.getSourceHubId());
+            ps.setObject(3, route.getTargetHubId());
+            ps.setInt(4, route.getDistance());
+            ps.setInt(5, route.getDuration());
+            if (route.getHourlyMultipliers() == null) {
+                ps.setNull(6, Types.VARCHAR);
+            } else {
+                ps.setString(6, route.getHourlyMultipliers());
+            }
+            ps.setString(7, HubRouteStatus.ACTIVE.name());
+            ps.setString(8, createdBy);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public record NewHub(UUID hubId, String name, String address, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,51 @@
+package org.sparta.hub.presentation;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.sparta.common.api.ApiResponse;
+import org.sparta.hub.application.bulk.HubBulkImportService;
+import org.sparta.hub.application.bulk.ImportFormat;
+import org.sparta.hub.presentation.dto.response.BulkImportResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 운영자 전용 일괄 등록 엔드포인트 (신규 권역 온보딩)
+ * - 본문: text/csv (첫 행 헤더) 또는 application/x-ndjson
+ * - 본문은 요청 스트림에서 한 줄씩 읽는다
+ */
+@Tag(name = "Hub Import API (Admin)", description = "허브/경로 일괄 등록 API")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class HubImportController {
+
+    private final HubBulkImportService importService;
+
+    @Tag(name = "Hub - Import", description = "허브 일괄 등록 (열: name, address, latitude, longitude)")
+    @PostMapping(value = "/hubs/import", consumes = {ImportFormat.TEXT_CSV, ImportFormat.APPLICATION_NDJSON})
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importHubs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                importService.importHubs(body, ImportFormat.fromContentType(contentType))));
+    }
+
+    @Tag(name = "HubRoute - Import",
+            description = "경로 일괄 등록 (열: source, target, distance, duration, hourlyMultipliers(선택, ';' 구분 24개))")
+    @PostMapping(value = "/hub-routes/import", consumes = {ImportFormat.TEXT_CSV, ImportFormat.APPLICATION_NDJSON})
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importRoutes(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                importService.importRoutes(body, ImportFormat.fromContentType(contentType))));
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.sparta.common.api.ApiResponse; // ← 공통 규칙: common.api 패키지
 import org.sparta.hub.application.HubRouteService;
 import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.presentation.dto.request.HubRouteMultipliersRequest;
 import org.sparta.hub.presentation.dto.request.HubRouteRequest;
 import org.sparta.hub.presentation.dto.response.HubRouteResponse;
 import org.springframework.http.HttpStatus;
@@ -44,6 +45,14 @@ public class HubRouteController {
         return ResponseEntity.ok(ApiResponse.success(HubRouteResponse.from(updated)));
     }
 
+    @PutMapping("/{id}/hourly-multipliers")
+    public ResponseEntity<ApiResponse<HubRouteResponse>> updateHourlyMultipliers(
+            @PathVariable UUID id,
+            @RequestBody HubRouteMultipliersRequest req) {
+        HubRoute updated = hubRouteService.updateHourlyMultipliers(id, req.hourlyMultipliers());
+        return ResponseEntity.ok(ApiResponse.success(HubRouteResponse.from(updated)));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteRoute(@PathVariable UUID id) {
         hubRouteService.deleteRoute(id);
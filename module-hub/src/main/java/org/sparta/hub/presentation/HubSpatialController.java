@@ -0,0 +1,52 @@
+package org.sparta.hub.presentation;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.sparta.common.api.ApiResponse;
+import org.sparta.hub.application.HubSpatialService;
+import org.sparta.hub.presentation.dto.response.NearbyHubResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 좌표 기준 허브 조회 (ACTIVE 허브만)
+ * - 가까운 허브 k 개
+ * - 반경 내 허브
+ */
+@Tag(name = "Hub Spatial API", description = "좌표 기준 허브 조회 API")
+@RestController
+@RequestMapping("/api/hubs")
+@RequiredArgsConstructor
+public class HubSpatialController {
+
+    private final HubSpatialService hubSpatialService;
+
+    /**
+     * 가까운 허브 k 개 (가까운 순)
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<ApiResponse<List<NearbyHubResponse>>> nearest(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "1") int k
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(hubSpatialService.nearest(latitude, longitude, k)));
+    }
+
+    /**
+     * 반경(km) 내 허브 (가까운 순)
+     */
+    @GetMapping("/within")
+    public ResponseEntity<ApiResponse<List<NearbyHubResponse>>> within(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "200") double radiusKm
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(hubSpatialService.within(latitude, longitude, radiusKm)));
+    }
+}
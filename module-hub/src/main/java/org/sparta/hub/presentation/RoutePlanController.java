@@ -1,14 +1,22 @@
 package org.sparta.hub.presentation;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.sparta.common.api.ApiResponse;
+import org.sparta.common.route.RouteMetric;
 import org.sparta.hub.application.HubRoutePlanner;
+import org.sparta.hub.application.RoutePlanBatchService;
+import org.sparta.hub.presentation.dto.request.RoutePlanBatchRequest;
+import org.sparta.hub.presentation.dto.response.HubGraphSnapshotResponse;
+import org.sparta.hub.presentation.dto.response.RoutePlanBatchResponse;
 import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "HubRoute-Plan API", description = "허브 간 경로 API")
 @RestController
@@ -17,14 +25,31 @@ import java.util.UUID;
 public class RoutePlanController {
 
     private final HubRoutePlanner planner;
+    private final RoutePlanBatchService batchService;
 
     @Tag(name = "HubRoute - Plan", description = "허브 간 경로 계획(릴레이 포함)")
     @GetMapping("/plan")
-    public ResponseEntity<ApiResponse<RoutePlanResponse>> plan(
+    public CompletableFuture<ResponseEntity<ApiResponse<RoutePlanResponse>>> plan(
             @RequestParam UUID sourceHubId,
-            @RequestParam UUID targetHubId
+            @RequestParam UUID targetHubId,
+            @RequestParam(defaultValue = "DISTANCE") RouteMetric metric,
+            @RequestParam(required = false) LocalTime departAt
     ) {
-        RoutePlanResponse plan = planner.plan(sourceHubId, targetHubId);
-        return ResponseEntity.ok(ApiResponse.success(plan));
+        return planner.planAsync(sourceHubId, targetHubId, metric, departAt)
+                .thenApply(plan -> ResponseEntity.ok(ApiResponse.success(plan)));
+    }
+
+    @Tag(name = "HubRoute - Plan Batch", description = "허브 간 경로 계획 일괄 조회(중복 쌍은 한 번만 계산)")
+    @PostMapping("/plan:batch")
+    public ResponseEntity<ApiResponse<RoutePlanBatchResponse>> planBatch(
+            @Valid @RequestBody RoutePlanBatchRequest request
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(batchService.planAll(request.pairs())));
+    }
+
+    @Tag(name = "HubRoute - Graph Snapshot", description = "경로 계산용 허브 그래프 스냅샷(로컬 경로 복제본 초기화용)")
+    @GetMapping("/graph")
+    public ResponseEntity<ApiResponse<HubGraphSnapshotResponse>> graphSnapshot() {
+        return ResponseEntity.ok(ApiResponse.success(planner.snapshot()));
     }
 }
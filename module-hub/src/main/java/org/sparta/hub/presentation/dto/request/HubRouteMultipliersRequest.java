@@ -0,0 +1,11 @@
+package org.sparta.hub.presentation.dto.request;
+
+import java.util.List;
+
+/**
+ * 허브 경로 시간대별 소요 시간 배수 변경 요청 DTO
+ * - hourlyMultipliers: 0~23시 24개 (빈 목록이면 해제 → 전역 기본 배수 적용)
+ */
+public record HubRouteMultipliersRequest(
+        List<Double> hourlyMultipliers
+) {}
@@ -0,0 +1,25 @@
+package org.sparta.hub.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경로 계획 일괄 조회 요청 DTO
+ */
+public record RoutePlanBatchRequest(
+        @NotEmpty(message = "조회할 허브 쌍은 1개 이상이어야 합니다.")
+        @Size(max = 1000, message = "한 번에 조회할 수 있는 허브 쌍은 최대 1000개입니다.")
+        List<@Valid @NotNull Pair> pairs
+) {
+    public record Pair(
+            @NotNull(message = "출발 허브 ID는 필수입니다.")
+            UUID sourceHubId,
+            @NotNull(message = "도착 허브 ID는 필수입니다.")
+            UUID targetHubId
+    ) {}
+}
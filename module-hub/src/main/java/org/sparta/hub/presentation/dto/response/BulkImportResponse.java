@@ -0,0 +1,21 @@
+package org.sparta.hub.presentation.dto.response;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과
+ * - received  : 읽은 데이터 행 수
+ * - created   : 새로 등록된 수
+ * - duplicates: 이미 존재하거나 본문 안에서 중복되어 건너뛴 수
+ * - rejected  : 검증 실패로 건너뛴 수 (errors 에는 최대 max-reported-errors 건만 포함)
+ */
+public record BulkImportResponse(
+        int received,
+        int created,
+        int duplicates,
+        int rejected,
+        long elapsedMillis,
+        List<RowError> errors
+) {
+    public record RowError(long line, String message) {}
+}
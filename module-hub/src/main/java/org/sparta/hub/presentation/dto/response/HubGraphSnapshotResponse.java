@@ -0,0 +1,21 @@
+package org.sparta.hub.presentation.dto.response;
+
+import org.sparta.common.route.HubGraph;
+
+import java.util.List;
+
+/**
+ * 허브 그래프 스냅샷 (다른 서비스의 로컬 경로 복제본 구성용)
+ * - hubs: ACTIVE + 좌표가 있는 허브
+ * - routes: ACTIVE 허브 경로 (구간별 시간대 배수 포함)
+ * - hourlyMultipliers: 구간 배수가 없을 때 적용할 0~23시 기본 배수 (null 이면 시간대 무관)
+ */
+public record HubGraphSnapshotResponse(
+        long version,
+        double maxLegKm,
+        double minutesPerKm,
+        int maxHops,
+        List<HubGraph.Node> hubs,
+        List<HubGraph.RouteEdge> routes,
+        double[] hourlyMultipliers
+) {}
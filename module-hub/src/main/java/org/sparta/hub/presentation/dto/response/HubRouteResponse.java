@@ -3,6 +3,8 @@ package org.sparta.hub.presentation.dto.response;
 import org.sparta.hub.domain.entity.HubRoute;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 public record HubRouteResponse(
@@ -11,6 +13,7 @@ public record HubRouteResponse(
         UUID targetHubId,
         int distance,
         int duration,
+        List<Double> hourlyMultipliers,
         String status,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
@@ -22,9 +25,14 @@ public record HubRouteResponse(
                 e.getTargetHubId(),
                 e.getDistance(),
                 e.getDuration(),
+                toList(e.hourlyMultiplierValues()),
                 e.getStatus().name(),
                 e.getCreatedAt(),
                 e.getUpdatedAt()
         );
     }
+
+    private static List<Double> toList(double[] values) {
+        return values == null ? null : Arrays.stream(values).boxed().toList();
+    }
 }
@@ -0,0 +1,10 @@
+package org.sparta.hub.presentation.dto.response;
+
+import java.util.UUID;
+
+public record NearbyHubResponse(
+        UUID hubId,
+        double latitude,
+        double longitude,
+        double distanceKm
+) {}
@@ -0,0 +1,36 @@
+package org.sparta.hub.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경로 계획 일괄 조회 응답 DTO
+ * - 중복 제거된 허브 쌍마다 plan 또는 code/error 중 하나가 채워진다
+ * - code 가 NO_ROUTE 인 항목만 "경로 없음" 이고, 나머지 실패는 호출자가 오류로 처리한다
+ */
+public record RoutePlanBatchResponse(
+        List<Item> results
+) {
+    public record Item(
+            UUID sourceHubId,
+            UUID targetHubId,
+            RoutePlanResponse plan,
+            String code,
+            String error
+    ) {
+        /** 도달 가능한 경로 없음 (경유 후보 없음 / 홉 제한 초과) */
+        public static final String NO_ROUTE = "NO_ROUTE";
+        /** 같은 허브 / 없는 허브 */
+        public static final String INVALID_PAIR = "INVALID_PAIR";
+        /** 그 외 계산 실패 */
+        public static final String ERROR = "ERROR";
+
+        public static Item success(RoutePlanResponse plan) {
+            return new Item(plan.sourceHubId(), plan.targetHubId(), plan, null, null);
+        }
+
+        public static Item failure(UUID sourceHubId, UUID targetHubId, String code, String error) {
+            return new Item(sourceHubId, targetHubId, null, code, error);
+        }
+    }
+}
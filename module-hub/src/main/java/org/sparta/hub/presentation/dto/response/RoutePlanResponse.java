@@ -1,6 +1,6 @@
 package org.sparta.hub.presentation.dto.response;
 
-import org.sparta.hub.application.route.RouteLeg;
+import org.sparta.common.route.RouteLeg;
 
 import java.util.List;
 import java.util.UUID;
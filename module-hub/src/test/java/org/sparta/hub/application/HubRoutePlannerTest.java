@@ -117,7 +117,7 @@ class HubRoutePlannerTest {
         var cache = cacheManager.getCache("routePlan");
         assertThat(cache).isNotNull();
 
-        String key = "routePlan::" + seoul.getHubId() + "::" + daejeon.getHubId();
+        String key = seoul.getHubId() + ":" + daejeon.getHubId();
         Object cached = cache.get(key, RoutePlanResponse.class);
         assertThat(cached).isNotNull();
     }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.sparta.hub.application.route.HubRoutingEngine;
 import org.sparta.hub.domain.entity.HubRoute;
 import org.sparta.hub.domain.model.HubRouteStatus;
 import org.sparta.hub.domain.repository.HubRouteRepository;
@@ -23,6 +24,9 @@ class HubRouteServiceTest {
     @Mock
     private HubRouteRepository hubRouteRepository;
 
+    @Mock
+    private HubRoutingEngine routingEngine;
+
     @InjectMocks
     private HubRouteService hubRouteService;
 
@@ -0,0 +1,91 @@
+package org.sparta.hub.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sparta.hub.exception.HubNotFoundException;
+import org.sparta.hub.exception.NoRouteAvailableException;
+import org.sparta.hub.presentation.dto.request.RoutePlanBatchRequest.Pair;
+import org.sparta.hub.presentation.dto.response.RoutePlanBatchResponse;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoutePlanBatchServiceTest {
+
+    @Mock
+    private HubRoutePlanner planner;
+
+    @InjectMocks
+    private RoutePlanBatchService batchService;
+
+    private final UUID seoul = UUID.randomUUID();
+    private final UUID busan = UUID.randomUUID();
+    private final UUID unknown = UUID.randomUUID();
+
+    @Test
+    @DisplayName("중복 쌍은 한 번만 계산하고 요청 순서대로 응답")
+    void planAll_deduplicates() {
+        given(planner.plan(seoul, busan)).willReturn(new RoutePlanResponse(seoul, busan, 325.0, 325, List.of()));
+        given(planner.plan(busan, seoul)).willReturn(new RoutePlanResponse(busan, seoul, 325.0, 325, List.of()));
+
+        RoutePlanBatchResponse response = batchService.planAll(List.of(
+                new Pair(seoul, busan), new Pair(busan, seoul), new Pair(seoul, busan)));
+
+        assertThat(response.results()).extracting(RoutePlanBatchResponse.Item::sourceHubId)
+                .containsExactly(seoul, busan);
+        then(planner).should(times(1)).plan(seoul, busan);
+    }
+
+    @Test
+    @DisplayName("쌍 단위 실패는 해당 항목의 error 로만 응답")
+    void planAll_partialFailure() {
+        given(planner.plan(seoul, busan)).willReturn(new RoutePlanResponse(seoul, busan, 325.0, 325, List.of()));
+        given(planner.plan(seoul, unknown)).willThrow(new IllegalArgumentException("도착 허브를 찾을 수 없습니다."));
+
+        RoutePlanBatchResponse response = batchService.planAll(List.of(
+                new Pair(seoul, busan), new Pair(seoul, unknown)));
+
+        assertThat(response.results().get(0).plan()).isNotNull();
+        assertThat(response.results().get(1).plan()).isNull();
+        assertThat(response.results().get(1).code()).isEqualTo(RoutePlanBatchResponse.Item.INVALID_PAIR);
+        assertThat(response.results().get(1).error()).isEqualTo("도착 허브를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("경로 없음은 NO_ROUTE, 그 외 계산 실패는 ERROR 로 구분해 응답")
+    void planAll_distinguishesNoRoute() {
+        given(planner.plan(seoul, busan)).willThrow(new NoRouteAvailableException("200km 내 경유 후보 허브가 없습니다."));
+        given(planner.plan(busan, seoul)).willThrow(new IllegalStateException("그래프 재구성 실패"));
+
+        RoutePlanBatchResponse response = batchService.planAll(List.of(
+                new Pair(seoul, busan), new Pair(busan, seoul)));
+
+        assertThat(response.results()).extracting(RoutePlanBatchResponse.Item::code)
+                .containsExactly(RoutePlanBatchResponse.Item.NO_ROUTE, RoutePlanBatchResponse.Item.ERROR);
+    }
+
+    @Test
+    @DisplayName("허브 조회 실패/DB 오류 등 그 밖의 예외도 배치 전체를 실패시키지 않고 해당 항목만 ERROR 로 응답")
+    void planAll_mapsOtherRuntimeExceptionsToError() {
+        given(planner.plan(seoul, busan)).willReturn(new RoutePlanResponse(seoul, busan, 325.0, 325, List.of()));
+        given(planner.plan(seoul, unknown)).willThrow(new HubNotFoundException(unknown));
+        given(planner.plan(busan, seoul)).willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        RoutePlanBatchResponse response = batchService.planAll(List.of(
+                new Pair(seoul, busan), new Pair(seoul, unknown), new Pair(busan, seoul)));
+
+        assertThat(response.results()).extracting(RoutePlanBatchResponse.Item::code)
+                .containsExactly(null, RoutePlanBatchResponse.Item.ERROR, RoutePlanBatchResponse.Item.ERROR);
+        assertThat(response.results().get(0).plan()).isNotNull();
+    }
+}
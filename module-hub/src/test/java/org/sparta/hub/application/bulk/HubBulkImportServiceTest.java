@@ -0,0 +1,135 @@
+package org.sparta.hub.application.bulk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.common.event.hub.HubsImportedEvent;
+import org.mockito.ArgumentCaptor;
+import org.sparta.hub.config.HubImportProperties;
+import org.sparta.hub.domain.entity.Hub;
+import org.sparta.hub.domain.entity.HubRoute;
+import org.sparta.hub.domain.repository.HubRepository;
+import org.sparta.hub.domain.repository.HubRouteRepository;
+import org.sparta.hub.presentation.dto.response.BulkImportResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class HubBulkImportServiceTest {
+
+    @Autowired private HubBulkImportService importService;
+    @Autowired private HubRepository hubRepository;
+    @Autowired private HubRouteRepository hubRouteRepository;
+    @Autowired private HubImportProperties importProperties;
+
+    @MockBean
+    private EventPublisher eventPublisher;
+
+    @BeforeEach
+    void init() {
+        hubRouteRepository.deleteAll();
+        hubRepository.deleteAll();
+        hubRepository.save(Hub.create("서울 허브", "서울시", 37.5665, 126.9780));
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        importProperties.setEventChunkSize(1_000);
+    }
+
+    @Test
+    @DisplayName("허브 일괄 등록: 기존/본문 내 중복은 건너뛰고, 잘못된 행은 줄 번호와 함께 거절한다")
+    void importHubs_skipsDuplicatesAndRejectsInvalidRows() {
+        String csv = """
+                name,address,latitude,longitude
+                서울 허브,서울시,37.5,127.0
+                대전 허브,대전시,36.35,127.38
+                대전 허브,대전시 유성구,36.36,127.35
+                부산 허브,부산시,95.0,129.07
+                광주 허브,광주시,35.16,126.85
+                """;
+
+        BulkImportResponse response = importService.importHubs(stream(csv), ImportFormat.CSV);
+
+        assertThat(response.received()).isEqualTo(5);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.duplicates()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors()).extracting(BulkImportResponse.RowError::line).containsExactly(5L);
+        assertThat(hubRepository.findAll()).extracting(Hub::getName)
+                .containsExactlyInAnyOrder("서울 허브", "대전 허브", "광주 허브");
+        verify(eventPublisher, times(1)).publishExternal(any(HubsImportedEvent.class));
+    }
+
+    @Test
+    @DisplayName("허브 일괄 등록: 등록 이벤트는 event-chunk-size 단위로 같은 importId 를 달아 나눠 발행한다")
+    void importHubs_publishesEventsInChunks() {
+        // given
+        importProperties.setEventChunkSize(2);
+        String csv = """
+                name,address,latitude,longitude
+                대전 허브,대전시,36.35,127.38
+                광주 허브,광주시,35.16,126.85
+                부산 허브,부산시,35.18,129.07
+                """;
+
+        // when
+        importService.importHubs(stream(csv), ImportFormat.CSV);
+
+        // then
+        ArgumentCaptor<HubsImportedEvent> captor = ArgumentCaptor.forClass(HubsImportedEvent.class);
+        verify(eventPublisher, times(2)).publishExternal(captor.capture());
+        List<HubsImportedEvent> events = captor.getAllValues();
+        assertThat(events).extracting(event -> event.hubs().size()).containsExactly(2, 1);
+        assertThat(events).extracting(HubsImportedEvent::importId).containsOnly(events.get(0).importId());
+        assertThat(events).extracting(HubsImportedEvent::lastChunk).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("경로 일괄 등록: 허브 이름/ID 로 연결하고 시간대별 배수를 함께 저장한다")
+    void importRoutes_resolvesHubsByNameAndStoresMultipliers() {
+        importService.importHubs(stream("""
+                {"name":"부산 허브","address":"부산시","latitude":35.1796,"longitude":129.0756}
+                """), ImportFormat.NDJSON);
+        String rush = String.join(";", List.of(
+                "1", "1", "1", "1", "1", "1", "1", "1.5", "1.5", "1", "1", "1",
+                "1", "1", "1", "1", "1", "1.5", "1.5", "1", "1", "1", "1", "1"));
+        String csv = """
+                source,target,distance,duration,hourlyMultipliers
+                서울 허브,부산 허브,400,300,%s
+                서울 허브,부산 허브,410,310,
+                부산 허브,없는 허브,400,300,
+                """.formatted(rush);
+
+        BulkImportResponse response = importService.importRoutes(stream(csv), ImportFormat.CSV);
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.duplicates()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(1);
+        List<HubRoute> routes = hubRouteRepository.findAllActive();
+        assertThat(routes).hasSize(1);
+        assertThat(routes.get(0).getDistance()).isEqualTo(400);
+        assertThat(routes.get(0).hourlyMultiplierValues()).hasSize(24).contains(1.5);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package org.sparta.hub.application.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRowReaderTest {
+
+    private final ImportRowReader reader = new ImportRowReader(new ObjectMapper());
+
+    @Test
+    @DisplayName("CSV: 헤더 기준으로 열을 읽고 큰따옴표 안의 쉼표/따옴표를 보존한다")
+    void csv_readsQuotedFields() {
+        String body = """
+                Name,Address,Latitude,Longitude
+                서울 허브,"서울시 송파구, 1번지 ""A동""",37.5,127.0
+
+                부산 허브,부산시 강서구,35.1
+                """;
+
+        List<ImportRowReader.Row> rows = read(body, ImportFormat.CSV);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).isValid()).isTrue();
+        assertThat(rows.get(0).get("name")).isEqualTo("서울 허브");
+        assertThat(rows.get(0).get("address")).isEqualTo("서울시 송파구, 1번지 \"A동\"");
+        assertThat(rows.get(0).get("longitude")).isEqualTo("127.0");
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(1).line()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 줄마다 객체를 읽고 배열은 ';' 로 이어 붙이며, 깨진 줄은 오류 행으로 넘긴다")
+    void ndjson_readsObjectsPerLine() {
+        String body = """
+                {"source":"서울 허브","target":"부산 허브","distance":400,"duration":300,"hourlyMultipliers":[1.0,1.5]}
+                {"source":
+                """;
+
+        List<ImportRowReader.Row> rows = read(body, ImportFormat.NDJSON);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("source")).isEqualTo("서울 허브");
+        assertThat(rows.get(0).get("distance")).isEqualTo("400");
+        assertThat(rows.get(0).get("hourlymultipliers")).isEqualTo("1.0;1.5");
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(1).line()).isEqualTo(2);
+    }
+
+    private List<ImportRowReader.Row> read(String body, ImportFormat format) {
+        List<ImportRowReader.Row> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,117 @@
+package org.sparta.hub.application.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.RouteLeg;
+import org.sparta.common.route.RouteMetric;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubGraphTest {
+
+    private static final double MAX_LEG_KM = 200.0;
+    private static final double MINUTES_PER_KM = 1.0;
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+    private final UUID d = UUID.randomUUID();
+
+    // 적도 위 경도 1도 ≈ 111km
+    private final List<HubGraph.Node> nodes = List.of(
+            new HubGraph.Node(a, 0.0, 0.0),
+            new HubGraph.Node(b, 0.0, 1.0),
+            new HubGraph.Node(c, 0.0, 2.0),
+            new HubGraph.Node(d, 0.0, 3.0)
+    );
+
+    @Test
+    @DisplayName("최단 거리: 200km 를 넘는 구간은 경유 허브를 거쳐 연결된다")
+    void shortestDistance_relaysThroughIntermediateHubs() {
+        HubGraph graph = HubGraph.build(nodes, List.of(), MAX_LEG_KM, MINUTES_PER_KM);
+
+        List<RouteLeg> legs = graph.shortestPath(graph.ordinalOf(a), graph.ordinalOf(d), RouteMetric.DISTANCE)
+                .orElseThrow();
+
+        assertThat(legs).isNotEmpty();
+        assertThat(legs).allSatisfy(leg -> assertThat(leg.distanceKm()).isLessThanOrEqualTo(MAX_LEG_KM));
+        assertThat(legs.get(0).sourceHubId()).isEqualTo(a);
+        assertThat(legs.get(legs.size() - 1).targetHubId()).isEqualTo(d);
+        assertThat(legs.stream().mapToDouble(RouteLeg::distanceKm).sum()).isBetween(333.0, 334.5);
+    }
+
+    @Test
+    @DisplayName("최단 시간: 더 빠른 HubRoute 간선이 있으면 거리보다 시간을 우선한다")
+    void shortestTime_prefersFasterRouteEdge() {
+        // a → d 직행 경로: 거리는 길지만(400km) 소요 시간은 짧음(100분)
+        HubGraph graph = HubGraph.build(nodes,
+                List.of(new HubGraph.RouteEdge(a, d, 400, 100)), MAX_LEG_KM, MINUTES_PER_KM);
+
+        List<RouteLeg> byTime = graph.shortestPath(graph.ordinalOf(a), graph.ordinalOf(d), RouteMetric.TIME)
+                .orElseThrow();
+        List<RouteLeg> byDistance = graph.shortestPath(graph.ordinalOf(a), graph.ordinalOf(d), RouteMetric.DISTANCE)
+                .orElseThrow();
+
+        assertThat(byTime).hasSize(1);
+        assertThat(byTime.get(0).estimatedMinutes()).isEqualTo(100);
+        assertThat(byDistance.size()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("최소 경유: 거리가 길어도 경유 수가 적은 HubRoute 간선을 우선한다")
+    void fewestHops_prefersDirectRouteEdge() {
+        HubGraph graph = HubGraph.build(nodes,
+                List.of(new HubGraph.RouteEdge(a, d, 400, 500)), MAX_LEG_KM, MINUTES_PER_KM);
+
+        List<RouteLeg> byHops = graph.shortestPath(graph.ordinalOf(a), graph.ordinalOf(d), RouteMetric.HOPS)
+                .orElseThrow();
+
+        assertThat(byHops).hasSize(1);
+        assertThat(byHops.get(0).distanceKm()).isEqualTo(400.0);
+    }
+
+    @Test
+    @DisplayName("출발 시각 기준: 혼잡 시간대 배수가 반영된 소요 시간으로 경로를 고른다")
+    void fastestPathDeparting_appliesHourlyMultipliers() {
+        double[] rushAtEight = new double[24];
+        Arrays.fill(rushAtEight, 1.0);
+        rushAtEight[8] = 5.0;
+        HubGraph graph = HubGraph.build(nodes,
+                List.of(new HubGraph.RouteEdge(a, d, 400, 100, rushAtEight)), MAX_LEG_KM, MINUTES_PER_KM);
+
+        List<RouteLeg> atNight = graph.fastestPathDeparting(graph.ordinalOf(a), graph.ordinalOf(d), 3 * 60)
+                .orElseThrow();
+        List<RouteLeg> atRush = graph.fastestPathDeparting(graph.ordinalOf(a), graph.ordinalOf(d), 8 * 60)
+                .orElseThrow();
+
+        assertThat(atNight).hasSize(1);
+        assertThat(atNight.get(0).estimatedMinutes()).isEqualTo(100);
+        assertThat(atRush.size()).isGreaterThan(1); // 500분 직행보다 약 333분 경유가 빠름
+        assertThat(atRush.stream().mapToInt(RouteLeg::estimatedMinutes).sum()).isBetween(330, 336);
+    }
+
+    @Test
+    @DisplayName("허브 제거/추가는 해당 허브 간선만 반영한 새 그래프를 만든다")
+    void withoutHubAndWithHub_updateIncrementally() {
+        HubGraph graph = HubGraph.build(nodes, List.of(), MAX_LEG_KM, MINUTES_PER_KM);
+
+        HubGraph withoutB = graph.withoutHub(b);
+        HubGraph withoutBC = withoutB.withoutHub(c);
+
+        assertThat(withoutB.contains(b)).isFalse();
+        assertThat(withoutB.shortestPath(withoutB.ordinalOf(a), withoutB.ordinalOf(d), RouteMetric.DISTANCE))
+                .isEmpty(); // a-c 222km 로 연결 불가
+        assertThat(withoutBC.size()).isEqualTo(2);
+
+        HubGraph restored = withoutB.withHub(new HubGraph.Node(b, 0.0, 1.0));
+        assertThat(restored.shortestPath(restored.ordinalOf(a), restored.ordinalOf(d), RouteMetric.DISTANCE))
+                .isPresent();
+        assertThat(restored.edgeCount()).isEqualTo(graph.edgeCount());
+        assertThat(graph.contains(b)).isTrue(); // 기존 스냅샷은 불변
+    }
+}
@@ -0,0 +1,69 @@
+package org.sparta.hub.application.route;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.RouteLeg;
+import org.sparta.common.route.RouteMetric;
+import org.sparta.hub.presentation.dto.response.RoutePlanResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class HubRouteTableTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("경로표는 모든 허브 쌍에 대해 A* 단건 탐색과 같은 최단 거리 경로를 담는다")
+    void compute_matchesSingleQuery() {
+        List<HubGraph.Node> nodes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            nodes.add(new HubGraph.Node(UUID.randomUUID(), 35.0 + (i % 6) * 0.7, 126.5 + (i / 6) * 0.8));
+        }
+        HubGraph graph = HubGraph.build(nodes, List.of(), 200.0, 1.0);
+
+        HubRouteTable table = HubRouteTable.compute(graph, 20, pool);
+
+        assertThat(table.version()).isEqualTo(graph.version());
+        for (int s = 0; s < graph.size(); s++) {
+            for (int t = 0; t < graph.size(); t++) {
+                if (s == t) continue;
+                UUID sourceId = graph.hubIdAt(s);
+                UUID targetId = graph.hubIdAt(t);
+                double expected = graph.shortestPath(s, t, RouteMetric.DISTANCE).orElseThrow().stream()
+                        .mapToDouble(RouteLeg::distanceKm).sum();
+
+                RoutePlanResponse plan = table.find(sourceId, targetId).orElseThrow();
+                assertThat(plan.sourceHubId()).isEqualTo(sourceId);
+                assertThat(plan.targetHubId()).isEqualTo(targetId);
+                assertThat(plan.totalDistanceKm()).isCloseTo(expected, offset(0.05));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("그래프 버전은 적재 순서와 무관하고, 허브가 바뀌면 달라진다")
+    void version_isOrderIndependentAndChangesWithGraph() {
+        HubGraph.Node a = new HubGraph.Node(UUID.randomUUID(), 37.5, 127.0);
+        HubGraph.Node b = new HubGraph.Node(UUID.randomUUID(), 37.4, 126.7);
+
+        HubGraph ab = HubGraph.build(List.of(a, b), List.of(), 200.0, 1.0);
+        HubGraph ba = HubGraph.build(List.of(b, a), List.of(), 200.0, 1.0);
+        HubGraph moved = ab.withHub(new HubGraph.Node(b.hubId(), 36.3, 127.4));
+
+        assertThat(ab.version()).isEqualTo(ba.version());
+        assertThat(moved.version()).isNotEqualTo(ab.version());
+    }
+}
@@ -0,0 +1,106 @@
+package org.sparta.hub.application.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.route.HubGraph;
+import org.sparta.common.route.HubSpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubSpatialIndexTest {
+
+    private final Random random = new Random(42);
+
+    // 국내 범위 임의 허브 500 개
+    private final List<HubGraph.Node> nodes = randomNodes(500);
+    private final HubSpatialIndex index = HubSpatialIndex.build(nodes);
+
+    @Test
+    @DisplayName("반경 조회: 전체 Haversine 비교 결과와 같은 허브를 가까운 순으로 반환")
+    void within_matchesBruteForce() {
+        for (int q = 0; q < 50; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lon = 126.0 + random.nextDouble() * 3.5;
+
+            List<Integer> expected = bruteForce(lat, lon).stream()
+                    .filter(i -> distance(lat, lon, i) <= 200.0)
+                    .toList();
+            List<Integer> actual = index.within(lat, lon, 200.0).stream()
+                    .map(HubSpatialIndex.Neighbor::ordinal)
+                    .toList();
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("k-최근접 조회: 전체 Haversine 비교 결과의 상위 k 개와 같다")
+    void nearest_matchesBruteForce() {
+        for (int q = 0; q < 50; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lon = 126.0 + random.nextDouble() * 3.5;
+
+            List<Integer> expected = bruteForce(lat, lon).subList(0, 7);
+            List<Integer> actual = index.nearest(lat, lon, 7).stream()
+                    .map(HubSpatialIndex.Neighbor::ordinal)
+                    .toList();
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 인덱스는 빈 결과")
+    void emptyIndex() {
+        HubSpatialIndex empty = HubSpatialIndex.build(List.of());
+
+        assertThat(empty.nearest(37.5, 127.0, 3)).isEmpty();
+        assertThat(empty.within(37.5, 127.0, 200.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그래프 간선은 공간 인덱스 반경 조회로 만들어도 max-leg-km 이내 허브 쌍과 일치")
+    void graphEdges_matchPairwiseDistance() {
+        HubGraph graph = HubGraph.build(nodes, List.of(), 200.0, 1.0);
+
+        long expectedEdges = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            for (int j = i + 1; j < nodes.size(); j++) {
+                if (distance(nodes.get(i).latitude(), nodes.get(i).longitude(), j) <= 200.0) {
+                    expectedEdges += 2;
+                }
+            }
+        }
+        assertThat(graph.edgeCount()).isEqualTo(expectedEdges);
+    }
+
+    private List<Integer> bruteForce(double lat, double lon) {
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            ordinals.add(i);
+        }
+        ordinals.sort(Comparator.comparingDouble(i -> distance(lat, lon, i)));
+        return ordinals;
+    }
+
+    private double distance(double lat, double lon, int ordinal) {
+        HubGraph.Node node = nodes.get(ordinal);
+        return HubGraph.haversineKm(lat, lon, node.latitude(), node.longitude());
+    }
+
+    private List<HubGraph.Node> randomNodes(int count) {
+        List<HubGraph.Node> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new HubGraph.Node(UUID.randomUUID(),
+                    33.0 + random.nextDouble() * 5.0,
+                    126.0 + random.nextDouble() * 3.5));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package org.sparta.hub.application.route;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 진행 중인 계산 하나를 공유하고, 끝나면 키를 비운다")
+    void execute_coalescesConcurrentCalls() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        SingleFlight.Flight<Integer> leader = singleFlight.execute("A::B", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return 42;
+        }, executor);
+        SingleFlight.Flight<Integer> follower = singleFlight.execute("A::B", () -> {
+            calls.incrementAndGet();
+            return -1;
+        }, executor);
+
+        assertThat(leader.leader()).isTrue();
+        assertThat(follower.leader()).isFalse();
+        assertThat(follower.future()).isSameAs(leader.future());
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.future().get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        assertThat(calls).hasValue(1);
+
+        SingleFlight.Flight<Integer> next = singleFlight.execute("A::B", () -> 7, Runnable::run);
+        assertThat(next.leader()).isTrue();
+        assertThat(next.future().join()).isEqualTo(7);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산이 실패하면 합류한 호출도 같은 예외를 받고, 다음 호출은 새로 계산한다")
+    void execute_propagatesFailure() {
+        CompletableFuture<Integer> failed = singleFlight.execute("A::B", () -> {
+            throw new IllegalArgumentException("출발 허브를 찾을 수 없습니다.");
+        }, Runnable::run).future();
+
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute("A::B", () -> 1, Runnable::run).future().join()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.sparta.hub.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("hub", false);
+    private final List<String> published = new ArrayList<>();
+    private final TwoLevelCache cache = new TwoLevelCache(
+            "hub",
+            Caffeine.newBuilder().maximumSize(100).build(),
+            remote,
+            (name, key) -> published.add(name + "|" + key)
+    );
+
+    @Test
+    @DisplayName("L1 miss 면 L2 값을 읽어 L1 에 채우고, 이후에는 L1 에서 응답")
+    void get_populatesLocalFromRemote() {
+        UUID key = UUID.randomUUID();
+        remote.put(key, "value");
+
+        assertThat(cache.get(key, String.class)).isEqualTo("value");
+
+        remote.evict(key);
+        assertThat(cache.get(key, String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("evict 는 L1/L2 모두 제거하고 무효화 메시지를 발행")
+    void evict_removesBothLevelsAndPublishes() {
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+
+        cache.evict(key);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(remote.get(key)).isNull();
+        assertThat(published).containsExactly("hub|" + key);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 무효화 메시지는 L1 만 제거")
+    void invalidateLocal_onlyClearsLocal() {
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+        remote.put(key, "updated");
+
+        cache.invalidateLocal(key.toString());
+
+        assertThat(cache.get(key, String.class)).isEqualTo("updated");
+        assertThat(published).isEmpty();
+    }
+}
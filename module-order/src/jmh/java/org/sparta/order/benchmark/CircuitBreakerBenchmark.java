@@ -0,0 +1,99 @@
+package org.sparta.order.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sparta.order.domain.circuitbreaker.CircuitBreaker;
+import org.sparta.order.infrastructure.circuitbreaker.CircuitBreakerConfig;
+import org.sparta.order.infrastructure.circuitbreaker.DefaultCircuitBreaker;
+import org.sparta.order.infrastructure.circuitbreaker.SlidingWindowCircuitBreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DefaultCircuitBreaker vs SlidingWindowCircuitBreaker 처리량 비교
+ *
+ * 실행: ./gradlew :module-order:jmh
+ * 결과: module-order/build/results/jmh/results.json
+ *
+ * - execute: 성공 호출 (hot path)
+ * - isOpen : 주문 진입 시 4개 서비스 상태 점검 (OrderService.validateCircuitBreakerState)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CircuitBreakerBenchmark {
+
+    private static final String SERVICE = "stock-service";
+    private static final String[] CRITICAL_SERVICES = {
+            "stock-service", "point-service", "coupon-service", "payment-service"
+    };
+    private static final Supplier<Integer> OPERATION = () -> 1;
+
+    @Param({"counting", "sliding-window"})
+    public String type;
+
+    private CircuitBreaker circuitBreaker;
+
+    @Setup
+    public void setUp() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        circuitBreaker = "counting".equals(type)
+                ? new DefaultCircuitBreaker(config)
+                : new SlidingWindowCircuitBreaker(config);
+
+        for (String service : CRITICAL_SERVICES) {
+            circuitBreaker.reset(service);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer execute_01_thread() throws Exception {
+        return circuitBreaker.execute(OPERATION, SERVICE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer execute_04_threads() throws Exception {
+        return circuitBreaker.execute(OPERATION, SERVICE);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer execute_16_threads() throws Exception {
+        return circuitBreaker.execute(OPERATION, SERVICE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer execute_64_threads() throws Exception {
+        return circuitBreaker.execute(OPERATION, SERVICE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void isOpen_01_thread(Blackhole blackhole) {
+        checkAll(blackhole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void isOpen_64_threads(Blackhole blackhole) {
+        checkAll(blackhole);
+    }
+
+    private void checkAll(Blackhole blackhole) {
+        for (String service : CRITICAL_SERVICES) {
+            blackhole.consume(circuitBreaker.isOpen(service));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.sparta.order.application.dto;
+
+/**
+ * 재고/포인트/쿠폰 예약 결과 묶음 DTO
+ * - point, coupon 은 미사용 시 null
+ */
+public record ReservationBundle(
+    StockReservationResult stock,    // 재고 예약 결과
+    PointReservationResult point,    // 포인트 예약 결과
+    CouponReservationResult coupon   // 쿠폰 예약 결과
+) {
+
+    public Long usedPointAmount() {
+        return point != null ? point.usedAmount() : 0L;
+    }
+
+    public String pointReservationId() {
+        return point != null ? point.reservationId() : null;
+    }
+
+    public Long usedCouponAmount() {
+        return coupon != null ? coupon.discountAmount() : 0L;
+    }
+}
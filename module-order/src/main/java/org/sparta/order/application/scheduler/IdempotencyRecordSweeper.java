@@ -0,0 +1,28 @@
+package org.sparta.order.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.order.application.service.IdempotencyService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 멱등성 레코드(idempotency_records)를 주기적으로 정리하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRecordSweeper {
+
+    private final IdempotencyService idempotencyService;
+
+    @Scheduled(fixedDelayString = "${order.idempotency.sweep-interval-millis:600000}")
+    public void sweepExpiredRecords() {
+        int deleted = idempotencyService.deleteExpiredRecords(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 레코드 정리 완료 - deleted={}", deleted);
+        }
+    }
+}
@@ -2,31 +2,76 @@ package org.sparta.order.application.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.order.domain.entity.IdempotencyRecord;
 import org.sparta.order.domain.repository.IdempotencyRepository;
+import org.sparta.order.infrastructure.config.IdempotencyConfig;
+import org.sparta.order.infrastructure.redis.IdempotencyRedisStore;
 import org.sparta.order.presentation.dto.response.OrderResponse;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
+/**
+ * 주문 멱등성 처리
+ *
+ * Redis(1차) + DB(2차) 계층 구조
+ * - 재요청 조회 : Redis 응답 캐시 → 없으면 idempotency_records 조회
+ * - 처리 중 잠금 : Redis SET NX PX (DB placeholder INSERT + flush 제거)
+ * - 응답 저장   : 주문 트랜잭션 커밋 후 Redis 에 저장하고 잠금 해제, DB 는 write-behind 로 비동기 저장
+ *                (롤백 시 응답은 남기지 않고 잠금만 해제)
+ * - Redis 장애 시 기존 DB 경로로 그대로 fallback
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class IdempotencyService {
 
     private final IdempotencyRepository idempotencyRepository;
     private final ObjectMapper objectMapper;
+    private final IdempotencyRedisStore redisStore;
+    private final IdempotencyConfig config;
+    private final Executor writeExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+
+    public IdempotencyService(
+            IdempotencyRepository idempotencyRepository,
+            ObjectMapper objectMapper,
+            IdempotencyRedisStore redisStore,
+            IdempotencyConfig config,
+            @Qualifier("idempotencyWriteExecutor") Executor writeExecutor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.redisStore = redisStore;
+        this.config = config;
+        this.writeExecutor = writeExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
 //    @Lazy
 //    private final IdempotencyService self;
 
-    @Transactional(readOnly = true)
     public Optional<OrderResponse.Detail> findExistingResponse(String idempotencyKey) {
+        Optional<OrderResponse.Detail> cached = findCachedResponse(idempotencyKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         return idempotencyRepository.findByIdempotencyKey(idempotencyKey)
                 .filter(record -> !record.isExpired())
                 .flatMap(record -> {    // flatMap => Optional.empty()를 명시적으로 반환할 수 있다고 함
@@ -55,29 +100,70 @@ public class IdempotencyService {
                 });
     }
 
-    @Transactional
     public void saveIdempotencyRecord(String idempotencyKey, String orderId,
                                       OrderResponse.Detail response, int statusCode) {
+        String responseBody;
         try {
-            String responseBody = objectMapper.writeValueAsString(response);
-            IdempotencyRecord record = IdempotencyRecord.create(
-                    idempotencyKey, orderId, responseBody, statusCode);
-            idempotencyRepository.save(record);
-            log.debug("Saved idempotency record: key={}, orderId={}", idempotencyKey, orderId);
+            responseBody = objectMapper.writeValueAsString(response);
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize idempotency response for key: {}", idempotencyKey, e);
             throw new IllegalStateException("Failed to save idempotency record: "+ idempotencyKey, e);
         }
+        IdempotencyRecord record = IdempotencyRecord.create(
+                idempotencyKey, orderId, responseBody, statusCode);
+
+        if (!config.isRedisEnabled()) {
+            // 주문 트랜잭션에 참여 → 주문과 함께 커밋/롤백
+            transactionTemplate.executeWithoutResult(status -> idempotencyRepository.save(record));
+            log.debug("Saved idempotency record: key={}, orderId={}", idempotencyKey, orderId);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storeResponse(record);
+            return;
+        }
+
+        // 커밋 전에 응답을 캐시하거나 잠금을 풀면, 롤백된 주문의 응답이 재요청에 반환될 수 있음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    storeResponse(record);
+                } catch (Exception e) {
+                    // 주문은 이미 커밋됨 → 응답 경로로 전파하지 않음 (Redis 잠금은 TTL 로 만료)
+                    log.error("Failed to save idempotency record after commit: key={}", idempotencyKey, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseLockQuietly(idempotencyKey);
+                }
+            }
+        });
     }
 
-    @Transactional
     public boolean tryAcquireLock(String idempotencyKey) {
+        if (config.isRedisEnabled()) {
+            try {
+                boolean acquired = redisStore.tryLock(idempotencyKey, config.lockTtl());
+                log.debug("Redis lock {} for idempotency key: {}", acquired ? "acquired" : "rejected", idempotencyKey);
+                return acquired;
+            } catch (DataAccessException e) {
+                log.warn("Redis unavailable - falling back to DB lock. key={}", idempotencyKey, e);
+            }
+        }
+
         try {
             // Unique constraint를 활용한 원자적 삽입 시도
-            IdempotencyRecord placeholder = IdempotencyRecord.create(
-                    idempotencyKey, "PROCESSING", null, 0);
-            idempotencyRepository.save(placeholder);
-            idempotencyRepository.flush(); // 즉시 DB 반영하여 예외 발생 유도
+            transactionTemplate.executeWithoutResult(status -> {
+                IdempotencyRecord placeholder = IdempotencyRecord.create(
+                        idempotencyKey, "PROCESSING", null, 0);
+                idempotencyRepository.save(placeholder);
+                idempotencyRepository.flush(); // 즉시 DB 반영하여 예외 발생 유도
+            });
             log.debug("Lock acquired for idempotency key: {}", idempotencyKey);
             return true;
         } catch (DataIntegrityViolationException e) {
@@ -92,10 +178,28 @@ public class IdempotencyService {
     }
 
 
-    @Transactional
     public void deleteRecord(String idempotencyKey) {
-        idempotencyRepository.findByIdempotencyKey(idempotencyKey)
-                .ifPresent(idempotencyRepository::delete);
+        if (config.isRedisEnabled()) {
+            try {
+                if (redisStore.releaseLock(idempotencyKey)) {
+                    return; // Redis 잠금만 존재 → DB placeholder 없음
+                }
+            } catch (DataAccessException e) {
+                log.warn("Redis unavailable - releasing idempotency lock in DB. key={}", idempotencyKey, e);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                idempotencyRepository.findByIdempotencyKey(idempotencyKey)
+                        .ifPresent(idempotencyRepository::delete));
+    }
+
+    /**
+     * 만료된 멱등성 레코드 정리 (IdempotencyRecordSweeper)
+     */
+    @Transactional
+    public int deleteExpiredRecords(LocalDateTime now) {
+        return idempotencyRepository.deleteExpiredRecords(now);
     }
 
     /**
@@ -111,4 +215,78 @@ public class IdempotencyService {
                     idempotencyRepository.delete(record);
                 });
     }
+
+    // ===== Redis =====
+
+    private Optional<OrderResponse.Detail> findCachedResponse(String idempotencyKey) {
+        if (!config.isRedisEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<String> cached = redisStore.findResponse(idempotencyKey);
+            if (cached.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.get(), OrderResponse.Detail.class));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize cached idempotency response for key: {}. Evicting.", idempotencyKey, e);
+            redisStore.deleteResponse(idempotencyKey);
+            return Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable - reading idempotency record from DB. key={}", idempotencyKey, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답을 Redis 에 저장 후 DB 는 write-behind, Redis 장애 시 DB 에 동기 저장
+     * (커밋 이후 호출되므로 DB 저장은 새 트랜잭션에서 실행)
+     */
+    private void storeResponse(IdempotencyRecord record) {
+        if (cacheResponse(record.getIdempotencyKey(), record.getResponseBody())) {
+            // Redis 에 응답이 있으므로 DB 저장은 응답 경로에서 제외 (write-behind)
+            writeExecutor.execute(() -> persistQuietly(record));
+            return;
+        }
+
+        requiresNewTransactionTemplate.executeWithoutResult(status -> idempotencyRepository.save(record));
+        log.debug("Saved idempotency record: key={}, orderId={}", record.getIdempotencyKey(), record.getOrderId());
+    }
+
+    private void releaseLockQuietly(String idempotencyKey) {
+        try {
+            redisStore.releaseLock(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable - idempotency lock will expire by TTL. key={}", idempotencyKey, e);
+        }
+    }
+
+    /**
+     * 응답을 Redis 에 저장하고 처리 중 잠금 해제
+     * @return Redis 저장 성공 여부 (실패 시 호출자가 DB 에 동기 저장)
+     */
+    private boolean cacheResponse(String idempotencyKey, String responseBody) {
+        if (!config.isRedisEnabled()) {
+            return false;
+        }
+        try {
+            redisStore.saveResponse(idempotencyKey, responseBody, config.responseTtl());
+            redisStore.releaseLock(idempotencyKey);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable - saving idempotency record synchronously. key={}", idempotencyKey, e);
+            return false;
+        }
+    }
+
+    private void persistQuietly(IdempotencyRecord record) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRepository.save(record));
+            log.debug("Saved idempotency record (write-behind): key={}, orderId={}",
+                    record.getIdempotencyKey(), record.getOrderId());
+        } catch (Exception e) {
+            // Redis 응답 캐시가 TTL 동안 재요청을 처리하므로 로그만 남김
+            log.error("Write-behind idempotency record save failed: key={}", record.getIdempotencyKey(), e);
+        }
+    }
 }
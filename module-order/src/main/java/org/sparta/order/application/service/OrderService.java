@@ -47,9 +47,7 @@ public class OrderService {
 
     private final IdempotencyService idempotencyService;
 
-    private final StockReservationService stockReservationService;
-    private final PointReservationService pointReservationService;
-    private final CouponReservationService couponReservationService;
+    private final ReservationCoordinator reservationCoordinator;
     private final PaymentApprovalService paymentApprovalService;
     private final CircuitBreaker circuitBreaker;
 
@@ -130,11 +128,21 @@ public class OrderService {
             throw new BusinessException(OrderErrorType.REQUEST_IN_PROGRESS);
         }
 
+        // 3. 잠금 획득 후 재확인
+        // - 1번 조회 이후 앞선 요청이 응답 저장 + 잠금 해제까지 마쳤다면 여기서 그 응답을 반환 (중복 주문 방지)
+        Optional<OrderResponse.Detail> completedResponse =
+                idempotencyService.findExistingResponse(idempotencyKey);
+        if (completedResponse.isPresent()) {
+            idempotencyService.deleteRecord(idempotencyKey);
+            log.info("Request completed while acquiring lock - returning cached response. key={}", idempotencyKey);
+            return completedResponse.get();
+        }
+
         try {
-            // 3. 기존 주문 생성 로직 실행
+            // 4. 기존 주문 생성 로직 실행
             OrderResponse.Detail response = createOrder(customerId, request);
 
-            // 4. 멱등성 레코드 저장
+            // 5. 멱등성 레코드 저장
             idempotencyService.saveIdempotencyRecord(
                     idempotencyKey,
                     response.orderId().toString(),
@@ -182,33 +190,20 @@ public class OrderService {
         Long requestPoint = request.requestPoint() != null ? request.requestPoint() : 0L;
 
         try {
-            // ===================== 2. 재고 예약 (Circuit Breaker 적용) =====================
-            StockReservationResult stock = stockReservationService.reserve(
+            // ===================== 2~4. 재고/포인트/쿠폰 예약 (Circuit Breaker 적용, 동시 호출 가능) =====================
+            ReservationBundle reservations = reservationCoordinator.reserveAll(
+                orderId,
                 savedOrder.getProductId(),
-                orderId.toString(),
-                savedOrder.getQuantity().getValue()
-            );
-
-            // ===================== 3. 포인트 예약 (Circuit Breaker 적용, 선택적) =====================
-            PointReservationResult point = pointReservationService.reserve(
+                savedOrder.getQuantity().getValue(),
                 savedOrder.getCustomerId(),
-                orderId,
                 savedOrder.getTotalPrice().getAmount(),
-                requestPoint
-            );
-
-            Long usedPointAmount = (point != null) ? point.usedAmount() : 0L;
-            String pointReservationId = (point != null) ? point.reservationId() : null;
-
-            // ===================== 4. 쿠폰 예약 (Circuit Breaker 적용, 선택적) =====================
-            CouponReservationResult coupon = couponReservationService.reserve(
-                request.couponId(),
-                savedOrder.getCustomerId(),
-                orderId,
-                savedOrder.getTotalPrice().getAmount()
+                requestPoint,
+                request.couponId()
             );
 
-            Long usedCouponAmount = (coupon != null) ? coupon.discountAmount() : 0L;
+            Long usedPointAmount = reservations.usedPointAmount();
+            String pointReservationId = reservations.pointReservationId();
+            Long usedCouponAmount = reservations.usedCouponAmount();
 
             // ===================== 5. 결제 금액 계산 =====================
             long amountPayable = savedOrder.getTotalPrice().getAmount() - usedPointAmount - usedCouponAmount;
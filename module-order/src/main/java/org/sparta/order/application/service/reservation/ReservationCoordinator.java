@@ -0,0 +1,220 @@
+package org.sparta.order.application.service.reservation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.error.BusinessException;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.common.event.order.OrderCancelledEvent;
+import org.sparta.order.application.dto.CouponReservationResult;
+import org.sparta.order.application.dto.PointReservationResult;
+import org.sparta.order.application.dto.ReservationBundle;
+import org.sparta.order.application.dto.StockReservationResult;
+import org.sparta.order.domain.error.OrderErrorType;
+import org.sparta.order.infrastructure.config.ReservationConcurrencyConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 재고/포인트/쿠폰 예약 조정자
+ *
+ * 단일 책임: 서로 독립적인 예약 호출을 순차 또는 동시에 실행하고 구간별 지연시간을 기록
+ * - 동시 모드에서는 세 예약을 reservationExecutor 에서 함께 호출
+ * - 한 구간이라도 실패하면 나머지 구간이 끝날 때까지 기다린 뒤 첫 번째 실패를 그대로 던짐
+ *   (보상 이벤트가 아직 진행 중인 예약보다 먼저 도착하지 않도록)
+ * - 보상(compensate)은 기존처럼 OrderService 에서 처리
+ * - 시간 초과 시에도 진행 중인 구간을 settle-grace-millis 동안 더 기다린 뒤 던진다
+ *   그래도 끝나지 않은 구간이 있으면, 모두 끝난 시점에 보상 이벤트(OrderCancelledEvent)를 한 번 더 발행
+ *   (늦게 성공한 예약이 먼저 도착한 보상 이벤트 뒤에 남지 않도록)
+ */
+@Slf4j
+@Service
+public class ReservationCoordinator {
+
+    private static final String METRIC_NAME = "order.reservation.leg";
+
+    private final StockReservationService stockReservationService;
+    private final PointReservationService pointReservationService;
+    private final CouponReservationService couponReservationService;
+    private final ReservationConcurrencyConfig config;
+    private final Executor reservationExecutor;
+    private final MeterRegistry meterRegistry;
+    private final EventPublisher eventPublisher;
+
+    public ReservationCoordinator(
+            StockReservationService stockReservationService,
+            PointReservationService pointReservationService,
+            CouponReservationService couponReservationService,
+            ReservationConcurrencyConfig config,
+            @Qualifier("reservationExecutor") Executor reservationExecutor,
+            MeterRegistry meterRegistry,
+            EventPublisher eventPublisher
+    ) {
+        this.stockReservationService = stockReservationService;
+        this.pointReservationService = pointReservationService;
+        this.couponReservationService = couponReservationService;
+        this.config = config;
+        this.reservationExecutor = reservationExecutor;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 주문에 필요한 예약을 모두 수행
+     */
+    public ReservationBundle reserveAll(
+            UUID orderId,
+            UUID productId,
+            int quantity,
+            UUID customerId,
+            Long totalPrice,
+            Long requestPoint,
+            UUID couponId
+    ) {
+        Supplier<StockReservationResult> stock = () -> timed("stock", orderId,
+                () -> stockReservationService.reserve(productId, orderId.toString(), quantity));
+        Supplier<PointReservationResult> point = () -> timed("point", orderId,
+                () -> pointReservationService.reserve(customerId, orderId, totalPrice, requestPoint));
+        Supplier<CouponReservationResult> coupon = () -> timed("coupon", orderId,
+                () -> couponReservationService.reserve(couponId, customerId, orderId, totalPrice));
+
+        if (!config.isParallelEnabled()) {
+            return new ReservationBundle(stock.get(), point.get(), coupon.get());
+        }
+        return reserveConcurrently(orderId, productId, quantity, stock, point, coupon);
+    }
+
+    private ReservationBundle reserveConcurrently(
+            UUID orderId,
+            UUID productId,
+            int quantity,
+            Supplier<StockReservationResult> stock,
+            Supplier<PointReservationResult> point,
+            Supplier<CouponReservationResult> coupon
+    ) {
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<StockReservationResult> stockFuture =
+                CompletableFuture.supplyAsync(stock, reservationExecutor);
+        CompletableFuture<PointReservationResult> pointFuture =
+                CompletableFuture.supplyAsync(point, reservationExecutor);
+        CompletableFuture<CouponReservationResult> couponFuture =
+                CompletableFuture.supplyAsync(coupon, reservationExecutor);
+
+        // 실패 여부와 관계없이 모든 구간이 끝날 때까지 대기
+        CompletableFuture<Void> settled = CompletableFuture.allOf(stockFuture, pointFuture, couponFuture)
+                .handle((ignored, ex) -> null);
+        try {
+            settled.get(config.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("[예약] 동시 예약 시간 초과 - orderId={}, timeoutMillis={}",
+                    orderId, config.getTimeoutMillis());
+            awaitSettlementOrCompensateLate(settled, orderId, productId, quantity);
+            throw new BusinessException(OrderErrorType.RESERVATION_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensateWhenSettled(settled, orderId, productId, quantity);
+            throw new BusinessException(OrderErrorType.RESERVATION_TIMEOUT);
+        } catch (ExecutionException e) {
+            // handle() 로 감쌌으므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+
+        ReservationBundle bundle = new ReservationBundle(
+                joinOrThrow(stockFuture),
+                joinOrThrow(pointFuture),
+                joinOrThrow(couponFuture)
+        );
+
+        log.info("[예약] 동시 예약 완료 - orderId={}, elapsedMs={}",
+                orderId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return bundle;
+    }
+
+    /**
+     * 시간 초과 후 진행 중인 구간을 settle-grace-millis 동안 더 기다림
+     * - 모두 끝나면 그대로 반환 (호출 측 보상이 완료된 예약까지 모두 취소)
+     * - 그래도 남아 있으면 모두 끝나는 시점에 보상 이벤트를 다시 발행하도록 연결
+     */
+    private void awaitSettlementOrCompensateLate(
+            CompletableFuture<Void> settled, UUID orderId, UUID productId, int quantity
+    ) {
+        try {
+            settled.get(config.getSettleGraceMillis(), TimeUnit.MILLISECONDS);
+            log.warn("[예약] 시간 초과 후 모든 구간 종료 확인 - orderId={}", orderId);
+        } catch (TimeoutException e) {
+            compensateWhenSettled(settled, orderId, productId, quantity);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            compensateWhenSettled(settled, orderId, productId, quantity);
+        } catch (ExecutionException e) {
+            // handle() 로 감쌌으므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void compensateWhenSettled(
+            CompletableFuture<Void> settled, UUID orderId, UUID productId, int quantity
+    ) {
+        log.warn("[예약] 진행 중인 구간 존재 - 종료 후 보상 이벤트 재발행 예약. orderId={}", orderId);
+        settled.whenComplete((ignored, ex) -> {
+            try {
+                eventPublisher.publishExternal(OrderCancelledEvent.of(orderId, productId, quantity));
+                log.info("[Saga] 지연 완료 구간 보상 이벤트(OrderCancelledEvent) 발행 - orderId={}", orderId);
+            } catch (Exception publishError) {
+                log.error("[Saga] 지연 완료 구간 보상 이벤트 발행 실패 - 수동 개입 필요. orderId={}",
+                        orderId, publishError);
+            }
+        });
+    }
+
+    /**
+     * 구간 결과 추출, 실패 시 원래 예외(BusinessException 등)를 그대로 전파
+     */
+    private <T> T joinOrThrow(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 구간별 지연시간 기록 (order.reservation.leg{leg, outcome})
+     */
+    private <T> T timed(String leg, UUID orderId, Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            Timer.builder(METRIC_NAME)
+                    .tag("leg", leg)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            log.debug("[예약] 구간 완료 - leg={}, orderId={}, outcome={}, elapsedMs={}",
+                    leg, orderId, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+}
@@ -10,7 +10,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_order_outbox_events")
+@Table(
+        name = "p_order_outbox_events",
+        indexes = {
+                @Index(name = "idx_order_outbox_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_order_outbox_aggregate_created_at", columnList = "aggregate_id, created_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderOutboxEvent {
@@ -28,8 +34,7 @@ public class OrderOutboxEvent {
     @Column(name = "event_type", nullable = false, length = 100)
     private String eventType; // OrderCreatedEvent
 
-    @Lob
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
     private String payload;
 
     @Enumerated(EnumType.STRING)
@@ -42,6 +47,12 @@ public class OrderOutboxEvent {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    /**
+     * 공통 Outbox Relay 재시도 backoff 시각 (null 이면 즉시 발행 대상)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -41,6 +41,7 @@ public enum OrderErrorType implements ErrorType {
     COUPON_RESERVATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "쿠폰 예약 실패"),
     COUPON_VALIDATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "쿠폰 검증 실패"),
     PAYMENT_APPROVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "결제 승인 실패"),
+    RESERVATION_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "예약 처리 시간이 초과되었습니다"),
 
     // 상태 충돌 - 배송 출발(출고) 관련
     ORDER_ALREADY_SHIPPED(HttpStatus.CONFLICT, "이미 출고된 주문입니다"),
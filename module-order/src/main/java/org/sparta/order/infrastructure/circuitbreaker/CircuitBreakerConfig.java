@@ -14,9 +14,15 @@ import java.time.Duration;
  *
  * 예시:
  * circuit-breaker:
+ *   type: counting             # counting(기본, DefaultCircuitBreaker) | sliding-window
  *   failure-threshold: 5
  *   success-threshold: 3
  *   timeout-seconds: 60
+ *   failure-rate-threshold: 50
+ *   slow-call-rate-threshold: 100
+ *   slow-call-duration-millis: 3000
+ *   minimum-number-of-calls: 10
+ *   sliding-window-seconds: 10
  */
 @Getter
 @Setter
@@ -43,6 +49,38 @@ public class CircuitBreakerConfig {
      */
     private long timeoutSeconds = 60;
 
+    // ===== sliding-window 전용 설정 =====
+
+    /**
+     * 슬라이딩 윈도우 내 실패율(%)이 이 값 이상이면 OPEN
+     * 기본값: 50%
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * 슬라이딩 윈도우 내 느린 호출 비율(%)이 이 값 이상이면 OPEN
+     * 기본값: 100% (느린 호출만으로는 사실상 OPEN 되지 않음)
+     */
+    private int slowCallRateThreshold = 100;
+
+    /**
+     * 이 시간(ms) 이상 걸린 호출은 느린 호출로 집계
+     * 기본값: 3000ms
+     */
+    private long slowCallDurationMillis = 3000;
+
+    /**
+     * 실패율/느린 호출 비율을 계산하기 위한 최소 호출 수
+     * 기본값: 10회
+     */
+    private int minimumNumberOfCalls = 10;
+
+    /**
+     * 슬라이딩 윈도우 크기 (초 단위, 1초 버킷 단위로 집계)
+     * 기본값: 10초
+     */
+    private int slidingWindowSeconds = 10;
+
     /**
      * OPEN 상태 유지 시간을 Duration으로 반환
      */
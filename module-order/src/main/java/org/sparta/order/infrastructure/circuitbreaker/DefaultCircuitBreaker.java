@@ -6,6 +6,7 @@ import org.sparta.order.domain.circuitbreaker.CircuitBreaker;
 import org.sparta.order.domain.circuitbreaker.CircuitBreakerMetrics;
 import org.sparta.order.domain.circuitbreaker.CircuitBreakerOpenException;
 import org.sparta.order.domain.circuitbreaker.CircuitBreakerState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -17,9 +18,11 @@ import java.util.function.Supplier;
  * Circuit Breaker 기본 구현체
  *
  * Thread-safe하게 여러 서비스의 Circuit Breaker를 관리합니다.
+ * circuit-breaker.type 을 지정하지 않거나 counting 이면 사용 (연속 실패 기준)
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "circuit-breaker.type", havingValue = "counting", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DefaultCircuitBreaker implements CircuitBreaker {
 
@@ -0,0 +1,310 @@
+package org.sparta.order.infrastructure.circuitbreaker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.order.domain.circuitbreaker.CircuitBreaker;
+import org.sparta.order.domain.circuitbreaker.CircuitBreakerOpenException;
+import org.sparta.order.domain.circuitbreaker.CircuitBreakerState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 슬라이딩 윈도우 기반 Lock-free Circuit Breaker 구현체
+ *
+ * - 1초 단위 버킷으로 나뉜 링 버퍼(AtomicLongArray)에 호출/실패/느린 호출 수를 집계
+ * - 상태와 상태 전환 시각을 하나의 AtomicLong 에 함께 담아 CAS 로만 전환
+ * - 시간은 System.nanoTime 기준 (LocalDateTime 생성 없음)
+ * - execute 경로에서는 객체를 생성하지 않음 (최초 서비스 등록 시 제외)
+ *
+ * 버킷이 다음 초로 넘어가는 순간 동시에 기록된 호출 일부가 누락될 수 있으나,
+ * 비율 기반 판단에는 영향이 미미하므로 정확성보다 경합 없는 기록을 우선한다.
+ *
+ * circuit-breaker.type=sliding-window 일 때만 사용 (기본은 연속 실패 기준 DefaultCircuitBreaker)
+ * minimum-number-of-calls 미만의 호출만 있는 구간에서는 실패가 이어져도 OPEN 되지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "circuit-breaker.type", havingValue = "sliding-window")
+public class SlidingWindowCircuitBreaker implements CircuitBreaker {
+
+    private static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final CircuitBreakerState[] STATES = CircuitBreakerState.values();
+
+    private final CircuitBreakerConfig config;
+    private final long baseNanos = System.nanoTime();
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final Function<String, Circuit> circuitFactory = this::newCircuit;
+
+    public SlidingWindowCircuitBreaker(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> operation, String serviceName) throws Exception {
+        Circuit circuit = circuitOf(serviceName);
+        long startedAt = now();
+
+        if (!circuit.tryAcquirePermission(startedAt)) {
+            log.warn("[Circuit Breaker] OPEN 상태 - 요청 차단: service={}", serviceName);
+            throw new CircuitBreakerOpenException(serviceName);
+        }
+
+        try {
+            T result = operation.get();
+            long finishedAt = now();
+            circuit.onResult(finishedAt, finishedAt - startedAt, false);
+            return result;
+        } catch (Exception e) {
+            long finishedAt = now();
+            circuit.onResult(finishedAt, finishedAt - startedAt, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isOpen(String serviceName) {
+        return getState(serviceName) == CircuitBreakerState.OPEN;
+    }
+
+    @Override
+    public CircuitBreakerState getState(String serviceName) {
+        Circuit circuit = circuits.get(serviceName);
+        if (circuit == null) {
+            return CircuitBreakerState.CLOSED;
+        }
+        return circuit.currentState(now());
+    }
+
+    @Override
+    public void recordFailure(String serviceName) {
+        circuitOf(serviceName).onResult(now(), 0L, true);
+    }
+
+    @Override
+    public void reset(String serviceName) {
+        circuitOf(serviceName).reset(now());
+        log.info("[Circuit Breaker] 초기화됨: service={}", serviceName);
+    }
+
+    private Circuit circuitOf(String serviceName) {
+        Circuit circuit = circuits.get(serviceName);
+        return circuit != null ? circuit : circuits.computeIfAbsent(serviceName, circuitFactory);
+    }
+
+    private Circuit newCircuit(String serviceName) {
+        return new Circuit(serviceName, config, now());
+    }
+
+    /**
+     * baseNanos 기준 경과 시간 (항상 0 이상)
+     */
+    private long now() {
+        return System.nanoTime() - baseNanos;
+    }
+
+    /**
+     * 서비스 하나의 Circuit 상태 + 슬라이딩 윈도우
+     */
+    private static final class Circuit {
+
+        private final String serviceName;
+        private final long openNanos;
+        private final long slowCallNanos;
+        private final int minimumNumberOfCalls;
+        private final int failureRateThreshold;
+        private final int slowCallRateThreshold;
+        private final int halfOpenPermittedCalls;
+
+        /**
+         * 상위 비트: 상태 전환 시각(nanos), 하위 2비트: 상태 ordinal
+         */
+        private final AtomicLong stateWord;
+        private final AtomicInteger halfOpenCalls = new AtomicInteger();
+        private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+        private final Window window;
+
+        private Circuit(String serviceName, CircuitBreakerConfig config, long now) {
+            this.serviceName = serviceName;
+            this.openNanos = TimeUnit.SECONDS.toNanos(config.getTimeoutSeconds());
+            this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMillis());
+            this.minimumNumberOfCalls = Math.max(1, config.getMinimumNumberOfCalls());
+            this.failureRateThreshold = config.getFailureRateThreshold();
+            this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+            this.halfOpenPermittedCalls = Math.max(1, config.getSuccessThreshold());
+            this.stateWord = new AtomicLong(pack(now, CircuitBreakerState.CLOSED));
+            this.window = new Window(Math.max(1, config.getSlidingWindowSeconds()));
+        }
+
+        /**
+         * 호출 허용 여부
+         * - OPEN 유지 시간이 지났으면 HALF_OPEN 으로 전환 후 제한된 수의 시험 호출만 허용
+         */
+        boolean tryAcquirePermission(long now) {
+            switch (currentState(now)) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    return halfOpenCalls.incrementAndGet() <= halfOpenPermittedCalls;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * 현재 상태 조회 (OPEN 유지 시간이 지났으면 HALF_OPEN 으로 전환)
+         */
+        CircuitBreakerState currentState(long now) {
+            long word = stateWord.get();
+            CircuitBreakerState state = stateOf(word);
+            if (state == CircuitBreakerState.OPEN && now - changedAtOf(word) >= openNanos) {
+                if (transition(word, now, CircuitBreakerState.HALF_OPEN)) {
+                    halfOpenCalls.set(0);
+                    halfOpenSuccesses.set(0);
+                    log.info("[Circuit Breaker] 상태 전환: HALF_OPEN - service={}", serviceName);
+                }
+                return stateOf(stateWord.get());
+            }
+            return state;
+        }
+
+        void onResult(long now, long durationNanos, boolean failed) {
+            boolean slow = durationNanos >= slowCallNanos;
+            window.record(now, failed, slow);
+
+            long word = stateWord.get();
+            switch (stateOf(word)) {
+                case HALF_OPEN:
+                    if (failed) {
+                        if (transition(word, now, CircuitBreakerState.OPEN)) {
+                            log.error("[Circuit Breaker] 상태 전환: OPEN (HALF_OPEN 시험 호출 실패) - service={}",
+                                    serviceName);
+                        }
+                    } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenPermittedCalls
+                            && transition(word, now, CircuitBreakerState.CLOSED)) {
+                        window.clear();
+                        log.info("[Circuit Breaker] 상태 전환: CLOSED - service={}", serviceName);
+                    }
+                    break;
+                case CLOSED:
+                    // 성공 + 정상 응답 시간이면 집계만 하고 비율 계산 생략
+                    if ((failed || slow)
+                            && window.exceedsThreshold(now, minimumNumberOfCalls,
+                                    failureRateThreshold, slowCallRateThreshold)
+                            && transition(word, now, CircuitBreakerState.OPEN)) {
+                        log.error("[Circuit Breaker] 상태 전환: OPEN - service={}", serviceName);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void reset(long now) {
+            window.clear();
+            halfOpenCalls.set(0);
+            halfOpenSuccesses.set(0);
+            stateWord.set(pack(now, CircuitBreakerState.CLOSED));
+        }
+
+        private boolean transition(long expectedWord, long now, CircuitBreakerState target) {
+            return stateWord.compareAndSet(expectedWord, pack(now, target));
+        }
+
+        private static long pack(long changedAt, CircuitBreakerState state) {
+            return (changedAt << 2) | state.ordinal();
+        }
+
+        private static CircuitBreakerState stateOf(long word) {
+            return STATES[(int) (word & 0b11)];
+        }
+
+        private static long changedAtOf(long word) {
+            return word >>> 2;
+        }
+    }
+
+    /**
+     * 1초 버킷 링 버퍼
+     * - epochs[i] 가 현재 윈도우 범위 밖이면 해당 버킷은 비어있는 것으로 간주
+     */
+    private static final class Window {
+
+        private static final long EMPTY = -1L;
+
+        private final int size;
+        private final AtomicLongArray epochs;
+        private final AtomicLongArray calls;
+        private final AtomicLongArray failures;
+        private final AtomicLongArray slowCalls;
+
+        private Window(int size) {
+            this.size = size;
+            this.epochs = new AtomicLongArray(size);
+            this.calls = new AtomicLongArray(size);
+            this.failures = new AtomicLongArray(size);
+            this.slowCalls = new AtomicLongArray(size);
+            clear();
+        }
+
+        void record(long now, boolean failed, boolean slow) {
+            long epoch = now / BUCKET_NANOS;
+            int index = (int) (epoch % size);
+
+            long seen = epochs.get(index);
+            if (seen < epoch && epochs.compareAndSet(index, seen, epoch)) {
+                // 새 초로 넘어간 버킷을 차지한 스레드만 초기화
+                calls.set(index, 0);
+                failures.set(index, 0);
+                slowCalls.set(index, 0);
+            }
+
+            calls.incrementAndGet(index);
+            if (failed) {
+                failures.incrementAndGet(index);
+            }
+            if (slow) {
+                slowCalls.incrementAndGet(index);
+            }
+        }
+
+        boolean exceedsThreshold(long now, int minimumNumberOfCalls,
+                                 int failureRateThreshold, int slowCallRateThreshold) {
+            long current = now / BUCKET_NANOS;
+            long totalCalls = 0;
+            long totalFailures = 0;
+            long totalSlowCalls = 0;
+
+            for (int i = 0; i < size; i++) {
+                long epoch = epochs.get(i);
+                if (epoch > current - size && epoch <= current) {
+                    totalCalls += calls.get(i);
+                    totalFailures += failures.get(i);
+                    totalSlowCalls += slowCalls.get(i);
+                }
+            }
+
+            if (totalCalls < minimumNumberOfCalls) {
+                return false;
+            }
+            return totalFailures * 100 >= (long) failureRateThreshold * totalCalls
+                    || totalSlowCalls * 100 >= (long) slowCallRateThreshold * totalCalls;
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                epochs.set(i, EMPTY);
+                calls.set(i, 0);
+                failures.set(i, 0);
+                slowCalls.set(i, 0);
+            }
+        }
+    }
+}
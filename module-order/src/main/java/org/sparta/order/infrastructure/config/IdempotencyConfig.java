@@ -0,0 +1,86 @@
+package org.sparta.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 주문 멱등성(Idempotency-Key) 저장소 설정
+ *
+ * - Redis: 처리 중 잠금(SET NX PX) + 완료 응답 캐시
+ * - DB(idempotency_records): 내구성 보장용, 응답 저장은 write-behind 로 비동기 반영
+ *
+ * 예시:
+ * order:
+ *   idempotency:
+ *     redis-enabled: true
+ *     lock-ttl-millis: 30000
+ *     response-ttl-minutes: 120
+ *     write-behind-pool-size: 4
+ *     write-behind-queue-capacity: 1000
+ *     sweep-interval-millis: 600000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "order.idempotency")
+public class IdempotencyConfig {
+
+    /**
+     * false 이면 기존처럼 DB 만 사용 (Redis 장애 시에도 자동으로 DB 로 fallback)
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * 처리 중 잠금 유지 시간 (ms)
+     * 주문 생성 최대 소요 시간(예약 대기 15s) + 여유분
+     */
+    private long lockTtlMillis = 30_000;
+
+    /**
+     * 완료 응답 캐시 유지 시간 (분), IdempotencyRecord 만료 시간과 동일하게 유지
+     */
+    private long responseTtlMinutes = 120;
+
+    private int writeBehindPoolSize = 4;
+
+    private int writeBehindQueueCapacity = 1_000;
+
+    /**
+     * 만료된 IdempotencyRecord 정리 주기 (ms)
+     */
+    private long sweepIntervalMillis = 600_000;
+
+    public Duration lockTtl() {
+        return Duration.ofMillis(lockTtlMillis);
+    }
+
+    public Duration responseTtl() {
+        return Duration.ofMinutes(responseTtlMinutes);
+    }
+
+    /**
+     * IdempotencyRecord write-behind 전용 Executor
+     * - 큐가 가득 차면 호출 스레드에서 저장(CallerRuns) → 기존 동기 저장으로 degrade
+     */
+    @Bean(name = "idempotencyWriteExecutor")
+    public Executor idempotencyWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writeBehindPoolSize);
+        executor.setMaxPoolSize(writeBehindPoolSize);
+        executor.setQueueCapacity(writeBehindQueueCapacity);
+        executor.setThreadNamePrefix("order-idempotency-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
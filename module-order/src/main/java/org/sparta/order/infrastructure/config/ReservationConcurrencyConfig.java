@@ -0,0 +1,73 @@
+package org.sparta.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 주문 생성 시 재고/포인트/쿠폰 예약 동시 호출 설정
+ *
+ * 예시:
+ * order:
+ *   reservation:
+ *     parallel-enabled: true
+ *     core-pool-size: 16
+ *     max-pool-size: 64
+ *     queue-capacity: 200
+ *     timeout-millis: 15000
+ *     settle-grace-millis: 5000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "order.reservation")
+public class ReservationConcurrencyConfig {
+
+    /**
+     * true 이면 독립적인 예약(재고/포인트/쿠폰)을 동시에 호출
+     * false 이면 기존처럼 순차 호출
+     */
+    private boolean parallelEnabled = true;
+
+    private int corePoolSize = 16;
+
+    private int maxPoolSize = 64;
+
+    private int queueCapacity = 200;
+
+    /**
+     * 전체 예약 대기 최대 시간 (ms)
+     * Feign read-timeout(10s) + 여유분
+     */
+    private long timeoutMillis = 15_000;
+
+    /**
+     * 시간 초과 후 진행 중인 예약이 끝나기를 추가로 기다리는 시간 (ms)
+     * 이 안에 끝나지 않은 예약은 끝나는 시점에 보상 이벤트를 다시 발행
+     */
+    private long settleGraceMillis = 5_000;
+
+    /**
+     * 예약 호출 전용 Executor
+     * - 큐가 가득 차면 호출 스레드에서 실행하여(CallerRuns) 자연스럽게 순차 호출로 degrade
+     */
+    @Bean(name = "reservationExecutor")
+    public Executor reservationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-reservation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
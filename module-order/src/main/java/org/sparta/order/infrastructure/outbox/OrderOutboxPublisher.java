@@ -9,6 +9,7 @@ import org.sparta.common.event.order.OrderCancelledEvent;
 import org.sparta.common.event.order.OrderCreatedEvent;
 import org.sparta.order.domain.entity.OrderOutboxEvent;
 import org.sparta.order.domain.repository.OrderOutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,7 @@ import java.util.List;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class OrderOutboxPublisher {
 
@@ -0,0 +1,57 @@
+package org.sparta.order.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 주문 멱등성 Redis 저장소
+ * - lock     : 처리 중 표시 (SET NX PX), 동시 요청 차단
+ * - response : 완료된 주문 응답(JSON) 캐시, 재요청 시 DB 조회 없이 반환
+ *
+ * Redis 예외(DataAccessException)는 그대로 전파 → 호출자가 DB 경로로 fallback
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRedisStore {
+
+    private static final String LOCK_KEY_PREFIX = "order:idempotency:lock:";
+    private static final String RESPONSE_KEY_PREFIX = "order:idempotency:response:";
+    private static final String PROCESSING = "PROCESSING";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 잠금 획득 여부 (이미 처리 중이면 false)
+     */
+    public boolean tryLock(String idempotencyKey, Duration ttl) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + idempotencyKey, PROCESSING, ttl)
+        );
+    }
+
+    /**
+     * @return 실제로 잠금이 존재해서 삭제되었는지 여부
+     */
+    public boolean releaseLock(String idempotencyKey) {
+        return Boolean.TRUE.equals(redisTemplate.delete(LOCK_KEY_PREFIX + idempotencyKey));
+    }
+
+    public Optional<String> findResponse(String idempotencyKey) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(RESPONSE_KEY_PREFIX + idempotencyKey));
+    }
+
+    public void saveResponse(String idempotencyKey, String responseBody, Duration ttl) {
+        redisTemplate.opsForValue().set(RESPONSE_KEY_PREFIX + idempotencyKey, responseBody, ttl);
+        log.debug("멱등성 응답 Redis 저장: key={}", idempotencyKey);
+    }
+
+    public void deleteResponse(String idempotencyKey) {
+        redisTemplate.delete(RESPONSE_KEY_PREFIX + idempotencyKey);
+    }
+}
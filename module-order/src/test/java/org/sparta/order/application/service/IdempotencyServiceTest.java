@@ -0,0 +1,246 @@
+package org.sparta.order.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.order.domain.entity.IdempotencyRecord;
+import org.sparta.order.domain.repository.IdempotencyRepository;
+import org.sparta.order.infrastructure.config.IdempotencyConfig;
+import org.sparta.order.infrastructure.redis.IdempotencyRedisStore;
+import org.sparta.order.presentation.dto.response.OrderResponse;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "idem-key-1";
+    private static final String BODY = "{\"orderId\":\"1\"}";
+
+    private IdempotencyRepository idempotencyRepository;
+    private ObjectMapper objectMapper;
+    private IdempotencyRedisStore redisStore;
+    private IdempotencyConfig config;
+    private List<Runnable> writeBehindTasks;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRepository = mock(IdempotencyRepository.class);
+        objectMapper = mock(ObjectMapper.class);
+        redisStore = mock(IdempotencyRedisStore.class);
+        config = new IdempotencyConfig();
+        writeBehindTasks = new ArrayList<>();
+        Executor executor = writeBehindTasks::add;
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        idempotencyService = new IdempotencyService(
+                idempotencyRepository, objectMapper, redisStore, config, executor, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Redis 에 캐시된 응답이 있으면 DB 를 조회하지 않는다")
+    void findExistingResponseFromRedis() throws Exception {
+        // given
+        OrderResponse.Detail cached = mock(OrderResponse.Detail.class);
+        when(redisStore.findResponse(KEY)).thenReturn(Optional.of(BODY));
+        when(objectMapper.readValue(BODY, OrderResponse.Detail.class)).thenReturn(cached);
+
+        // when
+        Optional<OrderResponse.Detail> result = idempotencyService.findExistingResponse(KEY);
+
+        // then
+        assertThat(result).contains(cached);
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시가 없으면 DB 레코드를 조회한다")
+    void findExistingResponseFallsBackToDb() throws Exception {
+        // given
+        OrderResponse.Detail stored = mock(OrderResponse.Detail.class);
+        when(redisStore.findResponse(KEY)).thenReturn(Optional.empty());
+        when(idempotencyRepository.findByIdempotencyKey(KEY))
+                .thenReturn(Optional.of(IdempotencyRecord.create(KEY, "order-1", BODY, 200)));
+        when(objectMapper.readValue(BODY, OrderResponse.Detail.class)).thenReturn(stored);
+
+        // when
+        Optional<OrderResponse.Detail> result = idempotencyService.findExistingResponse(KEY);
+
+        // then
+        assertThat(result).contains(stored);
+    }
+
+    @Test
+    @DisplayName("Redis SET NX 로 잠금을 획득하고, 이미 처리 중이면 false 를 반환한다")
+    void tryAcquireLockWithRedis() {
+        // given
+        when(redisStore.tryLock(eq(KEY), any())).thenReturn(true, false);
+
+        // when & then
+        assertThat(idempotencyService.tryAcquireLock(KEY)).isTrue();
+        assertThat(idempotencyService.tryAcquireLock(KEY)).isFalse();
+        verify(idempotencyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB placeholder 로 잠금을 획득한다")
+    void tryAcquireLockFallsBackToDb() {
+        // given
+        when(redisStore.tryLock(eq(KEY), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean acquired = idempotencyService.tryAcquireLock(KEY);
+
+        // then
+        assertThat(acquired).isTrue();
+        verify(idempotencyRepository).save(any(IdempotencyRecord.class));
+        verify(idempotencyRepository).flush();
+    }
+
+    @Test
+    @DisplayName("응답은 Redis 에 저장 후 잠금을 해제하고, DB 저장은 write-behind 로 처리한다")
+    void saveIdempotencyRecordWriteBehind() throws Exception {
+        // given
+        OrderResponse.Detail response = mock(OrderResponse.Detail.class);
+        when(objectMapper.writeValueAsString(response)).thenReturn(BODY);
+
+        // when
+        idempotencyService.saveIdempotencyRecord(KEY, "order-1", response, 200);
+
+        // then: 응답 경로에서는 DB 저장 없음
+        verify(redisStore).saveResponse(eq(KEY), eq(BODY), any());
+        verify(redisStore).releaseLock(KEY);
+        verify(idempotencyRepository, never()).save(any());
+
+        // write-behind 실행 시 DB 저장
+        assertThat(writeBehindTasks).hasSize(1);
+        writeBehindTasks.get(0).run();
+        verify(idempotencyRepository).save(argThat(record ->
+                record.getIdempotencyKey().equals(KEY) && record.getResponseBody().equals(BODY)));
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션 안에서는 커밋 후에 응답 캐시, 잠금 해제, write-behind 를 수행한다")
+    void saveIdempotencyRecordAfterCommit() throws Exception {
+        // given
+        OrderResponse.Detail response = mock(OrderResponse.Detail.class);
+        when(objectMapper.writeValueAsString(response)).thenReturn(BODY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            idempotencyService.saveIdempotencyRecord(KEY, "order-1", response, 200);
+
+            // then: 커밋 전에는 Redis/DB 모두 손대지 않음
+            verify(redisStore, never()).saveResponse(any(), any(), any());
+            verify(redisStore, never()).releaseLock(any());
+            assertThat(writeBehindTasks).isEmpty();
+
+            // when: 커밋
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(redisStore).saveResponse(eq(KEY), eq(BODY), any());
+        verify(redisStore).releaseLock(KEY);
+        assertThat(writeBehindTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 응답을 저장하지 않고 잠금만 해제한다")
+    void saveIdempotencyRecordRolledBack() throws Exception {
+        // given
+        OrderResponse.Detail response = mock(OrderResponse.Detail.class);
+        when(objectMapper.writeValueAsString(response)).thenReturn(BODY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            idempotencyService.saveIdempotencyRecord(KEY, "order-1", response, 200);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(redisStore).releaseLock(KEY);
+        verify(redisStore, never()).saveResponse(any(), any(), any());
+        assertThat(writeBehindTasks).isEmpty();
+        verify(idempotencyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Redis 저장 실패 시 DB 에 동기 저장한다")
+    void saveIdempotencyRecordSynchronouslyWhenRedisDown() throws Exception {
+        // given
+        OrderResponse.Detail response = mock(OrderResponse.Detail.class);
+        when(objectMapper.writeValueAsString(response)).thenReturn(BODY);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisStore).saveResponse(eq(KEY), eq(BODY), any());
+
+        // when
+        idempotencyService.saveIdempotencyRecord(KEY, "order-1", response, 200);
+
+        // then
+        assertThat(writeBehindTasks).isEmpty();
+        verify(idempotencyRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("실패 시 Redis 잠금만 있었다면 DB 삭제 없이 잠금만 해제한다")
+    void deleteRecordReleasesRedisLock() {
+        // given
+        when(redisStore.releaseLock(KEY)).thenReturn(true);
+
+        // when
+        idempotencyService.deleteRecord(KEY);
+
+        // then
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 비활성화 시 기존 DB 경로를 그대로 사용한다")
+    void redisDisabledUsesDbOnly() {
+        // given
+        config.setRedisEnabled(false);
+
+        // when
+        idempotencyService.findExistingResponse(KEY);
+        idempotencyService.tryAcquireLock(KEY);
+
+        // then
+        verifyNoInteractions(redisStore);
+        verify(idempotencyRepository).findByIdempotencyKey(KEY);
+        verify(idempotencyRepository).save(any(IdempotencyRecord.class));
+    }
+
+    /**
+     * 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 synchronization 실행
+     */
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,186 @@
+package org.sparta.order.application.service.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.common.error.BusinessException;
+import org.sparta.common.event.EventPublisher;
+import org.sparta.common.event.order.OrderCancelledEvent;
+import org.sparta.order.application.dto.CouponReservationResult;
+import org.sparta.order.application.dto.PointReservationResult;
+import org.sparta.order.application.dto.ReservationBundle;
+import org.sparta.order.application.dto.StockReservationResult;
+import org.sparta.order.domain.error.OrderErrorType;
+import org.sparta.order.infrastructure.config.ReservationConcurrencyConfig;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReservationCoordinator 단위 테스트")
+class ReservationCoordinatorTest {
+
+    private StockReservationService stockReservationService;
+    private PointReservationService pointReservationService;
+    private CouponReservationService couponReservationService;
+    private ReservationConcurrencyConfig config;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private EventPublisher eventPublisher;
+    private ReservationCoordinator coordinator;
+
+    private final UUID orderId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID couponId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stockReservationService = mock(StockReservationService.class);
+        pointReservationService = mock(PointReservationService.class);
+        couponReservationService = mock(CouponReservationService.class);
+        config = new ReservationConcurrencyConfig();
+        executor = Executors.newFixedThreadPool(3);
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(EventPublisher.class);
+
+        coordinator = new ReservationCoordinator(
+                stockReservationService,
+                pointReservationService,
+                couponReservationService,
+                config,
+                executor,
+                meterRegistry,
+                eventPublisher
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 모드에서 세 예약 결과를 모두 묶어 반환하고 구간별 지연시간을 기록한다")
+    void reserveAllConcurrently() {
+        // given
+        when(stockReservationService.reserve(eq(productId), anyString(), eq(2)))
+                .thenAnswer(inv -> sleepAndReturn(new StockReservationResult(UUID.randomUUID(), 2, "RESERVED")));
+        when(pointReservationService.reserve(eq(customerId), eq(orderId), eq(20_000L), eq(1_000L)))
+                .thenAnswer(inv -> sleepAndReturn(new PointReservationResult("POINT-1", 1_000L, "RESERVED")));
+        when(couponReservationService.reserve(eq(couponId), eq(customerId), eq(orderId), eq(20_000L)))
+                .thenAnswer(inv -> sleepAndReturn(new CouponReservationResult(UUID.randomUUID(), 3_000L, true)));
+
+        // when
+        ReservationBundle bundle = coordinator.reserveAll(
+                orderId, productId, 2, customerId, 20_000L, 1_000L, couponId);
+
+        // then
+        assertThat(bundle.stock().status()).isEqualTo("RESERVED");
+        assertThat(bundle.usedPointAmount()).isEqualTo(1_000L);
+        assertThat(bundle.pointReservationId()).isEqualTo("POINT-1");
+        assertThat(bundle.usedCouponAmount()).isEqualTo(3_000L);
+        assertThat(meterRegistry.find("order.reservation.leg").timers()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("한 구간이 실패하면 나머지 구간 완료 후 원래 예외를 그대로 던진다")
+    void reserveAllPropagatesFirstFailure() {
+        // given
+        when(stockReservationService.reserve(any(), anyString(), anyInt()))
+                .thenThrow(new BusinessException(OrderErrorType.STOCK_RESERVATION_FAILED));
+        when(pointReservationService.reserve(any(), any(), any(), any()))
+                .thenAnswer(inv -> sleepAndReturn(new PointReservationResult("POINT-1", 0L, "RESERVED")));
+
+        // when & then
+        assertThatThrownBy(() -> coordinator.reserveAll(
+                orderId, productId, 1, customerId, 10_000L, 0L, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorType())
+                .isEqualTo(OrderErrorType.STOCK_RESERVATION_FAILED);
+
+        verify(pointReservationService).reserve(customerId, orderId, 10_000L, 0L);
+        assertThat(meterRegistry.find("order.reservation.leg").tag("outcome", "failure").timer())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("순차 모드에서도 동일한 결과를 반환한다")
+    void reserveAllSequentially() {
+        // given
+        config.setParallelEnabled(false);
+        when(stockReservationService.reserve(any(), anyString(), anyInt()))
+                .thenReturn(new StockReservationResult(UUID.randomUUID(), 1, "RESERVED"));
+
+        // when
+        ReservationBundle bundle = coordinator.reserveAll(
+                orderId, productId, 1, customerId, 10_000L, 0L, null);
+
+        // then
+        assertThat(bundle.stock()).isNotNull();
+        assertThat(bundle.usedPointAmount()).isZero();
+        assertThat(bundle.usedCouponAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시간 초과 후 늦게 끝난 구간이 있으면 끝난 시점에 보상 이벤트를 다시 발행한다")
+    void reserveAllCompensatesLateLegAfterTimeout() {
+        // given
+        config.setTimeoutMillis(100);
+        config.setSettleGraceMillis(50);
+        when(stockReservationService.reserve(any(), anyString(), anyInt()))
+                .thenAnswer(inv -> {
+                    Thread.sleep(500);
+                    return new StockReservationResult(UUID.randomUUID(), 1, "RESERVED");
+                });
+
+        // when & then
+        assertThatThrownBy(() -> coordinator.reserveAll(
+                orderId, productId, 1, customerId, 10_000L, 0L, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorType())
+                .isEqualTo(OrderErrorType.RESERVATION_TIMEOUT);
+
+        // 예외 시점에는 아직 늦은 구간이 진행 중이므로 보상 이벤트 없음
+        verify(eventPublisher, never()).publishExternal(any());
+
+        // 늦은 구간이 성공하면 보상 이벤트 발행
+        verify(eventPublisher, timeout(2_000)).publishExternal(argThat(event ->
+                event instanceof OrderCancelledEvent cancelled && cancelled.orderId().equals(orderId)));
+    }
+
+    @Test
+    @DisplayName("시간 초과 후 유예 시간 안에 모든 구간이 끝나면 바로 던지고 보상은 호출 측에 맡긴다")
+    void reserveAllWaitsForSettlementWithinGrace() {
+        // given
+        config.setTimeoutMillis(100);
+        config.setSettleGraceMillis(2_000);
+        when(stockReservationService.reserve(any(), anyString(), anyInt()))
+                .thenAnswer(inv -> {
+                    Thread.sleep(300);
+                    return new StockReservationResult(UUID.randomUUID(), 1, "RESERVED");
+                });
+
+        // when & then
+        assertThatThrownBy(() -> coordinator.reserveAll(
+                orderId, productId, 1, customerId, 10_000L, 0L, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorType())
+                .isEqualTo(OrderErrorType.RESERVATION_TIMEOUT);
+
+        // 던지는 시점에 모든 구간이 끝났으므로 이후 재발행도 없음
+        verify(stockReservationService).reserve(eq(productId), anyString(), eq(1));
+        verify(eventPublisher, after(500).never()).publishExternal(any());
+    }
+
+    private <T> T sleepAndReturn(T value) throws InterruptedException {
+        Thread.sleep(50);
+        return value;
+    }
+}
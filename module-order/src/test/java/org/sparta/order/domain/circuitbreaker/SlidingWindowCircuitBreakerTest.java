@@ -0,0 +1,197 @@
+package org.sparta.order.domain.circuitbreaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sparta.order.infrastructure.circuitbreaker.CircuitBreakerConfig;
+import org.sparta.order.infrastructure.circuitbreaker.SlidingWindowCircuitBreaker;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SlidingWindowCircuitBreaker 단위 테스트
+ */
+@DisplayName("SlidingWindowCircuitBreaker 단위 테스트")
+class SlidingWindowCircuitBreakerTest {
+
+    private static final String SERVICE = "test-service";
+
+    private CircuitBreakerConfig config;
+    private SlidingWindowCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        config = new CircuitBreakerConfig();
+        config.setSuccessThreshold(2);
+        config.setTimeoutSeconds(1);
+        config.setFailureRateThreshold(50);
+        config.setSlowCallRateThreshold(100);
+        config.setSlowCallDurationMillis(50);
+        config.setMinimumNumberOfCalls(4);
+        config.setSlidingWindowSeconds(10);
+
+        circuitBreaker = new SlidingWindowCircuitBreaker(config);
+    }
+
+    @Test
+    @DisplayName("초기 상태는 CLOSED여야 한다")
+    void initialStateShouldBeClosed() {
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(circuitBreaker.isOpen(SERVICE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 실패율과 관계없이 CLOSED를 유지한다")
+    void shouldStayClosedBelowMinimumCalls() {
+        // when
+        for (int i = 0; i < config.getMinimumNumberOfCalls() - 1; i++) {
+            failOnce(circuitBreaker);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값 이상이면 OPEN으로 전환되고 요청을 차단한다")
+    void shouldOpenWhenFailureRateExceeded() throws Exception {
+        // given: 성공 2회 + 실패 2회 = 실패율 50%
+        circuitBreaker.execute(() -> "ok", SERVICE);
+        circuitBreaker.execute(() -> "ok", SERVICE);
+        failOnce(circuitBreaker);
+        failOnce(circuitBreaker);
+
+        // then
+        assertThat(circuitBreaker.isOpen(SERVICE)).isTrue();
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "blocked", SERVICE))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계값 이상이면 OPEN으로 전환된다")
+    void shouldOpenWhenSlowCallRateExceeded() throws Exception {
+        // when
+        for (int i = 0; i < config.getMinimumNumberOfCalls(); i++) {
+            circuitBreaker.execute(() -> {
+                sleep(60);
+                return "slow";
+            }, SERVICE);
+        }
+
+        // then
+        assertThat(circuitBreaker.isOpen(SERVICE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN, 시험 호출 성공 시 CLOSED로 전환된다")
+    void shouldRecoverThroughHalfOpen() throws Exception {
+        // given
+        openCircuit();
+
+        // when
+        sleep(1100);
+
+        // then
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.HALF_OPEN);
+
+        circuitBreaker.execute(() -> "ok", SERVICE);
+        circuitBreaker.execute(() -> "ok", SERVICE);
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서 실패하면 즉시 OPEN으로 돌아간다")
+    void shouldReopenOnHalfOpenFailure() {
+        // given
+        openCircuit();
+        sleep(1100);
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.HALF_OPEN);
+
+        // when
+        failOnce(circuitBreaker);
+
+        // then
+        assertThat(circuitBreaker.isOpen(SERVICE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서는 허용된 수만큼만 시험 호출을 통과시킨다")
+    void shouldLimitHalfOpenTrialCalls() throws Exception {
+        // given
+        openCircuit();
+        sleep(1100);
+
+        // when: 결과를 기록하기 전에 허용 수를 초과하여 진입 시도
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                try {
+                    circuitBreaker.execute(() -> {
+                        awaitQuietly(release);
+                        return "ok";
+                    }, SERVICE);
+                } catch (CircuitBreakerOpenException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception ignored) {
+                }
+            });
+        }
+        sleep(200);
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(rejected.get()).isEqualTo(4 - config.getSuccessThreshold());
+    }
+
+    @Test
+    @DisplayName("reset 호출 시 CLOSED 상태로 초기화된다")
+    void resetShouldCloseCircuit() {
+        // given
+        openCircuit();
+
+        // when
+        circuitBreaker.reset(SERVICE);
+
+        // then
+        assertThat(circuitBreaker.getState(SERVICE)).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < config.getMinimumNumberOfCalls(); i++) {
+            circuitBreaker.recordFailure(SERVICE);
+        }
+        assertThat(circuitBreaker.isOpen(SERVICE)).isTrue();
+    }
+
+    private static void failOnce(CircuitBreaker circuitBreaker) {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new RuntimeException("failure");
+        }, SERVICE)).isInstanceOf(RuntimeException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
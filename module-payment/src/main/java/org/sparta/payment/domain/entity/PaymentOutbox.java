@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_payment_outbox")
+@Table(
+        name = "p_payment_outbox",
+        indexes = @Index(name = "idx_payment_outbox_aggregate_created_at", columnList = "aggregate_id, created_at")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentOutbox {
@@ -29,8 +32,7 @@ public class PaymentOutbox {
     @Column(name = "event_type", nullable = false, length = 100)
     private String eventType;
 
-    @Lob
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
     private String payload;
 
     @Enumerated(EnumType.STRING)
@@ -43,6 +45,12 @@ public class PaymentOutbox {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    /**
+     * 공통 Outbox Relay 재시도 backoff 시각 (null 이면 즉시 발행 대상)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
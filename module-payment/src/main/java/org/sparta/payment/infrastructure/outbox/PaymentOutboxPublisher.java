@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.sparta.payment.domain.entity.PaymentOutbox;
 import org.sparta.common.domain.OutboxStatus;
 import org.sparta.payment.domain.repository.PaymentOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentOutboxPublisher {
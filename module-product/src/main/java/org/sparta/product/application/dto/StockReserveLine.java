@@ -0,0 +1,12 @@
+package org.sparta.product.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 주문 다건 재고 예약 시 상품별 예약 요청
+ */
+public record StockReserveLine(
+        UUID productId,
+        int quantity
+) {
+}
@@ -0,0 +1,29 @@
+package org.sparta.product.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.application.service.StockReconciliationService;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 재고 카운터 대사 스케줄러 (Redis 재고 엔진 사용 시에만 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReconciliationScheduler {
+
+    private final StockReconciliationService reconciliationService;
+    private final StockEngineConfig engineConfig;
+
+    @Scheduled(fixedDelayString = "${product.stock.engine.reconcile-interval-millis:60000}")
+    public void reconcile() {
+        if (!engineConfig.isEnabled()) {
+            return;
+        }
+        log.debug("Redis 재고 카운터 대사 시작");
+        reconciliationService.reconcile();
+    }
+}
@@ -0,0 +1,29 @@
+package org.sparta.product.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.application.service.StockReservationReaper;
+import org.sparta.product.infrastructure.config.StockReservationReaperConfig;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 재고 예약 회수 스케줄러 (product.stock.reaper.enabled=true 일 때만 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationReaperScheduler {
+
+    private final StockReservationReaper reaper;
+    private final StockReservationReaperConfig config;
+
+    @Scheduled(fixedDelayString = "${product.stock.reaper.interval-millis:60000}")
+    public void reap() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        log.debug("만료 재고 예약 회수 시작");
+        reaper.reap();
+    }
+}
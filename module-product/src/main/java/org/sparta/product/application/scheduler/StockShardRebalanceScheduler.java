@@ -0,0 +1,38 @@
+package org.sparta.product.application.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.application.service.StockShardService;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 인기 상품 재고 샤딩 전환 + 샤드 리밸런싱 스케줄러 (product.stock.sharding.enabled=true 일 때만 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockShardRebalanceScheduler {
+
+    private final StockShardService stockShardService;
+    private final StockShardingConfig shardingConfig;
+
+    @Scheduled(fixedDelayString = "${product.stock.sharding.rebalance-interval-millis:5000}")
+    public void rebalance() {
+        if (!shardingConfig.isEnabled()) {
+            return;
+        }
+        for (UUID productId : shardingConfig.getHotProductIds()) {
+            try {
+                stockShardService.enableSharding(productId);
+                stockShardService.rebalance(productId);
+            } catch (Exception e) {
+                // 낙관적 락 충돌 등은 다음 주기에 다시 시도
+                log.warn("[StockShard] 샤드 리밸런싱 실패 - productId={}", productId, e);
+            }
+        }
+    }
+}
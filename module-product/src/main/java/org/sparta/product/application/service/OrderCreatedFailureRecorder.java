@@ -27,7 +27,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrderCreatedFailureRecorder {
 
-    private static final String EVENT_TYPE_FAILED = "OrderCreatedFailed";
+    static final String EVENT_TYPE_FAILED = "OrderCreatedFailed";
 
     private final ProductOutboxEventRepository outboxRepository;
     private final ProcessedEventRepository processedEventRepository;
@@ -44,23 +44,26 @@ public class OrderCreatedFailureRecorder {
             return;
         }
 
-        try {
-            processedEventRepository.save(ProcessedEvent.of(upstreamEventId, EVENT_TYPE_FAILED));
-
-            StockReservationFailedEvent failed = StockReservationFailedEvent.of(
-                    orderId,
-                    externalReservationKey,
-                    ex.getErrorType().getCode(),
-                    ex.getMessage()
-            );
+        processedEventRepository.save(ProcessedEvent.of(upstreamEventId, EVENT_TYPE_FAILED));
+        outboxRepository.save(failureOutbox(orderId, externalReservationKey, ex));
 
-            String payloadJson = objectMapper.writeValueAsString(failed);
-            ProductOutboxEvent outbox = ProductOutboxEvent.stockReservationFailed(failed, payloadJson);
-            outboxRepository.save(outbox);
+        log.warn("[OrderCreatedFailureRecorder] failure outbox saved. eventId={}, orderId={}, errorCode={}",
+                upstreamEventId, orderId, ex.getErrorType().getCode());
+    }
 
-            log.warn("[OrderCreatedFailureRecorder] failure outbox saved. eventId={}, orderId={}, errorCode={}",
-                    upstreamEventId, orderId, ex.getErrorType().getCode());
+    /**
+     * 실패 outbox 생성 (배치 처리에서는 호출자가 배치 트랜잭션에 함께 저장)
+     */
+    public ProductOutboxEvent failureOutbox(UUID orderId, String externalReservationKey, BusinessException ex) {
+        StockReservationFailedEvent failed = StockReservationFailedEvent.of(
+                orderId,
+                externalReservationKey,
+                ex.getErrorType().getCode(),
+                ex.getMessage()
+        );
 
+        try {
+            return ProductOutboxEvent.stockReservationFailed(failed, objectMapper.writeValueAsString(failed));
         } catch (JsonProcessingException e) {
             throw new IllegalStateException("failure outbox payload serialization failed", e);
         }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.common.error.BusinessException;
 import org.sparta.common.event.product.StockConfirmedEvent;
+import org.sparta.product.application.dto.StockReserveLine;
 import org.sparta.product.domain.entity.ProcessedEvent;
 import org.sparta.product.domain.outbox.ProductOutboxEvent;
 import org.sparta.product.domain.repository.ProcessedEventRepository;
@@ -14,7 +15,11 @@ import org.springframework.dao.DataIntegrityViolationException; // [수정] 중
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -52,10 +57,11 @@ public class OrderCreatedStockReservationHandler {
         }
 
         try {
-            // 1) All-or-Nothing 예약: 하나라도 실패하면 예외를 던져 롤백시킨다.
-            for (OrderLine line : lines) {
-                stockService.reserveStock(line.productId(), externalReservationKey, line.quantity());
-            }
+            // 1) All-or-Nothing 예약: 주문 라인 전체를 한 번에 예약(정렬된 MultiLock + 일괄 저장),
+            //    하나라도 실패하면 예외를 던져 롤백시킨다.
+            stockService.reserveStocks(externalReservationKey, lines.stream()
+                    .map(line -> new StockReserveLine(line.productId(), line.quantity()))
+                    .toList());
 
             // 2) 성공 outbox: 전체 성공했을 때만 남긴다.
             for (OrderLine line : lines) {
@@ -72,6 +78,62 @@ public class OrderCreatedStockReservationHandler {
         }
     }
 
+    /**
+     * OrderCreated 배치 처리 (배치 리스너 전용)
+     *
+     * - processed_event 중복은 IN 쿼리 한 번으로 거르고, 처리 결과는 saveAll 로 한 번에 기록
+     * - 재고 예약은 StockService.reserveStocksBatch 로 배치 전체를 락 1회/조회 1회로 처리
+     * - 주문별 All-or-Nothing 은 유지: 실패한 주문은 실패 outbox, 성공한 주문만 성공 outbox
+     * - 배치 전체가 한 트랜잭션 → 예외 시 배치 전체 롤백 후 재전달 (processed_event 로 멱등)
+     */
+    @Transactional
+    public void handleBatch(List<OrderCreated> events) {
+        Set<UUID> processed = processedEventRepository.findProcessedEventIds(
+                events.stream().map(OrderCreated::upstreamEventId).toList());
+
+        Map<UUID, OrderCreated> pending = new LinkedHashMap<>();
+        for (OrderCreated event : events) {
+            if (processed.contains(event.upstreamEventId())) {
+                log.info("[OrderCreatedStockReservationHandler] duplicate ignored: eventId={}", event.upstreamEventId());
+                continue;
+            }
+            pending.putIfAbsent(event.upstreamEventId(), event);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<StockReserveLine>> linesByReservationKey = new LinkedHashMap<>();
+        pending.values().forEach(event -> linesByReservationKey.putIfAbsent(
+                event.externalReservationKey(),
+                event.lines().stream()
+                        .map(line -> new StockReserveLine(line.productId(), line.quantity()))
+                        .toList()));
+
+        Map<String, BusinessException> failures = stockService.reserveStocksBatch(linesByReservationKey);
+
+        List<ProcessedEvent> processedEvents = new ArrayList<>(pending.size());
+        List<ProductOutboxEvent> outboxEvents = new ArrayList<>();
+        for (OrderCreated event : pending.values()) {
+            BusinessException failure = failures.get(event.externalReservationKey());
+            if (failure == null) {
+                processedEvents.add(ProcessedEvent.of(event.upstreamEventId(), EVENT_TYPE));
+                for (OrderLine line : event.lines()) {
+                    StockConfirmedEvent confirmed = StockConfirmedEvent.of(event.orderId(), line.productId(), line.quantity());
+                    outboxEvents.add(ProductOutboxEvent.stockConfirmed(confirmed, toJson(confirmed)));
+                }
+            } else {
+                processedEvents.add(ProcessedEvent.of(event.upstreamEventId(), OrderCreatedFailureRecorder.EVENT_TYPE_FAILED));
+                outboxEvents.add(failureRecorder.failureOutbox(event.orderId(), event.externalReservationKey(), failure));
+                log.warn("[OrderCreatedStockReservationHandler] reservation failed. eventId={}, orderId={}, errorCode={}",
+                        event.upstreamEventId(), event.orderId(), failure.getErrorType().getCode());
+            }
+        }
+
+        processedEventRepository.saveAll(processedEvents);
+        outboxRepository.saveAll(outboxEvents);
+    }
+
     private String toJson(Object event) {
         try {
             return objectMapper.writeValueAsString(event);
@@ -82,4 +144,10 @@ public class OrderCreatedStockReservationHandler {
 
     public record OrderLine(UUID productId, int quantity) {
     }
+
+    public record OrderCreated(UUID upstreamEventId,
+                               UUID orderId,
+                               String externalReservationKey,
+                               List<OrderLine> lines) {
+    }
 }
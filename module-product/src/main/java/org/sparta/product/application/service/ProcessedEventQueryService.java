@@ -0,0 +1,27 @@
+package org.sparta.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.product.domain.repository.ProcessedEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 배치 리스너용 처리 이력 조회
+ * - 배치 단위로 IN 쿼리 한 번에 이미 처리된 eventId 를 걸러낸다.
+ * - 최종 멱등 보장은 각 핸들러의 processed_event 유니크 제약이 담당
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProcessedEventQueryService {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    public Set<UUID> findProcessed(Collection<UUID> eventIds) {
+        return processedEventRepository.findProcessedEventIds(eventIds);
+    }
+}
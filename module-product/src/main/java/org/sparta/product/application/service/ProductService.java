@@ -12,6 +12,8 @@ import org.sparta.product.domain.error.ProductErrorType;
 import org.sparta.product.domain.repository.CategoryRepository;
 import org.sparta.product.domain.repository.ProductRepository;
 import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
 import org.sparta.product.domain.vo.Money;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +42,8 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final StockRepository stockRepository;
+    private final StockEngineConfig stockEngineConfig;
+    private final StockRedisEngine stockRedisEngine;
 
     /**
      * 상품 생성
@@ -138,6 +142,11 @@ public class ProductService {
                     stockRepository.save(stock);
                 });
 
+        // Redis 재고 엔진에도 즉시 반영 (적재되지 않은 상품이면 무시)
+        if (stockEngineConfig.isEnabled()) {
+            stockRedisEngine.markUnavailable(productId);
+        }
+
         log.info("[ProductService] 상품 삭제 처리 완료 productId={}", productId);
     }
 
@@ -0,0 +1,107 @@
+package org.sparta.product.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
+import org.sparta.product.infrastructure.redis.StockReservationWriteBehind;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 재고 카운터 ↔ p_stocks 대사
+ *
+ * 기대값 = DB 재고 + 아직 DB 에 반영되지 않은 write-behind 예약
+ * - available = (quantity - reservedQuantity) - pending
+ * - reserved  = reservedQuantity + pending
+ *
+ * 예약 직후(커밋 전) 순간적인 차이는 정상이므로 두 번 연속 불일치한 상품만 DB 기준으로 복구한다.
+ * - 복구는 대사 시점에 읽은 카운터가 그대로일 때만 덮어쓴다 (compare-and-set, 그사이 예약이 있으면 다음 주기로)
+ * - pending 은 모든 인스턴스가 공유하는 미반영 로그(Redis Stream)에서 계산한다.
+ *   Redis 예약 후 커밋(로그 추가) 전인 예약은 알 수 없으므로 reconcile-repair 는 기본 false (불일치 로그/메트릭만 남김)
+ */
+@Slf4j
+@Service
+public class StockReconciliationService {
+
+    private final StockRepository stockRepository;
+    private final StockRedisEngine stockRedisEngine;
+    private final StockReservationWriteBehind writeBehind;
+    private final StockEngineConfig engineConfig;
+    private final Counter driftCounter;
+    private final Counter repairCounter;
+
+    private final Set<UUID> driftedLastRun = ConcurrentHashMap.newKeySet();
+
+    public StockReconciliationService(
+            StockRepository stockRepository,
+            StockRedisEngine stockRedisEngine,
+            StockReservationWriteBehind writeBehind,
+            StockEngineConfig engineConfig,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockRepository = stockRepository;
+        this.stockRedisEngine = stockRedisEngine;
+        this.writeBehind = writeBehind;
+        this.engineConfig = engineConfig;
+        this.driftCounter = Counter.builder("product.stock.reconcile.drift").register(meterRegistry);
+        this.repairCounter = Counter.builder("product.stock.reconcile.repaired").register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 대사에서 불일치한 상품 수
+     */
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        int drifted = 0;
+        for (UUID productId : stockRedisEngine.loadedProductIds()) {
+            StockRedisEngine.Counters counters = stockRedisEngine.counters(productId).orElse(null);
+            if (counters == null) {
+                continue;
+            }
+            // DB 보다 먼저 읽음: 그사이 flush 되면 중복 계산(기대 가용 재고가 작아짐)될 뿐 초과 판매 방향으로 틀리지 않음
+            int pending = writeBehind.pendingQuantity(productId);
+            Stock stock = stockRepository.findByProductId(productId).orElse(null);
+            if (stock == null) {
+                continue;
+            }
+
+            int expectedAvailable = stock.getAvailableQuantity() - pending;
+            int expectedReserved = stock.getReservedQuantity() + pending;
+
+            boolean matches = counters.available() == expectedAvailable
+                    && counters.reserved() == expectedReserved
+                    && counters.status().equals(stock.getStatus().name());
+            if (matches) {
+                driftedLastRun.remove(productId);
+                continue;
+            }
+
+            drifted++;
+            driftCounter.increment();
+            log.warn("[StockReconciliation] 재고 불일치 - productId={}, redis(available={}, reserved={}, status={}), "
+                            + "expected(available={}, reserved={}, status={})",
+                    productId, counters.available(), counters.reserved(), counters.status(),
+                    expectedAvailable, expectedReserved, stock.getStatus());
+
+            if (!driftedLastRun.add(productId) && engineConfig.isReconcileRepair()) {
+                driftedLastRun.remove(productId);
+                if (stockRedisEngine.overwriteIfUnchanged(
+                        productId, counters, expectedAvailable, expectedReserved, stock.getStatus().name())) {
+                    repairCounter.increment();
+                    log.warn("[StockReconciliation] DB 기준으로 Redis 재고 카운터 복구 - productId={}", productId);
+                } else {
+                    log.info("[StockReconciliation] 대사 중 카운터 변경 - 복구 보류, 다음 주기에 재확인. productId={}", productId);
+                }
+            }
+        }
+        return drifted;
+    }
+}
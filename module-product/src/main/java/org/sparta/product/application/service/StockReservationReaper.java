@@ -0,0 +1,125 @@
+package org.sparta.product.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.infrastructure.config.StockReservationReaperConfig;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료 재고 예약 회수
+ *
+ * 주문 saga 가 확정/취소 전에 끊기면 RESERVED 예약이 남아 reservedQuantity 가 계속 잡혀 있다.
+ * - (status, created_at, id) 인덱스 범위를 keyset 페이지로 훑어 reservation-ttl 이 지난 예약을 찾는다
+ * - 페이지 안의 예약을 재고(stockId)별로 묶어 재고당 락 1회 + 트랜잭션 1회로 회수
+ * - 한 재고 회수가 실패(락 경합, 동시 확정)해도 나머지는 계속 진행, 실패분은 다음 주기에 다시 대상이 된다
+ *
+ * 메트릭:
+ * - product.stock.reservation.held.quantity : RESERVED 로 잡혀 있는 수량 합계 (실행마다 갱신)
+ * - product.stock.reservation.reaped         : 회수된 예약 수
+ * - product.stock.reservation.reaped.quantity: 회수된 수량
+ * - product.stock.reservation.reap           : 1회 실행 소요 시간
+ */
+@Slf4j
+@Service
+public class StockReservationReaper {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final StockService stockService;
+    private final StockReservationReaperConfig config;
+
+    private final AtomicLong heldQuantity = new AtomicLong();
+    private final Counter reapedCounter;
+    private final Counter reapedQuantityCounter;
+    private final Counter failedCounter;
+    private final Timer reapTimer;
+
+    public StockReservationReaper(
+            StockReservationRepository stockReservationRepository,
+            StockService stockService,
+            StockReservationReaperConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.stockService = stockService;
+        this.config = config;
+
+        meterRegistry.gauge("product.stock.reservation.held.quantity", heldQuantity);
+        this.reapedCounter = Counter.builder("product.stock.reservation.reaped").register(meterRegistry);
+        this.reapedQuantityCounter = Counter.builder("product.stock.reservation.reaped.quantity").register(meterRegistry);
+        this.failedCounter = Counter.builder("product.stock.reservation.reap.failed").register(meterRegistry);
+        this.reapTimer = Timer.builder("product.stock.reservation.reap").register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 실행에서 회수한 예약 수
+     */
+    public int reap() {
+        return reapTimer.record(this::sweep);
+    }
+
+    private int sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.reservationTtl());
+
+        int reaped = 0;
+        LocalDateTime afterCreatedAt = null;
+        UUID afterId = null;
+        for (int page = 0; page < config.getMaxPagesPerRun(); page++) {
+            List<StockReservation> expired = stockReservationRepository.findExpiredReservations(
+                    cutoff, afterCreatedAt, afterId, config.getPageSize());
+            if (expired.isEmpty()) {
+                break;
+            }
+
+            reaped += releaseByStock(expired);
+
+            StockReservation last = expired.get(expired.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+            if (expired.size() < config.getPageSize()) {
+                break;
+            }
+        }
+
+        heldQuantity.set(stockReservationRepository.sumReservedQuantity());
+        if (reaped > 0) {
+            log.info("[StockReservationReaper] 만료 예약 회수 - reaped={}, cutoff={}", reaped, cutoff);
+        }
+        return reaped;
+    }
+
+    private int releaseByStock(List<StockReservation> expired) {
+        Map<UUID, List<UUID>> idsByStock = new LinkedHashMap<>();
+        for (StockReservation reservation : expired) {
+            idsByStock.computeIfAbsent(reservation.getStockId(), id -> new ArrayList<>()).add(reservation.getId());
+        }
+
+        int reaped = 0;
+        for (Map.Entry<UUID, List<UUID>> entry : idsByStock.entrySet()) {
+            try {
+                List<StockReservation> released = stockService.expireReservations(entry.getKey(), entry.getValue());
+                reaped += released.size();
+                reapedCounter.increment(released.size());
+                reapedQuantityCounter.increment(released.stream()
+                        .mapToInt(StockReservation::getReservedQuantity)
+                        .sum());
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("[StockReservationReaper] 재고 단위 회수 실패 - 다음 주기에 재시도. stockId={}, size={}",
+                        entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+        return reaped;
+    }
+}
@@ -4,12 +4,17 @@ import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.common.error.BusinessException;
+import org.sparta.product.application.dto.StockReserveLine;
 import org.sparta.product.domain.entity.Stock;
 import org.sparta.product.domain.entity.StockReservation;
 import org.sparta.product.domain.error.ProductErrorType;
 import org.sparta.product.domain.repository.StockRepository;
 import org.sparta.product.domain.repository.StockReservationRepository;
 import org.sparta.product.domain.util.ReservationKeyUtil;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
+import org.sparta.product.infrastructure.redis.StockReservationWriteBehind;
 import org.sparta.redis.util.DistributedLockExecutor;
 import org.sparta.redis.util.LockAcquisitionException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
@@ -17,16 +22,38 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 재고 예약/확정/취소 서비스
  *
+ * product.stock.engine.enabled=true 이면 예약은 Redis Lua 엔진(StockRedisEngine)으로 처리한다.
+ * - 분산 락 없이 원자적으로 예약 → 동일 상품 동시 요청도 STOCK_LOCK_BUSY 없이 처리
+ * - DB 반영은 트랜잭션 커밋 후 write-behind 배치, 롤백 시 Redis 예약을 되돌림
+ * - 확정/취소는 기존 DB 경로 그대로, 커밋 후 Redis 카운터만 보정
+ *
+ * 여러 상품을 한 번에 다루는 경우(주문 단위 예약/확정/취소)는 락 키를 정렬해 MultiLock 으로 한 번에 획득하고
+ * 조회는 IN 쿼리, 저장은 saveAll 로 묶어 왕복 횟수를 줄인다.
+ *
+ * 샤딩된 인기 상품(product.stock.sharding.hot-product-ids)은 분산 락 없이 StockShard 조건부 UPDATE 로 처리한다.
  */
 @Slf4j
 @Service
@@ -34,9 +61,21 @@ import java.util.function.Supplier;
 @Transactional(readOnly = true)
 public class StockService {
 
+    private static final String STOCK_LOCK_PREFIX = "product:stock:lock:";
+
+    /**
+     * 배치 예약은 락 대상 상품이 많아 다른 요청과 겹치기 쉬우므로 잠시 대기 후 획득
+     */
+    private static final long BATCH_LOCK_WAIT_SECONDS = 3;
+
     private final StockRepository stockRepository;
     private final StockReservationRepository stockReservationRepository;
     private final DistributedLockExecutor lockExecutor;
+    private final StockEngineConfig engineConfig;
+    private final StockRedisEngine stockRedisEngine;
+    private final StockReservationWriteBehind writeBehind;
+    private final StockShardingConfig shardingConfig;
+    private final StockShardService stockShardService;
 
     /**
      * 재고 예약
@@ -67,7 +106,19 @@ public class StockService {
 
         final String internalReservationKey = ReservationKeyUtil.internalKey(externalReservationKey, productId);
 
-        return executeWithLock("product:stock:lock:" + productId, () -> {
+        if (engineConfig.isEnabled()) {
+            return reserveWithEngine(productId, externalReservationKey, internalReservationKey, quantity);
+        }
+
+        if (shardingConfig.isHot(productId)) {
+            Stock stock = stockRepository.findByProductId(productId)
+                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
+            if (stock.isSharded()) {
+                return reserveOnShards(stock, externalReservationKey, internalReservationKey, quantity);
+            }
+        }
+
+        return executeWithLock(STOCK_LOCK_PREFIX + productId, () -> {
             // 1) internalReservationKey 멱등 처리
             StockReservation existing = stockReservationRepository.findByReservationKey(internalReservationKey).orElse(null);
             if (existing != null) {
@@ -111,10 +162,12 @@ public class StockService {
     }
 
     /**
-     * 예약 확정(실차감)
+     * 주문 단위 재고 예약 (여러 상품 라인)
      *
-     * - inputKey가 internalReservationKey면 단건 처리
-     * - inputKey가 externalReservationKey(orderId 기반)면 해당 주문의 모든 예약을 일괄 처리
+     * - 같은 상품 라인은 수량을 합산해 하나의 예약으로 처리 (internalReservationKey 가 productId 기준이므로)
+     * - 엔진 모드: 라인별 Lua 예약 (락 없음, 실패 시 트랜잭션 롤백으로 앞선 라인도 되돌림)
+     * - DB 모드: productId 정렬 순서로 MultiLock 획득 → IN 조회 → saveAll
+     *   (샤딩된 인기 상품 라인은 락 대상에서 빼고 샤드 예약)
      */
     @Transactional
     @Retryable(
@@ -125,55 +178,415 @@ public class StockService {
             maxAttempts = 5,
             backoff = @Backoff(delay = 30, multiplier = 2)
     )
-    public void confirmReservation(String inputKey) {
-        if (inputKey == null || inputKey.isBlank()) {
-            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_KEY_REQUIRED);
+    public List<StockReservation> reserveStocks(String externalReservationKey, List<StockReserveLine> lines) {
+        Map<UUID, Integer> quantities = mergeLines(externalReservationKey, lines);
+
+        Map<UUID, String> internalKeys = new LinkedHashMap<>();
+        quantities.keySet().forEach(productId ->
+                internalKeys.put(productId, ReservationKeyUtil.internalKey(externalReservationKey, productId)));
+
+        if (engineConfig.isEnabled()) {
+            List<StockReservation> reservations = new ArrayList<>(quantities.size());
+            quantities.forEach((productId, quantity) -> reservations.add(
+                    reserveWithEngine(productId, externalReservationKey, internalKeys.get(productId), quantity)));
+            return reservations;
         }
 
-        // 1) externalReservationKey로 전체 조회(운영 편의)
-        List<StockReservation> byExternal = stockReservationRepository.findAllByExternalReservationKey(inputKey);
-        if (!byExternal.isEmpty()) {
-            for (StockReservation r : byExternal) {
-                confirmOne(r.getReservationKey());
+        Map<UUID, StockReservation> reserved = new TreeMap<>();
+        Map<UUID, Integer> lockedQuantities = new TreeMap<>(quantities);
+
+        List<UUID> hotProductIds = quantities.keySet().stream().filter(shardingConfig::isHot).toList();
+        if (!hotProductIds.isEmpty()) {
+            for (Stock stock : stockRepository.findAllByProductIdIn(hotProductIds)) {
+                if (stock.isSharded()) {
+                    UUID productId = stock.getProductId();
+                    reserved.put(productId, reserveOnShards(
+                            stock, externalReservationKey, internalKeys.get(productId), quantities.get(productId)));
+                    lockedQuantities.remove(productId);
+                }
             }
-            return;
         }
 
-        // 2) 없으면 internalReservationKey 단건 처리(호환)
-        confirmOne(inputKey);
+        if (!lockedQuantities.isEmpty()) {
+            reserved.putAll(reserveWithMultiLock(externalReservationKey, lockedQuantities, internalKeys));
+        }
+        return new ArrayList<>(reserved.values());
     }
 
-    private void confirmOne(String internalReservationKey) {
+    /**
+     * 여러 주문의 재고 예약을 한 트랜잭션으로 처리 (OrderCreated 배치 리스너)
+     *
+     * - 주문마다 All-or-Nothing: 한 라인이라도 실패하면 그 주문에서 잡은 예약만 되돌리고 실패로 반환
+     * - 실패한 주문이 있어도 예외를 던지지 않고 나머지 주문은 그대로 커밋
+     * - DB 모드: 배치에 등장하는 상품 락을 정렬 순서로 한 번만 획득 → 같은 상품의 연속 예약이 락 1회로 처리
+     *   재고/기존 예약 조회는 IN 쿼리 한 번, 저장은 saveAll 한 번 (Stock 버전도 배치당 1회 증가)
+     * - 엔진 모드: 주문별 Lua 예약, 실패 시 그 주문에서 잡은 Redis 예약을 즉시 되돌림
+     *
+     * @param linesByReservationKey externalReservationKey → 주문 라인 (처리 순서 유지)
+     * @return 실패한 주문의 externalReservationKey → 실패 사유
+     */
+    @Transactional
+    public Map<String, BusinessException> reserveStocksBatch(Map<String, List<StockReserveLine>> linesByReservationKey) {
+        Map<String, Map<UUID, Integer>> orders = new LinkedHashMap<>();
+        Map<String, BusinessException> failures = new LinkedHashMap<>();
+        linesByReservationKey.forEach((externalReservationKey, lines) -> {
+            try {
+                orders.put(externalReservationKey, mergeLines(externalReservationKey, lines));
+            } catch (BusinessException e) {
+                failures.put(externalReservationKey, e);
+            }
+        });
+        if (orders.isEmpty()) {
+            return failures;
+        }
+
+        if (engineConfig.isEnabled()) {
+            orders.forEach((externalReservationKey, quantities) ->
+                    reserveOrderWithEngine(externalReservationKey, quantities)
+                            .ifPresent(e -> failures.put(externalReservationKey, e)));
+            return failures;
+        }
 
-        StockReservation reservation = stockReservationRepository.findByReservationKey(internalReservationKey)
-                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
+        Set<UUID> productIds = new TreeSet<>();
+        orders.values().forEach(quantities -> productIds.addAll(quantities.keySet()));
+        List<String> lockKeys = productIds.stream()
+                .map(productId -> STOCK_LOCK_PREFIX + productId)
+                .toList();
 
-        executeWithLock("product:stock:lock:" + reservation.getStockId(), () -> {
-            StockReservation fresh = stockReservationRepository.findByReservationKey(internalReservationKey)
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
+        failures.putAll(executeWithMultiLock(lockKeys, BATCH_LOCK_WAIT_SECONDS,
+                () -> reserveOrdersLocked(orders, productIds)));
+        return failures;
+    }
 
-            if (fresh.isConfirmed()) {
-                return null; // 멱등
+    private Map<String, BusinessException> reserveOrdersLocked(Map<String, Map<UUID, Integer>> orders,
+                                                             Set<UUID> productIds) {
+        List<String> internalKeys = new ArrayList<>();
+        orders.forEach((externalReservationKey, quantities) -> quantities.keySet().forEach(productId ->
+                internalKeys.add(ReservationKeyUtil.internalKey(externalReservationKey, productId))));
+
+        Map<String, StockReservation> existingByKey = stockReservationRepository
+                .findAllByReservationKeyIn(internalKeys)
+                .stream()
+                .collect(Collectors.toMap(StockReservation::getReservationKey, Function.identity()));
+
+        Map<UUID, Stock> stockByProduct = stockRepository.findAllByProductIdIn(productIds)
+                .stream()
+                .collect(Collectors.toMap(Stock::getProductId, Function.identity()));
+
+        Map<String, BusinessException> failures = new LinkedHashMap<>();
+        Map<UUID, Stock> dirtyStocks = new LinkedHashMap<>();
+        List<StockReservation> newReservations = new ArrayList<>();
+
+        orders.forEach((externalReservationKey, quantities) -> {
+            List<AppliedReservation> applied = new ArrayList<>();
+            try {
+                for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+                    UUID productId = entry.getKey();
+                    int quantity = entry.getValue();
+                    String internalReservationKey = ReservationKeyUtil.internalKey(externalReservationKey, productId);
+                    Stock stock = stockByProduct.get(productId);
+
+                    StockReservation existing = existingByKey.get(internalReservationKey);
+                    if (existing != null) {
+                        if (stock == null) {
+                            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_CONFLICT);
+                        }
+                        verifyExisting(existing, stock, externalReservationKey, quantity);
+                        continue;
+                    }
+                    if (stock == null) {
+                        throw new BusinessException(ProductErrorType.STOCK_NOT_FOUND);
+                    }
+
+                    StockReservation reservation = StockReservation.reserve(
+                            stock.getId(),
+                            externalReservationKey,
+                            internalReservationKey,
+                            quantity
+                    );
+                    OptionalInt shardIndex = stock.isSharded()
+                            ? stockShardService.reserve(stock, internalReservationKey, quantity)
+                            : OptionalInt.empty();
+                    if (shardIndex.isPresent()) {
+                        reservation.assignShard(shardIndex.getAsInt());
+                    } else {
+                        stock.reserve(quantity);
+                    }
+                    applied.add(new AppliedReservation(stock, reservation));
+                }
+            } catch (BusinessException e) {
+                // 이 주문에서 이미 잡은 예약만 되돌림
+                for (AppliedReservation undo : applied) {
+                    if (undo.reservation().isSharded()) {
+                        stockShardService.cancel(undo.reservation());
+                    } else {
+                        undo.stock().cancelReservation(undo.reservation().getReservedQuantity());
+                    }
+                }
+                failures.put(externalReservationKey, e);
+                return;
             }
-            if (fresh.isCancelled()) {
-                throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_CANCELLED);
+
+            for (AppliedReservation reserved : applied) {
+                newReservations.add(reserved.reservation());
+                if (!reserved.reservation().isSharded()) {
+                    dirtyStocks.put(reserved.stock().getId(), reserved.stock());
+                }
             }
+        });
 
-            Stock stock = stockRepository.findById(fresh.getStockId())
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
+        if (!dirtyStocks.isEmpty()) {
+            stockRepository.saveAll(dirtyStocks.values());
+        }
+        if (!newReservations.isEmpty()) {
+            stockReservationRepository.saveAll(newReservations);
+        }
+        return failures;
+    }
 
-            stock.confirmReservation(fresh.getReservedQuantity());
-            fresh.confirm();
+    private Optional<BusinessException> reserveOrderWithEngine(String externalReservationKey,
+                                                               Map<UUID, Integer> quantities) {
+        List<EngineReservation> reserved = new ArrayList<>();
+        try {
+            quantities.forEach((productId, quantity) -> reserved.add(tryReserveWithEngine(
+                    productId,
+                    externalReservationKey,
+                    ReservationKeyUtil.internalKey(externalReservationKey, productId),
+                    quantity
+            )));
+        } catch (BusinessException e) {
+            reserved.stream()
+                    .filter(EngineReservation::created)
+                    .forEach(r -> stockRedisEngine.release(
+                            r.productId(), r.reservation().getReservationKey(), r.reservation().getReservedQuantity()));
+            return Optional.of(e);
+        }
 
-            stockRepository.save(stock);
-            stockReservationRepository.save(fresh);
+        reserved.stream()
+                .filter(EngineReservation::created)
+                .forEach(this::registerEngineReservation);
+        return Optional.empty();
+    }
+
+    /**
+     * 주문 라인 검증 + productId 정렬 + 같은 상품 수량 합산
+     */
+    private Map<UUID, Integer> mergeLines(String externalReservationKey, List<StockReserveLine> lines) {
+        if (externalReservationKey == null || externalReservationKey.isBlank()) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_KEY_REQUIRED);
+        }
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException(ProductErrorType.RESERVE_QUANTITY_INVALID);
+        }
+
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        for (StockReserveLine line : lines) {
+            if (line.productId() == null) {
+                throw new BusinessException(ProductErrorType.PRODUCT_REQUIRED);
+            }
+            if (line.quantity() < 1) {
+                throw new BusinessException(ProductErrorType.RESERVE_QUANTITY_INVALID);
+            }
+            quantities.merge(line.productId(), line.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
 
-            return null;
+    private Map<UUID, StockReservation> reserveWithMultiLock(String externalReservationKey,
+                                                           Map<UUID, Integer> quantities,
+                                                           Map<UUID, String> internalKeys) {
+        List<String> lockKeys = quantities.keySet().stream()
+                .map(productId -> STOCK_LOCK_PREFIX + productId)
+                .toList();
+
+        return executeWithMultiLock(lockKeys, () -> {
+            Map<String, StockReservation> existingByKey = stockReservationRepository
+                    .findAllByReservationKeyIn(quantities.keySet().stream().map(internalKeys::get).toList())
+                    .stream()
+                    .collect(Collectors.toMap(StockReservation::getReservationKey, Function.identity()));
+
+            Map<UUID, Stock> stockByProduct = stockRepository.findAllByProductIdIn(quantities.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(Stock::getProductId, Function.identity()));
+
+            Map<UUID, StockReservation> result = new LinkedHashMap<>();
+            List<StockReservation> newReservations = new ArrayList<>();
+            List<Stock> dirtyStocks = new ArrayList<>();
+
+            for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+                UUID productId = entry.getKey();
+                int quantity = entry.getValue();
+                String internalReservationKey = internalKeys.get(productId);
+                Stock stock = stockByProduct.get(productId);
+
+                // 1) internalReservationKey 멱등 처리 (단건 예약과 같은 규칙)
+                StockReservation existing = existingByKey.get(internalReservationKey);
+                if (existing != null) {
+                    if (stock == null) {
+                        throw new BusinessException(ProductErrorType.STOCK_RESERVATION_CONFLICT);
+                    }
+                    result.put(productId, verifyExisting(existing, stock, externalReservationKey, quantity));
+                    continue;
+                }
+
+                // 2) 신규 예약
+                if (stock == null) {
+                    throw new BusinessException(ProductErrorType.STOCK_NOT_FOUND);
+                }
+                stock.reserve(quantity);
+                StockReservation reservation = StockReservation.reserve(
+                        stock.getId(),
+                        externalReservationKey,
+                        internalReservationKey,
+                        quantity
+                );
+                dirtyStocks.add(stock);
+                newReservations.add(reservation);
+                result.put(productId, reservation);
+            }
+
+            if (!newReservations.isEmpty()) {
+                stockRepository.saveAll(dirtyStocks);
+                stockReservationRepository.saveAll(newReservations);
+            }
+            return result;
         });
     }
 
     /**
-     * 예약 취소(복구)
+     * 샤드 재고 예약 (분산 락 없음)
+     * - 샤드 행 조건부 UPDATE 라 같은 상품 동시 요청도 샤드 수만큼 병렬 처리
+     * - 모든 샤드의 가용 재고가 부족하면 home(Stock 행) 재고로 예약 (낙관적 락)
+     * - 같은 키 동시 요청은 reservation_key 유니크 제약으로 한 건만 커밋
+     */
+    private StockReservation reserveOnShards(Stock stock,
+                                             String externalReservationKey,
+                                             String internalReservationKey,
+                                             int quantity) {
+        StockReservation existing = stockReservationRepository.findByReservationKey(internalReservationKey).orElse(null);
+        if (existing != null) {
+            return verifyExisting(existing, stock, externalReservationKey, quantity);
+        }
+
+        StockReservation reservation = StockReservation.reserve(
+                stock.getId(),
+                externalReservationKey,
+                internalReservationKey,
+                quantity
+        );
+
+        OptionalInt shardIndex = stockShardService.reserve(stock, internalReservationKey, quantity);
+        if (shardIndex.isPresent()) {
+            reservation.assignShard(shardIndex.getAsInt());
+        } else {
+            stock.reserve(quantity);
+            stockRepository.save(stock);
+        }
+
+        stockReservationRepository.save(reservation);
+        return reservation;
+    }
+
+    /**
+     * 같은 internalReservationKey 로 이미 예약된 경우 (단건 예약과 같은 규칙)
+     */
+    private StockReservation verifyExisting(StockReservation existing,
+                                            Stock stock,
+                                            String externalReservationKey,
+                                            int quantity) {
+        if (!stock.getId().equals(existing.getStockId())) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_CONFLICT);
+        }
+        // 수량이 다르면 같은 키로 서로 다른 예약을 걸려는 시도 => 충돌
+        if (existing.getReservedQuantity() != quantity) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_EXISTS);
+        }
+        // 외부키가 다르면 데이터 이상 => 충돌
+        if (!Objects.equals(existing.getExternalReservationKey(), externalReservationKey)) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_CONFLICT);
+        }
+        return existing;
+    }
+
+    /**
+     * Redis 엔진 예약
+     * - 카운터 미적재 상품은 DB 재고로 적재 후 1회 재시도
+     * - 커밋 후 미반영 로그(write-behind)에 추가, 롤백 시 Redis 예약 되돌림
+     */
+    private StockReservation reserveWithEngine(UUID productId,
+                                               String externalReservationKey,
+                                               String internalReservationKey,
+                                               int quantity) {
+        EngineReservation result = tryReserveWithEngine(
+                productId, externalReservationKey, internalReservationKey, quantity);
+        if (result.created()) {
+            registerEngineReservation(result);
+        }
+        return result.reservation();
+    }
+
+    private void registerEngineReservation(EngineReservation result) {
+        StockReservation reservation = result.reservation();
+        afterCompletion(
+                () -> writeBehind.enqueue(result.productId(), reservation),
+                () -> stockRedisEngine.release(
+                        result.productId(), reservation.getReservationKey(), reservation.getReservedQuantity())
+        );
+    }
+
+    private EngineReservation tryReserveWithEngine(UUID productId,
+                                                   String externalReservationKey,
+                                                   String internalReservationKey,
+                                                   int quantity) {
+        StockRedisEngine.ReserveResult result = stockRedisEngine.tryReserve(
+                productId, internalReservationKey, quantity, engineConfig.reservationTtl());
+
+        if (result.outcome() == StockRedisEngine.Outcome.NOT_LOADED) {
+            Stock stock = stockRepository.findByProductId(productId)
+                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
+            stockRedisEngine.load(stock);
+            result = stockRedisEngine.tryReserve(
+                    productId, internalReservationKey, quantity, engineConfig.reservationTtl());
+        }
+
+        return switch (result.outcome()) {
+            case RESERVED -> {
+                StockReservation reservation = StockReservation.reserve(
+                        result.stockId(),
+                        externalReservationKey,
+                        internalReservationKey,
+                        quantity
+                );
+                yield new EngineReservation(productId, reservation, true);
+            }
+            case DUPLICATE -> new EngineReservation(
+                    productId, findDuplicateReservation(productId, externalReservationKey, internalReservationKey), false);
+            case CONFLICT -> throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_EXISTS);
+            case INSUFFICIENT -> throw new BusinessException(ProductErrorType.INSUFFICIENT_STOCK);
+            case UNAVAILABLE -> throw new BusinessException(ProductErrorType.STOCK_UNAVAILABLE);
+            case NOT_LOADED -> throw new BusinessException(ProductErrorType.STOCK_NOT_FOUND);
+        };
+    }
+
+    /**
+     * 같은 internalReservationKey 재요청: DB 또는 write-behind 대기 중인 예약 반환
+     * - 둘 다 없으면 최초 예약 트랜잭션이 아직 진행 중 → 재시도 유도
+     */
+    private StockReservation findDuplicateReservation(UUID productId,
+                                                      String externalReservationKey,
+                                                      String internalReservationKey) {
+        StockReservation existing = stockReservationRepository.findByReservationKey(internalReservationKey)
+                .or(() -> writeBehind.findPending(productId, internalReservationKey))
+                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_LOCK_BUSY));
+
+        if (!Objects.equals(existing.getExternalReservationKey(), externalReservationKey)) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_CONFLICT);
+        }
+        return existing;
+    }
+
+    /**
+     * 예약 확정(실차감)
      *
      * - inputKey가 internalReservationKey면 단건 처리
      * - inputKey가 externalReservationKey(orderId 기반)면 해당 주문의 모든 예약을 일괄 처리
@@ -187,56 +600,53 @@ public class StockService {
             maxAttempts = 5,
             backoff = @Backoff(delay = 30, multiplier = 2)
     )
-    public void cancelReservation(String inputKey) {
+    public void confirmReservation(String inputKey) {
         if (inputKey == null || inputKey.isBlank()) {
             throw new BusinessException(ProductErrorType.STOCK_RESERVATION_KEY_REQUIRED);
         }
+        flushPendingReservations();
 
-        List<StockReservation> byExternal = stockReservationRepository.findAllByExternalReservationKey(inputKey);
-        if (!byExternal.isEmpty()) {
-            for (StockReservation r : byExternal) {
-                cancelOne(r.getReservationKey());
-            }
-            return;
-        }
-
-        cancelOne(inputKey);
+        // 1) externalReservationKey로 전체 조회 후 일괄 처리
+        // 2) 없으면 internalReservationKey 단건 처리(호환)
+        transitionAll(findByExternalOrInternalKey(inputKey), this::confirm);
     }
 
-    private void cancelOne(String internalReservationKey) {
-
-        StockReservation reservation = stockReservationRepository.findByReservationKey(internalReservationKey)
-                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
-
-        executeWithLock("product:stock:lock:" + reservation.getStockId(), () -> {
-            StockReservation fresh = stockReservationRepository.findByReservationKey(internalReservationKey)
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
-
-            if (fresh.isCancelled()) {
-                return null; // 멱등
-            }
-            if (fresh.isConfirmed()) {
-                throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_CONFIRMED);
-            }
-
-            Stock stock = stockRepository.findById(fresh.getStockId())
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
-
-            stock.cancelReservation(fresh.getReservedQuantity());
-            fresh.cancel();
-
-            stockRepository.save(stock);
-            stockReservationRepository.save(fresh);
+    /**
+     * 예약 취소(복구)
+     *
+     * - inputKey가 internalReservationKey면 단건 처리
+     * - inputKey가 externalReservationKey(orderId 기반)면 해당 주문의 모든 예약을 일괄 처리
+     */
+    @Transactional
+    @Retryable(
+            retryFor = {
+                    OptimisticLockException.class,
+                    ObjectOptimisticLockingFailureException.class
+            },
+            maxAttempts = 5,
+            backoff = @Backoff(delay = 30, multiplier = 2)
+    )
+    public void cancelReservation(String inputKey) {
+        if (inputKey == null || inputKey.isBlank()) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_KEY_REQUIRED);
+        }
+        flushPendingReservations();
 
-            return null;
-        });
+        transitionAll(findByExternalOrInternalKey(inputKey), this::cancel);
     }
 
+    /**
+     * 주문 취소 보상
+     * - RESERVED  → 예약 취소(가용 재고 복구)
+     * - CONFIRMED → 확정 차감분 복구
+     * - CANCELLED → 무시(멱등)
+     */
     @Transactional
     public void compensateOrderCancellation(String externalReservationKey) {
         if (externalReservationKey == null || externalReservationKey.isBlank()) {
             throw new BusinessException(ProductErrorType.STOCK_RESERVATION_KEY_REQUIRED);
         }
+        flushPendingReservations();
 
         List<StockReservation> reservations =
                 stockReservationRepository.findAllByExternalReservationKey(externalReservationKey);
@@ -245,57 +655,228 @@ public class StockService {
             return;
         }
 
-        for (StockReservation reservation : reservations) {
+        transitionAll(reservations, (stock, reservation) -> reservation.isConfirmed()
+                ? restoreConfirmed(stock, reservation)
+                : cancel(stock, reservation));
+    }
 
-            if (reservation.isCancelled()) {
-                continue; // 멱등
+    /**
+     * 만료 예약 회수 (StockReservationReaper)
+     *
+     * - 같은 재고의 만료 예약을 재고 락 1회 + 트랜잭션 1회로 회수 (예약 건별 락/트랜잭션 없음)
+     * - 락 안에서 예약을 다시 조회해, 조회 이후 확정/취소된 예약은 건너뛴다
+     *
+     * @return 회수된 예약
+     */
+    @Transactional
+    public List<StockReservation> expireReservations(UUID stockId, Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return executeWithLock(STOCK_LOCK_PREFIX + stockId, () -> {
+            List<StockReservation> reservations = stockReservationRepository.findAllByIdIn(reservationIds)
+                    .stream()
+                    .filter(StockReservation::isReserved)
+                    .toList();
+            if (!reservations.isEmpty()) {
+                applyTransition(reservations, this::expire);
             }
+            return reservations;
+        });
+    }
+
+    private List<StockReservation> findByExternalOrInternalKey(String inputKey) {
+        List<StockReservation> byExternal = stockReservationRepository.findAllByExternalReservationKey(inputKey);
+        if (!byExternal.isEmpty()) {
+            return byExternal;
+        }
+        StockReservation reservation = stockReservationRepository.findByReservationKey(inputKey)
+                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
+        return List.of(reservation);
+    }
+
+    /**
+     * 예약 목록 일괄 상태 전이
+     * - 관련 재고 락을 정렬된 순서로 한 번에 획득(MultiLock) → 교착 방지
+     * - 예약은 호출자가 한 번 조회한 엔티티를 그대로 사용 (버전 충돌은 @Retryable 로 재시도)
+     * - Stock 은 IN 쿼리 한 번으로 조회, 변경분은 saveAll 로 한 번에 반영
+     * - 샤드 예약은 샤드 행 조건부 UPDATE 로 처리하므로 락 없이 전이
+     */
+    private void transitionAll(List<StockReservation> reservations, ReservationTransition transition) {
+        List<StockReservation> homeReservations = reservations.stream()
+                .filter(reservation -> !reservation.isSharded())
+                .toList();
+        List<StockReservation> shardReservations = reservations.stream()
+                .filter(StockReservation::isSharded)
+                .toList();
+
+        if (!homeReservations.isEmpty()) {
+            List<String> lockKeys = homeReservations.stream()
+                    .map(reservation -> STOCK_LOCK_PREFIX + reservation.getStockId())
+                    .toList();
+            executeWithMultiLock(lockKeys, () -> {
+                applyTransition(homeReservations, transition);
+                return null;
+            });
+        }
+        if (!shardReservations.isEmpty()) {
+            applyTransition(shardReservations, transition);
+        }
+    }
+
+    private void applyTransition(List<StockReservation> reservations, ReservationTransition transition) {
+        Map<UUID, Stock> stocks = stockRepository.findAllById(
+                        reservations.stream().map(StockReservation::getStockId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Stock::getId, Function.identity()));
 
-            // RESERVED 판단: confirmed도 아니고 cancelled도 아닌 상태
-            if (!reservation.isConfirmed()) {
-                // 기존 cancel 흐름 재사용(= 재고 복구 + reservation.cancel + 저장까지 포함)
-                cancelOne(reservation.getReservationKey());
-                continue;
+        List<StockReservation> changedReservations = new ArrayList<>();
+        Map<UUID, Stock> changedStocks = new LinkedHashMap<>();
+        for (StockReservation reservation : reservations) {
+            Stock stock = stocks.get(reservation.getStockId());
+            if (stock == null) {
+                throw new BusinessException(ProductErrorType.STOCK_NOT_FOUND);
+            }
+            if (transition.apply(stock, reservation)) {
+                changedReservations.add(reservation);
+                if (!reservation.isSharded()) {
+                    changedStocks.put(stock.getId(), stock);
+                }
             }
+        }
 
-            // CONFIRMED 보상
-            compensateConfirmedOne(reservation.getReservationKey());
+        if (!changedStocks.isEmpty()) {
+            stockRepository.saveAll(changedStocks.values());
+        }
+        if (!changedReservations.isEmpty()) {
+            stockReservationRepository.saveAll(changedReservations);
         }
     }
 
-    private void compensateConfirmedOne(String internalReservationKey) {
+    /**
+     * @return 상태가 바뀌었으면 true (이미 확정된 예약은 멱등 처리)
+     */
+    private boolean confirm(Stock stock, StockReservation reservation) {
+        if (reservation.isConfirmed()) {
+            return false; // 멱등
+        }
+        if (reservation.isCancelled()) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_CANCELLED);
+        }
+        if (reservation.isExpired()) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_EXPIRED);
+        }
 
-        StockReservation reservation = stockReservationRepository.findByReservationKey(internalReservationKey)
-                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
+        if (reservation.isSharded()) {
+            stockShardService.confirm(reservation);
+        } else {
+            stock.confirmReservation(reservation.getReservedQuantity());
+        }
+        reservation.confirm();
+        syncEngineAfterCommit(() -> stockRedisEngine.applyConfirm(stock.getProductId(), reservation.getReservedQuantity()));
+        return true;
+    }
 
-        executeWithLock("product:stock:lock:" + reservation.getStockId(), () -> {
+    private boolean cancel(Stock stock, StockReservation reservation) {
+        if (reservation.isCancelled() || reservation.isExpired()) {
+            return false; // 멱등 (만료 회수된 예약은 이미 가용 재고로 복구됨)
+        }
+        if (reservation.isConfirmed()) {
+            throw new BusinessException(ProductErrorType.STOCK_RESERVATION_ALREADY_CONFIRMED);
+        }
 
-            StockReservation fresh = stockReservationRepository.findByReservationKey(internalReservationKey)
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_RESERVATION_NOT_FOUND));
+        if (reservation.isSharded()) {
+            stockShardService.cancel(reservation);
+        } else {
+            stock.cancelReservation(reservation.getReservedQuantity());
+        }
+        reservation.cancel();
+        syncEngineAfterCommit(() -> stockRedisEngine.applyCancel(stock.getProductId(), reservation.getReservedQuantity()));
+        return true;
+    }
 
-            if (fresh.isCancelled()) {
-                return null; // 멱등
-            }
+    private boolean expire(Stock stock, StockReservation reservation) {
+        if (!reservation.isReserved()) {
+            return false;
+        }
 
-            // CONFIRMED만 보상 대상으로 처리
-            if (!fresh.isConfirmed()) {
-                return null;
-            }
+        if (reservation.isSharded()) {
+            stockShardService.cancel(reservation);
+        } else {
+            stock.cancelReservation(reservation.getReservedQuantity());
+        }
+        reservation.expire();
+        syncEngineAfterCommit(() -> stockRedisEngine.applyCancel(stock.getProductId(), reservation.getReservedQuantity()));
+        return true;
+    }
 
-            Stock stock = stockRepository.findById(fresh.getStockId())
-                    .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
+    private boolean restoreConfirmed(Stock stock, StockReservation reservation) {
+        // CONFIRMED만 보상 대상으로 처리
+        if (!reservation.isConfirmed()) {
+            return false;
+        }
+
+        if (reservation.isSharded()) {
+            stockShardService.restore(reservation);
+        } else {
+            stock.restoreConfirmedReservation(reservation.getReservedQuantity());
+        }
+        reservation.compensateCancel();
+        syncEngineAfterCommit(() -> stockRedisEngine.applyRestore(stock.getProductId(), reservation.getReservedQuantity()));
+        return true;
+    }
 
-            stock.restoreConfirmedReservation(fresh.getReservedQuantity());
-            fresh.compensateCancel();
+    private record EngineReservation(UUID productId, StockReservation reservation, boolean created) {
+    }
 
-            stockRepository.save(stock);
-            stockReservationRepository.save(fresh);
+    private record AppliedReservation(Stock stock, StockReservation reservation) {
+    }
 
-            return null;
-        });
+    @FunctionalInterface
+    private interface ReservationTransition {
+        boolean apply(Stock stock, StockReservation reservation);
     }
 
+    // ===== Redis 엔진 연동 =====
 
+    /**
+     * 확정/취소는 예약 행이 필요하므로 아직 DB 에 반영되지 않은 예약을 먼저 반영
+     * - 모든 인스턴스가 공유하는 미반영 로그를 반영 (다른 인스턴스가 반영 중인 항목은 그 flush 가 끝난 뒤 조회 가능)
+     */
+    private void flushPendingReservations() {
+        if (engineConfig.isEnabled() && writeBehind.hasPending()) {
+            writeBehind.flush();
+        }
+    }
+
+    private void syncEngineAfterCommit(Runnable action) {
+        if (engineConfig.isEnabled()) {
+            afterCompletion(action, () -> { });
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 결과에 따라 후속 작업 실행 (트랜잭션 밖이면 즉시 onCommit)
+     * - 결과를 알 수 없는 경우(STATUS_UNKNOWN)는 대사 작업에 맡김
+     */
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (status == STATUS_ROLLED_BACK) {
+                    onRollback.run();
+                } else {
+                    log.warn("[StockService] 트랜잭션 결과 불명 - Redis 재고 카운터는 대사 작업에서 보정");
+                }
+            }
+        });
+    }
 
     private <T> T executeWithLock(String lockKey, Supplier<T> action) {
         try {
@@ -304,4 +885,16 @@ public class StockService {
             throw new BusinessException(ProductErrorType.STOCK_LOCK_BUSY);
         }
     }
+
+    private <T> T executeWithMultiLock(List<String> lockKeys, Supplier<T> action) {
+        return executeWithMultiLock(lockKeys, 0, action);
+    }
+
+    private <T> T executeWithMultiLock(List<String> lockKeys, long waitSeconds, Supplier<T> action) {
+        try {
+            return lockExecutor.executeWithMultiLock(lockKeys, waitSeconds, 8, TimeUnit.SECONDS, action);
+        } catch (LockAcquisitionException ex) {
+            throw new BusinessException(ProductErrorType.STOCK_LOCK_BUSY);
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package org.sparta.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.entity.StockShard;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.domain.repository.StockShardRepository;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * 인기 상품(hot SKU) 재고 샤드 서비스
+ *
+ * - 예약: internalReservationKey 해시로 시작 샤드를 고르고, 가용 재고가 부족하면 이웃 샤드 순서로 시도
+ * - 모든 수량 변경은 샤드 행 조건부 UPDATE 한 번 → 분산 락/낙관적 락 재시도 없이 샤드 수만큼 병렬 처리
+ * - 리밸런싱: home(Stock 행)에 쌓인 가용 재고와 샤드 간 편차를 주기적으로 고르게 재분배
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockShardService {
+
+    private final StockRepository stockRepository;
+    private final StockShardRepository stockShardRepository;
+    private final StockShardingConfig shardingConfig;
+
+    /**
+     * 샤딩 전환 (이미 샤딩된 재고는 무시)
+     * - home 가용 재고를 shard-count 개 샤드에 고르게 나눈다
+     */
+    @Transactional
+    public void enableSharding(UUID productId) {
+        Stock stock = stockRepository.findByProductId(productId).orElse(null);
+        if (stock == null || stock.isSharded()) {
+            return;
+        }
+
+        int shardCount = shardingConfig.getShardCount();
+        int moved = stock.enableSharding(shardCount);
+
+        List<StockShard> shards = new ArrayList<>(shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            shards.add(StockShard.create(stock.getId(), shardIndex, share(moved, shardCount, shardIndex)));
+        }
+        stockShardRepository.saveAll(shards);
+        stockRepository.save(stock);
+
+        log.info("[StockShard] 재고 샤딩 전환 - productId={}, shardCount={}, quantity={}",
+                productId, shardCount, moved);
+    }
+
+    /**
+     * 샤드 예약
+     *
+     * @return 예약된 샤드 번호, 모든 샤드의 가용 재고가 부족하면 empty (호출자가 home 재고로 처리)
+     */
+    @Transactional
+    public OptionalInt reserve(Stock stock, String internalReservationKey, int quantity) {
+        stock.validateNotUnavailable();
+
+        int shardCount = stock.getShardCount();
+        int start = Math.floorMod(internalReservationKey.hashCode(), shardCount);
+        for (int offset = 0; offset < shardCount; offset++) {
+            int shardIndex = (start + offset) % shardCount;
+            if (stockShardRepository.reserve(stock.getId(), shardIndex, quantity) == 1) {
+                return OptionalInt.of(shardIndex);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    @Transactional
+    public void confirm(StockReservation reservation) {
+        int updated = stockShardRepository.confirm(
+                reservation.getStockId(), reservation.getShardIndex(), reservation.getReservedQuantity());
+        if (updated == 0) {
+            throw new BusinessException(ProductErrorType.INVALID_RESERVATION_CONFIRM);
+        }
+    }
+
+    @Transactional
+    public void cancel(StockReservation reservation) {
+        int updated = stockShardRepository.cancel(
+                reservation.getStockId(), reservation.getShardIndex(), reservation.getReservedQuantity());
+        if (updated == 0) {
+            throw new BusinessException(ProductErrorType.INVALID_RESERVATION_CANCEL);
+        }
+    }
+
+    @Transactional
+    public void restore(StockReservation reservation) {
+        stockShardRepository.deposit(
+                reservation.getStockId(), reservation.getShardIndex(), reservation.getReservedQuantity());
+    }
+
+    /**
+     * 샤드 간 가용 재고 재분배
+     * 1) home 가용 재고(입고/기존 예약 취소분)를 샤드로 이동
+     * 2) 목표치(전체 가용 / 샤드 수)보다 많은 샤드에서 초과분 회수 (조건부 UPDATE, 동시 예약으로 부족하면 건너뜀)
+     * 3) 목표치보다 적은 샤드에 회수분 배분
+     */
+    @Transactional
+    public void rebalance(UUID productId) {
+        Stock stock = stockRepository.findByProductId(productId).orElse(null);
+        if (stock == null || !stock.isSharded()) {
+            return;
+        }
+
+        List<StockShard> shards = stockShardRepository.findAllByStockId(stock.getId());
+        int shardCount = shards.size();
+        if (shardCount == 0) {
+            return;
+        }
+
+        int pool = stock.drainHomeToShards();
+        int[] available = new int[shardCount];
+        int totalAvailable = pool;
+        int shardQuantity = pool;
+        int shardReservedQuantity = 0;
+        for (int i = 0; i < shardCount; i++) {
+            StockShard shard = shards.get(i);
+            available[i] = shard.getAvailableQuantity();
+            totalAvailable += available[i];
+            shardQuantity += shard.getQuantity();
+            shardReservedQuantity += shard.getReservedQuantity();
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            int excess = available[i] - share(totalAvailable, shardCount, i);
+            if (excess > 0 && stockShardRepository.withdraw(stock.getId(), shards.get(i).getShardIndex(), excess) == 1) {
+                available[i] -= excess;
+                pool += excess;
+            }
+        }
+
+        for (int i = 0; i < shardCount && pool > 0; i++) {
+            int deficit = share(totalAvailable, shardCount, i) - available[i];
+            if (deficit > 0) {
+                int amount = Math.min(deficit, pool);
+                stockShardRepository.deposit(stock.getId(), shards.get(i).getShardIndex(), amount);
+                pool -= amount;
+            }
+        }
+        if (pool > 0) {
+            // 회수에 실패한 샤드가 있어 목표치를 채우고 남은 경우
+            stockShardRepository.deposit(stock.getId(), shards.get(0).getShardIndex(), pool);
+        }
+
+        stock.applyShardTotals(shardQuantity, shardReservedQuantity);
+        stockRepository.save(stock);
+    }
+
+    private static int share(int total, int shardCount, int shardIndex) {
+        return total / shardCount + (shardIndex < total % shardCount ? 1 : 0);
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 import org.sparta.common.error.BusinessException;
 import org.sparta.jpa.entity.BaseEntity;
 import org.sparta.product.domain.enums.StockStatus;
@@ -16,6 +17,10 @@ import java.util.UUID;
  * - Product와 독립된 생명주기 관리
  * - Product 이벤트를 통해 생명주기 동기화
  * - 낙관적 락으로 동시성 제어
+ *
+ * 인기 상품(hot SKU)은 재고를 StockShard(p_stock_shards) N개로 나누어 관리할 수 있다.
+ * - 이 행의 quantity/reservedQuantity 는 샤드에 나누지 않은 몫(home)만 의미한다.
+ * - getQuantity()/getReservedQuantity()/getAvailableQuantity() 는 home + 샤드 합계 (조회 시점 집계)
  */
 @Entity
 @Getter
@@ -57,6 +62,24 @@ public class Stock extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private StockStatus status = StockStatus.IN_STOCK;
+
+    /**
+     * 재고 샤드 수 (0 이면 샤딩하지 않은 단일 행 재고)
+     * - 기존 p_stocks 행에 ddl-auto=update 로 컬럼이 추가될 수 있도록 DB 기본값 0
+     */
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int shardCount;
+
+    /**
+     * 샤드 재고 합계 (조회 시점 집계, 읽기 전용)
+     * - 샤딩된 재고(shard_count > 0)만 p_stock_shards 를 집계하고, 나머지는 서브쿼리 없이 0
+     */
+    @Formula("(case when shard_count > 0 then (select coalesce(sum(ss.quantity), 0) from p_stock_shards ss where ss.stock_id = id) else 0 end)")
+    private Integer shardQuantity;
+
+    @Formula("(case when shard_count > 0 then (select coalesce(sum(ss.reserved_quantity), 0) from p_stock_shards ss where ss.stock_id = id) else 0 end)")
+    private Integer shardReservedQuantity;
+
     @Version
     private Long version;
 
@@ -112,19 +135,85 @@ public class Stock extends BaseEntity {
         }
     }
 
+    /**
+     * 실물(창고 기준) 총 재고량 (샤딩된 경우 home + 샤드 합계)
+     */
+    public int getQuantity() {
+        return quantity + (isSharded() ? nullToZero(shardQuantity) : 0);
+    }
+
+    /**
+     * 주문으로 예약된 재고량 (샤딩된 경우 home + 샤드 합계)
+     */
+    public int getReservedQuantity() {
+        return reservedQuantity + (isSharded() ? nullToZero(shardReservedQuantity) : 0);
+    }
+
     /**
      * 실제 주문 가능한 재고량
-     * quantity - reservedQuantity
+     * quantity - reservedQuantity (샤딩된 경우 샤드 합계 포함)
      */
     public Integer getAvailableQuantity() {
+        return getQuantity() - getReservedQuantity();
+    }
+
+    /**
+     * 이 행(home)에서 바로 예약/차감 가능한 재고량
+     */
+    public int getHomeAvailableQuantity() {
         return quantity - reservedQuantity;
     }
 
     /**
-     * 재고 충분 여부 확인
+     * 재고 충분 여부 확인 (이 행 기준)
      */
     public boolean hasAvailableStock(int requestedQuantity) {
-        return getAvailableQuantity() >= requestedQuantity;
+        return getHomeAvailableQuantity() >= requestedQuantity;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 0;
+    }
+
+    /**
+     * 샤딩 전환
+     * - home 가용 재고를 모두 샤드로 넘긴다 (예약분은 기존 예약의 확정/취소를 위해 home 에 남김)
+     *
+     * @return 샤드로 넘긴 수량
+     */
+    public int enableSharding(int shardCount) {
+        if (shardCount < 2) {
+            throw new BusinessException(ProductErrorType.STOCK_SHARD_COUNT_INVALID);
+        }
+        this.shardCount = shardCount;
+        return drainHomeToShards();
+    }
+
+    /**
+     * home 가용 재고를 샤드로 넘김 (입고/취소로 home 에 쌓인 재고를 리밸런서가 주기적으로 이동)
+     *
+     * @return 샤드로 넘긴 수량
+     */
+    public int drainHomeToShards() {
+        int moved = Math.max(getHomeAvailableQuantity(), 0);
+        this.quantity -= moved;
+        this.shardQuantity = nullToZero(shardQuantity) + moved;
+        return moved;
+    }
+
+    /**
+     * 리밸런싱 후 샤드 합계 반영 + 상태 갱신
+     */
+    public void applyShardTotals(int shardQuantity, int shardReservedQuantity) {
+        this.shardQuantity = shardQuantity;
+        this.shardReservedQuantity = shardReservedQuantity;
+        if (this.status != StockStatus.UNAVAILABLE) {
+            updateStatus();
+        }
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
     }
 
     /**
@@ -228,7 +317,7 @@ public class Stock extends BaseEntity {
      * - IN_STOCK: 가용 재고 있음
      */
     private void updateStatus() {
-        if (this.quantity == 0) {
+        if (getQuantity() == 0) {
             this.status = StockStatus.OUT_OF_STOCK;
         } else if (getAvailableQuantity() == 0) {
             this.status = StockStatus.RESERVED_ONLY;
@@ -248,9 +337,9 @@ public class Stock extends BaseEntity {
 
     /**
      * 판매 불가 상태 검증
-     * - UNAVAILABLE 상태에서는 예약/차감 불가
+     * - UNAVAILABLE 상태에서는 예약/차감 불가 (샤드 예약도 동일)
      */
-    private void validateNotUnavailable() {
+    public void validateNotUnavailable() {
         if (this.status == StockStatus.UNAVAILABLE) {
             throw new BusinessException(ProductErrorType.STOCK_UNAVAILABLE);
         }
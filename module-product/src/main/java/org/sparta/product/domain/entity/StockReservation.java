@@ -40,7 +40,8 @@ import java.util.UUID;
                 @Index(name = "idx_stock_reservation_stock_id", columnList = "stock_id"),
                 @Index(name = "idx_stock_reservation_status", columnList = "status"),
                 @Index(name = "idx_stock_reservation_external_key", columnList = "external_reservation_key"),
-                @Index(name = "idx_stock_reservation_external_key_status", columnList = "external_reservation_key,status")
+                @Index(name = "idx_stock_reservation_external_key_status", columnList = "external_reservation_key,status"),
+                @Index(name = "idx_stock_reservation_status_created_at", columnList = "status,created_at,id")
         }
 )
 @Getter
@@ -70,6 +71,12 @@ public class StockReservation extends BaseEntity {
     @Column(name = "reserved_quantity", nullable = false)
     private int reservedQuantity;
 
+    /**
+     * 예약이 잡힌 재고 샤드 (null 이면 Stock 행 자체에서 예약)
+     */
+    @Column(name = "shard_index")
+    private Integer shardIndex;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private StockReservationStatus status = StockReservationStatus.RESERVED;
@@ -108,8 +115,19 @@ public class StockReservation extends BaseEntity {
         return new StockReservation(stockId, externalReservationKey, internalReservationKey, reservedQuantity);
     }
 
+    /**
+     * 샤드 재고에서 예약된 경우 샤드 번호 기록
+     */
+    public void assignShard(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public boolean isSharded() {
+        return shardIndex != null;
+    }
+
     public void confirm() {
-        if (status == StockReservationStatus.CANCELLED) {
+        if (status == StockReservationStatus.CANCELLED || status == StockReservationStatus.EXPIRED) {
             throw new IllegalStateException("cancelled reservation cannot be confirmed");
         }
         this.status = StockReservationStatus.CONFIRMED;
@@ -122,6 +140,16 @@ public class StockReservation extends BaseEntity {
         this.status = StockReservationStatus.CANCELLED;
     }
 
+    /**
+     * 예약 유지 시간 초과로 회수 (RESERVED 에서만)
+     */
+    public void expire() {
+        if (status != StockReservationStatus.RESERVED) {
+            throw new IllegalStateException("only reserved reservation can expire");
+        }
+        this.status = StockReservationStatus.EXPIRED;
+    }
+
     public void compensateCancel() {
         this.status = StockReservationStatus.CANCELLED;
     }
@@ -134,4 +162,12 @@ public class StockReservation extends BaseEntity {
     public boolean isCancelled() {
         return status == StockReservationStatus.CANCELLED;
     }
+
+    public boolean isExpired() {
+        return status == StockReservationStatus.EXPIRED;
+    }
+
+    public boolean isReserved() {
+        return status == StockReservationStatus.RESERVED;
+    }
 }
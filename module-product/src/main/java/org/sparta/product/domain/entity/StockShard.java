@@ -0,0 +1,77 @@
+package org.sparta.product.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.sparta.jpa.entity.BaseEntity;
+
+import java.util.UUID;
+
+/**
+ * 인기 상품(hot SKU) 재고 샤드
+ *
+ * - 한 Stock 의 재고를 N개 행으로 나누어 예약 시 행 경합을 분산한다.
+ * - 수량 변경은 조건부 UPDATE(가용 재고 >= 요청 수량) 한 번으로 처리하므로 @Version 을 두지 않는다.
+ *   (StockShardRepository 참고)
+ */
+@Entity
+@Table(
+        name = "p_stock_shards",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_stock_shard_stock_id_shard_index",
+                        columnNames = {"stock_id", "shard_index"}
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockShard extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "stock_id", nullable = false, columnDefinition = "uuid")
+    private UUID stockId;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "reserved_quantity", nullable = false)
+    private int reservedQuantity;
+
+    private StockShard(UUID stockId, int shardIndex, int quantity) {
+        this.stockId = stockId;
+        this.shardIndex = shardIndex;
+        this.quantity = quantity;
+        this.reservedQuantity = 0;
+    }
+
+    public static StockShard create(UUID stockId, int shardIndex, int quantity) {
+        if (stockId == null) {
+            throw new IllegalArgumentException("stockId must not be null");
+        }
+        if (shardIndex < 0) {
+            throw new IllegalArgumentException("shardIndex must not be negative");
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("quantity must not be negative");
+        }
+        return new StockShard(stockId, shardIndex, quantity);
+    }
+
+    public int getAvailableQuantity() {
+        return quantity - reservedQuantity;
+    }
+}
@@ -4,9 +4,11 @@ package org.sparta.product.domain.enums;
  * - RESERVED  : 재고가 확보되어 예약된 상태
  * - CONFIRMED : 결제 성공으로 실제 재고 차감이 확정된 상태
  * - CANCELLED : 주문 취소 / 결제 실패 등으로 예약이 취소된 상태
+ * - EXPIRED   : 확정/취소 없이 예약 유지 시간이 지나 reaper 가 회수한 상태
  */
 public enum StockReservationStatus {
     RESERVED,
     CONFIRMED,
-    CANCELLED
+    CANCELLED,
+    EXPIRED
 }
@@ -38,8 +38,10 @@ public enum ProductErrorType implements ErrorType {
     STOCK_RESERVATION_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 존재하는 재고 예약입니다"),
     STOCK_RESERVATION_ALREADY_CONFIRMED(HttpStatus.BAD_REQUEST, "이미 확정된 재고 예약입니다"),
     STOCK_RESERVATION_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "이미 취소된 재고 예약입니다"),
+    STOCK_RESERVATION_EXPIRED(HttpStatus.BAD_REQUEST, "예약 유지 시간이 지나 회수된 재고 예약입니다"),
     STOCK_RESERVATION_CONFLICT(HttpStatus.CONFLICT, "재고 예약 정보와 재고 상태가 일치하지 않습니다"),
     STOCK_RESERVATION_KEY_REQUIRED(HttpStatus.BAD_REQUEST, "reservationKey는 필수입니다"),
+    STOCK_SHARD_COUNT_INVALID(HttpStatus.BAD_REQUEST, "재고 샤드 수는 2 이상이어야 합니다"),
     STOCK_LOCK_BUSY(HttpStatus.TOO_MANY_REQUESTS, "동일 상품의 재고 요청이 동시에 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // Product 조회 에러
@@ -18,7 +18,10 @@ import java.util.UUID;
  *   DB에 먼저 저장한 뒤, 별도 Publisher 가 Kafka 등으로 발행한다.
  */
 @Entity
-@Table(name = "product_outbox_events")
+@Table(
+        name = "product_outbox_events",
+        indexes = @Index(name = "idx_product_outbox_aggregate_created_at", columnList = "aggregate_id, created_at")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -53,14 +56,26 @@ public class ProductOutboxEvent {
     /**
      * 직렬화된 이벤트 payload (JSON)
      */
-    @Lob
-    @Column(name = "payload", nullable = false)
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
     private String payload;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private OutboxStatus status;
 
+    /**
+     * 공통 Outbox Relay 재시도 정보
+     */
+    @Builder.Default
+    @Column(name = "retry_count", nullable = false, columnDefinition = "integer default 0")
+    private int retryCount = 0;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -2,6 +2,9 @@ package org.sparta.product.domain.repository;
 
 import org.sparta.product.domain.entity.ProcessedEvent;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -12,4 +15,11 @@ public interface ProcessedEventRepository {
     boolean existsByEventId(UUID eventId);
 
     ProcessedEvent save(ProcessedEvent processedEvent);
+
+    /**
+     * 이미 처리된 eventId 를 IN 쿼리 한 번으로 조회 (배치 리스너 멱등 체크)
+     */
+    Set<UUID> findProcessedEventIds(Collection<UUID> eventIds);
+
+    List<ProcessedEvent> saveAll(List<ProcessedEvent> processedEvents);
 }
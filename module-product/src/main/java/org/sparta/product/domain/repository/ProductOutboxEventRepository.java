@@ -9,6 +9,8 @@ public interface ProductOutboxEventRepository {
 
     ProductOutboxEvent save(ProductOutboxEvent event);
 
+    List<ProductOutboxEvent> saveAll(List<ProductOutboxEvent> events);
+
     /**
      * 상태가 READY 인 Outbox 이벤트를 오래된 순으로 최대 batchSize 개 조회
      */
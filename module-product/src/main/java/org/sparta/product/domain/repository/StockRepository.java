@@ -2,6 +2,8 @@ package org.sparta.product.domain.repository;
 
 import org.sparta.product.domain.entity.Stock;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,5 +21,14 @@ public interface StockRepository {
      */
     Optional<Stock> findByProductId(UUID productId);
 
+    /**
+     * 여러 상품의 Stock 을 IN 쿼리 한 번으로 조회 (주문 다건 예약)
+     */
+    List<Stock> findAllByProductIdIn(Collection<UUID> productIds);
+
+    List<Stock> findAllById(Collection<UUID> stockIds);
+
     Stock save(Stock stock);
+
+    List<Stock> saveAll(Collection<Stock> stocks);
 }
@@ -2,8 +2,11 @@ package org.sparta.product.domain.repository;
 
 import org.sparta.product.domain.entity.StockReservation;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 도메인 계층에서 사용하는 재고 예약 저장소 인터페이스.
@@ -12,14 +15,41 @@ public interface StockReservationRepository {
 
     StockReservation save(StockReservation reservation);
 
+    /**
+     * 여러 예약을 한 번에 저장 (Redis 엔진 write-behind 배치 반영용)
+     */
+    List<StockReservation> saveAll(List<StockReservation> reservations);
+
     /**
      * Product 내부 멱등 키(internalReservationKey = reservation_key)로 예약 1건 조회.
      */
     Optional<StockReservation> findByReservationKey(String reservationKey);
 
+    /**
+     * 여러 internalReservationKey 로 예약을 IN 쿼리 한 번으로 조회 (주문 다건 예약 멱등 체크)
+     */
+    List<StockReservation> findAllByReservationKeyIn(Collection<String> reservationKeys);
+
     /**
      * 외부 계약 키(externalReservationKey)로 해당 주문의 모든 예약 조회.
      * - confirm/cancel/recover 단계에서 외부에서 orderId 기반 키만 와도 일괄 처리가 가능해야 한다.
      */
     List<StockReservation> findAllByExternalReservationKey(String externalReservationKey);
+
+    List<StockReservation> findAllByIdIn(Collection<UUID> ids);
+
+    /**
+     * cutoff 이전에 생성되어 아직 RESERVED 인 예약을 (createdAt, id) 순으로 keyset 페이지 조회 (만료 예약 회수용)
+     * - afterCreatedAt/afterId 가 null 이면 첫 페이지
+     * - (status, created_at, id) 인덱스 범위 스캔
+     */
+    List<StockReservation> findExpiredReservations(LocalDateTime cutoff,
+                                                   LocalDateTime afterCreatedAt,
+                                                   UUID afterId,
+                                                   int limit);
+
+    /**
+     * 현재 RESERVED 상태로 잡혀 있는 수량 합계 (메트릭용)
+     */
+    long sumReservedQuantity();
 }
@@ -0,0 +1,44 @@
+package org.sparta.product.domain.repository;
+
+import org.sparta.product.domain.entity.StockShard;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재고 샤드 조회/수정
+ *
+ * 수량 변경 메서드는 조건부 UPDATE 한 번으로 처리하며 반영된 행 수(0 또는 1)를 반환한다.
+ * 0 이면 조건(가용/예약 수량) 불충족.
+ */
+public interface StockShardRepository {
+
+    List<StockShard> findAllByStockId(UUID stockId);
+
+    List<StockShard> saveAll(List<StockShard> shards);
+
+    /**
+     * 예약: reserved += quantity (가용 재고 >= quantity 인 경우만)
+     */
+    int reserve(UUID stockId, int shardIndex, int quantity);
+
+    /**
+     * 예약 확정: quantity, reserved 모두 감소 (reserved >= quantity 인 경우만)
+     */
+    int confirm(UUID stockId, int shardIndex, int quantity);
+
+    /**
+     * 예약 취소: reserved -= quantity (reserved >= quantity 인 경우만)
+     */
+    int cancel(UUID stockId, int shardIndex, int quantity);
+
+    /**
+     * 재고 입고/복구: quantity += quantity
+     */
+    int deposit(UUID stockId, int shardIndex, int quantity);
+
+    /**
+     * 리밸런싱용 가용 재고 회수: quantity -= quantity (가용 재고 >= quantity 인 경우만)
+     */
+    int withdraw(UUID stockId, int shardIndex, int quantity);
+}
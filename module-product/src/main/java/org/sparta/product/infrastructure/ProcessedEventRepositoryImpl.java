@@ -6,6 +6,10 @@ import org.sparta.product.domain.repository.ProcessedEventRepository;
 import org.sparta.product.infrastructure.jpa.ProcessedEventJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -23,4 +27,17 @@ public class ProcessedEventRepositoryImpl implements ProcessedEventRepository {
     public ProcessedEvent save(ProcessedEvent processedEvent) {
         return jpaRepository.save(processedEvent);
     }
+
+    @Override
+    public Set<UUID> findProcessedEventIds(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findEventIdsIn(eventIds));
+    }
+
+    @Override
+    public List<ProcessedEvent> saveAll(List<ProcessedEvent> processedEvents) {
+        return jpaRepository.saveAll(processedEvents);
+    }
 }
@@ -22,6 +22,11 @@ public class ProductOutboxEventRepositoryImpl implements ProductOutboxEventRepos
         return jpaRepository.save(event);
     }
 
+    @Override
+    public List<ProductOutboxEvent> saveAll(List<ProductOutboxEvent> events) {
+        return jpaRepository.saveAll(events);
+    }
+
     @Override
     public List<ProductOutboxEvent> findReadyEvents(int batchSize) {
         Page<ProductOutboxEvent> page = jpaRepository.findByStatusOrderByCreatedAtAsc(
@@ -6,6 +6,8 @@ import org.sparta.product.domain.repository.StockRepository;
 import org.sparta.product.infrastructure.jpa.StockJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,8 +27,23 @@ public class StockRepositoryImpl implements StockRepository {
         return stockJpaRepository.findByProductId(productId);
     }
 
+    @Override
+    public List<Stock> findAllByProductIdIn(Collection<UUID> productIds) {
+        return stockJpaRepository.findAllByProductIdIn(productIds);
+    }
+
+    @Override
+    public List<Stock> findAllById(Collection<UUID> stockIds) {
+        return stockJpaRepository.findAllById(stockIds);
+    }
+
     @Override
     public Stock save(Stock stock) {
         return stockJpaRepository.save(stock);
     }
+
+    @Override
+    public List<Stock> saveAll(Collection<Stock> stocks) {
+        return stockJpaRepository.saveAll(stocks);
+    }
 }
@@ -2,12 +2,17 @@ package org.sparta.product.infrastructure;
 
 import lombok.RequiredArgsConstructor;
 import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.enums.StockReservationStatus;
 import org.sparta.product.domain.repository.StockReservationRepository;
 import org.sparta.product.infrastructure.jpa.StockReservationJpaRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
@@ -20,13 +25,46 @@ public class StockReservationRepositoryImpl implements StockReservationRepositor
         return jpaRepository.save(reservation);
     }
 
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        return jpaRepository.saveAll(reservations);
+    }
+
     @Override
     public Optional<StockReservation> findByReservationKey(String reservationKey) {
         return jpaRepository.findByReservationKey(reservationKey);
     }
 
+    @Override
+    public List<StockReservation> findAllByReservationKeyIn(Collection<String> reservationKeys) {
+        return jpaRepository.findAllByReservationKeyIn(reservationKeys);
+    }
+
     @Override
     public List<StockReservation> findAllByExternalReservationKey(String externalReservationKey) {
         return jpaRepository.findAllByExternalReservationKey(externalReservationKey);
     }
+
+    @Override
+    public List<StockReservation> findAllByIdIn(Collection<UUID> ids) {
+        return jpaRepository.findAllByIdIn(ids);
+    }
+
+    @Override
+    public List<StockReservation> findExpiredReservations(LocalDateTime cutoff,
+                                                          LocalDateTime afterCreatedAt,
+                                                          UUID afterId,
+                                                          int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (afterCreatedAt == null || afterId == null) {
+            return jpaRepository.findByStatusCreatedBefore(StockReservationStatus.RESERVED, cutoff, page);
+        }
+        return jpaRepository.findByStatusCreatedBeforeAfter(
+                StockReservationStatus.RESERVED, cutoff, afterCreatedAt, afterId, page);
+    }
+
+    @Override
+    public long sumReservedQuantity() {
+        return jpaRepository.sumReservedQuantityByStatus(StockReservationStatus.RESERVED);
+    }
 }
@@ -0,0 +1,52 @@
+package org.sparta.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.sparta.product.domain.entity.StockShard;
+import org.sparta.product.domain.repository.StockShardRepository;
+import org.sparta.product.infrastructure.jpa.StockShardJpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class StockShardRepositoryImpl implements StockShardRepository {
+
+    private final StockShardJpaRepository stockShardJpaRepository;
+
+    @Override
+    public List<StockShard> findAllByStockId(UUID stockId) {
+        return stockShardJpaRepository.findAllByStockIdOrderByShardIndex(stockId);
+    }
+
+    @Override
+    public List<StockShard> saveAll(List<StockShard> shards) {
+        return stockShardJpaRepository.saveAll(shards);
+    }
+
+    @Override
+    public int reserve(UUID stockId, int shardIndex, int quantity) {
+        return stockShardJpaRepository.reserve(stockId, shardIndex, quantity);
+    }
+
+    @Override
+    public int confirm(UUID stockId, int shardIndex, int quantity) {
+        return stockShardJpaRepository.confirm(stockId, shardIndex, quantity);
+    }
+
+    @Override
+    public int cancel(UUID stockId, int shardIndex, int quantity) {
+        return stockShardJpaRepository.cancel(stockId, shardIndex, quantity);
+    }
+
+    @Override
+    public int deposit(UUID stockId, int shardIndex, int quantity) {
+        return stockShardJpaRepository.deposit(stockId, shardIndex, quantity);
+    }
+
+    @Override
+    public int withdraw(UUID stockId, int shardIndex, int quantity) {
+        return stockShardJpaRepository.withdraw(stockId, shardIndex, quantity);
+    }
+}
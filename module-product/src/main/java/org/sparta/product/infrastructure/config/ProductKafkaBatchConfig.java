@@ -0,0 +1,66 @@
+package org.sparta.product.infrastructure.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Product 모듈 Order 이벤트 배치 소비 설정
+ *
+ * - Value 는 byte[] 그대로 받아 리스너에서 타입 레코드로 바로 역직렬화 (byte[] → String → Map 변환 제거)
+ * - 배치 리스너 + AckMode.BATCH: poll 한 배치를 처리한 뒤 offset 을 한 번에 커밋
+ * - 배치 중 특정 레코드 실패는 BatchListenerFailedException 으로 알려 그 앞까지 커밋 후 재시도
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.kafka.batch", name = "enabled", havingValue = "true")
+public class ProductKafkaBatchConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public ConsumerFactory<String, byte[]> productBatchConsumerFactory(ProductKafkaBatchProperties properties) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "product-service");
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords());
+
+        return new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new ByteArrayDeserializer()
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> productBatchKafkaListenerContainerFactory(
+            ConsumerFactory<String, byte[]> productBatchConsumerFactory,
+            ProductKafkaBatchProperties properties
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(productBatchConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new FixedBackOff(properties.getRetryBackoffMillis(), properties.getMaxRetries())
+        ));
+        return factory;
+    }
+}
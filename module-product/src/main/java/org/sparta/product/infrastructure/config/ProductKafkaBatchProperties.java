@@ -0,0 +1,47 @@
+package org.sparta.product.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order 이벤트 배치 리스너 설정
+ *
+ * 예시:
+ * product:
+ *   kafka:
+ *     batch:
+ *       enabled: true
+ *       max-poll-records: 500
+ *       concurrency: 3
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.kafka.batch")
+public class ProductKafkaBatchProperties {
+
+    /**
+     * true 이면 order.orderCreate / orderApprove / orderCancel 을 배치(List<ConsumerRecord>)로 소비
+     * false 이면 기존 단건 리스너 사용
+     */
+    private boolean enabled = false;
+
+    /**
+     * poll 1회당 최대 레코드 수 (= 배치 크기 상한)
+     */
+    private int maxPollRecords = 500;
+
+    /**
+     * 리스너 컨테이너 스레드 수 (토픽 파티션 수 이하)
+     */
+    private int concurrency = 1;
+
+    /**
+     * 배치 처리 실패 시 재시도 간격/횟수
+     */
+    private long retryBackoffMillis = 1_000;
+
+    private long maxRetries = 3;
+}
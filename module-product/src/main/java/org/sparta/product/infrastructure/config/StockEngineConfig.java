@@ -0,0 +1,85 @@
+package org.sparta.product.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Redis 재고 예약 엔진 설정
+ *
+ * 예시:
+ * product:
+ *   stock:
+ *     engine:
+ *       enabled: true
+ *       reservation-ttl-hours: 24
+ *       flush-interval-millis: 100
+ *       flush-batch-size: 500
+ *       max-flush-attempts: 10
+ *       claim-idle-millis: 5000
+ *       consumer-name:
+ *       reconcile-interval-millis: 60000
+ *       reconcile-repair: false
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.stock.engine")
+public class StockEngineConfig {
+
+    /**
+     * true 이면 재고 예약을 Redis Lua 스크립트로 처리하고 DB 는 비동기 반영
+     * false 이면 기존처럼 분산 락 + DB 직접 반영
+     */
+    private boolean enabled = false;
+
+    /**
+     * 예약 멱등 키(internalReservationKey) 유지 시간
+     */
+    private long reservationTtlHours = 24;
+
+    /**
+     * 예약 → DB(p_stocks, stock_reservations) 반영 주기 (ms)
+     */
+    private long flushIntervalMillis = 100;
+
+    /**
+     * 한 번에 DB 에 반영하는 최대 예약 수
+     */
+    private int flushBatchSize = 500;
+
+    /**
+     * DB 반영 시도 횟수가 이 값 이상이면 알림(에러 로그, product.stock.writebehind.stuck)
+     * 예약은 버리지 않고 미반영 로그에 남겨 계속 재시도
+     */
+    private int maxFlushAttempts = 10;
+
+    /**
+     * 미반영 로그 항목을 가져간 뒤 이 시간(ms) 동안 ACK 되지 않으면 다시 가져와 반영
+     * (반영 실패 재시도 간격 + 종료된 인스턴스가 가져간 항목 회수)
+     */
+    private long claimIdleMillis = 5_000;
+
+    /**
+     * 미반영 로그 consumer group 의 consumer 이름, 비어 있으면 호스트 이름
+     */
+    private String consumerName;
+
+    /**
+     * Redis 카운터 ↔ p_stocks 대사 주기 (ms)
+     */
+    private long reconcileIntervalMillis = 60_000;
+
+    /**
+     * 두 번 연속 불일치한 상품은 DB 기준으로 Redis 카운터를 복구
+     * 미반영 예약은 공유 로그에서 계산하지만, Redis 예약 후 커밋(로그 추가) 전 구간은 알 수 없으므로 기본은 false
+     */
+    private boolean reconcileRepair = false;
+
+    public Duration reservationTtl() {
+        return Duration.ofHours(reservationTtlHours);
+    }
+}
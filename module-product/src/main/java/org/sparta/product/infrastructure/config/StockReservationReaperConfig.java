@@ -0,0 +1,57 @@
+package org.sparta.product.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 만료 재고 예약 회수(reaper) 설정
+ *
+ * 예시:
+ * product:
+ *   stock:
+ *     reaper:
+ *       enabled: true
+ *       reservation-ttl-minutes: 30
+ *       interval-millis: 60000
+ *       page-size: 500
+ *       max-pages-per-run: 20
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.stock.reaper")
+public class StockReservationReaperConfig {
+
+    /**
+     * true 이면 확정/취소 없이 reservation-ttl-minutes 가 지난 RESERVED 예약을 주기적으로 회수
+     */
+    private boolean enabled = false;
+
+    /**
+     * 예약 유지 시간 (주문 saga 가 확정/취소까지 걸리는 최대 시간보다 충분히 길게)
+     */
+    private long reservationTtlMinutes = 30;
+
+    /**
+     * 회수 주기 (ms)
+     */
+    private long intervalMillis = 60_000;
+
+    /**
+     * keyset 페이지 1회 조회 건수
+     */
+    private int pageSize = 500;
+
+    /**
+     * 1회 실행에서 처리하는 최대 페이지 수 (남은 예약은 다음 주기에 이어서)
+     */
+    private int maxPagesPerRun = 20;
+
+    public Duration reservationTtl() {
+        return Duration.ofMinutes(reservationTtlMinutes);
+    }
+}
@@ -0,0 +1,54 @@
+package org.sparta.product.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 상품(hot SKU) 재고 샤딩 설정
+ *
+ * 예시:
+ * product:
+ *   stock:
+ *     sharding:
+ *       enabled: true
+ *       shard-count: 8
+ *       hot-product-ids:
+ *         - 3f2b...-...
+ *       rebalance-interval-millis: 5000
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.stock.sharding")
+public class StockShardingConfig {
+
+    /**
+     * true 이면 hot-product-ids 상품의 재고를 샤드로 나누어 예약
+     */
+    private boolean enabled = false;
+
+    /**
+     * 샤딩 전환 시 만드는 샤드 수 (예약 처리량이 샤드 수에 비례해 늘어남)
+     */
+    private int shardCount = 8;
+
+    /**
+     * 샤딩 대상 상품 (리밸런서가 주기적으로 샤딩 전환 + 재분배)
+     */
+    private Set<UUID> hotProductIds = new HashSet<>();
+
+    /**
+     * 샤드 간 가용 재고 재분배 주기 (ms)
+     */
+    private long rebalanceIntervalMillis = 5_000;
+
+    public boolean isHot(UUID productId) {
+        return enabled && hotProductIds.contains(productId);
+    }
+}
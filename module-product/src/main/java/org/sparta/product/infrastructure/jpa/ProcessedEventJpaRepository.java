@@ -2,7 +2,11 @@ package org.sparta.product.infrastructure.jpa;
 
 import org.sparta.product.domain.entity.ProcessedEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +15,7 @@ import java.util.UUID;
 public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEvent, UUID> {
 
     boolean existsByEventId(UUID eventId);
+
+    @Query("select p.eventId from ProcessedEvent p where p.eventId in :eventIds")
+    List<UUID> findEventIdsIn(@Param("eventIds") Collection<UUID> eventIds);
 }
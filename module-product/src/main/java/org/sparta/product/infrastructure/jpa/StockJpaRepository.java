@@ -3,6 +3,8 @@ package org.sparta.product.infrastructure.jpa;
 import org.sparta.product.domain.entity.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,4 +19,6 @@ public interface StockJpaRepository extends JpaRepository<Stock, UUID> {
      * Product ID로 Stock 조회
      */
     java.util.Optional<Stock> findByProductId(UUID productId);
+
+    List<Stock> findAllByProductIdIn(Collection<UUID> productIds);
 }
\ No newline at end of file
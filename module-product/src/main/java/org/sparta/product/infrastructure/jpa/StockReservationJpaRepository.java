@@ -1,8 +1,14 @@
 package org.sparta.product.infrastructure.jpa;
 
 import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.enums.StockReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,5 +20,36 @@ public interface StockReservationJpaRepository extends JpaRepository<StockReserv
 
     Optional<StockReservation> findByReservationKey(String reservationKey);
 
+    List<StockReservation> findAllByReservationKeyIn(Collection<String> reservationKeys);
+
     List<StockReservation> findAllByExternalReservationKey(String externalReservationKey);
+
+    List<StockReservation> findAllByIdIn(Collection<UUID> ids);
+
+    @Query("""
+            select r from StockReservation r
+            where r.status = :status
+              and r.createdAt < :cutoff
+            order by r.createdAt asc, r.id asc
+            """)
+    List<StockReservation> findByStatusCreatedBefore(@Param("status") StockReservationStatus status,
+                                                     @Param("cutoff") LocalDateTime cutoff,
+                                                     Pageable pageable);
+
+    @Query("""
+            select r from StockReservation r
+            where r.status = :status
+              and r.createdAt < :cutoff
+              and (r.createdAt > :afterCreatedAt
+                   or (r.createdAt = :afterCreatedAt and r.id > :afterId))
+            order by r.createdAt asc, r.id asc
+            """)
+    List<StockReservation> findByStatusCreatedBeforeAfter(@Param("status") StockReservationStatus status,
+                                                          @Param("cutoff") LocalDateTime cutoff,
+                                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                          @Param("afterId") UUID afterId,
+                                                          Pageable pageable);
+
+    @Query("select coalesce(sum(r.reservedQuantity), 0) from StockReservation r where r.status = :status")
+    long sumReservedQuantityByStatus(@Param("status") StockReservationStatus status);
 }
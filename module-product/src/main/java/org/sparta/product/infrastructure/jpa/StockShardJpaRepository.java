@@ -0,0 +1,69 @@
+package org.sparta.product.infrastructure.jpa;
+
+import org.sparta.product.domain.entity.StockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * StockShard Repository
+ * - 수량 변경은 조건부 벌크 UPDATE (행 잠금은 해당 샤드 행에만 걸림)
+ */
+public interface StockShardJpaRepository extends JpaRepository<StockShard, UUID> {
+
+    List<StockShard> findAllByStockIdOrderByShardIndex(UUID stockId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockShard s
+               set s.reservedQuantity = s.reservedQuantity + :quantity
+             where s.stockId = :stockId
+               and s.shardIndex = :shardIndex
+               and s.quantity - s.reservedQuantity >= :quantity
+            """)
+    int reserve(@Param("stockId") UUID stockId, @Param("shardIndex") int shardIndex, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockShard s
+               set s.quantity = s.quantity - :quantity,
+                   s.reservedQuantity = s.reservedQuantity - :quantity
+             where s.stockId = :stockId
+               and s.shardIndex = :shardIndex
+               and s.reservedQuantity >= :quantity
+            """)
+    int confirm(@Param("stockId") UUID stockId, @Param("shardIndex") int shardIndex, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockShard s
+               set s.reservedQuantity = s.reservedQuantity - :quantity
+             where s.stockId = :stockId
+               and s.shardIndex = :shardIndex
+               and s.reservedQuantity >= :quantity
+            """)
+    int cancel(@Param("stockId") UUID stockId, @Param("shardIndex") int shardIndex, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockShard s
+               set s.quantity = s.quantity + :quantity
+             where s.stockId = :stockId
+               and s.shardIndex = :shardIndex
+            """)
+    int deposit(@Param("stockId") UUID stockId, @Param("shardIndex") int shardIndex, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockShard s
+               set s.quantity = s.quantity - :quantity
+             where s.stockId = :stockId
+               and s.shardIndex = :shardIndex
+               and s.quantity - s.reservedQuantity >= :quantity
+            """)
+    int withdraw(@Param("stockId") UUID stockId, @Param("shardIndex") int shardIndex, @Param("quantity") int quantity);
+}
@@ -0,0 +1,225 @@
+package org.sparta.product.infrastructure.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.sparta.product.application.service.OrderApprovedStockConfirmHandler;
+import org.sparta.product.application.service.OrderCancelledStockRestoreHandler;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler.OrderCreated;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler.OrderLine;
+import org.sparta.product.application.service.ProcessedEventQueryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Order 이벤트 배치 리스너 (product.kafka.batch.enabled=true)
+ *
+ * - poll 한 레코드 묶음(List<ConsumerRecord>)을 한 번에 처리하고 offset 은 배치 단위로 커밋
+ * - byte[] → 타입 레코드로 바로 역직렬화 (Map 경유 없음), 파싱 불가 레코드는 기존과 같이 로그 후 skip
+ * - OrderCreated: 배치 전체를 handleBatch 로 넘겨 락/조회/저장을 배치당 1회로 처리
+ * - OrderApproved/OrderCancelled: 처리 이력을 IN 쿼리 한 번으로 거른 뒤 건별 트랜잭션으로 처리
+ *   (확정/복구 실패가 같은 배치의 다른 주문을 롤백시키지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.kafka.batch", name = "enabled", havingValue = "true")
+public class OrderEventBatchListener {
+
+    private static final String CONTAINER_FACTORY = "productBatchKafkaListenerContainerFactory";
+
+    private final ObjectMapper objectMapper;
+    private final OrderCreatedStockReservationHandler createdHandler;
+    private final OrderApprovedStockConfirmHandler approvedHandler;
+    private final OrderCancelledStockRestoreHandler cancelledHandler;
+    private final ProcessedEventQueryService processedEventQueryService;
+
+    @KafkaListener(topics = "order.orderCreate", groupId = "product-service", containerFactory = CONTAINER_FACTORY)
+    public void onOrderCreated(List<ConsumerRecord<String, byte[]>> records) {
+        List<OrderCreated> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            OrderCreatedMessage message = decode(record, OrderCreatedMessage.class);
+            if (message == null) continue;
+
+            UUID upstreamEventId = resolveUpstreamEventId(message.eventId(), record);
+            UUID orderId = parseUuid(message.orderId());
+            if (orderId == null) {
+                log.warn("[OrderEventBatchListener] orderId missing or invalid. eventId={}, topic={}, partition={}, offset={}",
+                        upstreamEventId, record.topic(), record.partition(), record.offset());
+                continue;
+            }
+
+            List<OrderLine> lines = extractOrderLines(message);
+            if (lines.isEmpty()) {
+                log.warn("[OrderEventBatchListener] cannot extract product lines. eventId={}, orderId={}",
+                        upstreamEventId, orderId);
+                continue;
+            }
+
+            // 외부 계약 reservationKey 변경 금지
+            events.add(new OrderCreated(upstreamEventId, orderId, orderId.toString(), lines));
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            createdHandler.handleBatch(events);
+        } catch (Exception e) {
+            log.warn("[OrderEventBatchListener] OrderCreated batch failed. size={}, firstOffset={}",
+                    records.size(), records.get(0).offset(), e);
+            throw e;
+        }
+    }
+
+    @KafkaListener(topics = "order.orderApprove", groupId = "product-service", containerFactory = CONTAINER_FACTORY)
+    public void onOrderApproved(List<ConsumerRecord<String, byte[]>> records) {
+        handleStatusBatch(records, approvedHandler::handle);
+    }
+
+    @KafkaListener(topics = "order.orderCancel", groupId = "product-service", containerFactory = CONTAINER_FACTORY)
+    public void onOrderCancelled(List<ConsumerRecord<String, byte[]>> records) {
+        handleStatusBatch(records, cancelledHandler::handle);
+    }
+
+    private void handleStatusBatch(List<ConsumerRecord<String, byte[]>> records, BiConsumer<UUID, UUID> handler) {
+        List<OrderStatusMessage> messages = new ArrayList<>(records.size());
+        List<UUID> eventIds = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            OrderStatusMessage message = decode(record, OrderStatusMessage.class);
+            messages.add(message);
+            if (message != null && parseUuid(message.eventId()) != null) {
+                eventIds.add(parseUuid(message.eventId()));
+            }
+        }
+
+        Set<UUID> processed = processedEventQueryService.findProcessed(eventIds);
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            OrderStatusMessage message = messages.get(i);
+            if (message == null) continue;
+
+            UUID eventId = parseUuid(message.eventId());
+            UUID orderId = parseUuid(message.orderId());
+            if (eventId == null || orderId == null) {
+                log.warn("[OrderEventBatchListener] eventId/orderId missing or invalid. topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            if (processed.contains(eventId)) {
+                log.info("[OrderEventBatchListener] duplicate ignored: eventId={}", eventId);
+                continue;
+            }
+
+            try {
+                handler.accept(eventId, orderId);
+            } catch (Exception e) {
+                log.error("[OrderEventBatchListener] handler failed. eventId={}, orderId={}, topic={}, partition={}, offset={}",
+                        eventId, orderId, record.topic(), record.partition(), record.offset(), e);
+                // 앞선 레코드까지 커밋하고 실패 레코드부터 재시도
+                throw new BatchListenerFailedException("order status event failed", e, i);
+            }
+        }
+    }
+
+    private <T> T decode(ConsumerRecord<String, byte[]> record, Class<T> type) {
+        byte[] value = record.value();
+        if (value == null) {
+            log.warn("[OrderEventBatchListener] null payload. topic={}, partition={}, offset={}",
+                    record.topic(), record.partition(), record.offset());
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(value);
+            if (node != null && node.isTextual()) {
+                // 문자열로 한 번 더 감싸진 JSON
+                node = objectMapper.readTree(node.asText());
+            }
+            if (node == null || !node.isObject()) {
+                log.warn("[OrderEventBatchListener] unexpected payload type. topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset());
+                return null;
+            }
+            return objectMapper.treeToValue(node, type);
+        } catch (Exception e) {
+            log.warn("[OrderEventBatchListener] json parse failed. topic={}, partition={}, offset={}",
+                    record.topic(), record.partition(), record.offset(), e);
+            return null;
+        }
+    }
+
+    private UUID resolveUpstreamEventId(String eventId, ConsumerRecord<String, byte[]> record) {
+        // 1) payload에 명확한 eventId(UUID 문자열)가 있으면 사용
+        UUID parsed = parseUuid(eventId);
+        if (parsed != null) {
+            return parsed;
+        }
+
+        // 2) 없거나 UUID가 아니면 topic/partition/offset 기반 UUID 생성 (단건 리스너와 동일 규칙)
+        String fallback = record.topic() + ":" + record.partition() + ":" + record.offset();
+        return UUID.nameUUIDFromBytes(fallback.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<OrderLine> extractOrderLines(OrderCreatedMessage message) {
+        // 1) 단건
+        UUID productId = parseUuid(message.productId());
+        if (productId != null && message.quantity() != null) {
+            return List.of(new OrderLine(productId, message.quantity()));
+        }
+
+        // 2) 다건 items
+        if (message.items() == null) {
+            return List.of();
+        }
+        List<OrderLine> lines = new ArrayList<>(message.items().size());
+        for (Item item : message.items()) {
+            if (item == null) continue;
+            UUID pid = parseUuid(item.productId());
+            if (pid == null || item.quantity() == null) {
+                return List.of(); // 추측 금지
+            }
+            lines.add(new OrderLine(pid, item.quantity()));
+        }
+        return lines;
+    }
+
+    private UUID parseUuid(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record OrderCreatedMessage(String eventId,
+                               String orderId,
+                               String productId,
+                               Integer quantity,
+                               List<Item> items) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Item(String productId, Integer quantity) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record OrderStatusMessage(String eventId, String orderId) {
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.sparta.product.domain.outbox.OutboxStatus;
 import org.sparta.product.domain.repository.ProductOutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @Profile("!test")
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ProductOutboxScheduler {
 
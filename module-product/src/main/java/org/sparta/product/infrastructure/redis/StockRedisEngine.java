@@ -0,0 +1,431 @@
+package org.sparta.product.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 예약 엔진
+ *
+ * 상품별 재고 카운터를 Redis Hash 로 유지하고, 예약은 Lua 스크립트 1회로 원자적으로 처리한다.
+ * - product:stock:{productId}                       : stockId / available / reserved / status
+ * - product:stock:{productId}:rsv:{internalKey}     : 예약 수량 (internalReservationKey 멱등, TTL)
+ * - product:stock:{productId}:pending               : DB 미반영 예약 로그 (Stream, consumer group = write-behind)
+ * - product:stock:loaded                            : 카운터가 적재된 productId 목록 (대사 대상)
+ * - product:stock:pending                           : 미반영 예약 로그가 남아 있을 수 있는 productId 목록
+ *
+ * 같은 상품의 키는 hash tag({productId})로 묶여 Redis Cluster 에서도 한 슬롯에서 실행된다.
+ * loaded / pending 목록은 상품과 다른 슬롯이므로 스크립트 밖에서 따로 갱신한다 (CROSSSLOT 방지).
+ * 카운터 Hash 에는 TTL 을 두지 않는다 (비동기 DB 반영 전 유실 방지, maxmemory-policy noeviction 전제).
+ */
+@Slf4j
+@Component
+public class StockRedisEngine {
+
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String LOADED_KEY = "product:stock:loaded";
+    private static final String PENDING_PRODUCTS_KEY = "product:stock:pending";
+    private static final String WRITE_BEHIND_GROUP = "write-behind";
+
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('GET', KEYS[2])
+            local stockId = redis.call('HGET', KEYS[1], 'stockId') or ''
+            if existing then
+              if existing == ARGV[1] then return {'DUPLICATE', stockId} end
+              return {'CONFLICT', stockId}
+            end
+            if stockId == '' then return {'NOT_LOADED', ''} end
+            if redis.call('HGET', KEYS[1], 'status') == 'UNAVAILABLE' then return {'UNAVAILABLE', stockId} end
+            local qty = tonumber(ARGV[1])
+            if tonumber(redis.call('HGET', KEYS[1], 'available')) < qty then return {'INSUFFICIENT', stockId} end
+            redis.call('HINCRBY', KEYS[1], 'available', -qty)
+            redis.call('HINCRBY', KEYS[1], 'reserved', qty)
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+            return {'RESERVED', stockId}
+            """, List.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'stockId', ARGV[1], 'available', ARGV[2], 'reserved', ARGV[3], 'status', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[2])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('HINCRBY', KEYS[1], 'available', ARGV[1])
+              redis.call('HINCRBY', KEYS[1], 'reserved', -tonumber(ARGV[1]))
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'available', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'reserved', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 대사 시점에 읽은 값(ARGV[4..6])에서 바뀌지 않았을 때만 덮어씀 (compare-and-set)
+    private static final RedisScript<Long> OVERWRITE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HMGET', KEYS[1], 'available', 'reserved', 'status')
+            if current[1] ~= ARGV[4] or current[2] ~= ARGV[5] or current[3] ~= ARGV[6] then return 0 end
+            redis.call('HSET', KEYS[1], 'available', ARGV[1], 'reserved', ARGV[2], 'status', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 커밋된 예약을 미반영 로그에 추가 (로그가 처음 생기면 write-behind consumer group 도 함께 생성)
+    private static final RedisScript<String> APPEND_PENDING_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('XGROUP', 'CREATE', KEYS[1], ARGV[5], '$', 'MKSTREAM')
+            end
+            return redis.call('XADD', KEYS[1], '*', 'stockId', ARGV[1], 'key', ARGV[2], 'external', ARGV[3], 'quantity', ARGV[4])
+            """, String.class);
+
+    private static final RedisScript<Long> MARK_UNAVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HSET', KEYS[1], 'status', 'UNAVAILABLE')
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public StockRedisEngine(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 재고 예약 (Lua 1회, 원자적 + internalReservationKey 멱등)
+     */
+    public ReserveResult tryReserve(UUID productId, String internalReservationKey, int quantity, Duration ttl) {
+        List<?> result = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(stockKey(productId), reservationKey(productId, internalReservationKey)),
+                String.valueOf(quantity),
+                String.valueOf(ttl.toSeconds())
+        );
+        Outcome outcome = Outcome.valueOf(String.valueOf(result.get(0)));
+        String stockId = String.valueOf(result.get(1));
+        return new ReserveResult(outcome, stockId.isEmpty() ? null : UUID.fromString(stockId));
+    }
+
+    /**
+     * DB 재고로 카운터 적재 (이미 적재되어 있으면 무시)
+     * - loaded 목록 SADD 는 멱등이므로 매번 실행 (이전 적재 때 누락되었어도 복구)
+     */
+    public void load(Stock stock) {
+        Long loaded = redisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(stockKey(stock.getProductId())),
+                stock.getId().toString(),
+                String.valueOf(stock.getAvailableQuantity()),
+                String.valueOf(stock.getReservedQuantity()),
+                stock.getStatus().name()
+        );
+        redisTemplate.opsForSet().add(LOADED_KEY, stock.getProductId().toString());
+        if (Long.valueOf(1L).equals(loaded)) {
+            log.info("[StockRedisEngine] 재고 카운터 적재 - productId={}, available={}, reserved={}",
+                    stock.getProductId(), stock.getAvailableQuantity(), stock.getReservedQuantity());
+        }
+    }
+
+    /**
+     * 예약 되돌리기 (예약을 포함한 트랜잭션이 롤백된 경우)
+     */
+    public void release(UUID productId, String internalReservationKey, int quantity) {
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(stockKey(productId), reservationKey(productId, internalReservationKey)),
+                String.valueOf(quantity)
+        );
+    }
+
+    /**
+     * 예약 확정: 실물/예약 모두 감소 → 가용 재고 변화 없음
+     */
+    public void applyConfirm(UUID productId, int quantity) {
+        adjust(productId, 0, -quantity);
+    }
+
+    /**
+     * 예약 취소: 예약 감소, 가용 재고 복구
+     */
+    public void applyCancel(UUID productId, int quantity) {
+        adjust(productId, quantity, -quantity);
+    }
+
+    /**
+     * 확정된 예약 보상: 실물 재고 복구
+     */
+    public void applyRestore(UUID productId, int quantity) {
+        adjust(productId, quantity, 0);
+    }
+
+    /**
+     * 대사 결과 DB 기준으로 카운터 덮어쓰기
+     * - 대사 중 예약/확정 등으로 카운터가 read 시점(expected)에서 바뀌었으면 덮어쓰지 않음
+     *
+     * @return 덮어썼으면 true
+     */
+    public boolean overwriteIfUnchanged(UUID productId, Counters expected, int available, int reserved, String status) {
+        Long result = redisTemplate.execute(
+                OVERWRITE_SCRIPT,
+                List.of(stockKey(productId)),
+                String.valueOf(available),
+                String.valueOf(reserved),
+                status,
+                String.valueOf(expected.available()),
+                String.valueOf(expected.reserved()),
+                expected.status()
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * 상품 삭제 시 판매 불가 처리 (적재된 경우에만)
+     */
+    public void markUnavailable(UUID productId) {
+        redisTemplate.execute(MARK_UNAVAILABLE_SCRIPT, List.of(stockKey(productId)));
+    }
+
+    public Optional<Counters> counters(UUID productId) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(stockKey(productId), List.of("stockId", "available", "reserved", "status"));
+        if (values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Counters(
+                UUID.fromString(values.get(0).toString()),
+                Integer.parseInt(values.get(1).toString()),
+                Integer.parseInt(values.get(2).toString()),
+                values.get(3).toString()
+        ));
+    }
+
+    public Set<UUID> loadedProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(LOADED_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(UUID::fromString).collect(Collectors.toSet());
+    }
+
+    // ===== 미반영 예약 로그 (write-behind) =====
+
+    /**
+     * 커밋된 예약을 상품별 미반영 로그(Stream)에 추가
+     * - 인스턴스가 재시작되어도 남으며, 어느 인스턴스의 flush 에서도 DB 에 반영할 수 있다
+     */
+    public void appendPending(UUID productId, StockReservation reservation) {
+        redisTemplate.execute(
+                APPEND_PENDING_SCRIPT,
+                List.of(pendingKey(productId)),
+                reservation.getStockId().toString(),
+                reservation.getReservationKey(),
+                reservation.getExternalReservationKey(),
+                String.valueOf(reservation.getReservedQuantity()),
+                WRITE_BEHIND_GROUP
+        );
+        redisTemplate.opsForSet().add(PENDING_PRODUCTS_KEY, productId.toString());
+    }
+
+    /**
+     * 아직 DB 반영(ACK)되지 않은 예약 전체 (다른 인스턴스가 처리 중인 예약 포함)
+     */
+    public List<PendingReservation> pendingReservations(UUID productId) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(pendingKey(productId), Range.unbounded());
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream().map(record -> toPending(record, 0)).toList();
+    }
+
+    /**
+     * 이 consumer 가 반영할 예약 조회
+     * 1. 다른 consumer(종료된 인스턴스 등) 또는 자신이 가져간 뒤 claimIdle 이상 ACK 되지 않은 예약을 가져옴
+     * 2. 남은 자리만큼 아직 아무도 가져가지 않은 예약을 읽음
+     */
+    public List<PendingReservation> claimPending(UUID productId, String consumer, int count, Duration claimIdle) {
+        String key = pendingKey(productId);
+        List<PendingReservation> claimed = new ArrayList<>();
+        Long size = redisTemplate.opsForStream().size(key);
+        if (size == null || size == 0) {
+            return claimed; // 로그가 없거나 모두 반영됨 (consumer group 조회 시 NOGROUP 방지)
+        }
+
+        PendingMessages stale = redisTemplate.opsForStream().pending(key, WRITE_BEHIND_GROUP, Range.unbounded(), count);
+        List<RecordId> staleIds = new ArrayList<>();
+        Map<String, Long> deliveries = new HashMap<>();
+        for (PendingMessage message : stale) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+                staleIds.add(message.getId());
+                deliveries.put(message.getIdAsString(), message.getTotalDeliveryCount() + 1);
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .claim(key, WRITE_BEHIND_GROUP, consumer, claimIdle, staleIds.toArray(RecordId[]::new));
+            for (MapRecord<String, Object, Object> record : records) {
+                claimed.add(toPending(record, deliveries.getOrDefault(record.getId().getValue(), 1L)));
+            }
+        }
+
+        int remaining = count - claimed.size();
+        if (remaining > 0) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(WRITE_BEHIND_GROUP, consumer),
+                    StreamReadOptions.empty().count(remaining),
+                    StreamOffset.create(key, ReadOffset.lastConsumed())
+            );
+            if (records != null) {
+                records.forEach(record -> claimed.add(toPending(record, 1)));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * DB 반영이 끝난 예약을 로그에서 제거
+     */
+    public void acknowledge(UUID productId, List<PendingReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        String key = pendingKey(productId);
+        String[] ids = reservations.stream().map(PendingReservation::entryId).toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(key, WRITE_BEHIND_GROUP, ids);
+        redisTemplate.opsForStream().delete(key, ids);
+    }
+
+    public Set<UUID> pendingProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(PENDING_PRODUCTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(UUID::fromString).collect(Collectors.toSet());
+    }
+
+    public boolean hasPendingProducts() {
+        Long size = redisTemplate.opsForSet().size(PENDING_PRODUCTS_KEY);
+        return size != null && size > 0;
+    }
+
+    /**
+     * 로그가 비었으면 pending 목록에서 제거
+     * - 먼저 제거한 뒤 길이를 확인하므로, 그사이 추가된 예약이 있으면 다시 등록되어 누락되지 않음
+     */
+    public void unmarkIfDrained(UUID productId) {
+        redisTemplate.opsForSet().remove(PENDING_PRODUCTS_KEY, productId.toString());
+        Long size = redisTemplate.opsForStream().size(pendingKey(productId));
+        if (size != null && size > 0) {
+            redisTemplate.opsForSet().add(PENDING_PRODUCTS_KEY, productId.toString());
+        }
+    }
+
+    /**
+     * 적재된 상품 중 로그가 남아 있는데 pending 목록에 없는 상품을 다시 등록
+     * (appendPending 의 XADD 와 SADD 사이에 인스턴스가 종료된 경우 복구)
+     */
+    public int remarkPendingProducts() {
+        int remarked = 0;
+        for (UUID productId : loadedProductIds()) {
+            Long size = redisTemplate.opsForStream().size(pendingKey(productId));
+            if (size != null && size > 0
+                    && Long.valueOf(1L).equals(redisTemplate.opsForSet().add(PENDING_PRODUCTS_KEY, productId.toString()))) {
+                remarked++;
+            }
+        }
+        return remarked;
+    }
+
+    private static PendingReservation toPending(MapRecord<String, Object, Object> record, long deliveryCount) {
+        Map<Object, Object> value = record.getValue();
+        return new PendingReservation(
+                record.getId().getValue(),
+                UUID.fromString(value.get("stockId").toString()),
+                value.get("key").toString(),
+                value.get("external").toString(),
+                Integer.parseInt(value.get("quantity").toString()),
+                deliveryCount
+        );
+    }
+
+    private void adjust(UUID productId, int availableDelta, int reservedDelta) {
+        redisTemplate.execute(
+                ADJUST_SCRIPT,
+                List.of(stockKey(productId)),
+                String.valueOf(availableDelta),
+                String.valueOf(reservedDelta)
+        );
+    }
+
+    private static String stockKey(UUID productId) {
+        return STOCK_KEY_PREFIX + "{" + productId + "}";
+    }
+
+    private static String pendingKey(UUID productId) {
+        return stockKey(productId) + ":pending";
+    }
+
+    private static String reservationKey(UUID productId, String internalReservationKey) {
+        return stockKey(productId) + ":rsv:" + internalReservationKey;
+    }
+
+    public enum Outcome {
+        RESERVED,
+        DUPLICATE,
+        CONFLICT,
+        NOT_LOADED,
+        UNAVAILABLE,
+        INSUFFICIENT
+    }
+
+    public record ReserveResult(Outcome outcome, UUID stockId) {
+    }
+
+    public record Counters(UUID stockId, int available, int reserved, String status) {
+    }
+
+    /**
+     * 미반영 로그 항목
+     *
+     * @param deliveryCount 이 항목을 가져간 횟수 (DB 반영 시도 횟수)
+     */
+    public record PendingReservation(
+            String entryId,
+            UUID stockId,
+            String reservationKey,
+            String externalReservationKey,
+            int quantity,
+            long deliveryCount
+    ) {
+        public StockReservation toReservation() {
+            return StockReservation.reserve(stockId, externalReservationKey, reservationKey, quantity);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.sparta.product.infrastructure.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.application.service.StockShardService;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine.PendingReservation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 엔진에서 성공한 예약을 DB(p_stocks, stock_reservations)에 비동기 배치 반영
+ *
+ * - 예약 트랜잭션 커밋 후 상품별 미반영 로그(Redis Stream, StockRedisEngine)에 추가
+ * - flush-interval-millis 마다 consumer group 으로 로그를 읽어 상품(재고) 단위로 최대 flush-batch-size 건 반영
+ * - DB 반영이 끝난 항목만 ACK + 삭제, 실패한 항목은 로그에 남아 claim-idle-millis 후 다시 시도
+ * - 종료된 인스턴스가 가져간 채 ACK 하지 못한 항목도 claim-idle-millis 후 다른 인스턴스가 가져감
+ * - max-flush-attempts 를 넘겨도 버리지 않음 → 로그/메트릭(product.stock.writebehind.stuck)으로 알림만 남김
+ * - confirm/cancel 은 예약 행이 필요하므로 처리 전에 flush() 를 동기 호출 (모든 인스턴스의 예약 대상)
+ *
+ * 로그 항목은 ACK 직전에 재전달될 수 있으므로, 이미 DB 에 있는 예약 키는 다시 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class StockReservationWriteBehind {
+
+    private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockEngineConfig config;
+    private final StockShardService stockShardService;
+    private final StockRedisEngine stockRedisEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final String consumerName;
+
+    private final AtomicInteger pendingProducts = new AtomicInteger();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter stuckCounter;
+
+    public StockReservationWriteBehind(
+            StockRepository stockRepository,
+            StockReservationRepository stockReservationRepository,
+            StockEngineConfig config,
+            StockShardService stockShardService,
+            StockRedisEngine stockRedisEngine,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockRepository = stockRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.config = config;
+        this.stockShardService = stockShardService;
+        this.stockRedisEngine = stockRedisEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.consumerName = resolveConsumerName(config);
+
+        this.flushTimer = Timer.builder("product.stock.writebehind.flush").register(meterRegistry);
+        this.flushedCounter = Counter.builder("product.stock.writebehind.flushed").register(meterRegistry);
+        this.stuckCounter = Counter.builder("product.stock.writebehind.stuck").register(meterRegistry);
+        meterRegistry.gauge("product.stock.writebehind.pending", pendingProducts);
+    }
+
+    /**
+     * 커밋된 예약을 미반영 로그에 추가
+     */
+    public void enqueue(UUID productId, StockReservation reservation) {
+        stockRedisEngine.appendPending(productId, reservation);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 예약 조회 (멱등 재요청 응답용, 다른 인스턴스가 받은 예약 포함)
+     */
+    public Optional<StockReservation> findPending(UUID productId, String internalReservationKey) {
+        return stockRedisEngine.pendingReservations(productId).stream()
+                .filter(pending -> pending.reservationKey().equals(internalReservationKey))
+                .findFirst()
+                .map(PendingReservation::toReservation);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 예약 수량 합계 (대사용)
+     */
+    public int pendingQuantity(UUID productId) {
+        return stockRedisEngine.pendingReservations(productId).stream()
+                .mapToInt(PendingReservation::quantity)
+                .sum();
+    }
+
+    public boolean hasPending() {
+        return stockRedisEngine.hasPendingProducts();
+    }
+
+    @Scheduled(fixedDelayString = "${product.stock.engine.flush-interval-millis:100}")
+    public void scheduledFlush() {
+        if (config.isEnabled() && hasPending()) {
+            flush();
+        }
+    }
+
+    /**
+     * pending 목록에서 빠진 미반영 로그 복구 (예약 추가 도중 인스턴스가 종료된 경우)
+     */
+    @Scheduled(fixedDelayString = "${product.stock.engine.reconcile-interval-millis:60000}")
+    public void scheduledRemark() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        int remarked = stockRedisEngine.remarkPendingProducts();
+        if (remarked > 0) {
+            log.warn("[StockWriteBehind] pending 목록에서 누락된 미반영 로그 복구 - products={}", remarked);
+        }
+    }
+
+    /**
+     * 미반영 로그를 DB 에 반영
+     *
+     * @return 반영된 예약 수
+     */
+    public synchronized int flush() {
+        Set<UUID> productIds = stockRedisEngine.pendingProductIds();
+        pendingProducts.set(productIds.size());
+
+        int flushed = 0;
+        for (UUID productId : productIds) {
+            flushed += flushProduct(productId);
+        }
+        return flushed;
+    }
+
+    private int flushProduct(UUID productId) {
+        Duration claimIdle = Duration.ofMillis(config.getClaimIdleMillis());
+        int flushed = 0;
+        while (true) {
+            List<PendingReservation> batch = stockRedisEngine.claimPending(
+                    productId, consumerName, config.getFlushBatchSize(), claimIdle);
+            if (batch.isEmpty()) {
+                stockRedisEngine.unmarkIfDrained(productId);
+                return flushed;
+            }
+
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> persist(batch)));
+            } catch (Exception e) {
+                // ACK 하지 않음 → 로그에 남아 claim-idle-millis 후 다시 시도
+                log.warn("[StockWriteBehind] 예약 반영 실패 - 재시도 대기. productId={}, size={}",
+                        productId, batch.size(), e);
+                alertIfStuck(productId, batch);
+                return flushed;
+            }
+
+            stockRedisEngine.acknowledge(productId, batch);
+            flushedCounter.increment(batch.size());
+            flushed += batch.size();
+        }
+    }
+
+    private void persist(List<PendingReservation> batch) {
+        Set<String> alreadyPersisted = stockReservationRepository.findAllByReservationKeyIn(
+                        batch.stream().map(PendingReservation::reservationKey).toList())
+                .stream()
+                .map(StockReservation::getReservationKey)
+                .collect(Collectors.toSet());
+        List<StockReservation> reservations = batch.stream()
+                .filter(pending -> !alreadyPersisted.contains(pending.reservationKey()))
+                .map(PendingReservation::toReservation)
+                .toList();
+        if (reservations.isEmpty()) {
+            return; // 이전 flush 에서 반영 후 ACK 전에 재전달된 항목
+        }
+
+        // 상품별 로그이므로 한 배치의 예약은 모두 같은 재고
+        UUID stockId = reservations.get(0).getStockId();
+        Stock stock = stockRepository.findById(stockId)
+                .orElseThrow(() -> new BusinessException(ProductErrorType.STOCK_NOT_FOUND));
+
+        if (stock.isSharded()) {
+            // 샤딩된 재고는 예약별로 샤드에 반영, 샤드가 모두 부족하면 home 재고로
+            for (StockReservation reservation : reservations) {
+                OptionalInt shardIndex = stockShardService.reserve(
+                        stock, reservation.getReservationKey(), reservation.getReservedQuantity());
+                if (shardIndex.isPresent()) {
+                    reservation.assignShard(shardIndex.getAsInt());
+                } else {
+                    stock.reserve(reservation.getReservedQuantity());
+                }
+            }
+        } else {
+            int quantity = reservations.stream().mapToInt(StockReservation::getReservedQuantity).sum();
+            stock.reserve(quantity);
+        }
+        stockRepository.save(stock);
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    private void alertIfStuck(UUID productId, List<PendingReservation> batch) {
+        for (PendingReservation pending : batch) {
+            if (pending.deliveryCount() >= config.getMaxFlushAttempts()) {
+                log.error("[StockWriteBehind] 재시도 한도 초과 - 로그에 유지하며 계속 재시도 (확인 필요). "
+                                + "productId={}, reservationKey={}, quantity={}, attempts={}",
+                        productId, pending.reservationKey(), pending.quantity(), pending.deliveryCount());
+                stuckCounter.increment();
+            }
+        }
+    }
+
+    private static String resolveConsumerName(StockEngineConfig config) {
+        if (config.getConsumerName() != null && !config.getConsumerName().isBlank()) {
+            return config.getConsumerName();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "product-" + UUID.randomUUID();
+        }
+    }
+}
@@ -5,16 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.sparta.common.error.BusinessException;
+import org.sparta.product.application.dto.StockReserveLine;
 import org.sparta.product.domain.entity.ProcessedEvent;
+import org.sparta.product.domain.error.ProductErrorType;
 import org.sparta.product.domain.repository.ProcessedEventRepository;
 import org.sparta.product.domain.repository.ProductOutboxEventRepository;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -72,8 +78,10 @@ class OrderCreatedStockReservationHandlerTest {
 
         verify(processedEventRepository, times(1)).save(any(ProcessedEvent.class));
 
-        verify(stockService).reserveStock(p1, externalReservationKey, 2);
-        verify(stockService).reserveStock(p2, externalReservationKey, 1);
+        verify(stockService).reserveStocks(externalReservationKey, List.of(
+                new StockReserveLine(p1, 2),
+                new StockReserveLine(p2, 1)
+        ));
 
         verify(outboxRepository, times(2)).save(any());
         verifyNoInteractions(failureRecorder);
@@ -82,7 +90,7 @@ class OrderCreatedStockReservationHandlerTest {
     }
 
     @Test
-    @DisplayName("handle: reserveStock 중 BusinessException 발생 시 failureRecorder 호출 후 예외 재던짐 (processed_event는 이미 저장됨)")
+    @DisplayName("handle: reserveStocks 중 BusinessException 발생 시 failureRecorder 호출 후 예외 재던짐 (processed_event는 이미 저장됨)")
     void handle_failure_recordsFailureAndRethrows() {
         OrderCreatedStockReservationHandler handler =
                 new OrderCreatedStockReservationHandler(
@@ -96,7 +104,7 @@ class OrderCreatedStockReservationHandlerTest {
 
         doThrow(ex)
                 .when(stockService)
-                .reserveStock(eq(productId), eq(externalReservationKey), eq(2));
+                .reserveStocks(eq(externalReservationKey), eq(List.of(new StockReserveLine(productId, 2))));
 
         UUID eventId = UUID.randomUUID();
         UUID orderId = UUID.randomUUID();
@@ -116,4 +124,46 @@ class OrderCreatedStockReservationHandlerTest {
         verifyNoInteractions(outboxRepository);
         verifyNoInteractions(objectMapper);
     }
+
+    @Test
+    @DisplayName("handleBatch: 처리 이력은 IN 조회로 거르고, 주문별 성공/실패 outbox 를 saveAll 로 한 번에 저장")
+    void handleBatch_filtersProcessedAndRecordsPerOrderResult() throws Exception {
+        OrderCreatedStockReservationHandler handler =
+                new OrderCreatedStockReservationHandler(
+                        stockService, outboxRepository, processedEventRepository, failureRecorder, objectMapper
+                );
+
+        UUID duplicateEventId = UUID.randomUUID();
+        UUID okEventId = UUID.randomUUID();
+        UUID failEventId = UUID.randomUUID();
+        UUID okOrderId = UUID.randomUUID();
+        UUID failOrderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        when(processedEventRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of(duplicateEventId));
+        BusinessException failure = new BusinessException(ProductErrorType.INSUFFICIENT_STOCK);
+        when(stockService.reserveStocksBatch(anyMap()))
+                .thenReturn(Map.of(failOrderId.toString(), failure));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        handler.handleBatch(List.of(
+                new OrderCreatedStockReservationHandler.OrderCreated(duplicateEventId, UUID.randomUUID(), "dup",
+                        List.of(new OrderCreatedStockReservationHandler.OrderLine(productId, 1))),
+                new OrderCreatedStockReservationHandler.OrderCreated(okEventId, okOrderId, okOrderId.toString(),
+                        List.of(new OrderCreatedStockReservationHandler.OrderLine(productId, 2))),
+                new OrderCreatedStockReservationHandler.OrderCreated(failEventId, failOrderId, failOrderId.toString(),
+                        List.of(new OrderCreatedStockReservationHandler.OrderLine(productId, 3)))
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, List<StockReserveLine>>> linesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(stockService).reserveStocksBatch(linesCaptor.capture());
+        assertEquals(Set.of(okOrderId.toString(), failOrderId.toString()), linesCaptor.getValue().keySet());
+
+        verify(failureRecorder).failureOutbox(failOrderId, failOrderId.toString(), failure);
+        verify(processedEventRepository).saveAll(argThat(events -> events.size() == 2));
+        verify(outboxRepository).saveAll(argThat(events -> events.size() == 2));
+        verify(processedEventRepository, never()).save(any(ProcessedEvent.class));
+        verify(stockService, never()).reserveStocks(any(), any());
+    }
 }
@@ -18,6 +18,8 @@ import org.sparta.product.domain.repository.CategoryRepository;
 import org.sparta.product.domain.repository.ProductRepository;
 import org.sparta.product.domain.repository.StockRepository;
 import org.sparta.product.domain.vo.Money;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
@@ -33,12 +35,15 @@ class ProductServiceTest {
     @Mock ProductRepository productRepository;
     @Mock CategoryRepository categoryRepository;
     @Mock StockRepository stockRepository;
+    @Mock StockEngineConfig stockEngineConfig;
+    @Mock StockRedisEngine stockRedisEngine;
 
     ProductService productService;
 
     @BeforeEach
     void setUp() {
-        productService = new ProductService(productRepository, categoryRepository, stockRepository);
+        productService = new ProductService(productRepository, categoryRepository, stockRepository,
+                stockEngineConfig, stockRedisEngine);
     }
 
     @Test
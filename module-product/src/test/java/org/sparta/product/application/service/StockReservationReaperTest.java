@@ -0,0 +1,105 @@
+package org.sparta.product.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.infrastructure.config.StockReservationReaperConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationReaperTest {
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private StockService stockService;
+
+    private final StockReservationReaperConfig config = new StockReservationReaperConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StockReservationReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        config.setPageSize(2);
+        config.setMaxPagesPerRun(5);
+        reaper = new StockReservationReaper(stockReservationRepository, stockService, config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("reap: 만료 예약을 재고별로 묶어 회수하고, keyset 커서로 다음 페이지를 이어서 조회")
+    void reap_groupsByStockAndPagesWithKeyset() {
+        UUID stockA = UUID.randomUUID();
+        UUID stockB = UUID.randomUUID();
+        LocalDateTime t0 = LocalDateTime.now().minusHours(2);
+
+        StockReservation r1 = reservation(stockA, t0, 2);
+        StockReservation r2 = reservation(stockA, t0.plusSeconds(1), 3);
+        StockReservation r3 = reservation(stockB, t0.plusSeconds(2), 1);
+
+        when(stockReservationRepository.findExpiredReservations(any(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(r1, r2));
+        when(stockReservationRepository.findExpiredReservations(any(), eq(r2.getCreatedAt()), eq(r2.getId()), eq(2)))
+                .thenReturn(List.of(r3));
+        when(stockService.expireReservations(stockA, List.of(r1.getId(), r2.getId()))).thenReturn(List.of(r1, r2));
+        when(stockService.expireReservations(stockB, List.of(r3.getId()))).thenReturn(List.of(r3));
+        when(stockReservationRepository.sumReservedQuantity()).thenReturn(7L);
+
+        int reaped = reaper.reap();
+
+        assertEquals(3, reaped);
+        assertEquals(6.0, meterRegistry.counter("product.stock.reservation.reaped.quantity").count());
+        assertEquals(7.0, meterRegistry.get("product.stock.reservation.held.quantity").gauge().value());
+        verify(stockService, times(2)).expireReservations(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("reap: 한 재고 회수 실패(락 경합)는 건너뛰고 나머지 재고는 계속 회수")
+    void reap_continuesWhenOneStockFails() {
+        UUID busyStock = UUID.randomUUID();
+        UUID okStock = UUID.randomUUID();
+        LocalDateTime t0 = LocalDateTime.now().minusHours(2);
+
+        StockReservation busy = reservation(busyStock, t0, 1);
+        StockReservation ok = reservation(okStock, t0.plusSeconds(1), 4);
+
+        when(stockReservationRepository.findExpiredReservations(any(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(busy, ok));
+        when(stockReservationRepository.findExpiredReservations(any(), eq(ok.getCreatedAt()), eq(ok.getId()), eq(2)))
+                .thenReturn(List.of());
+        when(stockService.expireReservations(busyStock, List.of(busy.getId())))
+                .thenThrow(new BusinessException(ProductErrorType.STOCK_LOCK_BUSY));
+        when(stockService.expireReservations(okStock, List.of(ok.getId()))).thenReturn(List.of(ok));
+
+        int reaped = reaper.reap();
+
+        assertEquals(1, reaped);
+        assertEquals(1.0, meterRegistry.counter("product.stock.reservation.reap.failed").count());
+    }
+
+    private StockReservation reservation(UUID stockId, LocalDateTime createdAt, int quantity) {
+        StockReservation reservation = mock(StockReservation.class);
+        UUID id = UUID.randomUUID();
+        lenient().when(reservation.getId()).thenReturn(id);
+        lenient().when(reservation.getStockId()).thenReturn(stockId);
+        lenient().when(reservation.getCreatedAt()).thenReturn(createdAt);
+        lenient().when(reservation.getReservedQuantity()).thenReturn(quantity);
+        return reservation;
+    }
+}
@@ -0,0 +1,145 @@
+package org.sparta.product.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.domain.util.ReservationKeyUtil;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
+import org.sparta.product.infrastructure.redis.StockRedisEngine.Outcome;
+import org.sparta.product.infrastructure.redis.StockRedisEngine.ReserveResult;
+import org.sparta.product.infrastructure.redis.StockReservationWriteBehind;
+import org.sparta.redis.util.DistributedLockExecutor;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceRedisEngineTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private DistributedLockExecutor lockExecutor;
+
+    @Mock
+    private StockEngineConfig engineConfig;
+
+    @Mock
+    private StockRedisEngine stockRedisEngine;
+
+    @Mock
+    private StockReservationWriteBehind writeBehind;
+
+    @Mock
+    private StockShardingConfig shardingConfig;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @InjectMocks
+    private StockService stockService;
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID stockId = UUID.randomUUID();
+    private final String externalKey = "order-1";
+    private final String internalKey = ReservationKeyUtil.internalKey(externalKey, productId);
+
+    @BeforeEach
+    void setUp() {
+        when(engineConfig.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("reserveStock_engineReserved: Redis 예약 성공 시 분산 락 없이 write-behind 큐에 적재")
+    void reserveStock_engineReserved() {
+        when(stockRedisEngine.tryReserve(eq(productId), eq(internalKey), eq(2), any()))
+                .thenReturn(new ReserveResult(Outcome.RESERVED, stockId));
+
+        StockReservation reservation = stockService.reserveStock(productId, externalKey, 2);
+
+        assertEquals(stockId, reservation.getStockId());
+        assertEquals(internalKey, reservation.getReservationKey());
+        assertEquals(2, reservation.getReservedQuantity());
+
+        ArgumentCaptor<StockReservation> captor = ArgumentCaptor.forClass(StockReservation.class);
+        verify(writeBehind).enqueue(eq(productId), captor.capture());
+        assertSame(reservation, captor.getValue());
+        verifyNoInteractions(lockExecutor, stockReservationRepository);
+    }
+
+    @Test
+    @DisplayName("reserveStock_engineNotLoaded: 카운터 미적재면 DB 재고로 적재 후 재시도")
+    void reserveStock_engineNotLoaded() {
+        Stock stock = Stock.create(productId, UUID.randomUUID(), UUID.randomUUID(), 10);
+        when(stockRepository.findByProductId(productId)).thenReturn(Optional.of(stock));
+        when(stockRedisEngine.tryReserve(eq(productId), eq(internalKey), eq(1), any()))
+                .thenReturn(new ReserveResult(Outcome.NOT_LOADED, null))
+                .thenReturn(new ReserveResult(Outcome.RESERVED, stockId));
+
+        stockService.reserveStock(productId, externalKey, 1);
+
+        verify(stockRedisEngine).load(stock);
+        verify(stockRedisEngine, times(2)).tryReserve(eq(productId), eq(internalKey), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("reserveStock_engineInsufficient: 가용 재고 부족이면 INSUFFICIENT_STOCK")
+    void reserveStock_engineInsufficient() {
+        when(stockRedisEngine.tryReserve(eq(productId), eq(internalKey), eq(5), any()))
+                .thenReturn(new ReserveResult(Outcome.INSUFFICIENT, stockId));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> stockService.reserveStock(productId, externalKey, 5));
+
+        assertEquals(ProductErrorType.INSUFFICIENT_STOCK, ex.getErrorType());
+        verifyNoInteractions(writeBehind);
+    }
+
+    @Test
+    @DisplayName("reserveStock_engineDuplicate: 같은 키 재요청은 DB 반영 전 대기 중인 예약을 그대로 반환")
+    void reserveStock_engineDuplicate() {
+        StockReservation pending = StockReservation.reserve(stockId, externalKey, internalKey, 3);
+        when(stockRedisEngine.tryReserve(eq(productId), eq(internalKey), eq(3), any()))
+                .thenReturn(new ReserveResult(Outcome.DUPLICATE, stockId));
+        when(stockReservationRepository.findByReservationKey(internalKey)).thenReturn(Optional.empty());
+        when(writeBehind.findPending(productId, internalKey)).thenReturn(Optional.of(pending));
+
+        StockReservation result = stockService.reserveStock(productId, externalKey, 3);
+
+        assertSame(pending, result);
+        verify(writeBehind, never()).enqueue(any(), any());
+    }
+
+    @Test
+    @DisplayName("reserveStock_engineConflict: 같은 키로 다른 수량 예약 시 STOCK_RESERVATION_ALREADY_EXISTS")
+    void reserveStock_engineConflict() {
+        when(stockRedisEngine.tryReserve(eq(productId), eq(internalKey), eq(4), any()))
+                .thenReturn(new ReserveResult(Outcome.CONFLICT, stockId));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> stockService.reserveStock(productId, externalKey, 4));
+
+        assertEquals(ProductErrorType.STOCK_RESERVATION_ALREADY_EXISTS, ex.getErrorType());
+    }
+}
@@ -7,12 +7,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.sparta.common.error.BusinessException;
+import org.sparta.product.application.dto.StockReserveLine;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
 import org.sparta.product.domain.error.ProductErrorType;
 import org.sparta.product.domain.repository.StockRepository;
 import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine;
+import org.sparta.product.infrastructure.redis.StockReservationWriteBehind;
 import org.sparta.redis.util.DistributedLockExecutor;
 import org.sparta.redis.util.LockAcquisitionException;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -33,6 +41,21 @@ class StockServiceTest {
     @Mock
     private DistributedLockExecutor lockExecutor;
 
+    @Mock
+    private StockEngineConfig engineConfig;
+
+    @Mock
+    private StockRedisEngine stockRedisEngine;
+
+    @Mock
+    private StockReservationWriteBehind writeBehind;
+
+    @Mock
+    private StockShardingConfig shardingConfig;
+
+    @Mock
+    private StockShardService stockShardService;
+
     @InjectMocks
     private StockService stockService;
 
@@ -79,4 +102,42 @@ class StockServiceTest {
         assertEquals(ProductErrorType.STOCK_LOCK_BUSY, ex.getErrorType());
         verifyNoInteractions(stockRepository, stockReservationRepository);
     }
+
+    @Test
+    @DisplayName("reserveStocks_multiLine: 상품 라인을 합산/정렬해 MultiLock 1회 획득 후 saveAll 로 일괄 저장")
+    void reserveStocks_multiLine() {
+        UUID p1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID p2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        Stock s1 = mock(Stock.class);
+        Stock s2 = mock(Stock.class);
+        when(s1.getId()).thenReturn(UUID.randomUUID());
+        when(s1.getProductId()).thenReturn(p1);
+        when(s2.getId()).thenReturn(UUID.randomUUID());
+        when(s2.getProductId()).thenReturn(p2);
+
+        when(lockExecutor.executeWithMultiLock(anyList(), anyLong(), anyLong(), eq(TimeUnit.SECONDS), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+        when(stockReservationRepository.findAllByReservationKeyIn(anyCollection())).thenReturn(List.of());
+        when(stockRepository.findAllByProductIdIn(anyCollection())).thenReturn(List.of(s2, s1));
+
+        List<StockReservation> result = stockService.reserveStocks("order-1", List.of(
+                new StockReserveLine(p2, 1),
+                new StockReserveLine(p1, 2),
+                new StockReserveLine(p2, 3)
+        ));
+
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getReservedQuantity());
+        assertEquals(4, result.get(1).getReservedQuantity());
+        verify(s1).reserve(2);
+        verify(s2).reserve(4);
+
+        verify(lockExecutor).executeWithMultiLock(
+                eq(List.of("product:stock:lock:" + p1, "product:stock:lock:" + p2)),
+                anyLong(), anyLong(), eq(TimeUnit.SECONDS), any(Supplier.class));
+        verify(stockRepository).saveAll(anyCollection());
+        verify(stockReservationRepository).saveAll(anyList());
+        verify(stockRepository, never()).save(any());
+        verify(stockReservationRepository, never()).save(any());
+    }
 }
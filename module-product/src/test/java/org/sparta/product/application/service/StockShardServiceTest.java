@@ -0,0 +1,108 @@
+package org.sparta.product.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.entity.StockShard;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.domain.repository.StockShardRepository;
+import org.sparta.product.infrastructure.config.StockShardingConfig;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockShardServiceTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private StockShardRepository stockShardRepository;
+
+    @Mock
+    private StockShardingConfig shardingConfig;
+
+    @InjectMocks
+    private StockShardService stockShardService;
+
+    private final UUID stockId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("reserve: 시작 샤드가 부족하면 이웃 샤드 순서로 시도")
+    void reserve_fallsBackToNeighbour() {
+        Stock stock = shardedStock(4);
+        String key = "order-1:product";
+        int start = Math.floorMod(key.hashCode(), 4);
+        int neighbour = (start + 1) % 4;
+
+        when(stockShardRepository.reserve(stockId, start, 2)).thenReturn(0);
+        when(stockShardRepository.reserve(stockId, neighbour, 2)).thenReturn(1);
+
+        OptionalInt result = stockShardService.reserve(stock, key, 2);
+
+        assertEquals(OptionalInt.of(neighbour), result);
+        verify(stockShardRepository, times(2)).reserve(eq(stockId), anyInt(), eq(2));
+    }
+
+    @Test
+    @DisplayName("reserve: 모든 샤드가 부족하면 empty")
+    void reserve_allShardsInsufficient() {
+        Stock stock = shardedStock(3);
+        when(stockShardRepository.reserve(eq(stockId), anyInt(), eq(5))).thenReturn(0);
+
+        assertTrue(stockShardService.reserve(stock, "k", 5).isEmpty());
+        verify(stockShardRepository, times(3)).reserve(eq(stockId), anyInt(), eq(5));
+    }
+
+    @Test
+    @DisplayName("confirm: 샤드 예약 수량이 부족하면 INVALID_RESERVATION_CONFIRM")
+    void confirm_invalid() {
+        StockReservation reservation = StockReservation.reserve(stockId, "order-1", "order-1:p", 2);
+        reservation.assignShard(1);
+        when(stockShardRepository.confirm(stockId, 1, 2)).thenReturn(0);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> stockShardService.confirm(reservation));
+        assertEquals(ProductErrorType.INVALID_RESERVATION_CONFIRM, ex.getErrorType());
+    }
+
+    @Test
+    @DisplayName("rebalance: 목표치보다 많은 샤드에서 회수해 부족한 샤드에 배분")
+    void rebalance_movesExcessToDeficit() {
+        UUID productId = UUID.randomUUID();
+        Stock stock = shardedStock(2);
+        when(stockRepository.findByProductId(productId)).thenReturn(Optional.of(stock));
+        when(stockShardRepository.findAllByStockId(stockId)).thenReturn(List.of(
+                StockShard.create(stockId, 0, 9),
+                StockShard.create(stockId, 1, 1)
+        ));
+        when(stockShardRepository.withdraw(stockId, 0, 4)).thenReturn(1);
+
+        stockShardService.rebalance(productId);
+
+        verify(stockShardRepository).withdraw(stockId, 0, 4);
+        verify(stockShardRepository).deposit(stockId, 1, 4);
+        verify(stockRepository).save(stock);
+    }
+
+    private Stock shardedStock(int shardCount) {
+        Stock stock = mock(Stock.class);
+        lenient().when(stock.getId()).thenReturn(stockId);
+        lenient().when(stock.isSharded()).thenReturn(true);
+        lenient().when(stock.getShardCount()).thenReturn(shardCount);
+        return stock;
+    }
+}
@@ -114,4 +114,27 @@ class StockTest {
         BusinessException ex2 = assertThrows(BusinessException.class, () -> stock.decrease(1));
         assertEquals(ProductErrorType.STOCK_UNAVAILABLE, ex2.getErrorType());
     }
+
+    @Test
+    @DisplayName("Stock.enableSharding: home 가용 재고를 샤드로 넘기고 총량 조회는 home + 샤드 합계")
+    void enableSharding_movesHomeAvailableToShards() {
+        Stock stock = Stock.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 10);
+        stock.reserve(3);
+
+        int moved = stock.enableSharding(4);
+
+        assertTrue(stock.isSharded());
+        assertEquals(7, moved);
+        assertEquals(0, stock.getHomeAvailableQuantity());
+        assertEquals(10, stock.getQuantity());
+        assertEquals(3, stock.getReservedQuantity());
+        assertEquals(7, stock.getAvailableQuantity());
+
+        // home 은 기존 예약 확정/취소만 처리
+        BusinessException ex = assertThrows(BusinessException.class, () -> stock.reserve(1));
+        assertEquals(ProductErrorType.INSUFFICIENT_STOCK, ex.getErrorType());
+
+        BusinessException invalid = assertThrows(BusinessException.class, () -> stock.enableSharding(1));
+        assertEquals(ProductErrorType.STOCK_SHARD_COUNT_INVALID, invalid.getErrorType());
+    }
 }
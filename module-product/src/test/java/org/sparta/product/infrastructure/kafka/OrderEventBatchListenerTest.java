@@ -0,0 +1,174 @@
+package org.sparta.product.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sparta.common.error.BusinessException;
+import org.sparta.product.application.service.OrderApprovedStockConfirmHandler;
+import org.sparta.product.application.service.OrderCancelledStockRestoreHandler;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler.OrderCreated;
+import org.sparta.product.application.service.OrderCreatedStockReservationHandler.OrderLine;
+import org.sparta.product.application.service.ProcessedEventQueryService;
+import org.sparta.product.domain.error.ProductErrorType;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderEventBatchListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OrderCreatedStockReservationHandler createdHandler;
+    private OrderApprovedStockConfirmHandler approvedHandler;
+    private OrderCancelledStockRestoreHandler cancelledHandler;
+    private ProcessedEventQueryService processedEventQueryService;
+    private OrderEventBatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        createdHandler = mock(OrderCreatedStockReservationHandler.class);
+        approvedHandler = mock(OrderApprovedStockConfirmHandler.class);
+        cancelledHandler = mock(OrderCancelledStockRestoreHandler.class);
+        processedEventQueryService = mock(ProcessedEventQueryService.class);
+        listener = new OrderEventBatchListener(
+                objectMapper, createdHandler, approvedHandler, cancelledHandler, processedEventQueryService);
+    }
+
+    @Test
+    @DisplayName("onOrderCreated: 파싱 가능한 레코드만 모아 handleBatch 를 배치당 1회 호출")
+    void orderCreated_batchDelegatesOnce() throws Exception {
+        UUID singleOrderId = UUID.randomUUID();
+        UUID itemsOrderId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        UUID p1 = UUID.randomUUID();
+        UUID p2 = UUID.randomUUID();
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record("order.orderCreate", 0, json(Map.of(
+                        "eventId", eventId.toString(),
+                        "orderId", singleOrderId.toString(),
+                        "productId", p1.toString(),
+                        "quantity", 2))),
+                record("order.orderCreate", 1, "not-json".getBytes(StandardCharsets.UTF_8)),
+                record("order.orderCreate", 2, json(Map.of(
+                        "orderId", itemsOrderId.toString(),
+                        "items", List.of(
+                                Map.of("productId", p1.toString(), "quantity", 1),
+                                Map.of("productId", p2.toString(), "quantity", 3))))),
+                record("order.orderCreate", 3, json(Map.of("productId", p1.toString(), "quantity", 1)))
+        );
+
+        listener.onOrderCreated(records);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderCreated>> captor = ArgumentCaptor.forClass(List.class);
+        verify(createdHandler, times(1)).handleBatch(captor.capture());
+        List<OrderCreated> events = captor.getValue();
+
+        assertEquals(2, events.size());
+        assertEquals(eventId, events.get(0).upstreamEventId());
+        assertEquals(singleOrderId.toString(), events.get(0).externalReservationKey());
+        assertEquals(List.of(new OrderLine(p1, 2)), events.get(0).lines());
+
+        // eventId 가 없으면 topic/partition/offset 기반 UUID (재전달 시 같은 값 → 멱등)
+        assertEquals(UUID.nameUUIDFromBytes("order.orderCreate:0:2".getBytes(StandardCharsets.UTF_8)),
+                events.get(1).upstreamEventId());
+        assertEquals(List.of(new OrderLine(p1, 1), new OrderLine(p2, 3)), events.get(1).lines());
+        verify(createdHandler, never()).handle(any(), any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("onOrderCreated: handleBatch 실패 시 예외를 전파해 배치 전체를 재전달")
+    void orderCreated_batchFailureRethrows() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        BusinessException failure = new BusinessException(ProductErrorType.INSUFFICIENT_STOCK);
+        doThrow(failure).when(createdHandler).handleBatch(anyList());
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record("order.orderCreate", 0, json(Map.of(
+                        "orderId", orderId.toString(),
+                        "productId", UUID.randomUUID().toString(),
+                        "quantity", 1)))
+        );
+
+        assertSame(failure, assertThrows(BusinessException.class, () -> listener.onOrderCreated(records)));
+    }
+
+    @Test
+    @DisplayName("onOrderApproved: 처리 이력은 IN 조회 1회로 거르고 나머지만 건별 처리")
+    void orderApproved_filtersProcessedInOneQuery() throws Exception {
+        UUID processedEventId = UUID.randomUUID();
+        UUID e1 = UUID.randomUUID();
+        UUID e2 = UUID.randomUUID();
+        UUID o1 = UUID.randomUUID();
+        UUID o2 = UUID.randomUUID();
+        when(processedEventQueryService.findProcessed(anyCollection())).thenReturn(Set.of(processedEventId));
+
+        listener.onOrderApproved(List.of(
+                statusRecord("order.orderApprove", 0, e1, o1),
+                statusRecord("order.orderApprove", 1, processedEventId, UUID.randomUUID()),
+                statusRecord("order.orderApprove", 2, e2, o2)
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(processedEventQueryService, times(1)).findProcessed(idsCaptor.capture());
+        assertEquals(Set.of(e1, processedEventId, e2), Set.copyOf(idsCaptor.getValue()));
+
+        verify(approvedHandler).handle(e1, o1);
+        verify(approvedHandler).handle(e2, o2);
+        verify(approvedHandler, times(2)).handle(any(), any());
+        verifyNoInteractions(cancelledHandler);
+    }
+
+    @Test
+    @DisplayName("onOrderCancelled: 중간 레코드 실패 시 앞선 레코드는 처리된 채로 실패 index 의 BatchListenerFailedException")
+    void orderCancelled_partialFailureReportsIndex() throws Exception {
+        UUID e1 = UUID.randomUUID();
+        UUID e2 = UUID.randomUUID();
+        UUID e3 = UUID.randomUUID();
+        UUID o1 = UUID.randomUUID();
+        UUID o2 = UUID.randomUUID();
+        UUID o3 = UUID.randomUUID();
+        when(processedEventQueryService.findProcessed(anyCollection())).thenReturn(Set.of());
+        doThrow(new IllegalStateException("restore failed")).when(cancelledHandler).handle(e2, o2);
+
+        BatchListenerFailedException ex = assertThrows(BatchListenerFailedException.class, () ->
+                listener.onOrderCancelled(List.of(
+                        statusRecord("order.orderCancel", 0, e1, o1),
+                        statusRecord("order.orderCancel", 1, e2, o2),
+                        statusRecord("order.orderCancel", 2, e3, o3)
+                )));
+
+        assertEquals(1, ex.getIndex());
+        verify(cancelledHandler).handle(e1, o1);
+        verify(cancelledHandler, never()).handle(e3, o3);
+        verifyNoInteractions(approvedHandler);
+    }
+
+    private ConsumerRecord<String, byte[]> statusRecord(String topic, long offset, UUID eventId, UUID orderId)
+            throws Exception {
+        return record(topic, offset, json(Map.of("eventId", eventId.toString(), "orderId", orderId.toString())));
+    }
+
+    private ConsumerRecord<String, byte[]> record(String topic, long offset, byte[] value) {
+        return new ConsumerRecord<>(topic, 0, offset, null, value);
+    }
+
+    private byte[] json(Map<String, ?> payload) throws Exception {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+}
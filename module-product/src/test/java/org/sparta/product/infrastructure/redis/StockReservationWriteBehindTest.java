@@ -0,0 +1,150 @@
+package org.sparta.product.infrastructure.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sparta.product.application.service.StockShardService;
+import org.sparta.product.domain.entity.Stock;
+import org.sparta.product.domain.entity.StockReservation;
+import org.sparta.product.domain.repository.StockRepository;
+import org.sparta.product.domain.repository.StockReservationRepository;
+import org.sparta.product.infrastructure.config.StockEngineConfig;
+import org.sparta.product.infrastructure.redis.StockRedisEngine.PendingReservation;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockReservationWriteBehind 테스트")
+class StockReservationWriteBehindTest {
+
+    private static final String CONSUMER = "product-1";
+
+    private StockRepository stockRepository;
+    private StockReservationRepository stockReservationRepository;
+    private StockRedisEngine stockRedisEngine;
+    private SimpleMeterRegistry meterRegistry;
+    private StockEngineConfig config;
+    private StockReservationWriteBehind writeBehind;
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID stockId = UUID.randomUUID();
+    private Stock stock;
+
+    @BeforeEach
+    void setUp() {
+        stockRepository = mock(StockRepository.class);
+        stockReservationRepository = mock(StockReservationRepository.class);
+        stockRedisEngine = mock(StockRedisEngine.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        config = new StockEngineConfig();
+        config.setEnabled(true);
+        config.setFlushBatchSize(10);
+        config.setMaxFlushAttempts(3);
+        config.setConsumerName(CONSUMER);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        writeBehind = new StockReservationWriteBehind(stockRepository, stockReservationRepository, config,
+                mock(StockShardService.class), stockRedisEngine, transactionManager, meterRegistry);
+
+        stock = Stock.create(productId, UUID.randomUUID(), UUID.randomUUID(), 10);
+        when(stockRepository.findById(stockId)).thenReturn(Optional.of(stock));
+        when(stockRedisEngine.pendingProductIds()).thenReturn(Set.of(productId));
+    }
+
+    @Test
+    @DisplayName("flush: 미반영 로그를 한 트랜잭션으로 DB 에 반영한 뒤 ACK 하고, 로그가 비면 pending 목록에서 제거")
+    void flush_persistsThenAcknowledges() {
+        // given
+        List<PendingReservation> batch = List.of(pending("rsv-1", 2, 1), pending("rsv-2", 3, 1));
+        when(stockRedisEngine.claimPending(eq(productId), eq(CONSUMER), eq(10), any()))
+                .thenReturn(batch)
+                .thenReturn(List.of());
+        when(stockReservationRepository.findAllByReservationKeyIn(any())).thenReturn(List.of());
+
+        // when
+        int flushed = writeBehind.flush();
+
+        // then
+        assertEquals(2, flushed);
+        assertEquals(5, stock.getReservedQuantity());
+        verify(stockReservationRepository).saveAll(argThat(list -> list.size() == 2));
+        verify(stockRedisEngine).acknowledge(productId, batch);
+        verify(stockRedisEngine).unmarkIfDrained(productId);
+    }
+
+    @Test
+    @DisplayName("flush: 이미 DB 에 있는 예약 키(ACK 전 재전달)는 다시 반영하지 않고 ACK 만 한다")
+    void flush_skipsAlreadyPersisted() {
+        // given
+        List<PendingReservation> batch = List.of(pending("rsv-1", 2, 2), pending("rsv-2", 3, 1));
+        when(stockRedisEngine.claimPending(eq(productId), eq(CONSUMER), eq(10), any()))
+                .thenReturn(batch)
+                .thenReturn(List.of());
+        when(stockReservationRepository.findAllByReservationKeyIn(any()))
+                .thenReturn(List.of(StockReservation.reserve(stockId, "order-1", "rsv-1", 2)));
+
+        // when
+        writeBehind.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockReservationRepository).saveAll(captor.capture());
+        assertEquals(List.of("rsv-2"), captor.getValue().stream().map(StockReservation::getReservationKey).toList());
+        assertEquals(3, stock.getReservedQuantity());
+        verify(stockRedisEngine).acknowledge(productId, batch);
+    }
+
+    @Test
+    @DisplayName("flush: DB 반영이 실패하면 ACK 하지 않고 로그에 남기며, 시도 횟수가 한도 이상이면 버리지 않고 알림만 남긴다")
+    void flush_failureKeepsEntriesAndAlerts() {
+        // given
+        List<PendingReservation> batch = List.of(pending("rsv-1", 2, 3), pending("rsv-2", 1, 1));
+        when(stockRedisEngine.claimPending(eq(productId), eq(CONSUMER), eq(10), any())).thenReturn(batch);
+        when(stockReservationRepository.findAllByReservationKeyIn(any())).thenReturn(List.of());
+        when(stockReservationRepository.saveAll(any())).thenThrow(new QueryTimeoutException("db down"));
+
+        // when
+        int flushed = writeBehind.flush();
+
+        // then
+        assertEquals(0, flushed);
+        verify(stockRedisEngine, never()).acknowledge(any(), any());
+        verify(stockRedisEngine, never()).unmarkIfDrained(any());
+        assertEquals(1.0, meterRegistry.counter("product.stock.writebehind.stuck").count());
+    }
+
+    @Test
+    @DisplayName("findPending / pendingQuantity: 공유 미반영 로그에서 조회한다")
+    void findPendingAndQuantityReadSharedLog() {
+        // given
+        when(stockRedisEngine.pendingReservations(productId))
+                .thenReturn(List.of(pending("rsv-1", 2, 0), pending("rsv-2", 4, 0)));
+
+        // when & then
+        StockReservation found = writeBehind.findPending(productId, "rsv-2").orElseThrow();
+        assertEquals(4, found.getReservedQuantity());
+        assertEquals("order-1", found.getExternalReservationKey());
+        assertTrue(writeBehind.findPending(productId, "rsv-3").isEmpty());
+        assertEquals(6, writeBehind.pendingQuantity(productId));
+    }
+
+    private PendingReservation pending(String reservationKey, int quantity, long deliveryCount) {
+        return new PendingReservation(
+                "1-" + reservationKey, stockId, reservationKey, "order-1", quantity, deliveryCount);
+    }
+}
@@ -2,10 +2,12 @@ package org.sparta.redis.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.RedissonMultiLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -82,6 +84,58 @@ public class DistributedLockExecutor {
         }
     }
 
+    /**
+     * 여러 분산 락을 한 번에 획득하고 작업 실행 (Redisson MultiLock)
+     * <p>
+     * 요청마다 락 순서가 다르면 교착 상태가 생길 수 있으므로 키를 정렬한 순서로 획득한다.
+     * 하나라도 획득하지 못하면 이미 획득한 락을 모두 풀고 LockAcquisitionException
+     *
+     * @param lockKeys  락 키 목록 (중복 허용, 내부에서 정렬/중복 제거)
+     * @param waitTime  전체 락 획득 대기 시간
+     * @param leaseTime 락 자동 해제 시간
+     * @param timeUnit  시간 단위
+     * @param action    실행할 작업
+     */
+    public <T> T executeWithMultiLock(
+            List<String> lockKeys,
+            long waitTime,
+            long leaseTime,
+            TimeUnit timeUnit,
+            Supplier<T> action
+    ) {
+        List<String> sortedKeys = lockKeys.stream().distinct().sorted().toList();
+        if (sortedKeys.size() == 1) {
+            return executeWithLock(sortedKeys.get(0), waitTime, leaseTime, timeUnit, action);
+        }
+
+        RLock[] locks = sortedKeys.stream().map(redissonClient::getLock).toArray(RLock[]::new);
+        RedissonMultiLock multiLock = new RedissonMultiLock(locks);
+        boolean acquired = false;
+
+        try {
+            acquired = multiLock.tryLock(waitTime, leaseTime, timeUnit);
+
+            if (!acquired) {
+                log.warn("분산 멀티 락 획득 실패: lockKeys={}", sortedKeys);
+                throw new LockAcquisitionException("다른 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            log.debug("분산 멀티 락 획득 성공: lockKeys={}", sortedKeys);
+            return action.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("분산 멀티 락 획득 중 인터럽트 발생: lockKeys={}", sortedKeys, e);
+            throw new LockAcquisitionException("락 획득 중 오류가 발생했습니다.", e);
+
+        } finally {
+            if (acquired) {
+                multiLock.unlock();
+                log.debug("분산 멀티 락 해제: lockKeys={}", sortedKeys);
+            }
+        }
+    }
+
     /**
      * 분산 락을 획득하고 작업 실행 (반환값 없음)
      *